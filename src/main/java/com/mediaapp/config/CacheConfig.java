@@ -0,0 +1,52 @@
+package com.mediaapp.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mediaapp.repository.jpa.projection.CategorySnapshot;
+import com.mediaapp.repository.jpa.projection.TagSnapshot;
+import com.mediaapp.repository.jpa.projection.TopicSnapshot;
+import com.mediaapp.repository.jpa.projection.UserSnapshot;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache Configuration
+ * Bounded Caffeine caches cho reference data (categories, topics, tags, users)
+ * Giá trị cache là snapshot record bất biến (không phải entity) nên có thể chia sẻ giữa các thread
+ * Hit/miss/eviction stats được Spring Boot bind vào Prometheus registry (cache.gets, cache.evictions)
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String CATEGORIES = "categories";
+    public static final String TOPICS = "topics";
+    public static final String TAGS = "tags";
+    public static final String USERS = "users";
+
+    /**
+     * Mỗi cache có spec riêng (maximumSize, expireAfterWrite, refreshAfterWrite)
+     * Refresh chạy nền qua SnapshotCacheLoader nên request không phải chờ DB khi entry cũ
+     */
+    @Bean
+    public CacheManager cacheManager(EntityManagerFactory entityManagerFactory,
+                                     @Value("${app.cache.categories}") String categoriesSpec,
+                                     @Value("${app.cache.topics}") String topicsSpec,
+                                     @Value("${app.cache.tags}") String tagsSpec,
+                                     @Value("${app.cache.users}") String usersSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(CATEGORIES, Caffeine.from(categoriesSpec).recordStats()
+            .build(new SnapshotCacheLoader(entityManagerFactory, CategorySnapshot.SELECT)));
+        cacheManager.registerCustomCache(TOPICS, Caffeine.from(topicsSpec).recordStats()
+            .build(new SnapshotCacheLoader(entityManagerFactory, TopicSnapshot.SELECT)));
+        cacheManager.registerCustomCache(TAGS, Caffeine.from(tagsSpec).recordStats()
+            .build(new SnapshotCacheLoader(entityManagerFactory, TagSnapshot.SELECT)));
+        cacheManager.registerCustomCache(USERS, Caffeine.from(usersSpec).recordStats()
+            .build(new SnapshotCacheLoader(entityManagerFactory, UserSnapshot.SELECT)));
+        return cacheManager;
+    }
+}
@@ -0,0 +1,57 @@
+package com.mediaapp.config;
+
+import com.mediaapp.service.CurrentUserService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Current User Configuration
+ * Tạm thời (chưa có JWT authentication): lấy user ID từ header do gateway/client gửi lên
+ * và gắn vào request cho CurrentUserService. Header KHÔNG được xác thực (client nào cũng có thể mạo danh
+ * user khác), nên filter chỉ được bật trong profile dev; ngoài dev mọi request không có user và các API
+ * cần user trả về 401. Thay filter này bằng authentication filter thật
+ */
+@Configuration
+@Slf4j
+public class CurrentUserConfig {
+
+    @Value("${app.security.user-id-header:}")
+    private String userIdHeader;
+
+    @Bean
+    @Profile("dev")
+    @ConditionalOnExpression("!'${app.security.user-id-header:}'.isBlank()")
+    public FilterRegistrationBean<OncePerRequestFilter> userIdHeaderFilter() {
+        log.warn("Request users are taken from the unauthenticated {} header", userIdHeader);
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                String value = request.getHeader(userIdHeader);
+                if (value != null && request.getAttribute(CurrentUserService.USER_ID_ATTRIBUTE) == null) {
+                    try {
+                        request.setAttribute(CurrentUserService.USER_ID_ATTRIBUTE, Long.valueOf(value.trim()));
+                    } catch (NumberFormatException e) {
+                        log.debug("Ignoring non-numeric {} header", userIdHeader);
+                    }
+                }
+                chain.doFilter(request, response);
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+}
@@ -0,0 +1,81 @@
+package com.mediaapp.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Query Budget Configuration
+ * Đếm số câu SQL của mỗi request (metric http.sql.statements theo URI pattern)
+ * và cảnh báo khi một GET endpoint vượt ngân sách - phát hiện N+1 trên các trang danh sách
+ */
+@Configuration
+@Slf4j
+public class QueryBudgetConfig {
+
+    @Value("${app.listing.statement-budget:10}")
+    private int statementBudget;
+
+    /**
+     * Gắn SqlStatementCounter vào Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * Filter đo số câu SQL của mỗi request
+     * Chỉ tính câu SQL chạy trên thread của request (không tính searchExecutor / scheduler)
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> queryBudgetFilter(MeterRegistry meterRegistry) {
+        OncePerRequestFilter filter = new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                SqlStatementCounter.start();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    record(meterRegistry, request, SqlStatementCounter.stop());
+                }
+            }
+        };
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/*");
+        return registration;
+    }
+
+    // ============ Private Helper Methods ============
+
+    private void record(MeterRegistry meterRegistry, HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNMAPPED";
+
+        DistributionSummary.builder("http.sql.statements")
+            .description("SQL statements executed per request")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(statements);
+
+        if ("GET".equals(request.getMethod()) && statements > statementBudget) {
+            log.warn("Query budget exceeded: GET {} ran {} SQL statements (budget {})", uri, statements, statementBudget);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.mediaapp.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -51,4 +52,54 @@ public class SchedulingConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Task Executor cho Elasticsearch sync workers
+     * Mỗi worker xử lý một ID partition và claim rows bằng FOR UPDATE SKIP LOCKED
+     */
+    @Bean(name = "syncExecutor")
+    public Executor syncExecutor(@Value("${app.sync.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(workers, 1));
+        executor.setMaxPoolSize(Math.max(workers, 1));
+        executor.setQueueCapacity(workers * 4);
+        executor.setThreadNamePrefix("es-sync-");
+        executor.setAwaitTerminationSeconds(60);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Task Executor cho Elasticsearch search queries
+     * Không dùng CallerRunsPolicy: khi pool đầy, request bị reject để fallback sang PostgreSQL
+     * thay vì chạy đồng bộ và vượt quá es-timeout-ms
+     */
+    @Bean(name = "searchExecutor")
+    public Executor searchExecutor(@Value("${app.search.executor-threads:16}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(threads, 1));
+        executor.setMaxPoolSize(Math.max(threads, 1));
+        executor.setQueueCapacity(threads * 8);
+        executor.setThreadNamePrefix("search-");
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Task Executor cho full reindex (tối đa một lần chạy cho mỗi entity type)
+     */
+    @Bean(name = "reindexExecutor")
+    public Executor reindexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(3);
+        executor.setMaxPoolSize(3);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("es-reindex-");
+        executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,35 @@
+package com.mediaapp.config;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Snapshot Cache Loader
+ * Loads (and refreshes) cached reference data straight from the database, bypassing the repository cache proxies.
+ * Keys are entity IDs; values are immutable snapshot records, never managed or detached entities.
+ */
+class SnapshotCacheLoader implements CacheLoader<Object, Object> {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final String snapshotSelect;
+
+    /**
+     * @param snapshotSelect JPQL constructor expression over alias "e", e.g. UserSnapshot.SELECT
+     */
+    SnapshotCacheLoader(EntityManagerFactory entityManagerFactory, String snapshotSelect) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.snapshotSelect = snapshotSelect;
+    }
+
+    @Override
+    public Object load(Object key) {
+        try (EntityManager entityManager = entityManagerFactory.createEntityManager()) {
+            return entityManager.createQuery(snapshotSelect + " WHERE e.id = :id", Object.class)
+                .setParameter("id", key)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.mediaapp.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * SQL Statement Counter
+ * Hibernate StatementInspector counting the statements a thread prepares between start() and stop()
+ */
+class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
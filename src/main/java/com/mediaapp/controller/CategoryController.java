@@ -1,7 +1,9 @@
 package com.mediaapp.controller;
 
-import com.mediaapp.model.entity.Category;
-import com.mediaapp.repository.jpa.CategoryRepository;
+import com.mediaapp.dto.response.CategoryDto;
+import com.mediaapp.mapper.CategoryMapper;
+import com.mediaapp.model.catalog.CategoryNode;
+import com.mediaapp.service.CategoryTreeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,23 +28,46 @@ import java.util.List;
 @Tag(name = "Categories", description = "API for managing content categories")
 public class CategoryController {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryTreeService categoryTreeService;
+    private final CategoryMapper categoryMapper;
 
-    @Operation(summary = "Get all categories", description = "Retrieve a paginated list of all categories")
+    @Operation(summary = "Get all categories", description = "Retrieve a paginated list of all categories, parents before children")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<Page<Category>> getAllCategories(
+    public ResponseEntity<Page<CategoryDto>> getAllCategories(
             @Parameter(description = "Pagination information") Pageable pageable) {
-        return ResponseEntity.ok(categoryRepository.findAll(pageable));
+        return ResponseEntity.ok(toPage(categoryTreeService.getTree().allCategories(), pageable).map(categoryMapper::toDto));
     }
 
-    @Operation(summary = "Get all categories (no pagination)", description = "Retrieve all categories without pagination")
+    @Operation(summary = "Get all categories (no pagination)", description = "Retrieve all categories without pagination, parents before children")
     @GetMapping("/all")
-    public ResponseEntity<List<Category>> getAllCategoriesNoPagination() {
-        return ResponseEntity.ok(categoryRepository.findAll());
+    public ResponseEntity<List<CategoryDto>> getAllCategoriesNoPagination() {
+        return ResponseEntity.ok(categoryTreeService.getTree().allCategories().stream()
+                .map(categoryMapper::toDto)
+                .toList());
+    }
+
+    @Operation(summary = "Get category tree", description = "Retrieve the category hierarchy with topics, served from the in-memory snapshot")
+    @GetMapping("/tree")
+    public ResponseEntity<List<CategoryNode>> getCategoryTree() {
+        return ResponseEntity.ok(categoryTreeService.getTree().getRoots());
+    }
+
+    @Operation(summary = "Get category breadcrumb", description = "Retrieve the path from the root category down to this category")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved breadcrumb"),
+        @ApiResponse(responseCode = "404", description = "Category not found")
+    })
+    @GetMapping("/{id}/breadcrumb")
+    public ResponseEntity<List<CategoryDto>> getCategoryBreadcrumb(
+            @Parameter(description = "ID of the category") @PathVariable Long id) {
+        List<CategoryDto> breadcrumb = categoryTreeService.getTree().breadcrumb(id).stream()
+                .map(categoryMapper::toDto)
+                .toList();
+        return breadcrumb.isEmpty() ? ResponseEntity.notFound().build() : ResponseEntity.ok(breadcrumb);
     }
 
     @Operation(summary = "Get category by ID", description = "Retrieve a specific category by its ID")
@@ -50,10 +76,10 @@ public class CategoryController {
         @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(
+    public ResponseEntity<CategoryDto> getCategoryById(
             @Parameter(description = "ID of the category") @PathVariable Long id) {
-        return categoryRepository.findById(id)
-                .map(category -> ResponseEntity.ok(category))
+        return categoryTreeService.findCategory(id)
+                .map(category -> ResponseEntity.ok(categoryMapper.toDto(category)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -63,10 +89,24 @@ public class CategoryController {
         @ApiResponse(responseCode = "404", description = "Category not found")
     })
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<Category> getCategoryBySlug(
+    public ResponseEntity<CategoryDto> getCategoryBySlug(
             @Parameter(description = "Slug of the category") @PathVariable String slug) {
-        return categoryRepository.findBySlug(slug)
-                .map(category -> ResponseEntity.ok(category))
+        return categoryTreeService.getTree().findCategoryBySlug(slug)
+                .map(category -> ResponseEntity.ok(categoryMapper.toDto(category)))
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * Page an in-memory snapshot list (kept in snapshot order; sort parameters are ignored)
+     */
+    private static <T> Page<T> toPage(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(items);
+        }
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        return new PageImpl<>(items.subList(from, to), pageable, items.size());
+    }
 }
@@ -0,0 +1,92 @@
+package com.mediaapp.controller;
+
+import com.mediaapp.dto.response.InteractionStateResponse;
+import com.mediaapp.service.CurrentUserService;
+import com.mediaapp.service.InteractionLookupService;
+import com.mediaapp.service.LikeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Like REST Controller
+ * Handles like/unlike of posts, answers and comments on behalf of the request's user (401 without one)
+ */
+@RestController
+@RequestMapping("/likes")
+@RequiredArgsConstructor
+@Tag(name = "Likes", description = "API for liking posts, answers and comments")
+public class LikeController {
+
+    private final LikeService likeService;
+    private final InteractionLookupService interactionLookupService;
+    private final CurrentUserService currentUserService;
+
+    @Operation(summary = "Like an entity", description = "Idempotent; like counters are updated asynchronously")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Like added"),
+        @ApiResponse(responseCode = "200", description = "Already liked"),
+        @ApiResponse(responseCode = "401", description = "No current user"),
+        @ApiResponse(responseCode = "404", description = "Entity not found")
+    })
+    @PostMapping("/{entityType}/{entityId}")
+    public ResponseEntity<Void> like(
+            @Parameter(description = "POST, ANSWER or COMMENT") @PathVariable String entityType,
+            @Parameter(description = "ID of the entity") @PathVariable Long entityId) {
+        Optional<Long> userId = currentUserService.getCurrentUserId();
+        if (userId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        boolean added = likeService.like(userId.get(), entityType, entityId);
+        return ResponseEntity.status(added ? HttpStatus.CREATED : HttpStatus.OK).build();
+    }
+
+    @Operation(summary = "Unlike an entity", description = "Idempotent; like counters are updated asynchronously")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Like removed (or was not present)"),
+        @ApiResponse(responseCode = "401", description = "No current user"),
+        @ApiResponse(responseCode = "404", description = "Entity not found")
+    })
+    @DeleteMapping("/{entityType}/{entityId}")
+    public ResponseEntity<Void> unlike(
+            @Parameter(description = "POST, ANSWER or COMMENT") @PathVariable String entityType,
+            @Parameter(description = "ID of the entity") @PathVariable Long entityId) {
+        Optional<Long> userId = currentUserService.getCurrentUserId();
+        if (userId.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        likeService.unlike(userId.get(), entityType, entityId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Get like/bookmark state", description = "Which of the given entities the user has liked or bookmarked (one batch lookup per page)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved state"),
+        @ApiResponse(responseCode = "401", description = "No current user")
+    })
+    @GetMapping("/state")
+    public ResponseEntity<InteractionStateResponse> getInteractionState(
+            @Parameter(description = "Entity type of the page") @RequestParam String entityType,
+            @Parameter(description = "Entity IDs on the page") @RequestParam List<Long> ids) {
+        Optional<Long> current = currentUserService.getCurrentUserId();
+        if (current.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Long userId = current.get();
+        String type = entityType.toUpperCase();
+        return ResponseEntity.ok(InteractionStateResponse.builder()
+                .entityType(type)
+                .liked(interactionLookupService.findLikedIds(userId, type, ids))
+                .bookmarked(interactionLookupService.findBookmarkedIds(userId, type, ids))
+                .build());
+    }
+}
@@ -0,0 +1,77 @@
+package com.mediaapp.controller;
+
+import com.mediaapp.dto.response.PostResponse;
+import com.mediaapp.dto.response.SearchResponse;
+import com.mediaapp.dto.response.TrendingItemResponse;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.service.PageAssembler;
+import com.mediaapp.service.SearchService;
+import com.mediaapp.service.TrendingService;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.SearchMode;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Post REST Controller
+ * Handles post read operations
+ */
+@RestController
+@RequestMapping("/posts")
+@RequiredArgsConstructor
+@Tag(name = "Posts", description = "API for reading posts")
+public class PostController {
+
+    private final PostRepository postRepository;
+    private final PageAssembler pageAssembler;
+    private final SearchService searchService;
+    private final TrendingService trendingService;
+
+    @Operation(summary = "Get published posts", description = "Retrieve a paginated list of published posts with tags and a comment preview")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved list"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping
+    public ResponseEntity<Page<PostResponse>> getPublishedPosts(
+            @Parameter(description = "Pagination information") Pageable pageable) {
+        return ResponseEntity.ok(pageAssembler.assemblePosts(
+                postRepository.findByStatusAndDeletedAtIsNull(Constants.PostStatus.PUBLISHED, pageable)));
+    }
+
+    @Operation(summary = "Get trending posts", description = "Hottest recently published posts by engagement and recency, "
+            + "optionally per category or topic, served from memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved ranking")
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingItemResponse>> getTrendingPosts(
+            @Parameter(description = "Restrict to a category") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Restrict to a topic (takes precedence over categoryId)") @RequestParam(required = false) Long topicId,
+            @Parameter(description = "Maximum number of posts") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(trendingService.trending(Constants.EntityType.POST, categoryId, topicId, limit));
+    }
+
+    @Operation(summary = "Search posts", description = "Search published posts by title, summary, content or tags")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search results with serving backend and timings"),
+        @ApiResponse(responseCode = "400", description = "Blank search query")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<SearchResponse> searchPosts(
+            @Parameter(description = "Search query") @RequestParam String query,
+            @Parameter(description = "Search mode (defaults to app.search.default-mode)") @RequestParam(required = false) SearchMode mode,
+            @Parameter(description = "Pagination information") Pageable pageable) {
+        return ResponseEntity.ok(searchService.searchPosts(query, mode, pageable));
+    }
+}
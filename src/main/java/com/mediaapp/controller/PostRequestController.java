@@ -2,12 +2,18 @@ package com.mediaapp.controller;
 
 import com.mediaapp.dto.request.CreatePostRequestDto;
 import com.mediaapp.dto.request.UpdatePostRequestDto;
+import com.mediaapp.dto.response.PostRequestResponse;
+import com.mediaapp.dto.response.SearchResponse;
+import com.mediaapp.mapper.PostRequestMapper;
 import com.mediaapp.model.entity.Category;
 import com.mediaapp.model.entity.PostRequest;
 import com.mediaapp.model.entity.User;
 import com.mediaapp.repository.jpa.CategoryRepository;
 import com.mediaapp.repository.jpa.PostRequestRepository;
 import com.mediaapp.repository.jpa.UserRepository;
+import com.mediaapp.repository.jpa.projection.PostRequestSummary;
+import com.mediaapp.service.SearchService;
+import com.mediaapp.util.SearchMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -34,6 +40,8 @@ public class PostRequestController {
     private final PostRequestRepository postRequestRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final PostRequestMapper postRequestMapper;
+    private final SearchService searchService;
 
     @Operation(summary = "Get all post requests", description = "Retrieve a paginated list of all post requests")
     @ApiResponses(value = {
@@ -41,10 +49,9 @@ public class PostRequestController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<Page<PostRequest>> getAllPostRequests(
+    public ResponseEntity<Page<PostRequestSummary>> getAllPostRequests(
             @Parameter(description = "Pagination information") Pageable pageable) {
-        Page<PostRequest> postRequests = postRequestRepository.findAll(pageable);
-        return ResponseEntity.ok(postRequests);
+        return ResponseEntity.ok(postRequestRepository.findSummaries(pageable));
     }
 
     @Operation(summary = "Get post request by ID", description = "Retrieve a specific post request by its ID")
@@ -53,10 +60,11 @@ public class PostRequestController {
         @ApiResponse(responseCode = "404", description = "Post request not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<PostRequest> getPostRequestById(
+    public ResponseEntity<PostRequestResponse> getPostRequestById(
             @Parameter(description = "ID of the post request") @PathVariable Long id) {
-        return postRequestRepository.findById(id)
-                .map(postRequest -> ResponseEntity.ok(postRequest))
+        return postRequestRepository.findWithDetailsById(id)
+                .filter(postRequest -> postRequest.getDeletedAt() == null)
+                .map(postRequest -> ResponseEntity.ok(postRequestMapper.toResponse(postRequest)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -66,12 +74,13 @@ public class PostRequestController {
         @ApiResponse(responseCode = "400", description = "Invalid input data")
     })
     @PostMapping
-    public ResponseEntity<PostRequest> createPostRequest(
+    public ResponseEntity<PostRequestResponse> createPostRequest(
             @Parameter(description = "Post request data") @Valid @RequestBody CreatePostRequestDto dto) {
         
         // For demo purposes, using a default user (ID: 1)
         // In production, get from authentication context
-        User requester = userRepository.findById(1L)
+        User requester = userRepository.findSnapshotById(1L)
+                .map(user -> userRepository.getReferenceById(user.id()))
                 .orElseThrow(() -> new RuntimeException("Default user not found"));
 
         PostRequest postRequest = PostRequest.builder()
@@ -84,13 +93,14 @@ public class PostRequestController {
                 .build();
 
         if (dto.getCategoryId() != null) {
-            Category category = categoryRepository.findById(dto.getCategoryId())
+            Category category = categoryRepository.findSnapshotById(dto.getCategoryId())
+                    .map(snapshot -> categoryRepository.getReferenceById(snapshot.id()))
                     .orElseThrow(() -> new RuntimeException("Category not found"));
             postRequest.setCategory(category);
         }
 
         PostRequest saved = postRequestRepository.save(postRequest);
-        return ResponseEntity.status(HttpStatus.CREATED).body(saved);
+        return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(saved.getId()));
     }
 
     @Operation(summary = "Update post request", description = "Update an existing post request")
@@ -100,11 +110,11 @@ public class PostRequestController {
         @ApiResponse(responseCode = "400", description = "Invalid input data")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<PostRequest> updatePostRequest(
+    public ResponseEntity<PostRequestResponse> updatePostRequest(
             @Parameter(description = "ID of the post request") @PathVariable Long id,
             @Parameter(description = "Updated post request data") @Valid @RequestBody UpdatePostRequestDto dto) {
         
-        return postRequestRepository.findById(id)
+        return postRequestRepository.findWithDetailsById(id)
                 .map(postRequest -> {
                     if (dto.getTitle() != null) {
                         postRequest.setTitle(dto.getTitle());
@@ -119,18 +129,20 @@ public class PostRequestController {
                         postRequest.setPriority(dto.getPriority());
                     }
                     if (dto.getCategoryId() != null) {
-                        Category category = categoryRepository.findById(dto.getCategoryId())
+                        Category category = categoryRepository.findSnapshotById(dto.getCategoryId())
+                                .map(snapshot -> categoryRepository.getReferenceById(snapshot.id()))
                                 .orElseThrow(() -> new RuntimeException("Category not found"));
                         postRequest.setCategory(category);
                     }
                     if (dto.getAssignedToId() != null) {
-                        User assignee = userRepository.findById(dto.getAssignedToId())
+                        User assignee = userRepository.findSnapshotById(dto.getAssignedToId())
+                                .map(user -> userRepository.getReferenceById(user.id()))
                                 .orElseThrow(() -> new RuntimeException("User not found"));
                         postRequest.setAssignedTo(assignee);
                     }
                     
                     PostRequest updated = postRequestRepository.save(postRequest);
-                    return ResponseEntity.ok(updated);
+                    return ResponseEntity.ok(toResponse(updated.getId()));
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -152,14 +164,36 @@ public class PostRequestController {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Search post requests", description = "Search post requests by title or description")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search results with serving backend and timings"),
+        @ApiResponse(responseCode = "400", description = "Blank search query")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<SearchResponse> searchPostRequests(
+            @Parameter(description = "Search query") @RequestParam String query,
+            @Parameter(description = "Search mode (defaults to app.search.default-mode)") @RequestParam(required = false) SearchMode mode,
+            @Parameter(description = "Pagination information") Pageable pageable) {
+        return ResponseEntity.ok(searchService.searchPostRequests(query, mode, pageable));
+    }
+
     @Operation(summary = "Get post requests by status", description = "Retrieve post requests filtered by status")
     @GetMapping("/status/{status}")
-    public ResponseEntity<Page<PostRequest>> getPostRequestsByStatus(
+    public ResponseEntity<Page<PostRequestSummary>> getPostRequestsByStatus(
             @Parameter(description = "Status to filter by") @PathVariable String status,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        
-        Page<PostRequest> postRequests = postRequestRepository.findAll(pageable);
-        // Note: You should add a custom query method in repository for actual filtering
-        return ResponseEntity.ok(postRequests);
+        return ResponseEntity.ok(postRequestRepository.findSummariesByStatus(status, pageable));
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * Reload a saved post request with its associations and map it
+     * (save() merges outside a transaction, so the returned copy may hold uninitialized proxies)
+     */
+    private PostRequestResponse toResponse(Long id) {
+        return postRequestRepository.findWithDetailsById(id)
+                .map(postRequestMapper::toResponse)
+                .orElseThrow(() -> new RuntimeException("Post request not found"));
     }
 }
@@ -1,7 +1,19 @@
 package com.mediaapp.controller;
 
-import com.mediaapp.model.entity.Question;
+import com.mediaapp.dto.response.FeedResponse;
+import com.mediaapp.dto.response.QuestionResponse;
+import com.mediaapp.dto.response.SearchResponse;
+import com.mediaapp.dto.response.TrendingItemResponse;
+import com.mediaapp.exception.ResourceNotFoundException;
+import com.mediaapp.exception.ValidationException;
 import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.QuestionSummary;
+import com.mediaapp.service.QuestionResponseCache;
+import com.mediaapp.service.QuestionService;
+import com.mediaapp.service.SearchService;
+import com.mediaapp.service.TrendingService;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.SearchMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +25,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Question REST Controller
  * Handles question management operations
@@ -24,6 +38,10 @@ import org.springframework.web.bind.annotation.*;
 public class QuestionController {
 
     private final QuestionRepository questionRepository;
+    private final QuestionResponseCache questionResponseCache;
+    private final QuestionService questionService;
+    private final SearchService searchService;
+    private final TrendingService trendingService;
 
     @Operation(summary = "Get all questions", description = "Retrieve a paginated list of all questions")
     @ApiResponses(value = {
@@ -31,9 +49,9 @@ public class QuestionController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<Page<Question>> getAllQuestions(
+    public ResponseEntity<Page<QuestionSummary>> getAllQuestions(
             @Parameter(description = "Pagination information") Pageable pageable) {
-        return ResponseEntity.ok(questionRepository.findAll(pageable));
+        return ResponseEntity.ok(questionRepository.findSummaries(pageable));
     }
 
     @Operation(summary = "Get question by ID", description = "Retrieve a specific question by its ID")
@@ -42,19 +60,59 @@ public class QuestionController {
         @ApiResponse(responseCode = "404", description = "Question not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Question> getQuestionById(
+    public ResponseEntity<QuestionResponse> getQuestionById(
             @Parameter(description = "ID of the question") @PathVariable Long id) {
-        return questionRepository.findById(id)
-                .map(question -> ResponseEntity.ok(question))
+        return questionResponseCache.findById(id)
+                .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "Search questions", description = "Search questions by title or content")
+    @Operation(summary = "Get published feed", description = "Newest published questions, optionally per category or topic, "
+            + "paginated with an opaque cursor instead of page numbers")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved feed slice"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+        @ApiResponse(responseCode = "404", description = "Category or topic not found")
+    })
+    @GetMapping("/feed")
+    public ResponseEntity<FeedResponse<QuestionResponse>> getPublishedFeed(
+            @Parameter(description = "Restrict to a category") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Restrict to a topic (takes precedence over categoryId)") @RequestParam(required = false) Long topicId,
+            @Parameter(description = "nextCursor of the previous slice; omit for the first slice") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Questions per slice") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Include the cached approximate total") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        try {
+            return ResponseEntity.ok(questionService.findPublishedFeed(categoryId, topicId, cursor, size, includeTotal));
+        } catch (ValidationException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(summary = "Get trending questions", description = "Hottest recently published questions by engagement and recency, "
+            + "optionally per category or topic, served from memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved ranking")
+    })
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingItemResponse>> getTrendingQuestions(
+            @Parameter(description = "Restrict to a category") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Restrict to a topic (takes precedence over categoryId)") @RequestParam(required = false) Long topicId,
+            @Parameter(description = "Maximum number of questions") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(trendingService.trending(Constants.EntityType.QUESTION, categoryId, topicId, limit));
+    }
+
+    @Operation(summary = "Search questions", description = "Search published questions by title, content or tags")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Search results with serving backend and timings"),
+        @ApiResponse(responseCode = "400", description = "Blank search query")
+    })
     @GetMapping("/search")
-    public ResponseEntity<Page<Question>> searchQuestions(
+    public ResponseEntity<SearchResponse> searchQuestions(
             @Parameter(description = "Search query") @RequestParam String query,
+            @Parameter(description = "Search mode (defaults to app.search.default-mode)") @RequestParam(required = false) SearchMode mode,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        // This would need a custom repository method for actual search
-        return ResponseEntity.ok(questionRepository.findAll(pageable));
+        return ResponseEntity.ok(searchService.searchQuestions(query, mode, pageable));
     }
 }
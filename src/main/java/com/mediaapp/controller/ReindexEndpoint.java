@@ -0,0 +1,44 @@
+package com.mediaapp.controller;
+
+import com.mediaapp.service.ReindexService;
+import com.mediaapp.service.ReindexService.ReindexStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reindex Endpoint
+ * GET  /actuator/reindex               progress of every run
+ * POST /actuator/reindex/{entityType}  start a full reindex (QUESTION, POST, POST_REQUEST)
+ */
+@Component
+@Endpoint(id = "reindex")
+@ConditionalOnProperty(name = "spring.data.elasticsearch.repositories.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReindexEndpoint {
+
+    private final ReindexService reindexService;
+
+    @ReadOperation
+    public List<ReindexStatus> status() {
+        return reindexService.status();
+    }
+
+    @WriteOperation
+    public WebEndpointResponse<Object> start(@Selector String entityType) {
+        try {
+            return new WebEndpointResponse<>(reindexService.start(entityType), WebEndpointResponse.STATUS_OK);
+        } catch (IllegalArgumentException e) {
+            return new WebEndpointResponse<>(e.getMessage(), WebEndpointResponse.STATUS_BAD_REQUEST);
+        } catch (IllegalStateException e) {
+            return new WebEndpointResponse<>(e.getMessage(), 409);
+        }
+    }
+}
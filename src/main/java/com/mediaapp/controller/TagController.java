@@ -0,0 +1,52 @@
+package com.mediaapp.controller;
+
+import com.mediaapp.dto.response.TagDto;
+import com.mediaapp.service.TagAutocompleteService;
+import com.mediaapp.service.TagUsageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Tag REST Controller
+ * Handles tag lookups and autocomplete
+ */
+@RestController
+@RequestMapping("/tags")
+@RequiredArgsConstructor
+@Tag(name = "Tags", description = "API for browsing content tags")
+public class TagController {
+
+    private final TagUsageService tagUsageService;
+    private final TagAutocompleteService tagAutocompleteService;
+
+    @Operation(summary = "Get popular tags", description = "Most used tags overall or within a category, served from memory")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved ranking")
+    })
+    @GetMapping("/popular")
+    public ResponseEntity<List<TagDto>> getPopularTags(
+            @Parameter(description = "Restrict to a category") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "Maximum number of tags") @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(tagUsageService.popular(categoryId, limit));
+    }
+
+    @Operation(summary = "Autocomplete tags", description = "Tags whose name or a word of it starts with the query, "
+            + "accent-insensitive, most used first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions")
+    })
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<TagDto>> autocompleteTags(
+            @Parameter(description = "What the user typed so far") @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions") @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(tagAutocompleteService.suggest(q, limit));
+    }
+}
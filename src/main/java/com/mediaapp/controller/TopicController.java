@@ -1,7 +1,8 @@
 package com.mediaapp.controller;
 
-import com.mediaapp.model.entity.Topic;
-import com.mediaapp.repository.jpa.TopicRepository;
+import com.mediaapp.dto.response.TopicDto;
+import com.mediaapp.mapper.TopicMapper;
+import com.mediaapp.service.CategoryTreeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -25,7 +27,8 @@ import java.util.List;
 @Tag(name = "Topics", description = "API for managing content topics")
 public class TopicController {
 
-    private final TopicRepository topicRepository;
+    private final CategoryTreeService categoryTreeService;
+    private final TopicMapper topicMapper;
 
     @Operation(summary = "Get all topics", description = "Retrieve a paginated list of all topics")
     @ApiResponses(value = {
@@ -33,15 +36,17 @@ public class TopicController {
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping
-    public ResponseEntity<Page<Topic>> getAllTopics(
+    public ResponseEntity<Page<TopicDto>> getAllTopics(
             @Parameter(description = "Pagination information") Pageable pageable) {
-        return ResponseEntity.ok(topicRepository.findAll(pageable));
+        return ResponseEntity.ok(toPage(categoryTreeService.getTree().allTopics(), pageable).map(topicMapper::toDto));
     }
 
     @Operation(summary = "Get all topics (no pagination)", description = "Retrieve all topics without pagination")
     @GetMapping("/all")
-    public ResponseEntity<List<Topic>> getAllTopicsNoPagination() {
-        return ResponseEntity.ok(topicRepository.findAll());
+    public ResponseEntity<List<TopicDto>> getAllTopicsNoPagination() {
+        return ResponseEntity.ok(categoryTreeService.getTree().allTopics().stream()
+                .map(topicMapper::toDto)
+                .toList());
     }
 
     @Operation(summary = "Get topic by ID", description = "Retrieve a specific topic by its ID")
@@ -50,10 +55,10 @@ public class TopicController {
         @ApiResponse(responseCode = "404", description = "Topic not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Topic> getTopicById(
+    public ResponseEntity<TopicDto> getTopicById(
             @Parameter(description = "ID of the topic") @PathVariable Long id) {
-        return topicRepository.findById(id)
-                .map(ResponseEntity::ok)
+        return categoryTreeService.findTopic(id)
+                .map(topic -> ResponseEntity.ok(topicMapper.toDto(topic)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
@@ -63,18 +68,34 @@ public class TopicController {
         @ApiResponse(responseCode = "404", description = "Topic not found")
     })
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<Topic> getTopicBySlug(
+    public ResponseEntity<TopicDto> getTopicBySlug(
             @Parameter(description = "Slug of the topic") @PathVariable String slug) {
-        return topicRepository.findBySlug(slug)
-                .map(topic -> ResponseEntity.ok(topic))
+        return categoryTreeService.getTree().findTopicBySlug(slug)
+                .map(topic -> ResponseEntity.ok(topicMapper.toDto(topic)))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @Operation(summary = "Get topics by category", description = "Retrieve topics belonging to a specific category")
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<Topic>> getTopicsByCategory(
+    public ResponseEntity<List<TopicDto>> getTopicsByCategory(
             @Parameter(description = "Category ID") @PathVariable Long categoryId,
             @Parameter(description = "Pagination information") Pageable pageable) {
-        return ResponseEntity.ok(topicRepository.findByCategoryId(categoryId));
+        return ResponseEntity.ok(categoryTreeService.getTree().topicsOf(categoryId).stream()
+                .map(topicMapper::toDto)
+                .toList());
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * Page an in-memory snapshot list (kept in snapshot order; sort parameters are ignored)
+     */
+    private static <T> Page<T> toPage(List<T> items, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(items);
+        }
+        int from = (int) Math.min(pageable.getOffset(), items.size());
+        int to = Math.min(from + pageable.getPageSize(), items.size());
+        return new PageImpl<>(items.subList(from, to), pageable, items.size());
     }
 }
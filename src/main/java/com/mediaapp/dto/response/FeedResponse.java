@@ -0,0 +1,22 @@
+package com.mediaapp.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Feed Response DTO
+ * One slice of a keyset-paginated feed. Pass nextCursor back to get the following slice;
+ * approximateTotal is a periodically refreshed count, only filled in when requested.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedResponse<T> {
+
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long approximateTotal;
+}
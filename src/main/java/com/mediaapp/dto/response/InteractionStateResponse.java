@@ -0,0 +1,20 @@
+package com.mediaapp.dto.response;
+
+import lombok.*;
+
+import java.util.Set;
+
+/**
+ * Interaction State Response DTO
+ * Which entities of a page the current user has liked or bookmarked
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InteractionStateResponse {
+
+    private String entityType;
+    private Set<Long> liked;
+    private Set<Long> bookmarked;
+}
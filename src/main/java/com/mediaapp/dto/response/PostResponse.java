@@ -36,6 +36,8 @@ public class PostResponse {
 
     private List<TagDto> tags;
 
+    private List<CommentResponse> comments; // Preview, only filled on listing pages
+
     private Instant publishedAt;
     private Instant createdAt;
     private Instant updatedAt;
@@ -32,6 +32,8 @@ public class QuestionResponse {
 
     private List<TagDto> tags;
 
+    private List<AnswerResponse> answers; // Preview, only filled on listing pages
+
     private Instant publishedAt;
     private Instant createdAt;
     private Instant updatedAt;
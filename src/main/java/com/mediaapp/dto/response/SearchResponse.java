@@ -0,0 +1,30 @@
+package com.mediaapp.dto.response;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * Search Response DTO
+ * A page of search hits plus which backend served it and how long it took
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponse {
+
+    private List<SearchResultDto> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private boolean totalApproximate; // HYBRID: lower bound of the union of both backends' matches
+
+    private String mode;      // Requested SearchMode
+    private String backend;   // ELASTICSEARCH, POSTGRES or HYBRID
+    private boolean fallback; // true when ES failed or timed out and PostgreSQL answered instead
+
+    private long tookMs;
+    private Long esTookMs;    // null when ES was not queried
+    private Long pgTookMs;    // null when PostgreSQL was not queried
+}
@@ -0,0 +1,32 @@
+package com.mediaapp.dto.response;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Search Result DTO
+ * One search hit, same shape whichever backend served it
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResultDto {
+
+    private Long id;
+    private String entityType;
+    private String title;
+    private String slug;
+    private String excerpt;   // Plain text: stored excerpt, or the ts_headline snippet around the matches
+    private String highlight; // HTML-escaped snippet with <mark> around matches, null when not highlighted
+    private String status;
+
+    private Long categoryId;
+    private String categoryName;
+
+    private Instant publishedAt;
+    private Instant createdAt;
+
+    private Float score; // ES relevance score or PostgreSQL ts_rank_cd, null for trigram hits
+}
@@ -0,0 +1,28 @@
+package com.mediaapp.dto.response;
+
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Trending Item Response DTO
+ * One ranked question or post, served from memory
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrendingItemResponse {
+
+    private String entityType;
+    private Long id;
+    private String title;
+    private String slug;
+    private Long categoryId;
+    private Long topicId;
+    private Instant publishedAt;
+    private long viewCount;
+    private long likeCount;
+    private long replyCount;
+    private double score;
+}
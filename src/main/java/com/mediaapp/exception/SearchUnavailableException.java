@@ -0,0 +1,12 @@
+package com.mediaapp.exception;
+
+/**
+ * Search Unavailable Exception
+ * Thrown when Elasticsearch fails and the PostgreSQL fallback is disabled
+ */
+public class SearchUnavailableException extends RuntimeException {
+
+    public SearchUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,6 +1,7 @@
 package com.mediaapp.mapper;
 
 import com.mediaapp.dto.response.CategoryDto;
+import com.mediaapp.model.catalog.CategoryNode;
 import com.mediaapp.model.entity.Category;
 import org.mapstruct.Mapper;
 
@@ -22,4 +23,9 @@ public interface CategoryMapper {
      * Map list of Categories to list of CategoryDto
      */
     List<CategoryDto> toDtoList(List<Category> categories);
+
+    /**
+     * Map category tree node to CategoryDto
+     */
+    CategoryDto toDto(CategoryNode node);
 }
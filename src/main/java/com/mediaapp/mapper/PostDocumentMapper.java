@@ -0,0 +1,29 @@
+package com.mediaapp.mapper;
+
+import com.mediaapp.model.document.PostDocument;
+import com.mediaapp.model.entity.Post;
+import com.mediaapp.model.entity.Tag;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Post Document Mapper
+ * MapStruct mapper from Post entity to PostDocument for Elasticsearch sync
+ */
+@Mapper(componentModel = "spring")
+public interface PostDocumentMapper {
+
+    /**
+     * Map Post entity to PostDocument
+     */
+    PostDocument toDocument(Post post);
+
+    /**
+     * Flatten tags to their names
+     */
+    default List<String> toTagNames(Set<Tag> tags) {
+        return tags == null ? List.of() : tags.stream().map(Tag::getName).toList();
+    }
+}
@@ -22,8 +22,21 @@ public interface PostMapper {
     @Mapping(target = "category", source = "category")
     @Mapping(target = "topic", source = "topic")
     @Mapping(target = "tags", source = "tags")
+    @Mapping(target = "comments", ignore = true)
     PostResponse toResponse(Post post);
 
+    /**
+     * Map Post entity to PostResponse without touching lazy collections
+     * (tags and comments are stitched in by the PageAssembler)
+     */
+    @Named("listingResponse")
+    @Mapping(target = "author", source = "author")
+    @Mapping(target = "category", source = "category")
+    @Mapping(target = "topic", source = "topic")
+    @Mapping(target = "tags", ignore = true)
+    @Mapping(target = "comments", ignore = true)
+    PostResponse toListingResponse(Post post);
+
     /**
      * Map list of Posts to list of PostResponse
      */
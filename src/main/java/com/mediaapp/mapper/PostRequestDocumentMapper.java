@@ -0,0 +1,18 @@
+package com.mediaapp.mapper;
+
+import com.mediaapp.model.document.PostRequestDocument;
+import com.mediaapp.model.entity.PostRequest;
+import org.mapstruct.Mapper;
+
+/**
+ * PostRequest Document Mapper
+ * MapStruct mapper from PostRequest entity to PostRequestDocument for Elasticsearch sync
+ */
+@Mapper(componentModel = "spring")
+public interface PostRequestDocumentMapper {
+
+    /**
+     * Map PostRequest entity to PostRequestDocument
+     */
+    PostRequestDocument toDocument(PostRequest postRequest);
+}
@@ -0,0 +1,37 @@
+package com.mediaapp.mapper;
+
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.model.entity.Answer;
+import com.mediaapp.model.entity.Question;
+import com.mediaapp.model.entity.Tag;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Question Document Mapper
+ * MapStruct mapper from Question entity to QuestionDocument for Elasticsearch sync
+ */
+@Mapper(componentModel = "spring")
+public interface QuestionDocumentMapper {
+
+    /**
+     * Map Question entity (with its live answers) to QuestionDocument
+     */
+    @Mapping(target = "answers", source = "answers")
+    QuestionDocument toDocument(Question question, List<Answer> answers);
+
+    /**
+     * Map Answer entity to nested AnswerEs
+     */
+    QuestionDocument.AnswerEs toAnswerEs(Answer answer);
+
+    /**
+     * Flatten tags to their names
+     */
+    default List<String> toTagNames(Set<Tag> tags) {
+        return tags == null ? List.of() : tags.stream().map(Tag::getName).toList();
+    }
+}
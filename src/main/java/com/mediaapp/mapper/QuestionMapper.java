@@ -22,8 +22,21 @@ public interface QuestionMapper {
     @Mapping(target = "category", source = "category")
     @Mapping(target = "topic", source = "topic")
     @Mapping(target = "tags", source = "tags")
+    @Mapping(target = "answers", ignore = true)
     QuestionResponse toResponse(Question question);
 
+    /**
+     * Map Question entity to QuestionResponse without touching lazy collections
+     * (tags and answers are stitched in by the PageAssembler)
+     */
+    @Named("listingResponse")
+    @Mapping(target = "user", source = "user")
+    @Mapping(target = "category", source = "category")
+    @Mapping(target = "topic", source = "topic")
+    @Mapping(target = "tags", ignore = true)
+    @Mapping(target = "answers", ignore = true)
+    QuestionResponse toListingResponse(Question question);
+
     /**
      * Map list of Questions to list of QuestionResponse
      */
@@ -37,7 +50,7 @@ public interface QuestionMapper {
     @Mapping(target = "topic", ignore = true) // Will be set in service
     @Mapping(target = "user", ignore = true) // Will be set in service
     @Mapping(target = "tags", ignore = true) // Will be set in service
-    @Mapping(target = "slug", ignore = true) // Will be generated in service
+    @Mapping(target = "slug", ignore = true) // Assigned on persist (SlugAssigner)
     @Mapping(target = "viewCount", ignore = true)
     @Mapping(target = "answerCount", ignore = true)
     @Mapping(target = "isPinned", ignore = true)
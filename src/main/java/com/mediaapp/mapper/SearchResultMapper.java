@@ -0,0 +1,89 @@
+package com.mediaapp.mapper;
+
+import com.mediaapp.dto.response.SearchResultDto;
+import com.mediaapp.model.document.PostDocument;
+import com.mediaapp.model.document.PostRequestDocument;
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.model.entity.Post;
+import com.mediaapp.model.entity.PostRequest;
+import com.mediaapp.model.entity.Question;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+/**
+ * Search Result Mapper
+ * MapStruct mapper from Elasticsearch documents and entities to SearchResultDto
+ */
+@Mapper(componentModel = "spring")
+public interface SearchResultMapper {
+
+    int EXCERPT_LENGTH = 200;
+
+    // ============ Elasticsearch documents ============
+
+    @Mapping(target = "entityType", constant = "QUESTION")
+    @Mapping(target = "excerpt", source = "content", qualifiedByName = "excerpt")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "categoryName", source = "category.name")
+    @Mapping(target = "score", ignore = true)
+    @Mapping(target = "highlight", ignore = true)
+    SearchResultDto fromDocument(QuestionDocument document);
+
+    @Mapping(target = "entityType", constant = "POST")
+    @Mapping(target = "excerpt", expression = "java(excerpt(document.getSummary() != null ? document.getSummary() : document.getContent()))")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "categoryName", source = "category.name")
+    @Mapping(target = "score", ignore = true)
+    @Mapping(target = "highlight", ignore = true)
+    SearchResultDto fromDocument(PostDocument document);
+
+    @Mapping(target = "entityType", constant = "POST_REQUEST")
+    @Mapping(target = "slug", ignore = true)
+    @Mapping(target = "excerpt", source = "description", qualifiedByName = "excerpt")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "categoryName", source = "category.name")
+    @Mapping(target = "publishedAt", ignore = true)
+    @Mapping(target = "score", ignore = true)
+    @Mapping(target = "highlight", ignore = true)
+    SearchResultDto fromDocument(PostRequestDocument document);
+
+    // ============ Entities (PostgreSQL path) ============
+
+    @Mapping(target = "entityType", constant = "QUESTION")
+    @Mapping(target = "excerpt", source = "content", qualifiedByName = "excerpt")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "categoryName", source = "category.name")
+    @Mapping(target = "score", ignore = true)
+    @Mapping(target = "highlight", ignore = true)
+    SearchResultDto fromEntity(Question question);
+
+    @Mapping(target = "entityType", constant = "POST")
+    @Mapping(target = "excerpt", expression = "java(excerpt(post.getSummary() != null ? post.getSummary() : post.getContent()))")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "categoryName", source = "category.name")
+    @Mapping(target = "score", ignore = true)
+    @Mapping(target = "highlight", ignore = true)
+    SearchResultDto fromEntity(Post post);
+
+    @Mapping(target = "entityType", constant = "POST_REQUEST")
+    @Mapping(target = "slug", ignore = true)
+    @Mapping(target = "excerpt", source = "description", qualifiedByName = "excerpt")
+    @Mapping(target = "categoryId", source = "category.id")
+    @Mapping(target = "categoryName", source = "category.name")
+    @Mapping(target = "publishedAt", ignore = true)
+    @Mapping(target = "score", ignore = true)
+    @Mapping(target = "highlight", ignore = true)
+    SearchResultDto fromEntity(PostRequest postRequest);
+
+    /**
+     * Cut long bodies down to a plain excerpt
+     */
+    @Named("excerpt")
+    default String excerpt(String text) {
+        if (text == null || text.length() <= EXCERPT_LENGTH) {
+            return text;
+        }
+        return text.substring(0, EXCERPT_LENGTH) + "...";
+    }
+}
@@ -2,6 +2,7 @@ package com.mediaapp.mapper;
 
 import com.mediaapp.dto.response.TagDto;
 import com.mediaapp.model.entity.Tag;
+import com.mediaapp.repository.jpa.projection.TagLink;
 import org.mapstruct.Mapper;
 
 import java.util.List;
@@ -19,6 +20,11 @@ public interface TagMapper {
      */
     TagDto toDto(Tag tag);
 
+    /**
+     * Map TagLink projection to TagDto
+     */
+    TagDto toDto(TagLink link);
+
     /**
      * Map list of Tags to list of TagDto
      */
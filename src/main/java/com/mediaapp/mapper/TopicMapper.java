@@ -1,6 +1,7 @@
 package com.mediaapp.mapper;
 
 import com.mediaapp.dto.response.TopicDto;
+import com.mediaapp.model.catalog.TopicNode;
 import com.mediaapp.model.entity.Topic;
 import org.mapstruct.Mapper;
 
@@ -22,4 +23,9 @@ public interface TopicMapper {
      * Map list of Topics to list of TopicDto
      */
     List<TopicDto> toDtoList(List<Topic> topics);
+
+    /**
+     * Map category tree node to TopicDto
+     */
+    TopicDto toDto(TopicNode node);
 }
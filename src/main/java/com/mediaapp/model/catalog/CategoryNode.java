@@ -0,0 +1,24 @@
+package com.mediaapp.model.catalog;
+
+import java.util.List;
+
+/**
+ * Category Node
+ * Immutable category entry of a CategoryTree snapshot, with its ordered children and topics
+ */
+public record CategoryNode(Long id,
+                           Long parentId,
+                           String name,
+                           String slug,
+                           String description,
+                           String iconUrl,
+                           String coverImageUrl,
+                           int displayOrder,
+                           boolean active,
+                           List<CategoryNode> children,
+                           List<TopicNode> topics) {
+
+    public boolean isRoot() {
+        return parentId == null;
+    }
+}
@@ -0,0 +1,200 @@
+package com.mediaapp.model.catalog;
+
+import com.mediaapp.model.entity.Category;
+import com.mediaapp.model.entity.Topic;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Category Tree
+ * Immutable, versioned snapshot of the category hierarchy and its topics, indexed by ID and slug.
+ * Built once from two table scans and swapped atomically; readers never touch the database.
+ */
+public final class CategoryTree {
+
+    public static final CategoryTree EMPTY = new CategoryTree(0, Instant.EPOCH, "", List.of(), Map.of(), Map.of(), Map.of());
+
+    private static final Comparator<CategoryNode> CATEGORY_ORDER =
+        Comparator.comparingInt(CategoryNode::displayOrder).thenComparing(CategoryNode::id);
+    private static final Comparator<TopicNode> TOPIC_ORDER =
+        Comparator.comparingInt(TopicNode::displayOrder).thenComparing(TopicNode::id);
+
+    private final long version;
+    private final Instant builtAt;
+    private final String sourceVersion;
+    private final List<CategoryNode> roots;
+    private final Map<Long, CategoryNode> categoriesById;   // Depth-first order
+    private final Map<String, CategoryNode> categoriesBySlug;
+    private final Map<Long, TopicNode> topicsById;
+
+    private CategoryTree(long version, Instant builtAt, String sourceVersion, List<CategoryNode> roots,
+                         Map<Long, CategoryNode> categoriesById, Map<String, CategoryNode> categoriesBySlug,
+                         Map<Long, TopicNode> topicsById) {
+        this.version = version;
+        this.builtAt = builtAt;
+        this.sourceVersion = sourceVersion;
+        this.roots = roots;
+        this.categoriesById = categoriesById;
+        this.categoriesBySlug = categoriesBySlug;
+        this.topicsById = topicsById;
+    }
+
+    /**
+     * Build a snapshot from all categories and topics.
+     * Only association IDs are read, so lazy proxies are never initialized.
+     * Categories not reachable from a root (parent cycle) are left out.
+     */
+    public static CategoryTree build(long version, String sourceVersion, List<Category> categories, List<Topic> topics) {
+        Map<Long, List<TopicNode>> topicsByCategory = new HashMap<>();
+        Map<Long, TopicNode> topicsById = new HashMap<>();
+        for (Topic topic : topics) {
+            TopicNode node = new TopicNode(topic.getId(), topic.getCategory().getId(), topic.getName(), topic.getSlug(),
+                topic.getDescription(), topic.getIconUrl(), topic.getDisplayOrder(), Boolean.TRUE.equals(topic.getIsActive()));
+            topicsById.put(node.id(), node);
+            topicsByCategory.computeIfAbsent(node.categoryId(), id -> new ArrayList<>()).add(node);
+        }
+        topicsByCategory.values().forEach(list -> list.sort(TOPIC_ORDER));
+
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        List<Category> rootCategories = new ArrayList<>();
+        for (Category category : categories) {
+            if (category.getParent() == null) {
+                rootCategories.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(category.getParent().getId(), id -> new ArrayList<>()).add(category);
+            }
+        }
+
+        Map<Long, CategoryNode> categoriesById = new LinkedHashMap<>();
+        List<CategoryNode> roots = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        for (Category root : rootCategories) {
+            roots.add(buildNode(root, childrenByParent, topicsByCategory, visited));
+        }
+        roots.sort(CATEGORY_ORDER);
+        roots.forEach(root -> index(root, categoriesById));
+
+        Map<String, CategoryNode> categoriesBySlug = new HashMap<>();
+        categoriesById.values().forEach(node -> categoriesBySlug.put(node.slug(), node));
+
+        return new CategoryTree(version, Instant.now(), sourceVersion, List.copyOf(roots),
+            Collections.unmodifiableMap(categoriesById), Map.copyOf(categoriesBySlug), Map.copyOf(topicsById));
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * Version of the source tables this snapshot was built from
+     */
+    public String getSourceVersion() {
+        return sourceVersion;
+    }
+
+    public List<CategoryNode> getRoots() {
+        return roots;
+    }
+
+    public Optional<CategoryNode> findCategory(Long id) {
+        return Optional.ofNullable(id == null ? null : categoriesById.get(id));
+    }
+
+    public Optional<CategoryNode> findCategoryBySlug(String slug) {
+        return Optional.ofNullable(slug == null ? null : categoriesBySlug.get(slug));
+    }
+
+    public Optional<TopicNode> findTopic(Long id) {
+        return Optional.ofNullable(id == null ? null : topicsById.get(id));
+    }
+
+    public Optional<TopicNode> findTopicBySlug(Long categoryId, String slug) {
+        return findCategory(categoryId)
+            .flatMap(category -> category.topics().stream().filter(topic -> topic.slug().equals(slug)).findFirst());
+    }
+
+    /**
+     * First topic with this slug in any category (slugs are only unique per category)
+     */
+    public Optional<TopicNode> findTopicBySlug(String slug) {
+        return allTopics().stream().filter(topic -> topic.slug().equals(slug)).findFirst();
+    }
+
+    /**
+     * Topics of a category, in display order
+     */
+    public List<TopicNode> topicsOf(Long categoryId) {
+        return findCategory(categoryId).map(CategoryNode::topics).orElse(List.of());
+    }
+
+    /**
+     * All categories, parents before children, siblings in display order
+     */
+    public List<CategoryNode> allCategories() {
+        return List.copyOf(categoriesById.values());
+    }
+
+    /**
+     * All topics, grouped by category in tree order
+     */
+    public List<TopicNode> allTopics() {
+        return categoriesById.values().stream().flatMap(category -> category.topics().stream()).toList();
+    }
+
+    /**
+     * Path from the root down to the category (inclusive); empty when unknown
+     */
+    public List<CategoryNode> breadcrumb(Long categoryId) {
+        List<CategoryNode> path = new ArrayList<>();
+        CategoryNode current = categoriesById.get(categoryId);
+        while (current != null && path.size() <= categoriesById.size()) {
+            path.add(current);
+            current = current.parentId() == null ? null : categoriesById.get(current.parentId());
+        }
+        Collections.reverse(path);
+        return List.copyOf(path);
+    }
+
+    public boolean isTopicInCategory(Long topicId, Long categoryId) {
+        return findTopic(topicId).map(topic -> topic.categoryId().equals(categoryId)).orElse(false);
+    }
+
+    // ============ Private Helper Methods ============
+
+    private static CategoryNode buildNode(Category category, Map<Long, List<Category>> childrenByParent,
+                                          Map<Long, List<TopicNode>> topicsByCategory, Set<Long> visited) {
+        visited.add(category.getId());
+        List<CategoryNode> children = new ArrayList<>();
+        for (Category child : childrenByParent.getOrDefault(category.getId(), List.of())) {
+            if (!visited.contains(child.getId())) {
+                children.add(buildNode(child, childrenByParent, topicsByCategory, visited));
+            }
+        }
+        children.sort(CATEGORY_ORDER);
+
+        return new CategoryNode(category.getId(),
+            category.getParent() == null ? null : category.getParent().getId(),
+            category.getName(), category.getSlug(), category.getDescription(), category.getIconUrl(),
+            category.getCoverImageUrl(), category.getDisplayOrder(), Boolean.TRUE.equals(category.getIsActive()),
+            List.copyOf(children), List.copyOf(topicsByCategory.getOrDefault(category.getId(), List.of())));
+    }
+
+    private static void index(CategoryNode node, Map<Long, CategoryNode> categoriesById) {
+        categoriesById.put(node.id(), node);
+        node.children().forEach(child -> index(child, categoriesById));
+    }
+}
@@ -0,0 +1,15 @@
+package com.mediaapp.model.catalog;
+
+/**
+ * Topic Node
+ * Immutable topic entry of a CategoryTree snapshot
+ */
+public record TopicNode(Long id,
+                        Long categoryId,
+                        String name,
+                        String slug,
+                        String description,
+                        String iconUrl,
+                        int displayOrder,
+                        boolean active) {
+}
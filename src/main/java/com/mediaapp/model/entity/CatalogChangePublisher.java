@@ -0,0 +1,31 @@
+package com.mediaapp.model.entity;
+
+import com.mediaapp.service.CategoryTreeService.CatalogChanged;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Catalog Change Publisher
+ * Entity listener announcing category and topic writes, so the in-memory category tree is
+ * rebuilt right after the commit instead of on the next poll.
+ * Instantiated through the Spring bean container.
+ */
+@RequiredArgsConstructor
+public class CatalogChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void publish(Object entity) {
+        if (entity instanceof Category category) {
+            eventPublisher.publishEvent(new CatalogChanged(Category.class.getSimpleName(), category.getId()));
+        } else if (entity instanceof Topic topic) {
+            eventPublisher.publishEvent(new CatalogChanged(Topic.class.getSimpleName(), topic.getId()));
+        }
+    }
+}
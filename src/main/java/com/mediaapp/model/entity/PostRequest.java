@@ -1,5 +1,6 @@
 package com.mediaapp.model.entity;
 
+import com.mediaapp.util.Constants;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -28,7 +29,8 @@ import java.time.Instant;
 public class PostRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_requests_id_seq")
+    @SequenceGenerator(name = "post_requests_id_seq", sequenceName = "post_requests_id_seq", allocationSize = Constants.Ids.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -1,5 +1,6 @@
 package com.mediaapp.model.entity;
 
+import com.mediaapp.util.Constants;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -27,10 +28,12 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Question {
+@EntityListeners(SlugAssigner.class)
+public class Question implements Sluggable {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "questions_id_seq")
+    @SequenceGenerator(name = "questions_id_seq", sequenceName = "questions_id_seq", allocationSize = Constants.Ids.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
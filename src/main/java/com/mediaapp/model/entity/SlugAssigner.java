@@ -0,0 +1,30 @@
+package com.mediaapp.model.entity;
+
+import com.mediaapp.util.SlugGenerator;
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Slug Assigner
+ * Entity listener filling in "title-slug-{id}" on persist. Hibernate draws the ID from the pooled
+ * sequence before pre-persist callbacks run and snapshots the insert state after them, so the slug
+ * goes out with the single INSERT instead of a second UPDATE.
+ * Instantiated through the Spring bean container.
+ */
+@RequiredArgsConstructor
+public class SlugAssigner {
+
+    private final SlugGenerator slugGenerator;
+
+    @PrePersist
+    void assignSlug(Sluggable entity) {
+        if (entity.getSlug() != null) {
+            return;
+        }
+        if (entity.getId() == null) {
+            throw new IllegalStateException(entity.getClass().getSimpleName()
+                + " needs a sequence-generated ID before its slug can be assigned");
+        }
+        entity.setSlug(slugGenerator.generateSlugWithId(entity.getTitle(), entity.getId()));
+    }
+}
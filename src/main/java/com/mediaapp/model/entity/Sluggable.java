@@ -0,0 +1,16 @@
+package com.mediaapp.model.entity;
+
+/**
+ * Sluggable
+ * Entity whose slug is derived from its title and ID when it is first persisted (see {@link SlugAssigner})
+ */
+public interface Sluggable {
+
+    Long getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    void setSlug(String slug);
+}
@@ -27,6 +27,7 @@ import java.time.Instant;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@EntityListeners(CatalogChangePublisher.class)
 public class Topic {
 
     @Id
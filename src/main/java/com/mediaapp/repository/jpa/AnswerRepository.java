@@ -1,14 +1,23 @@
 package com.mediaapp.repository.jpa;
 
 import com.mediaapp.model.entity.Answer;
+import com.mediaapp.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Answer Repository
@@ -29,6 +38,17 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
     @EntityGraph(attributePaths = {"user"})
     List<Answer> findByQuestionIdInAndDeletedAtIsNull(List<Long> questionIds);
 
+    /**
+     * Find the answer preview of a page of questions: at most :limit live answers per question
+     * (accepted first, then most liked, then oldest), ranked in the database so the rest are never loaded
+     */
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT a FROM Answer a WHERE a.id IN (" +
+           "SELECT r.id FROM (SELECT p.id AS id, ROW_NUMBER() OVER (PARTITION BY p.question.id " +
+           "ORDER BY p.isAccepted DESC NULLS LAST, p.likeCount DESC NULLS LAST, p.createdAt ASC NULLS LAST, p.id) AS rn " +
+           "FROM Answer p WHERE p.question.id IN :questionIds AND p.deletedAt IS NULL) r WHERE r.rn <= :limit)")
+    List<Answer> findPreviewByQuestionIds(@Param("questionIds") Collection<Long> questionIds, @Param("limit") int limit);
+
     /**
      * Find answers by user
      */
@@ -51,4 +71,82 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
      * Count answers by user
      */
     long countByUserIdAndDeletedAtIsNull(Long userId);
+
+    /**
+     * Apply buffered like deltas (one set-based UPDATE per distinct delta, never below zero)
+     */
+    @Modifying
+    @Query("UPDATE Answer a SET a.likeCount = CASE WHEN a.likeCount + :delta < 0 THEN 0 ELSE a.likeCount + :delta END " +
+           "WHERE a.id IN :ids")
+    int addLikeCounts(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    /**
+     * Recompute like_count from the likes table for an ID range; only drifted rows are written
+     */
+    @Modifying
+    @Query(value = "UPDATE answers x SET like_count = c.cnt " +
+                   "FROM (SELECT e.id, COUNT(l.id) AS cnt FROM answers e " +
+                   "      LEFT JOIN likes l ON l.entity_type = 'ANSWER' AND l.entity_id = e.id " +
+                   "      WHERE e.id > :fromId AND e.id <= :toId GROUP BY e.id) c " +
+                   "WHERE x.id = c.id AND x.like_count <> c.cnt", nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Find the highest answer ID (upper bound for reconciliation ranges)
+     */
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM Answer a")
+    long findMaxId();
+
+    /**
+     * Stream live answers in ID order through a forward-only server-side cursor (bulk exports).
+     * Associations stay lazy; the persistence context must be cleared as the stream is consumed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.Streaming.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT a FROM Answer a WHERE a.deletedAt IS NULL ORDER BY a.id")
+    Stream<Answer> streamAllLive();
+
+    /**
+     * Claim the next batch of answers not yet pushed into their question document (keyset on ID, no OFFSET)
+     * Same lease contract as {@link QuestionRepository#claimNeedSyncIds}
+     *
+     * @return IDs of the claimed rows, in no particular order
+     */
+    @Query(value = "UPDATE answers SET sync_claimed_at = CURRENT_TIMESTAMP WHERE id IN (" +
+                   "SELECT id FROM answers WHERE need_sync = true AND id > :lastId AND " + Constants.EsSync.CLAIMABLE +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING id", nativeQuery = true)
+    List<Long> claimNeedSyncIds(@Param("lastId") long lastId, @Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    /**
+     * Find answers by IDs with their author, soft-deleted ones included (for Elasticsearch sync)
+     */
+    @EntityGraph(attributePaths = {"user"})
+    List<Answer> findWithUserByIdIn(Collection<Long> ids);
+
+    /**
+     * Clear need_sync flags of answers pushed to Elasticsearch
+     * Rows updated after syncedUpTo keep their flag for the next cycle; the lease is released with the flag
+     */
+    @Modifying
+    @Query(value = "UPDATE answers SET need_sync = false, sync_claimed_at = NULL " +
+                   "WHERE id IN :ids AND updated_at <= :syncedUpTo", nativeQuery = true)
+    int clearNeedSync(@Param("ids") Collection<Long> ids, @Param("syncedUpTo") Instant syncedUpTo);
+
+    /**
+     * Release the sync leases of claimed answers that keep their flag (rejected by Elasticsearch or changed since)
+     */
+    @Modifying
+    @Query(value = "UPDATE answers SET sync_claimed_at = NULL WHERE id IN :ids AND sync_claimed_at IS NOT NULL",
+           nativeQuery = true)
+    int releaseSyncClaims(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count answers waiting to be pushed to Elasticsearch
+     */
+    @Query(value = "SELECT COUNT(*) FROM answers WHERE need_sync = true", nativeQuery = true)
+    long countNeedSync();
 }
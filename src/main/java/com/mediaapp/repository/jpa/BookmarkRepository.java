@@ -1,11 +1,17 @@
 package com.mediaapp.repository.jpa;
 
 import com.mediaapp.model.entity.Bookmark;
+import com.mediaapp.repository.jpa.projection.EntityRef;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -60,4 +66,26 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
      * Count bookmarks by user
      */
     long countByUserId(Long userId);
+
+    /**
+     * Find every entity a user has bookmarked (used to build the user's membership filter)
+     */
+    @Query("SELECT b.entityType AS entityType, b.entityId AS entityId, b.createdAt AS createdAt " +
+           "FROM Bookmark b WHERE b.user.id = :userId")
+    List<EntityRef> findEntityRefsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find what a user has bookmarked since the given time (catches a membership filter up with writes from other nodes)
+     */
+    @Query("SELECT b.entityType AS entityType, b.entityId AS entityId, b.createdAt AS createdAt " +
+           "FROM Bookmark b WHERE b.user.id = :userId AND b.createdAt > :since")
+    List<EntityRef> findEntityRefsByUserIdCreatedAfter(@Param("userId") Long userId, @Param("since") Instant since);
+
+    /**
+     * Find which of the given entities a user has bookmarked (one IN query instead of one exists per entity)
+     */
+    @Query("SELECT b.entityId FROM Bookmark b WHERE b.user.id = :userId AND b.entityType = :entityType AND b.entityId IN :entityIds")
+    List<Long> findBookmarkedEntityIds(@Param("userId") Long userId,
+        @Param("entityType") String entityType,
+        @Param("entityIds") Collection<Long> entityIds);
 }
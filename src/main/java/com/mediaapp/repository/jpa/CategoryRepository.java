@@ -1,8 +1,14 @@
 package com.mediaapp.repository.jpa;
 
+import com.mediaapp.config.CacheConfig;
 import com.mediaapp.model.entity.Category;
+import com.mediaapp.repository.jpa.projection.CategorySnapshot;
+import com.mediaapp.repository.jpa.projection.TableVersion;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,6 +21,34 @@ import java.util.Optional;
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    /**
+     * Find a category snapshot by ID (cached, immutable)
+     */
+    @Cacheable(cacheNames = CacheConfig.CATEGORIES, key = "#p0")
+    @Query(CategorySnapshot.SELECT + " WHERE e.id = :id")
+    Optional<CategorySnapshot> findSnapshotById(@Param("id") Long id);
+
+    /**
+     * Save category; its cached snapshot is evicted up front so a failed save cannot leave a stale copy behind
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    <S extends Category> S save(S entity);
+
+    /**
+     * Delete category by ID
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#p0", beforeInvocation = true)
+    void deleteById(Long id);
+
+    /**
+     * Delete category
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIES, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    void delete(Category entity);
+
     /**
      * Find category by slug
      */
@@ -40,4 +74,10 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
      * Check if slug exists
      */
     boolean existsBySlug(String slug);
+
+    /**
+     * Row count and latest update of the table (category tree change detection)
+     */
+    @Query("SELECT COUNT(c) AS rowCount, MAX(c.updatedAt) AS lastUpdatedAt FROM Category c")
+    TableVersion findTableVersion();
 }
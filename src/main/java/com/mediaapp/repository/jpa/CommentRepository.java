@@ -5,9 +5,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -32,6 +35,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @EntityGraph(attributePaths = {"user"})
     List<Comment> findByPostIdInAndDeletedAtIsNull(List<Long> postIds);
 
+    /**
+     * Find the comment preview of a page of posts: the oldest :limit live top-level comments per post,
+     * ranked in the database so the rest are never loaded
+     */
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT c FROM Comment c WHERE c.id IN (" +
+           "SELECT r.id FROM (SELECT p.id AS id, ROW_NUMBER() OVER (PARTITION BY p.post.id " +
+           "ORDER BY p.createdAt ASC NULLS LAST, p.id) AS rn " +
+           "FROM Comment p WHERE p.post.id IN :postIds AND p.parentComment IS NULL AND p.deletedAt IS NULL) r " +
+           "WHERE r.rn <= :limit)")
+    List<Comment> findPreviewByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+
     /**
      * Find replies to a comment
      */
@@ -58,4 +73,29 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * Count comments by user
      */
     long countByUserIdAndDeletedAtIsNull(Long userId);
+
+    /**
+     * Apply buffered like deltas (one set-based UPDATE per distinct delta, never below zero)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = CASE WHEN c.likeCount + :delta < 0 THEN 0 ELSE c.likeCount + :delta END " +
+           "WHERE c.id IN :ids")
+    int addLikeCounts(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    /**
+     * Recompute like_count from the likes table for an ID range; only drifted rows are written
+     */
+    @Modifying
+    @Query(value = "UPDATE comments x SET like_count = c.cnt " +
+                   "FROM (SELECT e.id, COUNT(l.id) AS cnt FROM comments e " +
+                   "      LEFT JOIN likes l ON l.entity_type = 'COMMENT' AND l.entity_id = e.id " +
+                   "      WHERE e.id > :fromId AND e.id <= :toId GROUP BY e.id) c " +
+                   "WHERE x.id = c.id AND x.like_count <> c.cnt", nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Find the highest comment ID (upper bound for reconciliation ranges)
+     */
+    @Query("SELECT COALESCE(MAX(c.id), 0) FROM Comment c")
+    long findMaxId();
 }
@@ -1,9 +1,16 @@
 package com.mediaapp.repository.jpa;
 
 import com.mediaapp.model.entity.Like;
+import com.mediaapp.repository.jpa.projection.EntityRef;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -44,4 +51,43 @@ public interface LikeRepository extends JpaRepository<Like, Long> {
         String entityType, 
         Long entityId
     );
+
+    /**
+     * Insert a like idempotently
+     * @return 1 if the like was added, 0 if it already existed
+     */
+    @Modifying
+    @Query(value = "INSERT INTO likes (user_id, entity_type, entity_id) VALUES (:userId, :entityType, :entityId) " +
+                   "ON CONFLICT (user_id, entity_type, entity_id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("entityType") String entityType, @Param("entityId") Long entityId);
+
+    /**
+     * Remove a like with one DELETE (no load-then-delete)
+     * @return 1 if the like was removed, 0 if there was none
+     */
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.user.id = :userId AND l.entityType = :entityType AND l.entityId = :entityId")
+    int deleteLike(@Param("userId") Long userId, @Param("entityType") String entityType, @Param("entityId") Long entityId);
+
+    /**
+     * Find every entity a user has liked (used to build the user's membership filter)
+     */
+    @Query("SELECT l.entityType AS entityType, l.entityId AS entityId, l.createdAt AS createdAt " +
+           "FROM Like l WHERE l.user.id = :userId")
+    List<EntityRef> findEntityRefsByUserId(@Param("userId") Long userId);
+
+    /**
+     * Find what a user has liked since the given time (catches a membership filter up with writes from other nodes)
+     */
+    @Query("SELECT l.entityType AS entityType, l.entityId AS entityId, l.createdAt AS createdAt " +
+           "FROM Like l WHERE l.user.id = :userId AND l.createdAt > :since")
+    List<EntityRef> findEntityRefsByUserIdCreatedAfter(@Param("userId") Long userId, @Param("since") Instant since);
+
+    /**
+     * Find which of the given entities a user has liked (one IN query instead of one exists per entity)
+     */
+    @Query("SELECT l.entityId FROM Like l WHERE l.user.id = :userId AND l.entityType = :entityType AND l.entityId IN :entityIds")
+    List<Long> findLikedEntityIds(@Param("userId") Long userId,
+        @Param("entityType") String entityType,
+        @Param("entityIds") Collection<Long> entityIds);
 }
@@ -1,16 +1,33 @@
 package com.mediaapp.repository.jpa;
 
 import com.mediaapp.model.entity.Post;
+import com.mediaapp.repository.jpa.projection.CommentCount;
+import com.mediaapp.repository.jpa.projection.FullTextHit;
+import com.mediaapp.repository.jpa.projection.ChangedRow;
+import com.mediaapp.repository.jpa.projection.IdRange;
+import com.mediaapp.repository.jpa.projection.TagLink;
+import com.mediaapp.repository.jpa.projection.TrendingRow;
+import com.mediaapp.repository.jpa.projection.ViewCount;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.Highlight;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Post Repository
@@ -19,6 +36,14 @@ import java.util.Optional;
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /**
+     * Published posts matching the keyword pattern, capped before ranking (see {@link #searchIdsByKeyword})
+     */
+    String KEYWORD_CANDIDATES = "SELECT p.id, p.title, p.content FROM posts p " +
+                                "WHERE (p.title ILIKE :pattern OR p.content ILIKE :pattern) " +
+                                "AND p.status = 'PUBLISHED' AND p.deleted_at IS NULL " +
+                                "LIMIT " + Constants.Search.KEYWORD_MAX_CANDIDATES;
+
     /**
      * Find post by ID with eager loading
      */
@@ -33,11 +58,101 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
      * Find posts that need sync with eager loading to avoid N+1
+     * @deprecated OFFSET paging over a shrinking set skips rows; use {@link #claimNeedSyncIds}
      */
     @EntityGraph(attributePaths = {"category", "topic", "author", "tags"})
+    @Deprecated
     @Query("SELECT p FROM Post p WHERE p.needSync = true AND p.deletedAt IS NULL")
     List<Post> findNeedSync(Pageable pageable);
 
+    /**
+     * Claim the next batch of posts that need sync (keyset on ID, no OFFSET) by stamping a lease
+     * Rows are only locked (FOR UPDATE SKIP LOCKED) by the short claiming transaction; until the lease is
+     * released or older than leaseMs, concurrent workers and other app nodes skip them (see V12 migration)
+     *
+     * @return IDs of the claimed rows, in no particular order
+     */
+    @Query(value = "UPDATE posts SET sync_claimed_at = CURRENT_TIMESTAMP WHERE id IN (" +
+                   "SELECT id FROM posts WHERE need_sync = true AND deleted_at IS NULL " +
+                   "AND id > :lastId AND id <= :maxId AND " + Constants.EsSync.CLAIMABLE +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING id", nativeQuery = true)
+    List<Long> claimNeedSyncIds(@Param("lastId") long lastId, @Param("maxId") long maxId,
+                                @Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    /**
+     * Find the ID range of posts that need sync (used to partition sync workers)
+     */
+    @Query("SELECT MIN(p.id) AS minId, MAX(p.id) AS maxId FROM Post p WHERE p.needSync = true AND p.deletedAt IS NULL")
+    IdRange findNeedSyncIdRange();
+
+    /**
+     * Find posts by IDs with eager loading for Elasticsearch sync
+     */
+    @EntityGraph(attributePaths = {"category", "topic", "author", "tags"})
+    List<Post> findWithDetailsByIdIn(Collection<Long> ids);
+
+    /**
+     * Clear need_sync flags after a successful sync (one set-based UPDATE)
+     * Rows updated after syncedUpTo keep their flag for the next cycle; the lease is released with the flag
+     */
+    @Modifying
+    @Query(value = "UPDATE posts SET need_sync = false, sync_claimed_at = NULL " +
+                   "WHERE id IN (:ids) AND updated_at <= :syncedUpTo", nativeQuery = true)
+    int clearNeedSync(@Param("ids") Collection<Long> ids, @Param("syncedUpTo") Instant syncedUpTo);
+
+    /**
+     * Release the sync leases of claimed rows that keep their flag (rejected by Elasticsearch or changed since)
+     */
+    @Modifying
+    @Query(value = "UPDATE posts SET sync_claimed_at = NULL WHERE id IN (:ids) AND sync_claimed_at IS NOT NULL",
+           nativeQuery = true)
+    int releaseSyncClaims(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Add buffered page views to published posts (one set-based UPDATE per distinct delta)
+     * Does not raise need_sync nor bump updated_at (see V5 migration)
+     *
+     * @return IDs of the rows actually updated (unknown, deleted or unpublished IDs are left out)
+     */
+    @Query(value = "UPDATE posts SET view_count = view_count + :delta " +
+                   "WHERE id IN (:ids) AND deleted_at IS NULL AND status = 'PUBLISHED' " +
+                   "RETURNING id", nativeQuery = true)
+    List<Long> incrementViewCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    /**
+     * Find current view counts by IDs
+     */
+    @Query("SELECT p.id AS id, p.viewCount AS viewCount FROM Post p WHERE p.id IN :ids AND p.deletedAt IS NULL")
+    List<ViewCount> findViewCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count posts waiting for sync
+     */
+    long countByNeedSyncTrueAndDeletedAtIsNull();
+
+    /**
+     * Claim the next batch of soft-deleted posts still present in Elasticsearch (tombstones)
+     * Keyset + FOR UPDATE SKIP LOCKED; rows leased by a sync worker are skipped, so a document still being
+     * indexed cannot be written back after its delete
+     */
+    @Query(value = "SELECT id FROM posts WHERE need_sync = true AND deleted_at IS NOT NULL AND id > :lastId " +
+                   "AND " + Constants.EsSync.CLAIMABLE +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> claimTombstoneIds(@Param("lastId") long lastId, @Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    /**
+     * Clear need_sync flags of tombstones removed from Elasticsearch
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.needSync = false WHERE p.id IN :ids AND p.deletedAt IS NOT NULL")
+    int clearTombstones(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count tombstones waiting for removal from Elasticsearch
+     */
+    long countByNeedSyncTrueAndDeletedAtIsNotNull();
+
     /**
      * Find posts by status
      */
@@ -78,13 +193,52 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     List<Post> findFeatured(Pageable pageable);
 
     /**
-     * Search posts by title or content
+     * Find posts published since a point in time with their counters (trending seed)
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.slug AS slug, p.category.id AS categoryId, p.topic.id AS topicId, " +
+           "p.publishedAt AS publishedAt, p.viewCount AS viewCount, p.likeCount AS likeCount, p.commentCount AS replyCount, " +
+           "p.isFeatured AS featured FROM Post p " +
+           "WHERE p.status = 'PUBLISHED' AND p.deletedAt IS NULL AND p.publishedAt >= :since")
+    List<TrendingRow> findTrendingCandidates(@Param("since") Instant since);
+
+    /**
+     * Find current comment counts by IDs
+     */
+    @Query("SELECT p.id AS id, p.commentCount AS commentCount FROM Post p WHERE p.id IN :ids")
+    List<CommentCount> findCommentCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Search published posts by title or content, most similar first
+     * ILIKE on the bare columns is served by the idx_posts_title_trgm / idx_posts_content_trgm GIN indexes;
+     * pattern is '%' + keyword + '%' with LIKE wildcards in the keyword escaped
+     * Only the first {@link Constants.Search#KEYWORD_MAX_CANDIDATES} matches are ranked and counted, so an
+     * unselective keyword does not rank every match before the page LIMIT applies
+     * Returns IDs only, load the rows with {@link #findWithDetailsByIdIn}
+     */
+    @Query(value = "SELECT c.id FROM (" + KEYWORD_CANDIDATES + ") c " +
+                   "ORDER BY GREATEST(similarity(c.title, :keyword), word_similarity(:keyword, c.content)) DESC, c.id DESC",
+           countQuery = "SELECT COUNT(*) FROM (" + KEYWORD_CANDIDATES + ") c",
+           nativeQuery = true)
+    Page<Long> searchIdsByKeyword(@Param("keyword") String keyword, @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Full-text search over published posts (search_vector, idx_posts_search_vector), best ts_rank_cd first
+     * Query uses websearch syntax: quoted phrases, OR, -exclusion
+     * Matching is word-based and accent-insensitive, without stemming ({@link Constants.Search#TEXT_SEARCH_CONFIG})
+     * Returns IDs with rank and a snippet marked with Highlight sentinels, load the rows with {@link #findWithDetailsByIdIn}
      */
-    @Query("SELECT p FROM Post p WHERE " +
-           "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "AND p.status = 'PUBLISHED' AND p.deletedAt IS NULL")
-    Page<Post> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = "SELECT p.id AS id, ts_rank_cd(p.search_vector, tsq) AS rank, " +
+                   "ts_headline('" + Constants.Search.TEXT_SEARCH_CONFIG + "', coalesce(p.summary, '') || ' ' || p.content, tsq, " +
+                   "'" + Highlight.HEADLINE_OPTIONS + "') AS headline " +
+                   "FROM posts p, websearch_to_tsquery('" + Constants.Search.TEXT_SEARCH_CONFIG + "', :query) tsq " +
+                   "WHERE p.search_vector @@ tsq " +
+                   "AND p.status = 'PUBLISHED' AND p.deleted_at IS NULL " +
+                   "ORDER BY rank DESC, p.id DESC",
+           countQuery = "SELECT COUNT(*) FROM posts p " +
+                        "WHERE p.search_vector @@ websearch_to_tsquery('" + Constants.Search.TEXT_SEARCH_CONFIG + "', :query) " +
+                        "AND p.status = 'PUBLISHED' AND p.deleted_at IS NULL",
+           nativeQuery = true)
+    Page<FullTextHit> searchFullText(@Param("query") String query, Pageable pageable);
 
     /**
      * Check if slug exists
@@ -100,4 +254,72 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * Count posts by author
      */
     long countByAuthorIdAndDeletedAtIsNull(Long authorId);
+
+    /**
+     * Find the tags of a page of posts in one query (replaces per-row lazy loading of p.tags)
+     */
+    @Query("SELECT p.id AS ownerId, t.id AS id, t.name AS name, t.slug AS slug, t.usageCount AS usageCount " +
+           "FROM Post p JOIN p.tags t WHERE p.id IN :ids ORDER BY t.name")
+    List<TagLink> findTagLinks(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Apply buffered like deltas (one set-based UPDATE per distinct delta, never below zero)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END " +
+           "WHERE p.id IN :ids")
+    int addLikeCounts(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    /**
+     * Recompute like_count from the likes table for an ID range; only drifted rows are written
+     */
+    @Modifying
+    @Query(value = "UPDATE posts x SET like_count = c.cnt " +
+                   "FROM (SELECT e.id, COUNT(l.id) AS cnt FROM posts e " +
+                   "      LEFT JOIN likes l ON l.entity_type = 'POST' AND l.entity_id = e.id " +
+                   "      WHERE e.id > :fromId AND e.id <= :toId GROUP BY e.id) c " +
+                   "WHERE x.id = c.id AND x.like_count <> c.cnt", nativeQuery = true)
+    int reconcileLikeCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Find the highest post ID (upper bound for reconciliation ranges)
+     */
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Post p")
+    long findMaxId();
+
+    /**
+     * Stream the IDs of live (not soft-deleted) posts in order through a forward-only server-side cursor.
+     * Must be consumed inside a transaction and closed; see StreamingReader.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.Streaming.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p.id FROM Post p WHERE p.deletedAt IS NULL ORDER BY p.id")
+    Stream<Long> streamLiveIds();
+
+    /**
+     * Stream live posts in ID order through a forward-only server-side cursor (bulk exports).
+     * Associations stay lazy; the persistence context must be cleared as the stream is consumed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.Streaming.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Post p WHERE p.deletedAt IS NULL ORDER BY p.id")
+    Stream<Post> streamAllLive();
+
+    /**
+     * Find posts updated or soft-deleted since a point in time (reindex catch-up, keyset on ID)
+     */
+    @Query("SELECT p.id AS id, p.deletedAt AS deletedAt FROM Post p " +
+           "WHERE p.updatedAt >= :since AND p.id > :lastId ORDER BY p.id")
+    List<ChangedRow> findChangedSince(@Param("since") Instant since, @Param("lastId") long lastId, Limit limit);
+
+    /**
+     * Count live posts
+     */
+    long countByDeletedAtIsNull();
 }
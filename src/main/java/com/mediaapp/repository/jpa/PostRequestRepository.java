@@ -1,16 +1,28 @@
 package com.mediaapp.repository.jpa;
 
 import com.mediaapp.model.entity.PostRequest;
+import com.mediaapp.repository.jpa.projection.ChangedRow;
+import com.mediaapp.repository.jpa.projection.IdRange;
+import com.mediaapp.repository.jpa.projection.PostRequestSummary;
+import com.mediaapp.util.Constants;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * PostRequest Repository
@@ -19,19 +31,123 @@ import java.util.Optional;
 @Repository
 public interface PostRequestRepository extends JpaRepository<PostRequest, Long> {
 
+    String SUMMARY_SELECT = "SELECT pr.id AS id, pr.title AS title, pr.status AS status, pr.priority AS priority, " +
+                            "c.id AS categoryId, c.name AS categoryName, " +
+                            "r.id AS requesterId, r.username AS requesterUsername, " +
+                            "a.id AS assignedToId, a.username AS assignedToUsername, " +
+                            "pr.dueDate AS dueDate, pr.createdAt AS createdAt " +
+                            "FROM PostRequest pr JOIN pr.requester r LEFT JOIN pr.category c LEFT JOIN pr.assignedTo a ";
+
     /**
      * Find post request by ID with eager loading
      */
     @EntityGraph(attributePaths = {"requester", "category", "assignedTo", "relatedPost"})
     Optional<PostRequest> findWithDetailsById(Long id);
 
+    /**
+     * Find post request list rows as a projection (no description, no entity graph)
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE pr.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(pr) FROM PostRequest pr WHERE pr.deletedAt IS NULL")
+    Page<PostRequestSummary> findSummaries(Pageable pageable);
+
+    /**
+     * Find post request list rows by status as a projection
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE pr.status = :status AND pr.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(pr) FROM PostRequest pr WHERE pr.status = :status AND pr.deletedAt IS NULL")
+    Page<PostRequestSummary> findSummariesByStatus(@Param("status") String status, Pageable pageable);
+
     /**
      * Find post requests that need sync with eager loading
+     * @deprecated OFFSET paging over a shrinking set skips rows; use {@link #claimNeedSyncIds}
      */
     @EntityGraph(attributePaths = {"requester", "category", "assignedTo"})
+    @Deprecated
     @Query("SELECT pr FROM PostRequest pr WHERE pr.needSync = true AND pr.deletedAt IS NULL")
     List<PostRequest> findNeedSync(Pageable pageable);
 
+    /**
+     * Claim the next batch of post requests that need sync (keyset on ID, no OFFSET) by stamping a lease
+     * Rows are only locked (FOR UPDATE SKIP LOCKED) by the short claiming transaction; until the lease is
+     * released or older than leaseMs, concurrent workers and other app nodes skip them (see V12 migration)
+     *
+     * @return IDs of the claimed rows, in no particular order
+     */
+    @Query(value = "UPDATE post_requests SET sync_claimed_at = CURRENT_TIMESTAMP WHERE id IN (" +
+                   "SELECT id FROM post_requests WHERE need_sync = true AND deleted_at IS NULL " +
+                   "AND id > :lastId AND id <= :maxId AND " + Constants.EsSync.CLAIMABLE +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING id", nativeQuery = true)
+    List<Long> claimNeedSyncIds(@Param("lastId") long lastId, @Param("maxId") long maxId,
+                                @Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    /**
+     * Find the ID range of post requests that need sync (used to partition sync workers)
+     */
+    @Query("SELECT MIN(pr.id) AS minId, MAX(pr.id) AS maxId FROM PostRequest pr WHERE pr.needSync = true AND pr.deletedAt IS NULL")
+    IdRange findNeedSyncIdRange();
+
+    /**
+     * Find post requests by IDs with eager loading for Elasticsearch sync
+     */
+    @EntityGraph(attributePaths = {"requester", "category", "assignedTo", "relatedPost"})
+    List<PostRequest> findWithDetailsByIdIn(Collection<Long> ids);
+
+    /**
+     * Clear need_sync flags after a successful sync (one set-based UPDATE)
+     * Rows updated after syncedUpTo keep their flag for the next cycle; the lease is released with the flag
+     */
+    @Modifying
+    @Query(value = "UPDATE post_requests SET need_sync = false, sync_claimed_at = NULL " +
+                   "WHERE id IN (:ids) AND updated_at <= :syncedUpTo", nativeQuery = true)
+    int clearNeedSync(@Param("ids") Collection<Long> ids, @Param("syncedUpTo") Instant syncedUpTo);
+
+    /**
+     * Release the sync leases of claimed rows that keep their flag (rejected by Elasticsearch or changed since)
+     */
+    @Modifying
+    @Query(value = "UPDATE post_requests SET sync_claimed_at = NULL WHERE id IN (:ids) AND sync_claimed_at IS NOT NULL",
+           nativeQuery = true)
+    int releaseSyncClaims(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count post requests waiting for sync
+     */
+    long countByNeedSyncTrueAndDeletedAtIsNull();
+
+    /**
+     * Claim the next batch of soft-deleted post requests still present in Elasticsearch (tombstones)
+     * Keyset + FOR UPDATE SKIP LOCKED; rows leased by a sync worker are skipped, so a document still being
+     * indexed cannot be written back after its delete
+     */
+    @Query(value = "SELECT id FROM post_requests WHERE need_sync = true AND deleted_at IS NOT NULL AND id > :lastId " +
+                   "AND " + Constants.EsSync.CLAIMABLE +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> claimTombstoneIds(@Param("lastId") long lastId, @Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    /**
+     * Clear need_sync flags of tombstones removed from Elasticsearch
+     */
+    @Modifying
+    @Query("UPDATE PostRequest pr SET pr.needSync = false WHERE pr.id IN :ids AND pr.deletedAt IS NOT NULL")
+    int clearTombstones(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count tombstones waiting for removal from Elasticsearch
+     */
+    long countByNeedSyncTrueAndDeletedAtIsNotNull();
+
+    /**
+     * Search post requests by title or description
+     */
+    @EntityGraph(attributePaths = {"category"})
+    @Query("SELECT pr FROM PostRequest pr WHERE " +
+           "(LOWER(pr.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+           "LOWER(pr.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "AND pr.deletedAt IS NULL")
+    Page<PostRequest> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
     /**
      * Find post requests by status
      */
@@ -90,4 +206,28 @@ public interface PostRequestRepository extends JpaRepository<PostRequest, Long>
      * Count assigned post requests
      */
     long countByAssignedToIdAndStatusNotIn(Long assignedToId, List<String> excludedStatuses);
+
+    /**
+     * Stream the IDs of live (not soft-deleted) post requests in order through a forward-only server-side cursor.
+     * Must be consumed inside a transaction and closed; see StreamingReader.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.Streaming.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT pr.id FROM PostRequest pr WHERE pr.deletedAt IS NULL ORDER BY pr.id")
+    Stream<Long> streamLiveIds();
+
+    /**
+     * Find post requests updated or soft-deleted since a point in time (reindex catch-up, keyset on ID)
+     */
+    @Query("SELECT pr.id AS id, pr.deletedAt AS deletedAt FROM PostRequest pr " +
+           "WHERE pr.updatedAt >= :since AND pr.id > :lastId ORDER BY pr.id")
+    List<ChangedRow> findChangedSince(@Param("since") Instant since, @Param("lastId") long lastId, Limit limit);
+
+    /**
+     * Count live post requests
+     */
+    long countByDeletedAtIsNull();
 }
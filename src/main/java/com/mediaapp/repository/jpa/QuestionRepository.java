@@ -1,16 +1,34 @@
 package com.mediaapp.repository.jpa;
 
 import com.mediaapp.model.entity.Question;
+import com.mediaapp.repository.jpa.projection.AnswerCount;
+import com.mediaapp.repository.jpa.projection.FullTextHit;
+import com.mediaapp.repository.jpa.projection.ChangedRow;
+import com.mediaapp.repository.jpa.projection.IdRange;
+import com.mediaapp.repository.jpa.projection.TagLink;
+import com.mediaapp.repository.jpa.projection.TrendingRow;
+import com.mediaapp.repository.jpa.projection.QuestionSummary;
+import com.mediaapp.repository.jpa.projection.ViewCount;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.Highlight;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Question Repository
@@ -19,25 +37,166 @@ import java.util.Optional;
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
+    /**
+     * Published questions matching the keyword pattern, capped before ranking (see {@link #searchIdsByKeyword})
+     */
+    String KEYWORD_CANDIDATES = "SELECT q.id, q.title, q.content FROM questions q " +
+                                "WHERE (q.title ILIKE :pattern OR q.content ILIKE :pattern) " +
+                                "AND q.status = 'PUBLISHED' AND q.deleted_at IS NULL " +
+                                "LIMIT " + Constants.Search.KEYWORD_MAX_CANDIDATES;
+
+    String PUBLISHED_FEED = "q.status = 'PUBLISHED' AND q.deletedAt IS NULL AND q.publishedAt IS NOT NULL ";
+
+    /**
+     * Trending projection of published questions inside the window (filter on q.publishedAt >= :since)
+     */
+    String TRENDING_ROW = "SELECT q.id AS id, q.title AS title, q.slug AS slug, q.category.id AS categoryId, " +
+                          "q.topic.id AS topicId, q.publishedAt AS publishedAt, q.viewCount AS viewCount, " +
+                          "0L AS likeCount, q.answerCount AS replyCount, q.isFeatured AS featured FROM Question q " +
+                          "WHERE " + PUBLISHED_FEED + "AND q.publishedAt >= :since ";
+
+    /**
+     * Rows strictly after the (publishedAt, id) cursor, newest first. The redundant publishedAt bound
+     * gives the planner a range condition on the leading index column (V9 feed indexes).
+     */
+    String AFTER_FEED_CURSOR = "AND q.publishedAt <= :publishedAt AND (q.publishedAt < :publishedAt OR q.id < :id) " +
+                               "ORDER BY q.publishedAt DESC, q.id DESC";
+
     /**
      * Find question by ID with eager loading
      */
     @EntityGraph(attributePaths = {"category", "topic", "user", "tags"})
     Optional<Question> findWithDetailsById(Long id);
 
+    /**
+     * Find question list rows as a projection (no content, no entity graph)
+     */
+    @Query(value = "SELECT q.id AS id, q.title AS title, q.slug AS slug, q.status AS status, " +
+                   "q.viewCount AS viewCount, q.answerCount AS answerCount, " +
+                   "q.isPinned AS isPinned, q.isFeatured AS isFeatured, " +
+                   "c.id AS categoryId, c.name AS categoryName, t.id AS topicId, t.name AS topicName, " +
+                   "u.id AS userId, u.username AS username, " +
+                   "q.publishedAt AS publishedAt, q.createdAt AS createdAt " +
+                   "FROM Question q JOIN q.category c LEFT JOIN q.topic t JOIN q.user u " +
+                   "WHERE q.deletedAt IS NULL",
+           countQuery = "SELECT COUNT(q) FROM Question q WHERE q.deletedAt IS NULL")
+    Page<QuestionSummary> findSummaries(Pageable pageable);
+
     /**
      * Find question by slug
      */
     @EntityGraph(attributePaths = {"category", "topic", "user"})
     Optional<Question> findBySlug(String slug);
 
+    /**
+     * Find the ID of a live question by slug
+     */
+    @Query("SELECT q.id FROM Question q WHERE q.slug = :slug AND q.deletedAt IS NULL")
+    Optional<Long> findLiveIdBySlug(@Param("slug") String slug);
+
     /**
      * Find questions that need sync with eager loading to avoid N+1
+     * @deprecated OFFSET paging over a shrinking set skips rows; use {@link #claimNeedSyncIds}
      */
     @EntityGraph(attributePaths = {"category", "topic", "user", "tags"})
+    @Deprecated
     @Query("SELECT q FROM Question q WHERE q.needSync = true AND q.deletedAt IS NULL")
     List<Question> findNeedSync(Pageable pageable);
 
+    /**
+     * Claim the next batch of questions that need sync (keyset on ID, no OFFSET) by stamping a lease
+     * Rows are only locked (FOR UPDATE SKIP LOCKED) by the short claiming transaction; until the lease is
+     * released or older than leaseMs, concurrent workers and other app nodes skip them (see V12 migration)
+     *
+     * @return IDs of the claimed rows, in no particular order
+     */
+    @Query(value = "UPDATE questions SET sync_claimed_at = CURRENT_TIMESTAMP WHERE id IN (" +
+                   "SELECT id FROM questions WHERE need_sync = true AND deleted_at IS NULL " +
+                   "AND id > :lastId AND id <= :maxId AND " + Constants.EsSync.CLAIMABLE +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING id", nativeQuery = true)
+    List<Long> claimNeedSyncIds(@Param("lastId") long lastId, @Param("maxId") long maxId,
+                                @Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    /**
+     * Find the ID range of questions that need sync (used to partition sync workers)
+     */
+    @Query("SELECT MIN(q.id) AS minId, MAX(q.id) AS maxId FROM Question q WHERE q.needSync = true AND q.deletedAt IS NULL")
+    IdRange findNeedSyncIdRange();
+
+    /**
+     * Find questions by IDs with eager loading for Elasticsearch sync
+     */
+    @EntityGraph(attributePaths = {"category", "topic", "user", "tags"})
+    List<Question> findWithDetailsByIdIn(Collection<Long> ids);
+
+    /**
+     * Clear need_sync flags after a successful sync (one set-based UPDATE)
+     * Rows updated after syncedUpTo keep their flag for the next cycle; the lease is released with the flag
+     */
+    @Modifying
+    @Query(value = "UPDATE questions SET need_sync = false, sync_claimed_at = NULL " +
+                   "WHERE id IN (:ids) AND updated_at <= :syncedUpTo", nativeQuery = true)
+    int clearNeedSync(@Param("ids") Collection<Long> ids, @Param("syncedUpTo") Instant syncedUpTo);
+
+    /**
+     * Release the sync leases of claimed rows that keep their flag (rejected by Elasticsearch or changed since)
+     */
+    @Modifying
+    @Query(value = "UPDATE questions SET sync_claimed_at = NULL WHERE id IN (:ids) AND sync_claimed_at IS NOT NULL",
+           nativeQuery = true)
+    int releaseSyncClaims(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Add buffered page views to published questions (one set-based UPDATE per distinct delta)
+     * Does not raise need_sync nor bump updated_at (see V5 migration)
+     *
+     * @return IDs of the rows actually updated (unknown, deleted or unpublished IDs are left out)
+     */
+    @Query(value = "UPDATE questions SET view_count = view_count + :delta " +
+                   "WHERE id IN (:ids) AND deleted_at IS NULL AND status = 'PUBLISHED' " +
+                   "RETURNING id", nativeQuery = true)
+    List<Long> incrementViewCounts(@Param("ids") Collection<Long> ids, @Param("delta") long delta);
+
+    /**
+     * Find current view counts by IDs
+     */
+    @Query("SELECT q.id AS id, q.viewCount AS viewCount FROM Question q WHERE q.id IN :ids AND q.deletedAt IS NULL")
+    List<ViewCount> findViewCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find current answer counts by IDs
+     */
+    @Query("SELECT q.id AS id, q.answerCount AS answerCount FROM Question q WHERE q.id IN :ids")
+    List<AnswerCount> findAnswerCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count questions waiting for sync
+     */
+    long countByNeedSyncTrueAndDeletedAtIsNull();
+
+    /**
+     * Claim the next batch of soft-deleted questions still present in Elasticsearch (tombstones)
+     * Keyset + FOR UPDATE SKIP LOCKED; rows leased by a sync worker are skipped, so a document still being
+     * indexed cannot be written back after its delete
+     */
+    @Query(value = "SELECT id FROM questions WHERE need_sync = true AND deleted_at IS NOT NULL AND id > :lastId " +
+                   "AND " + Constants.EsSync.CLAIMABLE +
+                   "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> claimTombstoneIds(@Param("lastId") long lastId, @Param("limit") int limit, @Param("leaseMs") long leaseMs);
+
+    /**
+     * Clear need_sync flags of tombstones removed from Elasticsearch
+     */
+    @Modifying
+    @Query("UPDATE Question q SET q.needSync = false WHERE q.id IN :ids AND q.deletedAt IS NOT NULL")
+    int clearTombstones(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Count tombstones waiting for removal from Elasticsearch
+     */
+    long countByNeedSyncTrueAndDeletedAtIsNotNull();
+
     /**
      * Find questions by status
      */
@@ -64,6 +223,52 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
         Pageable pageable
     );
 
+    /**
+     * Find the next slice of the published feed after a keyset cursor (no OFFSET, no COUNT)
+     */
+    @EntityGraph(attributePaths = {"category", "topic", "user"})
+    @Query("SELECT q FROM Question q WHERE " + PUBLISHED_FEED + AFTER_FEED_CURSOR)
+    List<Question> findPublishedFeed(@Param("publishedAt") Instant publishedAt, @Param("id") long id, Limit limit);
+
+    /**
+     * Find the next slice of a category's published feed after a keyset cursor
+     */
+    @EntityGraph(attributePaths = {"category", "topic", "user"})
+    @Query("SELECT q FROM Question q WHERE q.category.id = :categoryId AND " + PUBLISHED_FEED + AFTER_FEED_CURSOR)
+    List<Question> findPublishedFeedByCategoryId(@Param("categoryId") Long categoryId,
+                                                 @Param("publishedAt") Instant publishedAt,
+                                                 @Param("id") long id,
+                                                 Limit limit);
+
+    /**
+     * Find the next slice of a topic's published feed after a keyset cursor
+     */
+    @EntityGraph(attributePaths = {"category", "topic", "user"})
+    @Query("SELECT q FROM Question q WHERE q.topic.id = :topicId AND " + PUBLISHED_FEED + AFTER_FEED_CURSOR)
+    List<Question> findPublishedFeedByTopicId(@Param("topicId") Long topicId,
+                                              @Param("publishedAt") Instant publishedAt,
+                                              @Param("id") long id,
+                                              Limit limit);
+
+    /**
+     * Count the published feed of all questions, a category or a topic (cached by callers)
+     */
+    @Query("SELECT COUNT(q) FROM Question q WHERE " + PUBLISHED_FEED +
+           "AND (:categoryId IS NULL OR q.category.id = :categoryId) AND (:topicId IS NULL OR q.topic.id = :topicId)")
+    long countPublishedFeed(@Param("categoryId") Long categoryId, @Param("topicId") Long topicId);
+
+    /**
+     * Find questions published since a point in time with their counters (trending seed)
+     */
+    @Query(TRENDING_ROW)
+    List<TrendingRow> findTrendingCandidates(@Param("since") Instant since);
+
+    /**
+     * Find one question if it is published inside the trending window (trending upsert after a write)
+     */
+    @Query(TRENDING_ROW + "AND q.id = :id")
+    Optional<TrendingRow> findTrendingCandidate(@Param("id") Long id, @Param("since") Instant since);
+
     /**
      * Find questions by user
      */
@@ -78,13 +283,36 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findFeatured(Pageable pageable);
 
     /**
-     * Search questions by title or content
+     * Search published questions by title or content, most similar first
+     * ILIKE on the bare columns is served by the idx_questions_title_trgm / idx_questions_content_trgm GIN indexes;
+     * pattern is '%' + keyword + '%' with LIKE wildcards in the keyword escaped
+     * Only the first {@link Constants.Search#KEYWORD_MAX_CANDIDATES} matches are ranked and counted, so an
+     * unselective keyword does not rank every match before the page LIMIT applies
+     * Returns IDs only, load the rows with {@link #findWithDetailsByIdIn}
+     */
+    @Query(value = "SELECT c.id FROM (" + KEYWORD_CANDIDATES + ") c " +
+                   "ORDER BY GREATEST(similarity(c.title, :keyword), word_similarity(:keyword, c.content)) DESC, c.id DESC",
+           countQuery = "SELECT COUNT(*) FROM (" + KEYWORD_CANDIDATES + ") c",
+           nativeQuery = true)
+    Page<Long> searchIdsByKeyword(@Param("keyword") String keyword, @Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Full-text search over published questions (search_vector, idx_questions_search_vector), best ts_rank_cd first
+     * Query uses websearch syntax: quoted phrases, OR, -exclusion
+     * Matching is word-based and accent-insensitive, without stemming ({@link Constants.Search#TEXT_SEARCH_CONFIG})
+     * Returns IDs with rank and a snippet marked with Highlight sentinels, load the rows with {@link #findWithDetailsByIdIn}
      */
-    @Query("SELECT q FROM Question q WHERE " +
-           "(LOWER(q.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(q.content) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "AND q.status = 'PUBLISHED' AND q.deletedAt IS NULL")
-    Page<Question> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query(value = "SELECT q.id AS id, ts_rank_cd(q.search_vector, tsq) AS rank, " +
+                   "ts_headline('" + Constants.Search.TEXT_SEARCH_CONFIG + "', q.content, tsq, '" + Highlight.HEADLINE_OPTIONS + "') AS headline " +
+                   "FROM questions q, websearch_to_tsquery('" + Constants.Search.TEXT_SEARCH_CONFIG + "', :query) tsq " +
+                   "WHERE q.search_vector @@ tsq " +
+                   "AND q.status = 'PUBLISHED' AND q.deleted_at IS NULL " +
+                   "ORDER BY rank DESC, q.id DESC",
+           countQuery = "SELECT COUNT(*) FROM questions q " +
+                        "WHERE q.search_vector @@ websearch_to_tsquery('" + Constants.Search.TEXT_SEARCH_CONFIG + "', :query) " +
+                        "AND q.status = 'PUBLISHED' AND q.deleted_at IS NULL",
+           nativeQuery = true)
+    Page<FullTextHit> searchFullText(@Param("query") String query, Pageable pageable);
 
     /**
      * Check if slug exists
@@ -100,4 +328,50 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
      * Count questions by user
      */
     long countByUserIdAndDeletedAtIsNull(Long userId);
+
+    /**
+     * Find the tags of a page of questions in one query (replaces per-row lazy loading of q.tags)
+     */
+    @Query("SELECT q.id AS ownerId, t.id AS id, t.name AS name, t.slug AS slug, t.usageCount AS usageCount " +
+           "FROM Question q JOIN q.tags t WHERE q.id IN :ids ORDER BY t.name")
+    List<TagLink> findTagLinks(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Stream the IDs of live (not soft-deleted) questions in order through a forward-only server-side cursor.
+     * Must be consumed inside a transaction and closed; see StreamingReader.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.Streaming.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT q.id FROM Question q WHERE q.deletedAt IS NULL ORDER BY q.id")
+    Stream<Long> streamLiveIds();
+
+    /**
+     * Stream live questions in ID order through a forward-only server-side cursor (bulk exports).
+     * Associations stay lazy; the persistence context must be cleared as the stream is consumed.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = Constants.Streaming.FETCH_SIZE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT q FROM Question q WHERE q.deletedAt IS NULL ORDER BY q.id")
+    Stream<Question> streamAllLive();
+
+    /**
+     * Find questions updated or soft-deleted since a point in time (reindex catch-up, keyset on ID)
+     * Answer changes do not touch the question row (see V8 migration), so they are matched separately
+     */
+    @Query("SELECT q.id AS id, q.deletedAt AS deletedAt FROM Question q " +
+           "WHERE (q.updatedAt >= :since " +
+           "OR EXISTS (SELECT 1 FROM Answer a WHERE a.question = q AND a.updatedAt >= :since)) " +
+           "AND q.id > :lastId ORDER BY q.id")
+    List<ChangedRow> findChangedSince(@Param("since") Instant since, @Param("lastId") long lastId, Limit limit);
+
+    /**
+     * Count live questions
+     */
+    long countByDeletedAtIsNull();
 }
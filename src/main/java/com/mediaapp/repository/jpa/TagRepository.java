@@ -1,10 +1,19 @@
 package com.mediaapp.repository.jpa;
 
+import com.mediaapp.config.CacheConfig;
 import com.mediaapp.model.entity.Tag;
+import com.mediaapp.repository.jpa.projection.CategoryTagCount;
+import com.mediaapp.repository.jpa.projection.TagSnapshot;
+import com.mediaapp.repository.jpa.projection.TagUsage;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -16,6 +25,34 @@ import java.util.Set;
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
+    /**
+     * Find a tag snapshot by ID (cached, immutable)
+     */
+    @Cacheable(cacheNames = CacheConfig.TAGS, key = "#p0")
+    @Query(TagSnapshot.SELECT + " WHERE e.id = :id")
+    Optional<TagSnapshot> findSnapshotById(@Param("id") Long id);
+
+    /**
+     * Save tag; its cached snapshot is evicted up front so a failed save cannot leave a stale copy behind
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TAGS, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    <S extends Tag> S save(S entity);
+
+    /**
+     * Delete tag by ID
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TAGS, key = "#p0", beforeInvocation = true)
+    void deleteById(Long id);
+
+    /**
+     * Delete tag
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TAGS, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    void delete(Tag entity);
+
     /**
      * Find tag by name
      */
@@ -37,11 +74,6 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
     @Query("SELECT t FROM Tag t ORDER BY t.usageCount DESC")
     List<Tag> findPopularTags(org.springframework.data.domain.Pageable pageable);
 
-    /**
-     * Search tags by name
-     */
-    List<Tag> findByNameContainingIgnoreCase(String name);
-
     /**
      * Check if name exists
      */
@@ -51,4 +83,54 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      * Check if slug exists
      */
     boolean existsBySlug(String slug);
+
+    /**
+     * Find every tag with its usage counter (seed of the in-memory tag rankings)
+     */
+    @Query("SELECT t.id AS id, t.name AS name, t.slug AS slug, t.usageCount AS usageCount FROM Tag t")
+    List<TagUsage> findAllUsages();
+
+    /**
+     * Find tags created after the given ID, in ID order (incremental load of the autocomplete index)
+     */
+    @Query("SELECT t.id AS id, t.name AS name, t.slug AS slug, t.usageCount AS usageCount FROM Tag t " +
+           "WHERE t.id > :afterId ORDER BY t.id")
+    List<TagUsage> findUsagesAfter(@Param("afterId") long afterId);
+
+    /**
+     * Count questions and posts per (category, tag)
+     */
+    @Query(value = "SELECT c.category_id AS categoryId, c.tag_id AS tagId, SUM(c.cnt) AS usageCount FROM (" +
+                   "  SELECT q.category_id, qt.tag_id, COUNT(*) AS cnt FROM question_tags qt " +
+                   "  JOIN questions q ON q.id = qt.question_id GROUP BY q.category_id, qt.tag_id " +
+                   "  UNION ALL " +
+                   "  SELECT p.category_id, pt.tag_id, COUNT(*) AS cnt FROM post_tags pt " +
+                   "  JOIN posts p ON p.id = pt.post_id GROUP BY p.category_id, pt.tag_id" +
+                   ") c GROUP BY c.category_id, c.tag_id", nativeQuery = true)
+    List<CategoryTagCount> countByCategory();
+
+    /**
+     * Apply buffered usage deltas (one set-based UPDATE per distinct delta, never below zero)
+     */
+    @Modifying
+    @Query("UPDATE Tag t SET t.usageCount = CASE WHEN t.usageCount + :delta < 0 THEN 0 ELSE t.usageCount + :delta END " +
+           "WHERE t.id IN :ids")
+    int addUsageCounts(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
+    /**
+     * Recompute usage_count from the link tables for an ID range; only drifted rows are written
+     */
+    @Modifying
+    @Query(value = "UPDATE tags x SET usage_count = c.cnt " +
+                   "FROM (SELECT t.id, (SELECT COUNT(*) FROM question_tags qt WHERE qt.tag_id = t.id) " +
+                   "                 + (SELECT COUNT(*) FROM post_tags pt WHERE pt.tag_id = t.id) AS cnt " +
+                   "      FROM tags t WHERE t.id > :fromId AND t.id <= :toId) c " +
+                   "WHERE x.id = c.id AND x.usage_count <> c.cnt", nativeQuery = true)
+    int reconcileUsageCounts(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /**
+     * Find the highest tag ID (upper bound for reconciliation ranges)
+     */
+    @Query("SELECT COALESCE(MAX(t.id), 0) FROM Tag t")
+    long findMaxId();
 }
@@ -1,7 +1,14 @@
 package com.mediaapp.repository.jpa;
 
+import com.mediaapp.config.CacheConfig;
 import com.mediaapp.model.entity.Topic;
+import com.mediaapp.repository.jpa.projection.TableVersion;
+import com.mediaapp.repository.jpa.projection.TopicSnapshot;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,6 +21,34 @@ import java.util.Optional;
 @Repository
 public interface TopicRepository extends JpaRepository<Topic, Long> {
 
+    /**
+     * Find a topic snapshot by ID (cached, immutable)
+     */
+    @Cacheable(cacheNames = CacheConfig.TOPICS, key = "#p0")
+    @Query(TopicSnapshot.SELECT + " WHERE e.id = :id")
+    Optional<TopicSnapshot> findSnapshotById(@Param("id") Long id);
+
+    /**
+     * Save topic; its cached snapshot is evicted up front so a failed save cannot leave a stale copy behind
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TOPICS, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    <S extends Topic> S save(S entity);
+
+    /**
+     * Delete topic by ID
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TOPICS, key = "#p0", beforeInvocation = true)
+    void deleteById(Long id);
+
+    /**
+     * Delete topic
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TOPICS, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    void delete(Topic entity);
+
     /**
      * Find topic by slug within a category
      */
@@ -48,4 +83,10 @@ public interface TopicRepository extends JpaRepository<Topic, Long> {
      * Find all topics by category ID
      */
     List<Topic> findByCategoryId(Long categoryId);
+
+    /**
+     * Row count and latest update of the table (category tree change detection)
+     */
+    @Query("SELECT COUNT(t) AS rowCount, MAX(t.updatedAt) AS lastUpdatedAt FROM Topic t")
+    TableVersion findTableVersion();
 }
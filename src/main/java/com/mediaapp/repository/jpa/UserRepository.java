@@ -1,6 +1,10 @@
 package com.mediaapp.repository.jpa;
 
+import com.mediaapp.config.CacheConfig;
 import com.mediaapp.model.entity.User;
+import com.mediaapp.repository.jpa.projection.UserSnapshot;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -15,6 +19,34 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Find a user snapshot by ID (cached, immutable)
+     */
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#p0")
+    @Query(UserSnapshot.SELECT + " WHERE e.id = :id")
+    Optional<UserSnapshot> findSnapshotById(@Param("id") Long id);
+
+    /**
+     * Save user; its cached snapshot is evicted up front so a failed save cannot leave a stale copy behind
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    <S extends User> S save(S entity);
+
+    /**
+     * Delete user by ID
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#p0", beforeInvocation = true)
+    void deleteById(Long id);
+
+    /**
+     * Delete user
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#p0.id", condition = "#p0.id != null", beforeInvocation = true)
+    void delete(User entity);
+
     /**
      * Find user by username
      */
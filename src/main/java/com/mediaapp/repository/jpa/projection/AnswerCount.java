@@ -0,0 +1,12 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Answer Count Projection
+ * Current answer counter of one question, read without loading the entity
+ */
+public interface AnswerCount {
+
+    Long getId();
+
+    Integer getAnswerCount();
+}
@@ -0,0 +1,11 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Category Snapshot
+ * Immutable copy of a category row (no associations); safe to share through the categories cache
+ */
+public record CategorySnapshot(Long id, String name, String slug, Long parentId, boolean active) {
+
+    public static final String SELECT = "SELECT new com.mediaapp.repository.jpa.projection.CategorySnapshot(" +
+        "e.id, e.name, e.slug, e.parent.id, e.isActive) FROM Category e";
+}
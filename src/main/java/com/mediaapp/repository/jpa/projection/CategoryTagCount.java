@@ -0,0 +1,14 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Category Tag Count Projection
+ * Number of questions and posts of one category carrying one tag
+ */
+public interface CategoryTagCount {
+
+    Long getCategoryId();
+
+    Long getTagId();
+
+    Number getUsageCount();
+}
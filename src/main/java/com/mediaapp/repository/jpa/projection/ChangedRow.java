@@ -0,0 +1,18 @@
+package com.mediaapp.repository.jpa.projection;
+
+import java.time.Instant;
+
+/**
+ * Changed Row Projection
+ * A row touched since some point in time; deletedAt tells a soft delete from an update
+ */
+public interface ChangedRow {
+
+    Long getId();
+
+    Instant getDeletedAt();
+
+    default boolean isDeleted() {
+        return getDeletedAt() != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Comment Count Projection
+ * Current comment counter of one post, read without loading the entity
+ */
+public interface CommentCount {
+
+    Long getId();
+
+    Integer getCommentCount();
+}
@@ -0,0 +1,16 @@
+package com.mediaapp.repository.jpa.projection;
+
+import java.time.Instant;
+
+/**
+ * Entity Reference Projection
+ * Polymorphic (entity_type, entity_id) pointer of a like or bookmark, with the time it was created
+ */
+public interface EntityRef {
+
+    String getEntityType();
+
+    Long getEntityId();
+
+    Instant getCreatedAt();
+}
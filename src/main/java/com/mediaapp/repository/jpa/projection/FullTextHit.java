@@ -0,0 +1,14 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Full-Text Hit Projection
+ * One ranked PostgreSQL full-text match with its snippet (matches between Highlight sentinels)
+ */
+public interface FullTextHit {
+
+    Long getId();
+
+    Float getRank();
+
+    String getHeadline();
+}
@@ -0,0 +1,16 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * ID Range Projection
+ * Lowest and highest ID of a filtered row set (both null when the set is empty)
+ */
+public interface IdRange {
+
+    Long getMinId();
+
+    Long getMaxId();
+
+    default boolean isEmpty() {
+        return getMinId() == null || getMaxId() == null;
+    }
+}
@@ -0,0 +1,34 @@
+package com.mediaapp.repository.jpa.projection;
+
+import java.time.Instant;
+
+/**
+ * Post Request Summary Projection
+ * List row of a post request: scalar columns plus flattened category/requester/assignee names, no description
+ */
+public interface PostRequestSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getStatus();
+
+    String getPriority();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    Long getRequesterId();
+
+    String getRequesterUsername();
+
+    Long getAssignedToId();
+
+    String getAssignedToUsername();
+
+    Instant getDueDate();
+
+    Instant getCreatedAt();
+}
@@ -0,0 +1,42 @@
+package com.mediaapp.repository.jpa.projection;
+
+import java.time.Instant;
+
+/**
+ * Question Summary Projection
+ * List row of a question: scalar columns plus flattened category/topic/author names, no content
+ */
+public interface QuestionSummary {
+
+    Long getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    String getStatus();
+
+    Long getViewCount();
+
+    Integer getAnswerCount();
+
+    Boolean getIsPinned();
+
+    Boolean getIsFeatured();
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    Long getTopicId();
+
+    String getTopicName();
+
+    Long getUserId();
+
+    String getUsername();
+
+    Instant getPublishedAt();
+
+    Instant getCreatedAt();
+}
@@ -0,0 +1,18 @@
+package com.mediaapp.repository.jpa.projection;
+
+import java.time.Instant;
+
+/**
+ * Table Version Projection
+ * Row count and latest updated_at of a table, used to detect changes cheaply
+ */
+public interface TableVersion {
+
+    Long getRowCount();
+
+    Instant getLastUpdatedAt();
+
+    default String asString() {
+        return getRowCount() + "@" + getLastUpdatedAt();
+    }
+}
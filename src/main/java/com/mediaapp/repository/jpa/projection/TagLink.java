@@ -0,0 +1,18 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Tag Link Projection
+ * One tag attached to a question or post (ownerId), read for a whole page in one query
+ */
+public interface TagLink {
+
+    Long getOwnerId();
+
+    Long getId();
+
+    String getName();
+
+    String getSlug();
+
+    Integer getUsageCount();
+}
@@ -0,0 +1,12 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Tag Snapshot
+ * Immutable copy of a tag's identity (no usage counter, which moves on every flush); safe to share
+ * through the tags cache
+ */
+public record TagSnapshot(Long id, String name, String slug) {
+
+    public static final String SELECT = "SELECT new com.mediaapp.repository.jpa.projection.TagSnapshot(" +
+        "e.id, e.name, e.slug) FROM Tag e";
+}
@@ -0,0 +1,16 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Tag Usage Projection
+ * A tag and its usage counter, read for the whole table when the in-memory rankings are rebuilt
+ */
+public interface TagUsage {
+
+    Long getId();
+
+    String getName();
+
+    String getSlug();
+
+    Integer getUsageCount();
+}
@@ -0,0 +1,11 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * Topic Snapshot
+ * Immutable copy of a topic row (no associations); safe to share through the topics cache
+ */
+public record TopicSnapshot(Long id, Long categoryId, String name, String slug, boolean active) {
+
+    public static final String SELECT = "SELECT new com.mediaapp.repository.jpa.projection.TopicSnapshot(" +
+        "e.id, e.category.id, e.name, e.slug, e.isActive) FROM Topic e";
+}
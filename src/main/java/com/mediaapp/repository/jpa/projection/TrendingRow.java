@@ -0,0 +1,33 @@
+package com.mediaapp.repository.jpa.projection;
+
+import java.time.Instant;
+
+/**
+ * Trending Row Projection
+ * Display fields and engagement counters of one published question or post (trending seed)
+ */
+public interface TrendingRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getSlug();
+
+    Long getCategoryId();
+
+    Long getTopicId();
+
+    Instant getPublishedAt();
+
+    Number getViewCount();
+
+    Number getLikeCount();
+
+    /**
+     * Answers of a question, comments of a post
+     */
+    Number getReplyCount();
+
+    Boolean getFeatured();
+}
@@ -0,0 +1,19 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * User Snapshot
+ * Immutable copy of the user fields read by permission checks; safe to share through the users cache
+ */
+public record UserSnapshot(Long id, String username, String role, boolean active) {
+
+    public static final String SELECT = "SELECT new com.mediaapp.repository.jpa.projection.UserSnapshot(" +
+        "e.id, e.username, e.role, e.isActive) FROM User e";
+
+    public boolean isAdmin() {
+        return "ADMIN".equals(role);
+    }
+
+    public boolean isModerator() {
+        return "MODERATOR".equals(role) || isAdmin();
+    }
+}
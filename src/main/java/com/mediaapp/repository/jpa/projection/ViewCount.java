@@ -0,0 +1,12 @@
+package com.mediaapp.repository.jpa.projection;
+
+/**
+ * View Count Projection
+ * Current view counter of one row, read without loading the entity
+ */
+public interface ViewCount {
+
+    Long getId();
+
+    Long getViewCount();
+}
@@ -0,0 +1,28 @@
+package com.mediaapp.scheduler;
+
+import com.mediaapp.service.CategoryTreeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Category Tree Scheduler
+ * Polls the category and topic tables for changes and rebuilds the in-memory snapshot
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeScheduler {
+
+    private final CategoryTreeService categoryTreeService;
+
+    @Scheduled(fixedDelayString = "${app.category-tree.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            categoryTreeService.refreshIfChanged();
+        } catch (Exception e) {
+            log.error("Category tree refresh failed, keeping the current snapshot", e);
+        }
+    }
+}
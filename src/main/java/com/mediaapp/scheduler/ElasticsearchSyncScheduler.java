@@ -0,0 +1,50 @@
+package com.mediaapp.scheduler;
+
+import com.mediaapp.service.ElasticsearchSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Elasticsearch Sync Scheduler
+ * Runs the need_sync outbox drain and tombstone purge on the app.sync.cron schedule
+ */
+@Component
+@ConditionalOnProperty(
+    name = {"app.sync.enabled", "spring.data.elasticsearch.repositories.enabled"},
+    havingValue = "true"
+)
+@RequiredArgsConstructor
+@Slf4j
+public class ElasticsearchSyncScheduler {
+
+    private final ElasticsearchSyncService elasticsearchSyncService;
+
+    /**
+     * Sync every entity type; a failure in one type does not block the others
+     */
+    @Scheduled(cron = "${app.sync.cron}")
+    public void syncAll() {
+        runSafely("questions", elasticsearchSyncService::syncQuestions);
+        // After full question rebuilds, so a rebuild loaded before an answer commit cannot land last
+        runSafely("answers", elasticsearchSyncService::syncAnswers);
+        runSafely("posts", elasticsearchSyncService::syncPosts);
+        runSafely("post requests", elasticsearchSyncService::syncPostRequests);
+
+        runSafely("question tombstones", elasticsearchSyncService::purgeDeletedQuestions);
+        runSafely("post tombstones", elasticsearchSyncService::purgeDeletedPosts);
+        runSafely("post request tombstones", elasticsearchSyncService::purgeDeletedPostRequests);
+    }
+
+    private void runSafely(String name, Supplier<?> task) {
+        try {
+            task.get();
+        } catch (Exception e) {
+            log.error("ES sync of {} failed, will retry next cycle", name, e);
+        }
+    }
+}
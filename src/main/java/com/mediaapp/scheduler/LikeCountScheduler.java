@@ -0,0 +1,37 @@
+package com.mediaapp.scheduler;
+
+import com.mediaapp.service.LikeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Like Count Scheduler
+ * Flushes buffered like deltas often and reconciles counters against the likes table on a coarse schedule
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LikeCountScheduler {
+
+    private final LikeService likeService;
+
+    @Scheduled(fixedDelayString = "${app.likes.flush-interval-ms:2000}")
+    public void flush() {
+        try {
+            likeService.flush();
+        } catch (Exception e) {
+            log.error("Like count flush failed, will retry next interval", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.likes.reconcile-cron:0 15 * * * ?}")
+    public void reconcile() {
+        try {
+            likeService.reconcile();
+        } catch (Exception e) {
+            log.error("Like count reconciliation failed, will retry next cycle", e);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.mediaapp.scheduler;
+
+import com.mediaapp.service.TagAutocompleteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tag Autocomplete Scheduler
+ * Picks up newly created tags every few seconds and reloads the whole index on a coarse schedule
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagAutocompleteScheduler {
+
+    private final TagAutocompleteService tagAutocompleteService;
+
+    @Scheduled(fixedDelayString = "${app.tags.autocomplete.refresh-interval-ms:5000}")
+    public void refresh() {
+        try {
+            tagAutocompleteService.refresh();
+        } catch (Exception e) {
+            log.error("Tag autocomplete refresh failed, will retry next interval", e);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.tags.autocomplete.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            tagAutocompleteService.rebuild();
+        } catch (Exception e) {
+            log.error("Tag autocomplete rebuild failed, will retry next interval", e);
+        }
+    }
+}
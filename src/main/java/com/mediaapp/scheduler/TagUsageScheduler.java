@@ -0,0 +1,47 @@
+package com.mediaapp.scheduler;
+
+import com.mediaapp.service.TagUsageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tag Usage Scheduler
+ * Flushes buffered tag usage deltas often, reloads the popular-tag rankings and reconciles
+ * counters against the link tables on coarser schedules
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TagUsageScheduler {
+
+    private final TagUsageService tagUsageService;
+
+    @Scheduled(fixedDelayString = "${app.tags.flush-interval-ms:2000}")
+    public void flush() {
+        try {
+            tagUsageService.flush();
+        } catch (Exception e) {
+            log.error("Tag usage flush failed, will retry next interval", e);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.tags.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        try {
+            tagUsageService.rebuild();
+        } catch (Exception e) {
+            log.error("Tag ranking rebuild failed, will retry next interval", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.tags.reconcile-cron:0 45 * * * ?}")
+    public void reconcile() {
+        try {
+            tagUsageService.reconcile();
+        } catch (Exception e) {
+            log.error("Tag usage reconciliation failed, will retry next cycle", e);
+        }
+    }
+}
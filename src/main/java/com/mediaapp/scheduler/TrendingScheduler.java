@@ -0,0 +1,47 @@
+package com.mediaapp.scheduler;
+
+import com.mediaapp.service.TrendingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trending Scheduler
+ * Publishes re-scored rankings every tick, re-reads reply counters and reloads the trending window
+ * on coarser schedules
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingScheduler {
+
+    private final TrendingService trendingService;
+
+    @Scheduled(fixedDelayString = "${app.trending.tick-interval-ms:1000}")
+    public void tick() {
+        try {
+            trendingService.tick();
+        } catch (Exception e) {
+            log.error("Trending tick failed, will retry next interval", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.trending.reply-refresh-interval-ms:30000}")
+    public void refreshReplies() {
+        try {
+            trendingService.refreshReplies();
+        } catch (Exception e) {
+            log.error("Trending reply refresh failed, will retry next interval", e);
+        }
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.trending.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        try {
+            trendingService.rebuild();
+        } catch (Exception e) {
+            log.error("Trending rebuild failed, will retry next interval", e);
+        }
+    }
+}
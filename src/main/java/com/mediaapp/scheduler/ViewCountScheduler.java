@@ -0,0 +1,37 @@
+package com.mediaapp.scheduler;
+
+import com.mediaapp.service.ViewCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * View Count Scheduler
+ * Flushes buffered views to the database often and pushes them to Elasticsearch on a coarser schedule
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountScheduler {
+
+    private final ViewCountService viewCountService;
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:5000}")
+    public void flush() {
+        try {
+            viewCountService.flush();
+        } catch (Exception e) {
+            log.error("View count flush failed, will retry next interval", e);
+        }
+    }
+
+    @Scheduled(cron = "${app.views.search-sync-cron:0 */5 * * * ?}")
+    public void syncToSearchIndex() {
+        try {
+            viewCountService.syncToSearchIndex();
+        } catch (Exception e) {
+            log.error("View count push to Elasticsearch failed, will retry next cycle", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.mediaapp.service;
+
+import com.mediaapp.model.catalog.CategoryNode;
+import com.mediaapp.model.catalog.CategoryTree;
+import com.mediaapp.model.catalog.TopicNode;
+
+import java.util.Optional;
+
+/**
+ * Category Tree Service Interface
+ * Serves the in-memory category/topic snapshot and keeps it in step with the database
+ */
+public interface CategoryTreeService {
+
+    /**
+     * Current snapshot (built on first use)
+     *
+     * @return the current category tree
+     */
+    CategoryTree getTree();
+
+    /**
+     * Rebuild the snapshot if categories or topics changed since it was built
+     *
+     * @return true if a new snapshot was published
+     */
+    boolean refreshIfChanged();
+
+    /**
+     * Find a category; on a miss the snapshot is checked for changes once before giving up
+     * (miss-triggered checks are rate-limited across callers)
+     *
+     * @param id the category ID
+     * @return the category node, if it exists
+     */
+    Optional<CategoryNode> findCategory(Long id);
+
+    /**
+     * Find a topic; on a miss the snapshot is checked for changes once before giving up
+     * (miss-triggered checks are rate-limited across callers)
+     *
+     * @param id the topic ID
+     * @return the topic node, if it exists
+     */
+    Optional<TopicNode> findTopic(Long id);
+
+    /**
+     * Published by category and topic writes; handled after commit
+     *
+     * @param entityType the changed entity ("Category" or "Topic")
+     * @param id the changed row ID
+     */
+    record CatalogChanged(String entityType, Long id) {
+    }
+}
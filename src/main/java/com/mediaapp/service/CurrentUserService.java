@@ -0,0 +1,23 @@
+package com.mediaapp.service;
+
+import java.util.Optional;
+
+/**
+ * Current User Service Interface
+ * Who the current request acts for. An authentication filter stores the user ID in the request
+ * attribute below; controllers read it here instead of accepting a user ID parameter.
+ */
+public interface CurrentUserService {
+
+    /**
+     * Request attribute holding the authenticated user ID (Long)
+     */
+    String USER_ID_ATTRIBUTE = "com.mediaapp.currentUserId";
+
+    /**
+     * ID of the user the current request acts for
+     *
+     * @return the user ID, empty outside a request or when no user was established
+     */
+    Optional<Long> getCurrentUserId();
+}
@@ -0,0 +1,36 @@
+package com.mediaapp.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Elasticsearch Bulk Indexer Interface
+ * Shared bulk pipeline on the raw ElasticsearchClient: size/byte/interval flushing,
+ * bounded in-flight requests, 429 retry and per-document outcomes
+ */
+public interface ElasticsearchBulkIndexer {
+
+    /**
+     * Index a batch of documents and wait for every document's final outcome
+     * (blocks while the pipeline is saturated, which throttles the callers)
+     *
+     * @param entityType entity type used to tag metrics
+     * @param documentClass the Spring Data document class (resolves index name and field mapping)
+     * @param documents the documents to index
+     * @param idOf document ID extractor
+     * @return IDs of documents that were not indexed
+     */
+    <D> Set<String> index(String entityType, Class<D> documentClass, List<D> documents, Function<D, String> idOf);
+
+    /**
+     * Index a batch of documents into an explicit index (e.g. a reindex target not yet behind the alias)
+     *
+     * @param entityType entity type used to tag metrics
+     * @param indexName the concrete index to write to
+     * @param documents the documents to index (Spring Data documents, mapped with the Spring Data converter)
+     * @param idOf document ID extractor
+     * @return IDs of documents that were not indexed
+     */
+    <D> Set<String> index(String entityType, String indexName, List<D> documents, Function<D, String> idOf);
+}
@@ -0,0 +1,106 @@
+package com.mediaapp.service;
+
+import java.util.Collection;
+
+/**
+ * Elasticsearch Sync Service Interface
+ * Drains the need_sync outbox of questions, answers, posts and post requests into Elasticsearch
+ */
+public interface ElasticsearchSyncService {
+
+    /**
+     * Sync all questions flagged with need_sync
+     *
+     * @return the outcome of this sync cycle
+     */
+    SyncResult syncQuestions();
+
+    /**
+     * Sync all posts flagged with need_sync
+     *
+     * @return the outcome of this sync cycle
+     */
+    SyncResult syncPosts();
+
+    /**
+     * Sync all post requests flagged with need_sync
+     *
+     * @return the outcome of this sync cycle
+     */
+    SyncResult syncPostRequests();
+
+    /**
+     * Push answers flagged with need_sync into their question documents with scripted partial updates
+     * (one nested answer replaced, appended or removed, answerCount refreshed)
+     *
+     * @return the outcome of this sync cycle
+     */
+    SyncResult syncAnswers();
+
+    /**
+     * Remove soft-deleted questions still flagged with need_sync from Elasticsearch
+     *
+     * @return the outcome of this purge cycle
+     */
+    PurgeResult purgeDeletedQuestions();
+
+    /**
+     * Remove soft-deleted posts still flagged with need_sync from Elasticsearch
+     *
+     * @return the outcome of this purge cycle
+     */
+    PurgeResult purgeDeletedPosts();
+
+    /**
+     * Remove soft-deleted post requests still flagged with need_sync from Elasticsearch
+     *
+     * @return the outcome of this purge cycle
+     */
+    PurgeResult purgeDeletedPostRequests();
+
+    /**
+     * Push current view counts of the given questions to Elasticsearch with partial updates
+     *
+     * @param ids the question IDs whose view count changed
+     * @return number of documents updated
+     */
+    int syncQuestionViewCounts(Collection<Long> ids);
+
+    /**
+     * Push current view counts of the given posts to Elasticsearch with partial updates
+     *
+     * @param ids the post IDs whose view count changed
+     * @return number of documents updated
+     */
+    int syncPostViewCounts(Collection<Long> ids);
+
+    /**
+     * Outcome of one sync cycle for one entity type
+     *
+     * @param entityType the synced entity type
+     * @param indexed number of documents indexed successfully
+     * @param failed number of documents rejected by Elasticsearch (flags kept)
+     * @param batches number of batches processed
+     * @param durationMs wall-clock duration of the cycle
+     */
+    record SyncResult(String entityType, int indexed, int failed, int batches, long durationMs) {
+
+        /**
+         * Indexed documents per second over the cycle
+         */
+        public double throughputPerSecond() {
+            return durationMs == 0 ? indexed : indexed * 1000.0 / durationMs;
+        }
+    }
+
+    /**
+     * Outcome of one tombstone purge cycle for one entity type
+     *
+     * @param entityType the purged entity type
+     * @param deleted number of documents removed from Elasticsearch
+     * @param batches number of batches processed
+     * @param durationMs wall-clock duration of the cycle
+     */
+    record PurgeResult(String entityType, int deleted, int batches, long durationMs) {
+    }
+}
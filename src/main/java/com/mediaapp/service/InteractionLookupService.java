@@ -0,0 +1,40 @@
+package com.mediaapp.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Interaction Lookup Service Interface
+ * Batch "has this user liked / bookmarked these entities" lookups for feed rendering
+ */
+public interface InteractionLookupService {
+
+    /**
+     * Find which of the given entities the user has liked
+     *
+     * @param userId the user ID
+     * @param entityType POST, ANSWER or COMMENT
+     * @param entityIds the entity IDs on the page
+     * @return the liked subset of entityIds
+     */
+    Set<Long> findLikedIds(Long userId, String entityType, Collection<Long> entityIds);
+
+    /**
+     * Find which of the given entities the user has bookmarked
+     *
+     * @param userId the user ID
+     * @param entityType POST or QUESTION
+     * @param entityIds the entity IDs on the page
+     * @return the bookmarked subset of entityIds
+     */
+    Set<Long> findBookmarkedIds(Long userId, String entityType, Collection<Long> entityIds);
+
+    /**
+     * Record a new like in the user's filter (call after the like is committed)
+     *
+     * @param userId the user ID
+     * @param entityType the entity type
+     * @param entityId the entity ID
+     */
+    void onLiked(Long userId, String entityType, Long entityId);
+}
@@ -0,0 +1,42 @@
+package com.mediaapp.service;
+
+/**
+ * Like Service Interface
+ * Idempotent like/unlike with write-behind like counters on posts, answers and comments
+ */
+public interface LikeService {
+
+    /**
+     * Like an entity (idempotent)
+     *
+     * @param userId the user ID
+     * @param entityType POST, ANSWER or COMMENT
+     * @param entityId the entity ID
+     * @return true if the like was added, false if the user already liked it
+     */
+    boolean like(Long userId, String entityType, Long entityId);
+
+    /**
+     * Remove a like (idempotent)
+     *
+     * @param userId the user ID
+     * @param entityType POST, ANSWER or COMMENT
+     * @param entityId the entity ID
+     * @return true if a like was removed
+     */
+    boolean unlike(Long userId, String entityType, Long entityId);
+
+    /**
+     * Write buffered like deltas to the counter columns as batched updates
+     *
+     * @return number of rows updated
+     */
+    long flush();
+
+    /**
+     * Recompute like counters from the likes table and fix rows that drifted
+     *
+     * @return number of rows corrected
+     */
+    long reconcile();
+}
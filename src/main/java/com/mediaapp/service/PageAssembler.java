@@ -0,0 +1,42 @@
+package com.mediaapp.service;
+
+import com.mediaapp.dto.response.PostResponse;
+import com.mediaapp.dto.response.QuestionResponse;
+import com.mediaapp.model.entity.Post;
+import com.mediaapp.model.entity.Question;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Page Assembler Interface
+ * Builds listing DTOs for a whole page with one query per association instead of one per row
+ */
+public interface PageAssembler {
+
+    /**
+     * Map a page of questions, stitching in their tags and an answer preview
+     * (category, topic and user must already be fetched by the page query)
+     *
+     * @param questions the page of questions
+     * @return the page of question responses
+     */
+    Page<QuestionResponse> assembleQuestions(Page<Question> questions);
+
+    /**
+     * Map a slice of questions (keyset feeds), stitching in their tags and an answer preview
+     *
+     * @param questions the questions, in display order
+     * @return the question responses, in the same order
+     */
+    List<QuestionResponse> assembleQuestions(List<Question> questions);
+
+    /**
+     * Map a page of posts, stitching in their tags and a top-level comment preview
+     * (category, topic and author must already be fetched by the page query)
+     *
+     * @param posts the page of posts
+     * @return the page of post responses
+     */
+    Page<PostResponse> assemblePosts(Page<Post> posts);
+}
@@ -0,0 +1,50 @@
+package com.mediaapp.service;
+
+import com.mediaapp.dto.response.QuestionResponse;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Question Response Cache Interface
+ * Read-through cache of fully mapped question details, keyed by ID and by slug.
+ * Entries are dropped after the transaction that changed the question commits.
+ */
+public interface QuestionResponseCache {
+
+    /**
+     * Find a live question by ID, loading it on a miss (concurrent misses share one load)
+     *
+     * @param id the question ID
+     * @return the mapped question, empty when missing or soft-deleted
+     */
+    Optional<QuestionResponse> findById(Long id);
+
+    /**
+     * Find a live question by slug, loading it on a miss
+     *
+     * @param slug the question slug
+     * @return the mapped question, empty when missing or soft-deleted
+     */
+    Optional<QuestionResponse> findBySlug(String slug);
+
+    /**
+     * Published by question writes; handled after commit
+     *
+     * @param id the changed question ID
+     * @param slugs slugs the question had before and after the change
+     */
+    record QuestionChanged(Long id, Set<String> slugs) {
+
+        public static QuestionChanged of(Long id, String... slugs) {
+            Set<String> distinct = new HashSet<>();
+            for (String slug : slugs) {
+                if (slug != null) {
+                    distinct.add(slug);
+                }
+            }
+            return new QuestionChanged(id, Set.copyOf(distinct));
+        }
+    }
+}
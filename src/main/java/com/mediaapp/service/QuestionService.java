@@ -2,6 +2,7 @@ package com.mediaapp.service;
 
 import com.mediaapp.dto.request.CreateQuestionRequest;
 import com.mediaapp.dto.request.UpdateQuestionRequest;
+import com.mediaapp.dto.response.FeedResponse;
 import com.mediaapp.dto.response.QuestionResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -92,6 +93,19 @@ public interface QuestionService {
      */
     Page<QuestionResponse> findByTopicId(Long topicId, String status, Pageable pageable);
 
+    /**
+     * Find published questions newest first, paginated with a keyset cursor (no OFFSET, no COUNT per page)
+     * 
+     * @param categoryId restrict to a category (optional)
+     * @param topicId restrict to a topic (optional, takes precedence over categoryId)
+     * @param cursor the nextCursor of the previous slice, null for the first slice
+     * @param size number of questions per slice (capped at the maximum page size)
+     * @param includeTotal whether to fill in the cached approximate total
+     * @return one slice of the feed
+     */
+    FeedResponse<QuestionResponse> findPublishedFeed(Long categoryId, Long topicId, String cursor, int size,
+                                                     boolean includeTotal);
+
     /**
      * Find questions by user
      * 
@@ -0,0 +1,61 @@
+package com.mediaapp.service;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Reindex Service Interface
+ * Zero-downtime full rebuild of a search index behind its alias (questions -> questions_v{N})
+ */
+public interface ReindexService {
+
+    /**
+     * Start a full reindex of one entity type in the background
+     *
+     * @param entityType QUESTION, POST or POST_REQUEST
+     * @return the initial status of the run
+     * @throws IllegalStateException if a reindex of this entity type is already running
+     */
+    ReindexStatus start(String entityType);
+
+    /**
+     * Status of the current or last reindex of every entity type that has been reindexed
+     *
+     * @return one status per entity type
+     */
+    List<ReindexStatus> status();
+
+    enum Phase { CREATING, LOADING, CATCHING_UP, SWAPPING, COMPLETED, FAILED }
+
+    /**
+     * Snapshot of a reindex run
+     */
+    record ReindexStatus(String entityType,
+                         String alias,
+                         String targetIndex,
+                         Phase phase,
+                         long expected,
+                         long indexed,
+                         long failed,
+                         long caughtUp,
+                         Instant startedAt,
+                         Instant finishedAt,
+                         String error) {
+
+        /**
+         * Documents indexed per second since the run started
+         */
+        @JsonProperty
+        public double throughputPerSecond() {
+            Instant end = finishedAt != null ? finishedAt : Instant.now();
+            long millis = Math.max(1, end.toEpochMilli() - startedAt.toEpochMilli());
+            return (indexed + caughtUp) * 1000.0 / millis;
+        }
+
+        @JsonProperty
+        public double percentComplete() {
+            return expected <= 0 ? 100.0 : Math.min(100.0, indexed * 100.0 / expected);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.mediaapp.service;
+
+import com.mediaapp.dto.response.SearchResponse;
+import com.mediaapp.util.SearchMode;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Search Service Interface
+ * Full-text search over questions, posts and post requests honoring SearchMode
+ */
+public interface SearchService {
+
+    /**
+     * Search published questions
+     *
+     * @param query the search query
+     * @param mode the search mode, or null for app.search.default-mode
+     * @param pageable pagination information
+     * @return a page of hits with the serving backend and timings
+     */
+    SearchResponse searchQuestions(String query, SearchMode mode, Pageable pageable);
+
+    /**
+     * Search published posts
+     *
+     * @param query the search query
+     * @param mode the search mode, or null for app.search.default-mode
+     * @param pageable pagination information
+     * @return a page of hits with the serving backend and timings
+     */
+    SearchResponse searchPosts(String query, SearchMode mode, Pageable pageable);
+
+    /**
+     * Search post requests
+     *
+     * @param query the search query
+     * @param mode the search mode, or null for app.search.default-mode
+     * @param pageable pagination information
+     * @return a page of hits with the serving backend and timings
+     */
+    SearchResponse searchPostRequests(String query, SearchMode mode, Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package com.mediaapp.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Streaming Reader Interface
+ * Walks a whole table through a forward-only server-side cursor in fixed-size chunks,
+ * keeping the persistence context (and so the heap) flat however many rows are read
+ */
+public interface StreamingReader {
+
+    /**
+     * Open the stream in its own read-only transaction and hand it to the consumer chunk by chunk.
+     * The persistence context is cleared after every chunk, so entities of a chunk are detached
+     * once the consumer returns and must not be kept or lazily navigated afterwards.
+     *
+     * @param source    name used in metrics and logs
+     * @param query     opens the stream (a {@code Stream<T>} repository method)
+     * @param chunkSize rows handed to the consumer at a time
+     * @param consumer  processes one chunk; runs inside the streaming transaction
+     * @return number of rows read
+     */
+    <T> long forEachChunk(String source, Supplier<Stream<T>> query, int chunkSize, Consumer<List<T>> consumer);
+}
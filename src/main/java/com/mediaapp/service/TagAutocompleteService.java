@@ -0,0 +1,37 @@
+package com.mediaapp.service;
+
+import com.mediaapp.dto.response.TagDto;
+
+import java.util.List;
+
+/**
+ * Tag Autocomplete Service Interface
+ * Prefix suggestions for the tag picker from an in-memory index of all tag names
+ */
+public interface TagAutocompleteService {
+
+    /**
+     * Tags with a name, or a word of the name, starting with the query.
+     * A query with diacritics ranks exact-accent matches first, then accent-insensitive ones;
+     * a query without diacritics matches accent-insensitively ("da" finds "Đà Nẵng").
+     *
+     * @param query what the user typed so far
+     * @param limit maximum number of suggestions
+     * @return matching tags, most used first
+     */
+    List<TagDto> suggest(String query, int limit);
+
+    /**
+     * Add tags created since the last load to the index
+     *
+     * @return number of tags added
+     */
+    int refresh();
+
+    /**
+     * Reload the whole index from the tags table (renames, deletions, usage counts)
+     *
+     * @return number of tags indexed
+     */
+    int rebuild();
+}
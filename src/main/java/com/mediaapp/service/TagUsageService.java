@@ -0,0 +1,67 @@
+package com.mediaapp.service;
+
+import com.mediaapp.dto.response.TagDto;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Tag Usage Service Interface
+ * Write-behind tag usage counters and in-memory popular-tag rankings, overall and per category
+ */
+public interface TagUsageService {
+
+    /**
+     * Most used tags, as of the last flush
+     *
+     * @param categoryId restrict to questions and posts of a category (optional)
+     * @param limit maximum number of tags (capped at the configured top-K)
+     * @return tags with their usage count, most used first
+     */
+    List<TagDto> popular(Long categoryId, int limit);
+
+    /**
+     * Write buffered usage deltas to tags.usage_count as batched updates and publish the rankings
+     *
+     * @return number of tag rows updated
+     */
+    long flush();
+
+    /**
+     * Recompute usage counters from the link tables and fix rows that drifted
+     *
+     * @return number of rows corrected
+     */
+    long reconcile();
+
+    /**
+     * Reload the rankings from the database (new tags, post tags, category moves)
+     *
+     * @return number of tags tracked
+     */
+    int rebuild();
+
+    /**
+     * Published by writes that change a tag set or move it to another category; handled after commit
+     *
+     * @param previousCategoryId category before the change (null for a new question)
+     * @param previousTagIds tag IDs before the change
+     * @param categoryId category after the change
+     * @param tagIds tag IDs after the change
+     */
+    record TagsChanged(Long previousCategoryId, Set<Long> previousTagIds, Long categoryId, Set<Long> tagIds) {
+
+        public static TagsChanged created(Long categoryId, Set<Long> tagIds) {
+            return new TagsChanged(null, Set.of(), categoryId, Set.copyOf(tagIds));
+        }
+
+        public static TagsChanged of(Long previousCategoryId, Set<Long> previousTagIds, Long categoryId, Set<Long> tagIds) {
+            return new TagsChanged(previousCategoryId, Set.copyOf(previousTagIds), categoryId, Set.copyOf(tagIds));
+        }
+
+        public boolean isEmpty() {
+            return previousTagIds.equals(tagIds) && (tagIds.isEmpty() || Objects.equals(previousCategoryId, categoryId));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.mediaapp.service;
+
+import com.mediaapp.dto.response.TrendingItemResponse;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Trending Service Interface
+ * In-memory hot-score ranking of recently published questions and posts, kept current from
+ * counter deltas and served without touching the database
+ */
+public interface TrendingService {
+
+    /**
+     * Engagement signals fed by the counter write-behind pipelines
+     */
+    enum Signal { VIEW, LIKE, REPLY }
+
+    /**
+     * Highest-scored items of a scope, as of the last tick
+     *
+     * @param entityType QUESTION or POST
+     * @param categoryId restrict to a category (optional)
+     * @param topicId restrict to a topic (optional, takes precedence over categoryId)
+     * @param limit maximum number of items (capped at the configured top-K)
+     * @return ranked items, highest score first
+     */
+    List<TrendingItemResponse> trending(String entityType, Long categoryId, Long topicId, int limit);
+
+    /**
+     * Apply a counter delta to tracked items; IDs outside the trending window are ignored
+     *
+     * @param entityType QUESTION or POST
+     * @param signal the counter that changed
+     * @param ids the items whose counter changed by delta
+     * @param delta the change (negative for unlikes)
+     */
+    void recordDelta(String entityType, Signal signal, Collection<Long> ids, long delta);
+
+    /**
+     * Re-score items touched since the last tick and publish the rankings
+     *
+     * @return number of items re-scored
+     */
+    int tick();
+
+    /**
+     * Re-read the reply counters of tracked items and apply the changes as REPLY deltas. Answers and
+     * comments are counted by database triggers, so this sees them whichever service wrote them.
+     *
+     * @return number of items whose reply count changed
+     */
+    int refreshReplies();
+
+    /**
+     * Reload the trending window from the database (post writes, anything a question change event missed,
+     * counters changed outside the write-behind pipelines)
+     *
+     * @return number of items tracked
+     */
+    int rebuild();
+}
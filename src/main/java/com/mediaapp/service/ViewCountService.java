@@ -0,0 +1,35 @@
+package com.mediaapp.service;
+
+/**
+ * View Count Service Interface
+ * Write-behind page view counters for questions and posts
+ */
+public interface ViewCountService {
+
+    /**
+     * Record one page view of a question (buffered in memory)
+     *
+     * @param questionId the question ID
+     */
+    void recordQuestionView(Long questionId);
+
+    /**
+     * Record one page view of a post (buffered in memory)
+     *
+     * @param postId the post ID
+     */
+    void recordPostView(Long postId);
+
+    /**
+     * Write buffered views to the database as batched increments
+     *
+     * @return number of views flushed
+     */
+    long flush();
+
+    /**
+     * Push view counts changed since the last push to Elasticsearch
+     * No-op when Elasticsearch is disabled
+     */
+    void syncToSearchIndex();
+}
@@ -0,0 +1,121 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.model.catalog.CategoryNode;
+import com.mediaapp.model.catalog.CategoryTree;
+import com.mediaapp.model.catalog.TopicNode;
+import com.mediaapp.repository.jpa.CategoryRepository;
+import com.mediaapp.repository.jpa.TopicRepository;
+import com.mediaapp.service.CategoryTreeService;
+import com.mediaapp.service.CategoryTreeService.CatalogChanged;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Category Tree Service Implementation
+ * Copy-on-write snapshot: readers take the volatile reference, a rebuild publishes a new tree in one write.
+ * Rebuilt after category/topic commits, by the scheduler's poll, and (rate-limited) when a lookup misses.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CategoryTreeServiceImpl implements CategoryTreeService {
+
+    private final CategoryRepository categoryRepository;
+    private final TopicRepository topicRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.category-tree.miss-refresh-interval-ms:1000}")
+    private long missRefreshIntervalMs;
+
+    private volatile CategoryTree tree = CategoryTree.EMPTY;
+
+    private final AtomicLong lastMissRefreshAt = new AtomicLong();
+
+    /**
+     * Expose the snapshot version so rebuilds are visible on dashboards
+     */
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("category.tree.version", this, service -> service.tree.getVersion())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public CategoryTree getTree() {
+        CategoryTree current = tree;
+        if (current == CategoryTree.EMPTY) {
+            refreshIfChanged();
+            current = tree;
+        }
+        return current;
+    }
+
+    @Override
+    public synchronized boolean refreshIfChanged() {
+        String sourceVersion = categoryRepository.findTableVersion().asString()
+            + "|" + topicRepository.findTableVersion().asString();
+        if (tree != CategoryTree.EMPTY && sourceVersion.equals(tree.getSourceVersion())) {
+            return false;
+        }
+
+        CategoryTree rebuilt = CategoryTree.build(tree.getVersion() + 1, sourceVersion,
+            categoryRepository.findAll(), topicRepository.findAll());
+        tree = rebuilt;
+        log.info("Category tree rebuilt: version={}, categories={}, topics={}",
+            rebuilt.getVersion(), rebuilt.allCategories().size(), rebuilt.allTopics().size());
+        return true;
+    }
+
+    /**
+     * Pick up category and topic writes once they are committed (and visible to the version check)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCatalogChanged(CatalogChanged event) {
+        log.debug("{} {} changed, checking the category tree", event.entityType(), event.id());
+        refreshIfChanged();
+    }
+
+    @Override
+    public Optional<CategoryNode> findCategory(Long id) {
+        return findWithRefresh(current -> current.findCategory(id));
+    }
+
+    @Override
+    public Optional<TopicNode> findTopic(Long id) {
+        return findWithRefresh(current -> current.findTopic(id));
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * A miss may be a row created since the last rebuild: check for changes once and retry.
+     * Misses on IDs that do not exist would otherwise cost two COUNT/MAX queries each, so at most
+     * one miss-triggered check runs per interval; the others answer from the current snapshot.
+     */
+    private <T> Optional<T> findWithRefresh(Function<CategoryTree, Optional<T>> lookup) {
+        Optional<T> found = lookup.apply(getTree());
+        if (found.isEmpty() && claimMissRefresh() && refreshIfChanged()) {
+            found = lookup.apply(tree);
+        }
+        return found;
+    }
+
+    private boolean claimMissRefresh() {
+        long now = System.currentTimeMillis();
+        long last = lastMissRefreshAt.get();
+        return now - last >= missRefreshIntervalMs && lastMissRefreshAt.compareAndSet(last, now);
+    }
+}
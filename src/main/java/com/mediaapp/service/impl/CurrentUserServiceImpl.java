@@ -0,0 +1,27 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.service.CurrentUserService;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Current User Service Implementation
+ * Reads the user ID an authentication filter left on the current request
+ */
+@Service
+public class CurrentUserServiceImpl implements CurrentUserService {
+
+    @Override
+    public Optional<Long> getCurrentUserId() {
+        RequestAttributes request = RequestContextHolder.getRequestAttributes();
+        if (request == null) {
+            return Optional.empty();
+        }
+        return request.getAttribute(USER_ID_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Long userId
+            ? Optional.of(userId)
+            : Optional.empty();
+    }
+}
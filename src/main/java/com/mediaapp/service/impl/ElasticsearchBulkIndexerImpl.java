@@ -0,0 +1,285 @@
+package com.mediaapp.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkIngester;
+import co.elastic.clients.elasticsearch._helpers.bulk.BulkListener;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.mediaapp.service.ElasticsearchBulkIndexer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Elasticsearch Bulk Indexer Implementation
+ * One BulkIngester per application: requests are cut at max-operations or max-bytes, leftovers
+ * go out every flush interval, and at most max-concurrent-requests bulks are in flight (add() blocks
+ * beyond that). Documents rejected with 429 are re-queued with exponential backoff; any other
+ * item error is final and reported back to the caller.
+ */
+@Service
+@ConditionalOnProperty(name = "spring.data.elasticsearch.repositories.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ElasticsearchBulkIndexerImpl implements ElasticsearchBulkIndexer {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.sync.bulk.max-operations:1000}")
+    private int maxOperations;
+
+    @Value("${app.sync.bulk.max-bytes:5242880}")
+    private long maxBytes;
+
+    @Value("${app.sync.bulk.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${app.sync.bulk.max-concurrent-requests:2}")
+    private int maxConcurrentRequests;
+
+    @Value("${app.sync.bulk.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${app.sync.bulk.initial-backoff-ms:200}")
+    private long initialBackoffMs;
+
+    @Value("${app.sync.bulk.await-timeout-ms:60000}")
+    private long awaitTimeoutMs;
+
+    private final Map<Long, Long> requestStartNanos = new ConcurrentHashMap<>();
+
+    private BulkIngester<PendingItem> ingester;
+    private ScheduledExecutorService retryScheduler;
+
+    /**
+     * Documents of one index() call; completes when every document has a final outcome
+     */
+    private static final class Batch {
+
+        private final String entityType;
+        private final AtomicInteger remaining;
+        private final Set<String> failedIds = ConcurrentHashMap.newKeySet();
+        private final CompletableFuture<Set<String>> result = new CompletableFuture<>();
+
+        Batch(String entityType, int size) {
+            this.entityType = entityType;
+            this.remaining = new AtomicInteger(size);
+        }
+
+        void complete(String id, boolean indexed) {
+            if (!indexed) {
+                failedIds.add(id);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                result.complete(Set.copyOf(failedIds));
+            }
+        }
+    }
+
+    /**
+     * Bulk operation context: which batch it belongs to and how often it was retried
+     */
+    private record PendingItem(Batch batch, String id, BulkOperation operation, int attempt) {
+
+        PendingItem retry() {
+            return new PendingItem(batch, id, operation, attempt + 1);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "es-bulk-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ingester = BulkIngester.of(builder -> builder
+            .client(elasticsearchClient)
+            .maxOperations(maxOperations)
+            .maxSize(maxBytes)
+            .maxConcurrentRequests(maxConcurrentRequests)
+            .flushInterval(flushIntervalMs, TimeUnit.MILLISECONDS)
+            .listener(new Listener()));
+
+        Gauge.builder("es.bulk.in_flight", ingester, BulkIngester::pendingRequests)
+            .description("Bulk requests sent and not yet answered")
+            .register(meterRegistry);
+        Gauge.builder("es.bulk.buffered", ingester, BulkIngester::pendingOperations)
+            .description("Operations buffered for the next bulk request")
+            .register(meterRegistry);
+        Gauge.builder("es.bulk.buffered.bytes", ingester, BulkIngester::pendingOperationsSize)
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        retryScheduler.shutdownNow();
+        ingester.close();
+    }
+
+    @Override
+    public <D> Set<String> index(String entityType, Class<D> documentClass, List<D> documents, Function<D, String> idOf) {
+        // Same index name (the alias once reindexed) as the Spring Data repositories
+        return index(entityType, elasticsearchOperations.getIndexCoordinatesFor(documentClass).getIndexName(),
+            documents, idOf);
+    }
+
+    @Override
+    public <D> Set<String> index(String entityType, String indexName, List<D> documents, Function<D, String> idOf) {
+        if (documents.isEmpty()) {
+            return Set.of();
+        }
+
+        Batch batch = new Batch(entityType, documents.size());
+        for (D document : documents) {
+            String id = idOf.apply(document);
+            Map<String, Object> source = elasticsearchOperations.getElasticsearchConverter().mapObject(document);
+            BulkOperation operation = BulkOperation.of(op -> op.index(index -> index
+                .index(indexName)
+                .id(id)
+                .document(source)));
+            ingester.add(operation, new PendingItem(batch, id, operation, 0));
+        }
+        // The caller waits for this batch, so do not let its tail sit out a full flush interval
+        ingester.flush();
+
+        try {
+            return batch.result.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("ES bulk [{}]: no outcome for {} documents after {}ms, treating them as failed",
+                entityType, batch.remaining.get(), awaitTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.warn("ES bulk [{}]: batch failed", entityType, e.getCause());
+        }
+        return documents.stream().map(idOf).collect(Collectors.toSet());
+    }
+
+    // ============ Private Helper Methods ============
+
+    private void retryOrFail(PendingItem item) {
+        if (item.attempt() >= maxRetries) {
+            count(item.batch().entityType, "failed", 1);
+            item.batch().complete(item.id(), false);
+            return;
+        }
+
+        long delayMs = initialBackoffMs << Math.min(item.attempt(), 20);
+        count(item.batch().entityType, "retried", 1);
+        try {
+            retryScheduler.schedule(() -> {
+                try {
+                    ingester.add(item.operation(), item.retry());
+                } catch (RuntimeException e) {
+                    // Ingester closed during shutdown
+                    item.batch().complete(item.id(), false);
+                }
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            item.batch().complete(item.id(), false);
+        }
+    }
+
+    private void count(String entityType, String outcome, int amount) {
+        Counter.builder("es.bulk.documents")
+            .tag("entity", entityType)
+            .tag("outcome", outcome)
+            .register(meterRegistry)
+            .increment(amount);
+    }
+
+    private void countRejection(String entityType) {
+        Counter.builder("es.bulk.rejections")
+            .description("Documents rejected with 429 Too Many Requests")
+            .tag("entity", entityType)
+            .register(meterRegistry)
+            .increment();
+    }
+
+    private void recordDuration(long executionId) {
+        Long startedAt = requestStartNanos.remove(executionId);
+        if (startedAt != null) {
+            meterRegistry.timer("es.bulk.request").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Routes each item outcome back to its batch; runs on the transport thread, so it never blocks
+     * (retries are re-added from the retry scheduler)
+     */
+    private class Listener implements BulkListener<PendingItem> {
+
+        @Override
+        public void beforeBulk(long executionId, BulkRequest request, List<PendingItem> contexts) {
+            requestStartNanos.put(executionId, System.nanoTime());
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<PendingItem> contexts, BulkResponse response) {
+            recordDuration(executionId);
+            List<BulkResponseItem> items = response.items();
+            for (int i = 0; i < contexts.size(); i++) {
+                PendingItem item = contexts.get(i);
+                BulkResponseItem result = i < items.size() ? items.get(i) : null;
+                if (result != null && result.error() == null) {
+                    count(item.batch().entityType, "indexed", 1);
+                    item.batch().complete(item.id(), true);
+                } else if (result != null && result.status() == TOO_MANY_REQUESTS) {
+                    countRejection(item.batch().entityType);
+                    retryOrFail(item);
+                } else {
+                    log.debug("ES bulk: document {} rejected: {}", item.id(),
+                        result != null && result.error() != null ? result.error().reason() : "missing item");
+                    count(item.batch().entityType, "failed", 1);
+                    item.batch().complete(item.id(), false);
+                }
+            }
+        }
+
+        @Override
+        public void afterBulk(long executionId, BulkRequest request, List<PendingItem> contexts, Throwable failure) {
+            recordDuration(executionId);
+            boolean rejected = failure instanceof ElasticsearchException e && e.status() == TOO_MANY_REQUESTS;
+            log.warn("ES bulk request of {} operations failed{}: {}", contexts.size(),
+                rejected ? " (429)" : "", failure.getMessage());
+            // Whole-request failures (429, timeouts, connection errors) are transient: retry every item
+            contexts.forEach(item -> {
+                if (rejected) {
+                    countRejection(item.batch().entityType);
+                }
+                retryOrFail(item);
+            });
+        }
+    }
+}
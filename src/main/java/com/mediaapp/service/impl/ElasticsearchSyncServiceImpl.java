@@ -0,0 +1,658 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.mapper.QuestionDocumentMapper;
+import com.mediaapp.model.document.PostDocument;
+import com.mediaapp.model.document.PostRequestDocument;
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.model.entity.Answer;
+import com.mediaapp.repository.elasticsearch.PostEsRepository;
+import com.mediaapp.repository.elasticsearch.PostRequestEsRepository;
+import com.mediaapp.repository.elasticsearch.QuestionEsRepository;
+import com.mediaapp.repository.jpa.AnswerRepository;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.PostRequestRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.AnswerCount;
+import com.mediaapp.repository.jpa.projection.IdRange;
+import com.mediaapp.repository.jpa.projection.ViewCount;
+import com.mediaapp.service.ElasticsearchBulkIndexer;
+import com.mediaapp.service.ElasticsearchSyncService;
+import com.mediaapp.util.Constants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Elasticsearch Sync Service Implementation
+ * Batched outbox drain: lease need_sync IDs -> entities -> documents, then ES bulk outside any transaction,
+ * then one UPDATE clearing the flags.
+ * Soft-deleted rows (tombstones) take a separate path: claim IDs -> ES delete -> one UPDATE clearing the flags
+ * Answers are pushed into their question documents as scripted partial updates, never as full rewrites
+ */
+@Service
+@ConditionalOnProperty(name = "spring.data.elasticsearch.repositories.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ElasticsearchSyncServiceImpl implements ElasticsearchSyncService {
+
+    /**
+     * Only moves viewCount forward, so a push racing a full reindex never rolls the counter back
+     */
+    private static final String VIEW_COUNT_SCRIPT =
+        "if (ctx._source.viewCount == null || ctx._source.viewCount < params.viewCount) "
+            + "{ ctx._source.viewCount = params.viewCount } else { ctx.op = 'noop' }";
+
+    /**
+     * Replace the nested answer with the same ID in place, or append it
+     */
+    private static final String UPSERT_ANSWER_SCRIPT =
+        "if (ctx._source.answers == null) { ctx._source.answers = new ArrayList(); } "
+            + "def answers = ctx._source.answers; boolean found = false; "
+            + "for (int i = 0; i < answers.size(); i++) { "
+            + "if (answers[i].id != null && ((Number) answers[i].id).longValue() == params.answerId) "
+            + "{ answers[i] = params.answer; found = true; break; } } "
+            + "if (!found) { answers.add(params.answer); } "
+            + "ctx._source.answerCount = params.answerCount";
+
+    /**
+     * Remove the nested answer with this ID, if present
+     */
+    private static final String REMOVE_ANSWER_SCRIPT =
+        "if (ctx._source.answers != null) { ctx._source.answers.removeIf(a -> "
+            + "a.id != null && ((Number) a.id).longValue() == params.answerId); } "
+            + "ctx._source.answerCount = params.answerCount";
+
+    private final QuestionRepository questionRepository;
+    private final PostRepository postRepository;
+    private final PostRequestRepository postRequestRepository;
+    private final AnswerRepository answerRepository;
+
+    private final QuestionEsRepository questionEsRepository;
+    private final PostEsRepository postEsRepository;
+    private final PostRequestEsRepository postRequestEsRepository;
+
+    private final SearchDocumentLoader searchDocumentLoader;
+    private final QuestionDocumentMapper questionDocumentMapper;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchBulkIndexer bulkIndexer;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("syncExecutor")
+    private final Executor syncExecutor;
+
+    @Value("${app.sync.batch-size:" + Constants.EsSync.DEFAULT_BATCH_SIZE + "}")
+    private int batchSize;
+
+    @Value("${app.sync.workers:4}")
+    private int workers;
+
+    @Value("${app.sync.claim-lease-ms:" + Constants.EsSync.DEFAULT_CLAIM_LEASE_MS + "}")
+    private long claimLeaseMs;
+
+    /**
+     * Last counted need_sync backlog and pending tombstones per entity type, refreshed at the end of each
+     * cycle so a Prometheus scrape reads a number instead of running a COUNT against PostgreSQL
+     */
+    private final Map<String, AtomicLong> backlogCounts = Map.of(
+        Constants.EntityType.QUESTION, new AtomicLong(),
+        Constants.EntityType.POST, new AtomicLong(),
+        Constants.EntityType.POST_REQUEST, new AtomicLong(),
+        Constants.EntityType.ANSWER, new AtomicLong());
+    private final Map<String, AtomicLong> tombstoneCounts = Map.of(
+        Constants.EntityType.QUESTION, new AtomicLong(),
+        Constants.EntityType.POST, new AtomicLong(),
+        Constants.EntityType.POST_REQUEST, new AtomicLong());
+
+    /**
+     * Expose the need_sync backlog and pending tombstones per entity type
+     */
+    @PostConstruct
+    void registerBacklogGauges() {
+        backlogCounts.forEach((entityType, count) -> Gauge.builder("es.sync.backlog", count, AtomicLong::get)
+            .tag("entity", entityType)
+            .register(meterRegistry));
+        tombstoneCounts.forEach((entityType, count) -> Gauge.builder("es.sync.tombstones", count, AtomicLong::get)
+            .tag("entity", entityType)
+            .register(meterRegistry));
+    }
+
+    @Override
+    public SyncResult syncQuestions() {
+        return sync(new EntitySync<>(
+            Constants.EntityType.QUESTION,
+            QuestionDocument.class,
+            questionRepository::findNeedSyncIdRange,
+            questionRepository::claimNeedSyncIds,
+            searchDocumentLoader::loadQuestions,
+            QuestionDocument::getId,
+            QuestionDocument::getUpdatedAt,
+            questionRepository::clearNeedSync,
+            questionRepository::releaseSyncClaims,
+            questionRepository::countByNeedSyncTrueAndDeletedAtIsNull
+        ));
+    }
+
+    @Override
+    public SyncResult syncPosts() {
+        return sync(new EntitySync<>(
+            Constants.EntityType.POST,
+            PostDocument.class,
+            postRepository::findNeedSyncIdRange,
+            postRepository::claimNeedSyncIds,
+            searchDocumentLoader::loadPosts,
+            PostDocument::getId,
+            PostDocument::getUpdatedAt,
+            postRepository::clearNeedSync,
+            postRepository::releaseSyncClaims,
+            postRepository::countByNeedSyncTrueAndDeletedAtIsNull
+        ));
+    }
+
+    @Override
+    public SyncResult syncPostRequests() {
+        return sync(new EntitySync<>(
+            Constants.EntityType.POST_REQUEST,
+            PostRequestDocument.class,
+            postRequestRepository::findNeedSyncIdRange,
+            postRequestRepository::claimNeedSyncIds,
+            searchDocumentLoader::loadPostRequests,
+            PostRequestDocument::getId,
+            PostRequestDocument::getUpdatedAt,
+            postRequestRepository::clearNeedSync,
+            postRequestRepository::releaseSyncClaims,
+            postRequestRepository::countByNeedSyncTrueAndDeletedAtIsNull
+        ));
+    }
+
+    @Override
+    public SyncResult syncAnswers() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long startedAt = System.nanoTime();
+        int limit = Math.min(Math.max(batchSize, 1), Constants.EsSync.MAX_BATCH_SIZE);
+
+        WorkerOutcome total = WorkerOutcome.EMPTY;
+        long cursor = 0;
+        while (true) {
+            long lastId = cursor;
+            // Same three steps as runWorker: claim and build the scripts, push, clear
+            ClaimedBatch<AnswerUpdate> claimed = transactionTemplate.execute(status -> {
+                List<Long> ids = answerRepository.claimNeedSyncIds(lastId, limit, claimLeaseMs);
+                return ids.isEmpty() ? null : new ClaimedBatch<>(ids, toAnswerUpdates(answerRepository.findWithUserByIdIn(ids)));
+            });
+
+            if (claimed == null) {
+                break;
+            }
+
+            Set<Long> failedQuestionIds;
+            try {
+                failedQuestionIds = pushAnswers(claimed.documents());
+            } catch (RuntimeException e) {
+                transactionTemplate.executeWithoutResult(status -> answerRepository.releaseSyncClaims(claimed.ids()));
+                throw e;
+            }
+
+            List<AnswerUpdate> synced = claimed.documents().stream()
+                .filter(update -> !failedQuestionIds.contains(update.questionId()))
+                .toList();
+            Instant syncedUpTo = synced.stream()
+                .map(AnswerUpdate::updatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElseGet(Instant::now);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!synced.isEmpty()) {
+                    answerRepository.clearNeedSync(synced.stream().map(AnswerUpdate::answerId).toList(), syncedUpTo);
+                }
+                answerRepository.releaseSyncClaims(claimed.ids());
+            });
+
+            total = total.plus(new WorkerOutcome(synced.size(), claimed.documents().size() - synced.size(), 1));
+            cursor = claimed.lastId();
+            if (claimed.ids().size() < limit) {
+                break;
+            }
+        }
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        sample.stop(meterRegistry.timer("es.sync.cycle", "entity", Constants.EntityType.ANSWER));
+        backlogCounts.get(Constants.EntityType.ANSWER).set(answerRepository.countNeedSync());
+        Counter.builder("es.sync.documents").tag("entity", Constants.EntityType.ANSWER).tag("outcome", "partial")
+            .register(meterRegistry).increment(total.indexed());
+        Counter.builder("es.sync.documents").tag("entity", Constants.EntityType.ANSWER).tag("outcome", "failed")
+            .register(meterRegistry).increment(total.failed());
+
+        SyncResult result = new SyncResult(Constants.EntityType.ANSWER, total.indexed(), total.failed(), total.batches(), durationMs);
+        if (total.batches() > 0) {
+            log.info("ES sync [{}]: updated={}, failed={}, batches={}, took={}ms",
+                Constants.EntityType.ANSWER, total.indexed(), total.failed(), total.batches(), durationMs);
+        }
+        return result;
+    }
+
+    @Override
+    public PurgeResult purgeDeletedQuestions() {
+        return purge(Constants.EntityType.QUESTION,
+            questionRepository::claimTombstoneIds,
+            questionEsRepository::deleteAllByIdIn,
+            questionRepository::clearTombstones,
+            questionRepository::countByNeedSyncTrueAndDeletedAtIsNotNull);
+    }
+
+    @Override
+    public PurgeResult purgeDeletedPosts() {
+        return purge(Constants.EntityType.POST,
+            postRepository::claimTombstoneIds,
+            postEsRepository::deleteAllByIdIn,
+            postRepository::clearTombstones,
+            postRepository::countByNeedSyncTrueAndDeletedAtIsNotNull);
+    }
+
+    @Override
+    public PurgeResult purgeDeletedPostRequests() {
+        return purge(Constants.EntityType.POST_REQUEST,
+            postRequestRepository::claimTombstoneIds,
+            postRequestEsRepository::deleteAllByIdIn,
+            postRequestRepository::clearTombstones,
+            postRequestRepository::countByNeedSyncTrueAndDeletedAtIsNotNull);
+    }
+
+    @Override
+    public int syncQuestionViewCounts(Collection<Long> ids) {
+        return syncViewCounts(Constants.EntityType.QUESTION, ids,
+            questionRepository::findViewCountsByIdIn, QuestionDocument.class);
+    }
+
+    @Override
+    public int syncPostViewCounts(Collection<Long> ids) {
+        return syncViewCounts(Constants.EntityType.POST, ids,
+            postRepository::findViewCountsByIdIn, PostDocument.class);
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * Build one scripted update per answer for its question document, with the current answer count.
+     * The request carries one answer whatever the number of answers already embedded, instead of the whole document.
+     */
+    private List<AnswerUpdate> toAnswerUpdates(List<Answer> answers) {
+        if (answers.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Integer> answerCounts = questionRepository.findAnswerCountsByIdIn(
+                answers.stream().map(answer -> answer.getQuestion().getId()).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(AnswerCount::getId, AnswerCount::getAnswerCount));
+
+        return answers.stream()
+            .map(answer -> new AnswerUpdate(answer.getId(), answer.getQuestion().getId(), answer.getUpdatedAt(),
+                toAnswerUpdate(answer, answerCounts.getOrDefault(answer.getQuestion().getId(), 0))))
+            .toList();
+    }
+
+    /**
+     * Send the scripted answer updates in one bulk request.
+     * Questions not indexed yet are skipped: their next full sync embeds the answer anyway.
+     *
+     * @return IDs of questions whose update was rejected (their answers keep the flag)
+     */
+    private Set<Long> pushAnswers(List<AnswerUpdate> updates) {
+        if (updates.isEmpty()) {
+            return Set.of();
+        }
+
+        List<UpdateQuery> queries = updates.stream().map(AnswerUpdate::query).toList();
+        try {
+            elasticsearchOperations.bulkUpdate(queries, QuestionDocument.class);
+            return Set.of();
+        } catch (BulkFailureException e) {
+            Set<Long> failed = e.getFailedDocuments().entrySet().stream()
+                .filter(failure -> !Objects.equals(failure.getValue().status(), 404))
+                .map(failure -> Long.valueOf(failure.getKey()))
+                .collect(Collectors.toSet());
+            if (!failed.isEmpty()) {
+                log.warn("ES sync [{}]: updates of {} question documents rejected, flags kept for retry",
+                    Constants.EntityType.ANSWER, failed.size());
+            }
+            return failed;
+        }
+    }
+
+    private UpdateQuery toAnswerUpdate(Answer answer, int answerCount) {
+        UpdateQuery.Builder builder = UpdateQuery.builder(String.valueOf(answer.getQuestion().getId()))
+            .withScriptType(ScriptType.INLINE)
+            .withLang("painless")
+            .withRetryOnConflict(3);
+
+        if (answer.isDeleted()) {
+            return builder
+                .withScript(REMOVE_ANSWER_SCRIPT)
+                .withParams(Map.of("answerId", answer.getId(), "answerCount", answerCount))
+                .build();
+        }
+
+        // Same conversion as the nested answers of a full document write
+        Document source = elasticsearchOperations.getElasticsearchConverter()
+            .mapObject(questionDocumentMapper.toAnswerEs(answer));
+        source.remove("_class");
+        return builder
+            .withScript(UPSERT_ANSWER_SCRIPT)
+            .withParams(Map.of("answerId", answer.getId(), "answer", source, "answerCount", answerCount))
+            .build();
+    }
+
+    /**
+     * Partial-update the viewCount field of already indexed documents, one bulk request per batch.
+     * Documents not indexed yet are skipped: the next full sync carries the current count anyway.
+     */
+    private int syncViewCounts(String entityType, Collection<Long> ids,
+                               Function<Collection<Long>, List<ViewCount>> viewCountLoader,
+                               Class<?> documentClass) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        int limit = Math.min(Math.max(batchSize, 1), Constants.EsSync.MAX_BATCH_SIZE);
+        List<Long> idList = List.copyOf(ids);
+        int updated = 0;
+        for (int from = 0; from < idList.size(); from += limit) {
+            List<UpdateQuery> queries = viewCountLoader.apply(idList.subList(from, Math.min(from + limit, idList.size())))
+                .stream()
+                .map(viewCount -> UpdateQuery.builder(String.valueOf(viewCount.getId()))
+                    .withScriptType(ScriptType.INLINE)
+                    .withScript(VIEW_COUNT_SCRIPT)
+                    .withLang("painless")
+                    .withParams(Map.of("viewCount", viewCount.getViewCount()))
+                    .withRetryOnConflict(3)
+                    .build())
+                .toList();
+            if (queries.isEmpty()) {
+                continue;
+            }
+
+            try {
+                elasticsearchOperations.bulkUpdate(queries, documentClass);
+                updated += queries.size();
+            } catch (BulkFailureException e) {
+                updated += queries.size() - e.getFailedDocuments().size();
+                log.debug("ES view counts [{}]: {} documents not updated (not indexed yet?)",
+                    entityType, e.getFailedDocuments().size());
+            }
+        }
+
+        Counter.builder("es.sync.documents").tag("entity", entityType).tag("outcome", "view_count")
+            .register(meterRegistry).increment(updated);
+        return updated;
+    }
+
+    /**
+     * Remove the tombstones of one entity type from Elasticsearch, one transaction per batch.
+     * Deletes are idempotent, so if the flag UPDATE fails after ES accepted the delete the
+     * batch is simply deleted again next cycle. An ES failure rolls the batch back and aborts the cycle.
+     */
+    private PurgeResult purge(String entityType,
+                              TombstoneClaimer claimer,
+                              Consumer<List<String>> esDeleter,
+                              Function<Collection<Long>, Integer> flagClearer,
+                              LongSupplier tombstoneCounter) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long startedAt = System.nanoTime();
+        int limit = Math.min(Math.max(batchSize, 1), Constants.EsSync.MAX_BATCH_SIZE);
+
+        int deleted = 0;
+        int batches = 0;
+        long cursor = 0;
+        while (true) {
+            long lastId = cursor;
+            BatchOutcome batch = transactionTemplate.execute(status -> {
+                List<Long> ids = claimer.claim(lastId, limit, claimLeaseMs);
+                if (ids.isEmpty()) {
+                    return null;
+                }
+
+                esDeleter.accept(ids.stream().map(String::valueOf).toList());
+                flagClearer.apply(ids);
+                return new BatchOutcome(ids.get(ids.size() - 1), ids.size(), ids.size(), 0);
+            });
+
+            if (batch == null) {
+                break;
+            }
+            deleted += batch.indexed();
+            batches++;
+            cursor = batch.lastId();
+            if (batch.claimed() < limit) {
+                break;
+            }
+        }
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        sample.stop(meterRegistry.timer("es.sync.purge", "entity", entityType));
+        tombstoneCounts.get(entityType).set(tombstoneCounter.getAsLong());
+        Counter.builder("es.sync.documents").tag("entity", entityType).tag("outcome", "deleted")
+            .register(meterRegistry).increment(deleted);
+
+        if (batches > 0) {
+            log.info("ES purge [{}]: deleted={}, batches={}, took={}ms", entityType, deleted, batches, durationMs);
+        }
+        return new PurgeResult(entityType, deleted, batches, durationMs);
+    }
+
+    /**
+     * Drain the need_sync backlog of one entity type.
+     * The flagged ID range is split into one partition per worker; each worker walks its
+     * partition with a keyset cursor and leases rows (sync_claimed_at, see V12), so workers
+     * on this node and on other nodes never index the same row twice.
+     */
+    private <D> SyncResult sync(EntitySync<D> spec) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long startedAt = System.nanoTime();
+
+        IdRange range = spec.rangeLoader().get();
+        if (range == null || range.isEmpty()) {
+            sample.stop(meterRegistry.timer("es.sync.cycle", "entity", spec.entityType()));
+            backlogCounts.get(spec.entityType()).set(0);
+            return new SyncResult(spec.entityType(), 0, 0, 0, 0);
+        }
+
+        int effectiveBatchSize = Math.min(Math.max(batchSize, 1), Constants.EsSync.MAX_BATCH_SIZE);
+        long rangeSize = range.getMaxId() - range.getMinId() + 1;
+        int partitions = (int) Math.min(Math.max(workers, 1), rangeSize);
+        long span = (rangeSize + partitions - 1) / partitions;
+
+        List<CompletableFuture<WorkerOutcome>> futures = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            long fromExclusive = range.getMinId() - 1 + i * span;
+            long toInclusive = Math.min(range.getMaxId(), fromExclusive + span);
+            futures.add(CompletableFuture.supplyAsync(
+                () -> runWorker(spec, fromExclusive, toInclusive, effectiveBatchSize), syncExecutor));
+        }
+
+        WorkerOutcome total = futures.stream()
+            .map(CompletableFuture::join)
+            .reduce(WorkerOutcome.EMPTY, WorkerOutcome::plus);
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        sample.stop(meterRegistry.timer("es.sync.cycle", "entity", spec.entityType()));
+        backlogCounts.get(spec.entityType()).set(spec.backlogCounter().getAsLong());
+        Counter.builder("es.sync.documents").tag("entity", spec.entityType()).tag("outcome", "indexed")
+            .register(meterRegistry).increment(total.indexed());
+        Counter.builder("es.sync.documents").tag("entity", spec.entityType()).tag("outcome", "failed")
+            .register(meterRegistry).increment(total.failed());
+
+        SyncResult result = new SyncResult(spec.entityType(), total.indexed(), total.failed(), total.batches(), durationMs);
+        if (total.batches() > 0) {
+            log.info("ES sync [{}]: indexed={}, failed={}, batches={}, workers={}, took={}ms ({} docs/s)",
+                spec.entityType(), total.indexed(), total.failed(), total.batches(), partitions, durationMs,
+                String.format("%.1f", result.throughputPerSecond()));
+        }
+        return result;
+    }
+
+    /**
+     * Walk one ID partition, three steps per batch: claim and load the documents in one short transaction,
+     * bulk index outside any transaction, then clear the flags in a second short transaction.
+     * No row lock nor pooled connection is held while Elasticsearch works; the sync_claimed_at lease keeps
+     * other workers off the batch, and the updated_at guard keeps the flag of rows changed in the meantime.
+     * Rows rejected by ES keep their flag and the cursor moves past them, so they are retried next cycle.
+     */
+    private <D> WorkerOutcome runWorker(EntitySync<D> spec, long fromExclusive, long toInclusive, int limit) {
+        WorkerOutcome outcome = WorkerOutcome.EMPTY;
+        long cursor = fromExclusive;
+
+        while (cursor < toInclusive) {
+            long lastId = cursor;
+            ClaimedBatch<D> claimed = transactionTemplate.execute(status -> {
+                List<Long> ids = spec.claimer().claim(lastId, toInclusive, limit, claimLeaseMs);
+                return ids.isEmpty() ? null : new ClaimedBatch<>(ids, spec.documentLoader().apply(ids));
+            });
+
+            if (claimed == null) {
+                break;
+            }
+
+            Set<String> failedIds;
+            try {
+                failedIds = bulkIndex(spec.entityType(), claimed.documents(), spec.idOf(), spec.documentClass());
+            } catch (RuntimeException e) {
+                transactionTemplate.executeWithoutResult(status -> spec.claimReleaser().apply(claimed.ids()));
+                throw e;
+            }
+
+            List<Long> syncedIds = claimed.documents().stream()
+                .map(spec.idOf())
+                .filter(id -> !failedIds.contains(id))
+                .map(Long::valueOf)
+                .toList();
+            Instant syncedUpTo = claimed.documents().stream()
+                .map(spec.updatedAtOf())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElseGet(Instant::now);
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!syncedIds.isEmpty()) {
+                    spec.flagClearer().apply(syncedIds, syncedUpTo);
+                }
+                spec.claimReleaser().apply(claimed.ids());
+            });
+
+            outcome = outcome.plus(new WorkerOutcome(syncedIds.size(), failedIds.size(), 1));
+            cursor = claimed.lastId();
+            if (claimed.ids().size() < limit) {
+                break;
+            }
+        }
+        return outcome;
+    }
+
+    /**
+     * Push one batch through the shared bulk pipeline
+     *
+     * @return IDs of documents rejected by Elasticsearch
+     */
+    private <D> Set<String> bulkIndex(String entityType, List<D> documents,
+                                      Function<D, String> idOf, Class<D> documentClass) {
+        Set<String> failedIds = bulkIndexer.index(entityType, documentClass, documents, idOf);
+        if (!failedIds.isEmpty()) {
+            log.warn("ES sync [{}]: {} of {} documents rejected, flags kept for retry",
+                entityType, failedIds.size(), documents.size());
+        }
+        return failedIds;
+    }
+
+    /**
+     * Keyset claim of need_sync IDs within (lastId, maxId], leased for leaseMs
+     */
+    @FunctionalInterface
+    private interface IdClaimer {
+        List<Long> claim(long lastId, long maxId, int limit, long leaseMs);
+    }
+
+    /**
+     * Keyset claim of tombstone IDs after lastId, skipping rows leased within leaseMs
+     */
+    @FunctionalInterface
+    private interface TombstoneClaimer {
+        List<Long> claim(long lastId, int limit, long leaseMs);
+    }
+
+    /**
+     * Per-entity wiring of the sync pipeline
+     */
+    private record EntitySync<D>(String entityType,
+                                 Class<D> documentClass,
+                                 Supplier<IdRange> rangeLoader,
+                                 IdClaimer claimer,
+                                 Function<List<Long>, List<D>> documentLoader,
+                                 Function<D, String> idOf,
+                                 Function<D, Instant> updatedAtOf,
+                                 BiFunction<Collection<Long>, Instant, Integer> flagClearer,
+                                 Function<Collection<Long>, Integer> claimReleaser,
+                                 LongSupplier backlogCounter) {
+    }
+
+    private record BatchOutcome(long lastId, int claimed, int indexed, int failed) {
+    }
+
+    /**
+     * Scripted update of one answer inside its question document
+     */
+    private record AnswerUpdate(long answerId, long questionId, Instant updatedAt, UpdateQuery query) {
+    }
+
+    /**
+     * IDs leased by one claim (in no particular order) and the documents loaded for them
+     */
+    private record ClaimedBatch<T>(List<Long> ids, List<T> documents) {
+
+        long lastId() {
+            return ids.stream().mapToLong(Long::longValue).max().orElseThrow();
+        }
+    }
+
+    private record WorkerOutcome(int indexed, int failed, int batches) {
+
+        static final WorkerOutcome EMPTY = new WorkerOutcome(0, 0, 0);
+
+        WorkerOutcome plus(WorkerOutcome other) {
+            return new WorkerOutcome(indexed + other.indexed, failed + other.failed, batches + other.batches);
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.mediaapp.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mediaapp.repository.jpa.BookmarkRepository;
+import com.mediaapp.repository.jpa.LikeRepository;
+import com.mediaapp.repository.jpa.projection.EntityRef;
+import com.mediaapp.service.InteractionLookupService;
+import com.mediaapp.util.BloomFilter;
+import com.mediaapp.util.CacheMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Interaction Lookup Service Implementation
+ * Each user gets a pair of Bloom filters (likes, bookmarks) built from one query each and held in a
+ * weight-bounded Caffeine cache. IDs the filter rejects are answered without touching PostgreSQL;
+ * the rest are confirmed with one IN query.
+ * Likes made through this node are added as they commit; likes and bookmarks written by other nodes are
+ * pulled in by a created_at catch-up query at most once per refresh interval, so a negative is never older
+ * than that interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class InteractionLookupServiceImpl implements InteractionLookupService {
+
+    private static final String KIND_LIKE = "like";
+    private static final String KIND_BOOKMARK = "bookmark";
+
+    // created_at is the inserting transaction's start time, so rows can commit after a later-stamped row was read
+    private static final Duration COMMIT_LAG = Duration.ofSeconds(30);
+
+    private final LikeRepository likeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.interactions.filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.interactions.filter.headroom:256}")
+    private int headroom;
+
+    @Value("${app.interactions.filter.max-bytes:67108864}")
+    private long maxBytes;
+
+    @Value("${app.interactions.filter.expire-after-write:10m}")
+    private Duration expireAfterWrite;
+
+    @Value("${app.interactions.filter.refresh-interval:5s}")
+    private Duration refreshInterval;
+
+    private Cache<Long, UserFilters> filters;
+
+    /**
+     * Membership filters of one user
+     */
+    private record UserFilters(Membership likes, Membership bookmarks) {
+
+        int weight() {
+            return (int) Math.min(Integer.MAX_VALUE, likes.filter().sizeInBytes() + bookmarks.filter().sizeInBytes());
+        }
+    }
+
+    /**
+     * One filter and how far it has caught up: every row created up to watermark is in it
+     * (guarded by the instance lock)
+     */
+    private static final class Membership {
+
+        private final BloomFilter filter;
+        private Instant watermark;
+        private long refreshedAtNanos;
+
+        Membership(BloomFilter filter, Instant watermark) {
+            this.filter = filter;
+            this.watermark = watermark;
+            this.refreshedAtNanos = System.nanoTime();
+        }
+
+        BloomFilter filter() {
+            return filter;
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        filters = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((Long userId, UserFilters userFilters) -> userFilters.weight())
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CacheMetrics.monitor(meterRegistry, filters, "interactionLookupService", "interactionFilters");
+        Gauge.builder("interactions.filter.bytes", filters, cache -> cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+            .description("Heap held by the per-user like/bookmark Bloom filters")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Set<Long> findLikedIds(Long userId, String entityType, Collection<Long> entityIds) {
+        return lookup(KIND_LIKE, userId, entityType, entityIds, UserFilters::likes,
+            since -> likeRepository.findEntityRefsByUserIdCreatedAfter(userId, since),
+            candidates -> likeRepository.findLikedEntityIds(userId, entityType, candidates));
+    }
+
+    @Override
+    public Set<Long> findBookmarkedIds(Long userId, String entityType, Collection<Long> entityIds) {
+        return lookup(KIND_BOOKMARK, userId, entityType, entityIds, UserFilters::bookmarks,
+            since -> bookmarkRepository.findEntityRefsByUserIdCreatedAfter(userId, since),
+            candidates -> bookmarkRepository.findBookmarkedEntityIds(userId, entityType, candidates));
+    }
+
+    @Override
+    public void onLiked(Long userId, String entityType, Long entityId) {
+        // computeIfPresent waits for an in-flight load of the same user, so a like committed while
+        // the filter was being built is never missed
+        filters.asMap().computeIfPresent(userId, (id, userFilters) -> {
+            userFilters.likes().filter().put(key(entityType, entityId));
+            return userFilters;
+        });
+    }
+
+    // ============ Private Helper Methods ============
+
+    private Set<Long> lookup(String kind, Long userId, String entityType, Collection<Long> entityIds,
+                             Function<UserFilters, Membership> membershipOf,
+                             Function<Instant, List<EntityRef>> createdAfter,
+                             Function<List<Long>, List<Long>> confirm) {
+        if (entityIds == null || entityIds.isEmpty()) {
+            return Set.of();
+        }
+
+        Membership membership = membershipOf.apply(filters.get(userId, this::load));
+        catchUp(kind, membership, createdAfter);
+        BloomFilter filter = membership.filter();
+        List<Long> candidates = entityIds.stream()
+            .distinct()
+            .filter(entityId -> filter.mightContain(key(entityType, entityId)))
+            .toList();
+        long filtered = entityIds.stream().distinct().count() - candidates.size();
+        count(kind, "filtered", filtered);
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        Set<Long> confirmed = new HashSet<>(confirm.apply(candidates));
+        count(kind, "confirmed", confirmed.size());
+        count(kind, "false_positive", candidates.size() - confirmed.size());
+
+        if (filter.isSaturated()) {
+            // Grown past its sizing; rebuild on next use to restore the target false-positive rate
+            filters.invalidate(userId);
+        }
+        return confirmed;
+    }
+
+    /**
+     * Add the rows created since the filter's watermark (written through other nodes), once per refresh interval
+     */
+    private void catchUp(String kind, Membership membership, Function<Instant, List<EntityRef>> createdAfter) {
+        synchronized (membership) {
+            if (System.nanoTime() - membership.refreshedAtNanos < refreshInterval.toNanos()) {
+                return;
+            }
+            List<EntityRef> refs = createdAfter.apply(membership.watermark.minus(COMMIT_LAG));
+            // The lag window and likes made through this node come back again: skip keys already present
+            // so they do not count towards saturation
+            List<EntityRef> missing = refs.stream()
+                .filter(ref -> !membership.filter.mightContain(key(ref.getEntityType(), ref.getEntityId())))
+                .toList();
+            add(membership.filter, missing);
+            membership.watermark = newest(refs, membership.watermark);
+            membership.refreshedAtNanos = System.nanoTime();
+            count(kind, "caught_up", missing.size());
+        }
+    }
+
+    private UserFilters load(Long userId) {
+        UserFilters userFilters = new UserFilters(
+            build(likeRepository.findEntityRefsByUserId(userId)),
+            build(bookmarkRepository.findEntityRefsByUserId(userId)));
+        log.debug("Built interaction filters for user {} ({} bytes)", userId, userFilters.weight());
+        return userFilters;
+    }
+
+    private Membership build(List<EntityRef> refs) {
+        BloomFilter filter = BloomFilter.create(refs.size() + Math.max(headroom, refs.size() / 4), falsePositiveRate);
+        add(filter, refs);
+        return new Membership(filter, newest(refs, Instant.EPOCH));
+    }
+
+    private static void add(BloomFilter filter, List<EntityRef> refs) {
+        refs.forEach(ref -> filter.put(key(ref.getEntityType(), ref.getEntityId())));
+    }
+
+    private static Instant newest(List<EntityRef> refs, Instant watermark) {
+        Instant newest = watermark;
+        for (EntityRef ref : refs) {
+            if (ref.getCreatedAt().isAfter(newest)) {
+                newest = ref.getCreatedAt();
+            }
+        }
+        return newest;
+    }
+
+    private static long key(String entityType, Long entityId) {
+        return entityType.hashCode() * 0x9E3779B97F4A7C15L ^ entityId;
+    }
+
+    /**
+     * Lookup outcomes per kind; observed false-positive rate = false_positive / (filtered + false_positive),
+     * caught_up = rows written through other nodes that a catch-up added
+     */
+    private void count(String kind, String result, long amount) {
+        if (amount > 0) {
+            Counter.builder("interactions.filter.lookups")
+                .tag("kind", kind)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(amount);
+        }
+    }
+}
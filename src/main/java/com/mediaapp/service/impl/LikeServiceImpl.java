@@ -0,0 +1,210 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.exception.ResourceNotFoundException;
+import com.mediaapp.exception.ValidationException;
+import com.mediaapp.repository.jpa.AnswerRepository;
+import com.mediaapp.repository.jpa.CommentRepository;
+import com.mediaapp.repository.jpa.LikeRepository;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.service.InteractionLookupService;
+import com.mediaapp.service.LikeService;
+import com.mediaapp.service.TrendingService;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.CounterBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Like Service Implementation
+ * Likes are written through (INSERT ... ON CONFLICT DO NOTHING); the counters are written behind:
+ * striped per-ID deltas flushed as "like_count = like_count + delta", grouped by delta,
+ * with a periodic reconciliation against the likes table
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LikeServiceImpl implements LikeService {
+
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final AnswerRepository answerRepository;
+    private final CommentRepository commentRepository;
+    private final InteractionLookupService interactionLookupService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final TrendingService trendingService;
+
+    @Value("${app.likes.reconcile-range:10000}")
+    private int reconcileRange;
+
+    private final Map<String, LikeTarget> targets = new LinkedHashMap<>();
+
+    /**
+     * One likeable table: its existence check, counter updates and buffered deltas
+     */
+    private record LikeTarget(String entityType,
+                              Predicate<Long> exists,
+                              BiFunction<Collection<Long>, Integer, Integer> adder,
+                              BiFunction<Long, Long, Integer> reconciler,
+                              LongSupplier maxId,
+                              CounterBuffer pending) {
+    }
+
+    @PostConstruct
+    void init() {
+        register(Constants.EntityType.POST, postRepository::existsById, postRepository::addLikeCounts,
+            postRepository::reconcileLikeCounts, postRepository::findMaxId);
+        register(Constants.EntityType.ANSWER, answerRepository::existsById, answerRepository::addLikeCounts,
+            answerRepository::reconcileLikeCounts, answerRepository::findMaxId);
+        register(Constants.EntityType.COMMENT, commentRepository::existsById, commentRepository::addLikeCounts,
+            commentRepository::reconcileLikeCounts, commentRepository::findMaxId);
+    }
+
+    @Override
+    public boolean like(Long userId, String entityType, Long entityId) {
+        LikeTarget target = resolve(entityType, entityId);
+        Integer inserted = transactionTemplate.execute(status ->
+            likeRepository.insertIfAbsent(userId, target.entityType(), entityId));
+        if (inserted == null || inserted == 0) {
+            return false;
+        }
+        target.pending().add(entityId, 1);
+        interactionLookupService.onLiked(userId, target.entityType(), entityId);
+        return true;
+    }
+
+    @Override
+    public boolean unlike(Long userId, String entityType, Long entityId) {
+        LikeTarget target = resolve(entityType, entityId);
+        Integer deleted = transactionTemplate.execute(status ->
+            likeRepository.deleteLike(userId, target.entityType(), entityId));
+        if (deleted == null || deleted == 0) {
+            return false;
+        }
+        target.pending().add(entityId, -1);
+        return true;
+    }
+
+    @Override
+    public long flush() {
+        long rows = 0;
+        for (LikeTarget target : targets.values()) {
+            rows += flush(target);
+        }
+        return rows;
+    }
+
+    @Override
+    public long reconcile() {
+        // Apply what is buffered first so the recount and the counters start from the same point.
+        // Likes landing between the two can still be counted twice; the next run corrects them.
+        flush();
+
+        long corrected = 0;
+        for (LikeTarget target : targets.values()) {
+            long maxId = target.maxId().getAsLong();
+            long fixed = 0;
+            for (long from = 0; from < maxId; from += reconcileRange) {
+                long lower = from;
+                long upper = Math.min(from + reconcileRange, maxId);
+                Integer rows = transactionTemplate.execute(status -> target.reconciler().apply(lower, upper));
+                fixed += rows != null ? rows : 0;
+            }
+            if (fixed > 0) {
+                log.info("Like count reconciliation corrected {} {} rows", fixed, target.entityType());
+                Counter.builder("likes.reconciled").tag("entity", target.entityType())
+                    .register(meterRegistry).increment(fixed);
+            }
+            corrected += fixed;
+        }
+        return corrected;
+    }
+
+    /**
+     * Flush buffered deltas on shutdown so they are not lost
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        long flushed = flush();
+        if (flushed > 0) {
+            log.info("Flushed like counts of {} rows on shutdown", flushed);
+        }
+    }
+
+    // ============ Private Helper Methods ============
+
+    private void register(String entityType, Predicate<Long> exists,
+                          BiFunction<Collection<Long>, Integer, Integer> adder,
+                          BiFunction<Long, Long, Integer> reconciler, LongSupplier maxId) {
+        LikeTarget target = new LikeTarget(entityType, exists, adder, reconciler, maxId, new CounterBuffer());
+        targets.put(entityType, target);
+        Gauge.builder("likes.pending", target.pending(), CounterBuffer::size)
+            .tag("entity", entityType)
+            .register(meterRegistry);
+    }
+
+    private LikeTarget resolve(String entityType, Long entityId) {
+        LikeTarget target = entityType == null ? null : targets.get(entityType.toUpperCase());
+        if (target == null) {
+            throw new ValidationException("entityType", "Must be one of " + targets.keySet());
+        }
+        if (!target.exists().test(entityId)) {
+            throw new ResourceNotFoundException(target.entityType(), entityId);
+        }
+        return target;
+    }
+
+    /**
+     * Drain one delta map into its table (same scheme as the view counters).
+     * Likes and unlikes of the same row between two flushes cancel out in memory and cost no UPDATE.
+     */
+    private long flush(LikeTarget target) {
+        CounterBuffer pending = target.pending();
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, List<Long>> idsByDelta = new HashMap<>();
+        deltas.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta.intValue(), d -> new ArrayList<>()).add(id));
+
+        int chunkSize = Constants.EsSync.MAX_BATCH_SIZE;
+        try {
+            transactionTemplate.executeWithoutResult(status -> idsByDelta.forEach((delta, ids) -> {
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    target.adder().apply(ids.subList(from, Math.min(from + chunkSize, ids.size())), delta);
+                }
+            }));
+        } catch (RuntimeException e) {
+            // Put the drained deltas back so the next flush retries them
+            deltas.forEach(pending::add);
+            throw e;
+        }
+
+        // Only entity types with a trending board are picked up
+        idsByDelta.forEach((delta, ids) ->
+            trendingService.recordDelta(target.entityType(), TrendingService.Signal.LIKE, ids, delta));
+
+        long rows = idsByDelta.values().stream().mapToInt(List::size).sum();
+        Counter.builder("likes.flushed").tag("entity", target.entityType()).register(meterRegistry).increment(rows);
+        log.debug("Flushed like deltas of {} {} rows over {} distinct deltas", rows, target.entityType(), idsByDelta.size());
+        return rows;
+    }
+}
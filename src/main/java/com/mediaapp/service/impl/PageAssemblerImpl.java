@@ -0,0 +1,132 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.AnswerResponse;
+import com.mediaapp.dto.response.CommentResponse;
+import com.mediaapp.dto.response.PostResponse;
+import com.mediaapp.dto.response.QuestionResponse;
+import com.mediaapp.dto.response.TagDto;
+import com.mediaapp.mapper.AnswerMapper;
+import com.mediaapp.mapper.CommentMapper;
+import com.mediaapp.mapper.PostMapper;
+import com.mediaapp.mapper.QuestionMapper;
+import com.mediaapp.mapper.TagMapper;
+import com.mediaapp.model.entity.Answer;
+import com.mediaapp.model.entity.Comment;
+import com.mediaapp.model.entity.Post;
+import com.mediaapp.model.entity.Question;
+import com.mediaapp.repository.jpa.AnswerRepository;
+import com.mediaapp.repository.jpa.CommentRepository;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.TagLink;
+import com.mediaapp.service.PageAssembler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Page Assembler Implementation
+ * Per page: one query for tags and one for the answer/comment preview, on top of the page query itself.
+ * Previews are cut to previewSize per row by the database (ROW_NUMBER), so busy threads cost no more than quiet ones.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PageAssemblerImpl implements PageAssembler {
+
+    /** Accepted answer first, then most liked, then oldest */
+    private static final Comparator<Answer> ANSWER_PREVIEW_ORDER = Comparator
+        .comparing((Answer answer) -> Boolean.TRUE.equals(answer.getIsAccepted())).reversed()
+        .thenComparing(Answer::getLikeCount, Comparator.nullsLast(Comparator.reverseOrder()))
+        .thenComparing(Answer::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private static final Comparator<Comment> COMMENT_PREVIEW_ORDER =
+        Comparator.comparing(Comment::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final QuestionRepository questionRepository;
+    private final PostRepository postRepository;
+    private final AnswerRepository answerRepository;
+    private final CommentRepository commentRepository;
+    private final QuestionMapper questionMapper;
+    private final PostMapper postMapper;
+    private final AnswerMapper answerMapper;
+    private final CommentMapper commentMapper;
+    private final TagMapper tagMapper;
+
+    @Value("${app.listing.preview-size:3}")
+    private int previewSize;
+
+    @Override
+    public Page<QuestionResponse> assembleQuestions(Page<Question> questions) {
+        return new PageImpl<>(assembleQuestions(questions.getContent()), questions.getPageable(), questions.getTotalElements());
+    }
+
+    @Override
+    public List<QuestionResponse> assembleQuestions(List<Question> questions) {
+        if (questions.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = questions.stream().map(Question::getId).toList();
+        Map<Long, List<TagDto>> tags = groupTags(questionRepository.findTagLinks(ids));
+        Map<Long, List<AnswerResponse>> answers = previewSize <= 0 ? Map.of() :
+            preview(answerRepository.findPreviewByQuestionIds(ids, previewSize).stream(),
+                answer -> answer.getQuestion().getId(), ANSWER_PREVIEW_ORDER, answerMapper::toResponse);
+
+        return questions.stream().map(question -> {
+            QuestionResponse response = questionMapper.toListingResponse(question);
+            response.setTags(tags.getOrDefault(question.getId(), List.of()));
+            response.setAnswers(answers.getOrDefault(question.getId(), List.of()));
+            return response;
+        }).toList();
+    }
+
+    @Override
+    public Page<PostResponse> assemblePosts(Page<Post> posts) {
+        if (posts.isEmpty()) {
+            return posts.map(postMapper::toListingResponse);
+        }
+
+        List<Long> ids = posts.getContent().stream().map(Post::getId).toList();
+        Map<Long, List<TagDto>> tags = groupTags(postRepository.findTagLinks(ids));
+        Map<Long, List<CommentResponse>> comments = previewSize <= 0 ? Map.of() :
+            preview(commentRepository.findPreviewByPostIds(ids, previewSize).stream(),
+                comment -> comment.getPost().getId(), COMMENT_PREVIEW_ORDER, commentMapper::toResponse);
+
+        return posts.map(post -> {
+            PostResponse response = postMapper.toListingResponse(post);
+            response.setTags(tags.getOrDefault(post.getId(), List.of()));
+            response.setComments(comments.getOrDefault(post.getId(), List.of()));
+            return response;
+        });
+    }
+
+    // ============ Private Helper Methods ============
+
+    private Map<Long, List<TagDto>> groupTags(List<TagLink> links) {
+        return links.stream().collect(Collectors.groupingBy(TagLink::getOwnerId,
+            Collectors.mapping(tagMapper::toDto, Collectors.toList())));
+    }
+
+    /**
+     * Group preview rows by owner ID in the given order (the query returns them unordered)
+     * (owner IDs come from the unloaded many-to-one proxy, so no extra query per row)
+     */
+    private <E, D> Map<Long, List<D>> preview(Stream<E> children,
+                                             Function<E, Long> ownerId,
+                                             Comparator<E> order,
+                                             Function<E, D> mapper) {
+        return children.collect(Collectors.groupingBy(ownerId, Collectors.collectingAndThen(Collectors.toList(),
+            group -> group.stream().sorted(order).map(mapper).toList())));
+    }
+}
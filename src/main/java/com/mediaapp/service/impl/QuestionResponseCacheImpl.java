@@ -0,0 +1,155 @@
+package com.mediaapp.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mediaapp.dto.response.QuestionResponse;
+import com.mediaapp.mapper.QuestionMapper;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.service.QuestionResponseCache;
+import com.mediaapp.util.CacheMetrics;
+import com.mediaapp.util.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Question Response Cache Implementation
+ * Two Caffeine caches: ID -> mapped response, slug -> ID. Misses go through a SingleFlight per cache,
+ * so a hot question that expires costs one query, not one per concurrent request, and waiting readers
+ * do not hold Caffeine's per-bin compute locks.
+ * Every invalidation bumps an epoch; a load that overlapped one drops what it just cached, so a value
+ * read before a commit never outlives the commit's event.
+ * Misses (unknown or deleted questions) are not cached.
+ * Counters (views, likes, answers) change without events and are only as fresh as expire-after-write.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuestionResponseCacheImpl implements QuestionResponseCache {
+
+    private final QuestionRepository questionRepository;
+    private final QuestionMapper questionMapper;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.questions.cache.maximum-size:10000}")
+    private long maximumSize;
+
+    @Value("${app.questions.cache.expire-after-write:60s}")
+    private Duration expireAfterWrite;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private Cache<Long, QuestionResponse> byId;
+    private Cache<String, Long> idBySlug;
+    private SingleFlight<Long, Optional<QuestionResponse>> idLoads;
+    private SingleFlight<String, Optional<Long>> slugLoads;
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        byId = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        idBySlug = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CacheMetrics.monitor(meterRegistry, byId, "questionResponseCache", "questionResponses");
+        CacheMetrics.monitor(meterRegistry, idBySlug, "questionResponseCache", "questionSlugs");
+        idLoads = new SingleFlight<>("question.by_id", meterRegistry);
+        slugLoads = new SingleFlight<>("question.by_slug", meterRegistry);
+
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public Optional<QuestionResponse> findById(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        QuestionResponse cached = byId.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        return idLoads.execute(id, () -> readThrough(byId, id, this::load));
+    }
+
+    @Override
+    public Optional<QuestionResponse> findBySlug(String slug) {
+        if (slug == null || slug.isBlank()) {
+            return Optional.empty();
+        }
+
+        Long cachedId = idBySlug.getIfPresent(slug);
+        Optional<Long> id = cachedId != null
+            ? Optional.of(cachedId)
+            : slugLoads.execute(slug, () -> readThrough(idBySlug, slug,
+                key -> questionRepository.findLiveIdBySlug(key).orElse(null)));
+        if (id.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Optional<QuestionResponse> response = findById(id.get());
+        if (response.isEmpty() || !Objects.equals(response.get().getSlug(), slug)) {
+            // The slug moved to another title (or the question is gone) since the mapping was cached
+            idBySlug.invalidate(slug);
+            return response.filter(question -> Objects.equals(question.getSlug(), slug));
+        }
+        return response;
+    }
+
+    /**
+     * Drop the question and every slug it had once the writing transaction has committed.
+     * Events published outside a transaction are handled immediately.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChanged event) {
+        invalidations.incrementAndGet();
+        byId.invalidate(event.id());
+        idBySlug.invalidateAll(event.slugs());
+        log.debug("Evicted question {} (slugs {}) from the response cache", event.id(), event.slugs());
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * Load and cache one value. If any invalidation ran during the load (epoch moved) the value is
+     * still returned but not kept: it may predate the commit that triggered the invalidation.
+     * The epoch is re-checked after the put, which closes the window between check and put.
+     */
+    private <K, V> Optional<V> readThrough(Cache<K, V> cache, K key, Function<K, V> loader) {
+        long epoch = invalidations.get();
+        V value = loader.apply(key);
+        if (value != null) {
+            cache.put(key, value);
+            if (invalidations.get() != epoch) {
+                cache.invalidate(key);
+            }
+        }
+        return Optional.ofNullable(value);
+    }
+
+    private QuestionResponse load(Long id) {
+        return readOnlyTransaction.execute(status -> questionRepository.findWithDetailsById(id)
+            .filter(question -> !question.isDeleted())
+            .map(questionMapper::toResponse)
+            .orElse(null));
+    }
+}
@@ -1,26 +1,54 @@
 package com.mediaapp.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mediaapp.dto.request.CreateQuestionRequest;
 import com.mediaapp.dto.request.UpdateQuestionRequest;
+import com.mediaapp.dto.response.FeedResponse;
 import com.mediaapp.dto.response.QuestionResponse;
 import com.mediaapp.exception.ResourceNotFoundException;
 import com.mediaapp.exception.UnauthorizedException;
 import com.mediaapp.exception.ValidationException;
 import com.mediaapp.mapper.QuestionMapper;
+import com.mediaapp.model.catalog.CategoryNode;
+import com.mediaapp.model.catalog.TopicNode;
 import com.mediaapp.model.entity.*;
 import com.mediaapp.repository.jpa.*;
+import com.mediaapp.repository.jpa.projection.UserSnapshot;
+import com.mediaapp.service.CategoryTreeService;
+import com.mediaapp.service.PageAssembler;
+import com.mediaapp.service.QuestionResponseCache;
+import com.mediaapp.service.QuestionResponseCache.QuestionChanged;
 import com.mediaapp.service.QuestionService;
+import com.mediaapp.service.TagUsageService.TagsChanged;
+import com.mediaapp.service.ViewCountService;
 import com.mediaapp.util.Constants;
+import com.mediaapp.util.FeedCursor;
+import com.mediaapp.util.SingleFlight;
 import com.mediaapp.util.SlugGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Question Service Implementation
@@ -32,6 +60,9 @@ import java.util.Set;
 @Slf4j
 public class QuestionServiceImpl implements QuestionService {
 
+    private static final String SLUG_CONSTRAINT = "questions_slug_key";
+    private static final int MAX_CREATE_ATTEMPTS = 3;
+
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
@@ -41,83 +72,66 @@ public class QuestionServiceImpl implements QuestionService {
     
     private final QuestionMapper questionMapper;
     private final SlugGenerator slugGenerator;
+    private final ViewCountService viewCountService;
+    private final CategoryTreeService categoryTreeService;
+    private final PageAssembler pageAssembler;
+    private final QuestionResponseCache questionResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+    private SingleFlight<ListingKey, Page<QuestionResponse>> listingLoads;
+    private Cache<FeedScope, Long> feedTotals;
+
+    @Value("${app.listing.feed-total-ttl:5m}")
+    private Duration feedTotalTtl;
+
+    /**
+     * Identical concurrent listing requests share one query (see findByCategoryId/findByTopicId)
+     */
+    private record ListingKey(String listing, Long ownerId, String status, Pageable pageable) {
+    }
+
+    /**
+     * Published feed of all questions (both null), a category or a topic
+     */
+    private record FeedScope(Long categoryId, Long topicId) {
+    }
+
+    @PostConstruct
+    void init() {
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        listingLoads = new SingleFlight<>("question.listing", meterRegistry);
+        feedTotals = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(feedTotalTtl)
+            .build();
+    }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Each attempt runs in its own transaction
     public QuestionResponse create(CreateQuestionRequest request, Long userId) {
         log.info("Creating question for user: {}", userId);
-        
-        // Validate user exists and is active
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException("User", userId));
-        
-        if (!user.getIsActive()) {
-            throw new ValidationException("User account is not active");
-        }
-
-        // Validate category exists and is active
-        Category category = categoryRepository.findById(request.getCategoryId())
-            .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
-        
-        if (!category.getIsActive()) {
-            throw new ValidationException("Category is not active");
-        }
-
-        // Validate topic if provided
-        Topic topic = null;
-        if (request.getTopicId() != null) {
-            topic = topicRepository.findById(request.getTopicId())
-                .orElseThrow(() -> new ResourceNotFoundException("Topic", request.getTopicId()));
-            
-            if (!topic.getIsActive()) {
-                throw new ValidationException("Topic is not active");
-            }
-            
-            // Ensure topic belongs to the specified category
-            if (!topic.getCategory().getId().equals(request.getCategoryId())) {
-                throw new ValidationException("Topic does not belong to the specified category");
-            }
-        }
-
-        // Map request to entity
-        Question question = questionMapper.toEntity(request);
-        question.setUser(user);
-        question.setCategory(category);
-        question.setTopic(topic);
-
-        // Set default status if not provided
-        if (request.getStatus() == null || request.getStatus().isBlank()) {
-            question.setStatus(Constants.QuestionStatus.DRAFT);
-        } else {
-            // Validate status
-            validateQuestionStatus(request.getStatus());
-            question.setStatus(request.getStatus());
-        }
-
-        // Handle tags if provided
-        if (request.getTagIds() != null && !request.getTagIds().isEmpty()) {
-            Set<Tag> tags = Set.copyOf(tagRepository.findByIdIn(request.getTagIds()));
-            if (tags.size() != request.getTagIds().size()) {
-                throw new ValidationException("Some tags do not exist");
+        Timer.Sample sample = Timer.start(meterRegistry);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                QuestionResponse response = writeTransaction.execute(status -> insertQuestion(request, userId));
+                sample.stop(meterRegistry.timer("questions.create"));
+                return response;
+            } catch (DataIntegrityViolationException e) {
+                // The slug embeds the new ID, so it can only collide with an imported or hand-edited slug;
+                // the next attempt draws a fresh ID and with it a fresh slug
+                if (!isSlugConflict(e) || attempt >= MAX_CREATE_ATTEMPTS) {
+                    throw e;
+                }
+                meterRegistry.counter("questions.create.slug_conflicts").increment();
+                log.warn("Slug conflict creating question for user {}, retrying (attempt {})", userId, attempt);
             }
-            question.getTags().addAll(tags);
         }
-
-        // Save question (ID will be generated)
-        question = questionRepository.save(question);
-
-        // Generate and set slug using ID
-        String slug = slugGenerator.generateSlugWithId(request.getTitle(), question.getId());
-        
-        // Check if slug already exists (unlikely but possible)
-        if (questionRepository.existsBySlug(slug)) {
-            slug = slugGenerator.generateUniqueSlug(slug, System.currentTimeMillis());
-        }
-        
-        question.setSlug(slug);
-        question = questionRepository.save(question);
-
-        log.info("Question created successfully with ID: {}", question.getId());
-        return questionMapper.toResponse(question);
     }
 
     @Override
@@ -135,38 +149,44 @@ public class QuestionServiceImpl implements QuestionService {
 
         // Validate ownership or permissions
         validateUpdatePermission(question, userId);
+        String previousSlug = question.getSlug();
+        Long previousCategoryId = question.getCategory().getId();
+        Set<Long> previousTagIds = tagIdsOf(question);
 
         // Update category if provided
         if (request.getCategoryId() != null) {
-            Category category = categoryRepository.findById(request.getCategoryId())
+            CategoryNode category = categoryTreeService.findCategory(request.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
             
-            if (!category.getIsActive()) {
+            if (!category.active()) {
                 throw new ValidationException("Category is not active");
             }
-            question.setCategory(category);
+            question.setCategory(categoryRepository.getReferenceById(category.id()));
         }
 
         // Update topic if provided
         if (request.getTopicId() != null) {
-            Topic topic = topicRepository.findById(request.getTopicId())
+            TopicNode topic = categoryTreeService.findTopic(request.getTopicId())
                 .orElseThrow(() -> new ResourceNotFoundException("Topic", request.getTopicId()));
             
-            if (!topic.getIsActive()) {
+            if (!topic.active()) {
                 throw new ValidationException("Topic is not active");
             }
             
             // Validate topic belongs to question's category
-            if (!topic.getCategory().getId().equals(question.getCategory().getId())) {
+            if (!topic.categoryId().equals(question.getCategory().getId())) {
                 throw new ValidationException("Topic does not belong to question's category");
             }
-            question.setTopic(topic);
+            question.setTopic(topicRepository.getReferenceById(topic.id()));
         }
 
         // Update status if provided
         if (request.getStatus() != null) {
             validateStatusTransition(question.getStatus(), request.getStatus());
             question.setStatus(request.getStatus());
+            if (Constants.QuestionStatus.PUBLISHED.equals(request.getStatus()) && question.getPublishedAt() == null) {
+                question.setPublishedAt(Instant.now());
+            }
         }
 
         // Update tags if provided
@@ -197,6 +217,9 @@ public class QuestionServiceImpl implements QuestionService {
 
         // needSync is already set to true by mapper
         question = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionChanged.of(id, previousSlug, question.getSlug()));
+        eventPublisher.publishEvent(TagsChanged.of(previousCategoryId, previousTagIds,
+            question.getCategory().getId(), tagIdsOf(question)));
 
         log.info("Question updated successfully: {}", id);
         return questionMapper.toResponse(question);
@@ -220,34 +243,23 @@ public class QuestionServiceImpl implements QuestionService {
         question.setDeletedAt(Instant.now());
         question.setNeedSync(true);
         questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionChanged.of(id, question.getSlug()));
 
         log.info("Question deleted successfully: {}", id);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Cache loads run their own transaction
     public QuestionResponse findById(Long id) {
-        Question question = questionRepository.findWithDetailsById(id)
+        return questionResponseCache.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("Question", id));
-
-        if (question.isDeleted()) {
-            throw new ResourceNotFoundException("Question", id);
-        }
-
-        return questionMapper.toResponse(question);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public QuestionResponse findBySlug(String slug) {
-        Question question = questionRepository.findBySlug(slug)
+        return questionResponseCache.findBySlug(slug)
             .orElseThrow(() -> new ResourceNotFoundException("Question", "slug", slug));
-
-        if (question.isDeleted()) {
-            throw new ResourceNotFoundException("Question", "slug", slug);
-        }
-
-        return questionMapper.toResponse(question);
     }
 
     @Override
@@ -257,7 +269,7 @@ public class QuestionServiceImpl implements QuestionService {
             Constants.QuestionStatus.PUBLISHED, 
             pageable
         );
-        return questions.map(questionMapper::toResponse);
+        return pageAssembler.assembleQuestions(questions);
     }
 
     @Override
@@ -265,45 +277,84 @@ public class QuestionServiceImpl implements QuestionService {
     public Page<QuestionResponse> findByStatus(String status, Pageable pageable) {
         validateQuestionStatus(status);
         Page<Question> questions = questionRepository.findByStatusAndDeletedAtIsNull(status, pageable);
-        return questions.map(questionMapper::toResponse);
+        return pageAssembler.assembleQuestions(questions);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Coalesced callers must not hold a connection
     public Page<QuestionResponse> findByCategoryId(Long categoryId, String status, Pageable pageable) {
         // Validate category exists
-        if (!categoryRepository.existsById(categoryId)) {
+        if (categoryTreeService.findCategory(categoryId).isEmpty()) {
             throw new ResourceNotFoundException("Category", categoryId);
         }
 
         String effectiveStatus = status != null ? status : Constants.QuestionStatus.PUBLISHED;
         validateQuestionStatus(effectiveStatus);
 
-        Page<Question> questions = questionRepository.findByCategoryIdAndStatusAndDeletedAtIsNull(
-            categoryId, 
-            effectiveStatus, 
-            pageable
-        );
-        return questions.map(questionMapper::toResponse);
+        return listingLoads.execute(new ListingKey("category", categoryId, effectiveStatus, pageable),
+            () -> readOnlyTransaction.execute(tx -> pageAssembler.assembleQuestions(
+                questionRepository.findByCategoryIdAndStatusAndDeletedAtIsNull(categoryId, effectiveStatus, pageable))));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<QuestionResponse> findByTopicId(Long topicId, String status, Pageable pageable) {
         // Validate topic exists
-        if (!topicRepository.existsById(topicId)) {
+        if (categoryTreeService.findTopic(topicId).isEmpty()) {
             throw new ResourceNotFoundException("Topic", topicId);
         }
 
         String effectiveStatus = status != null ? status : Constants.QuestionStatus.PUBLISHED;
         validateQuestionStatus(effectiveStatus);
 
-        Page<Question> questions = questionRepository.findByTopicIdAndStatusAndDeletedAtIsNull(
-            topicId, 
-            effectiveStatus, 
-            pageable
-        );
-        return questions.map(questionMapper::toResponse);
+        return listingLoads.execute(new ListingKey("topic", topicId, effectiveStatus, pageable),
+            () -> readOnlyTransaction.execute(tx -> pageAssembler.assembleQuestions(
+                questionRepository.findByTopicIdAndStatusAndDeletedAtIsNull(topicId, effectiveStatus, pageable))));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public FeedResponse<QuestionResponse> findPublishedFeed(Long categoryId, Long topicId, String cursor, int size,
+                                                            boolean includeTotal) {
+        if (topicId != null && categoryTreeService.findTopic(topicId).isEmpty()) {
+            throw new ResourceNotFoundException("Topic", topicId);
+        }
+        if (topicId == null && categoryId != null && categoryTreeService.findCategory(categoryId).isEmpty()) {
+            throw new ResourceNotFoundException("Category", categoryId);
+        }
+
+        FeedCursor after;
+        try {
+            after = FeedCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid feed cursor");
+        }
+
+        // One extra row tells whether another slice follows, without a COUNT
+        int limit = Math.min(Math.max(size, 1), Constants.Pagination.MAX_PAGE_SIZE);
+        Limit fetch = Limit.of(limit + 1);
+        List<Question> rows;
+        if (topicId != null) {
+            rows = questionRepository.findPublishedFeedByTopicId(topicId, after.publishedAt(), after.id(), fetch);
+        } else if (categoryId != null) {
+            rows = questionRepository.findPublishedFeedByCategoryId(categoryId, after.publishedAt(), after.id(), fetch);
+        } else {
+            rows = questionRepository.findPublishedFeed(after.publishedAt(), after.id(), fetch);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<Question> slice = hasNext ? rows.subList(0, limit) : rows;
+        Question last = slice.isEmpty() ? null : slice.get(slice.size() - 1);
+
+        FeedScope scope = new FeedScope(topicId == null ? categoryId : null, topicId);
+        return FeedResponse.<QuestionResponse>builder()
+            .items(pageAssembler.assembleQuestions(slice))
+            .hasNext(hasNext)
+            .nextCursor(hasNext ? new FeedCursor(last.getPublishedAt(), last.getId()).encode() : null)
+            .approximateTotal(includeTotal
+                ? feedTotals.get(scope, key -> questionRepository.countPublishedFeed(key.categoryId(), key.topicId()))
+                : null)
+            .build();
     }
 
     @Override
@@ -315,7 +366,7 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         Page<Question> questions = questionRepository.findByUserIdAndDeletedAtIsNull(userId, pageable);
-        return questions.map(questionMapper::toResponse);
+        return pageAssembler.assembleQuestions(questions);
     }
 
     @Override
@@ -342,6 +393,7 @@ public class QuestionServiceImpl implements QuestionService {
         question.setPublishedAt(Instant.now());
         question.setNeedSync(true);
         question = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionChanged.of(id, question.getSlug()));
 
         log.info("Question published successfully: {}", id);
         return questionMapper.toResponse(question);
@@ -371,6 +423,7 @@ public class QuestionServiceImpl implements QuestionService {
         question.setStatus(Constants.QuestionStatus.PENDING_APPROVAL);
         question.setNeedSync(true);
         question = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionChanged.of(id, question.getSlug()));
 
         log.info("Question submitted for approval successfully: {}", id);
         return questionMapper.toResponse(question);
@@ -388,7 +441,7 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         // Validate approver exists and has permission
-        User approver = userRepository.findById(approverId)
+        UserSnapshot approver = userRepository.findSnapshotById(approverId)
             .orElseThrow(() -> new ResourceNotFoundException("User", approverId));
         
         if (!approver.isModerator()) {
@@ -404,9 +457,10 @@ public class QuestionServiceImpl implements QuestionService {
         question.setStatus(Constants.QuestionStatus.APPROVED);
         question.setNeedSync(true);
         question = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionChanged.of(id, question.getSlug()));
 
         // Log approval
-        logApprovalAction(question, approver, previousStatus, Constants.ApprovalAction.APPROVE, comment);
+        logApprovalAction(question, userRepository.getReferenceById(approverId), previousStatus, Constants.ApprovalAction.APPROVE, comment);
 
         log.info("Question approved successfully: {}", id);
         return questionMapper.toResponse(question);
@@ -424,7 +478,7 @@ public class QuestionServiceImpl implements QuestionService {
         }
 
         // Validate approver exists and has permission
-        User approver = userRepository.findById(approverId)
+        UserSnapshot approver = userRepository.findSnapshotById(approverId)
             .orElseThrow(() -> new ResourceNotFoundException("User", approverId));
         
         if (!approver.isModerator()) {
@@ -439,9 +493,10 @@ public class QuestionServiceImpl implements QuestionService {
         question.setStatus(Constants.QuestionStatus.REJECTED);
         question.setNeedSync(true);
         question = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionChanged.of(id, question.getSlug()));
 
         // Log rejection
-        logApprovalAction(question, approver, previousStatus, Constants.ApprovalAction.REJECT, reason);
+        logApprovalAction(question, userRepository.getReferenceById(approverId), previousStatus, Constants.ApprovalAction.REJECT, reason);
 
         log.info("Question rejected successfully: {}", id);
         return questionMapper.toResponse(question);
@@ -465,9 +520,12 @@ public class QuestionServiceImpl implements QuestionService {
             throw new ValidationException("Some tags do not exist");
         }
 
+        Set<Long> previousTagIds = tagIdsOf(question);
         question.getTags().addAll(tags);
         question.setNeedSync(true);
         question = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionChanged.of(id, question.getSlug()));
+        publishTagsChanged(question, previousTagIds);
 
         log.info("Tags added successfully to question: {}", id);
         return questionMapper.toResponse(question);
@@ -486,28 +544,133 @@ public class QuestionServiceImpl implements QuestionService {
 
         validateUpdatePermission(question, userId);
 
+        Set<Long> previousTagIds = tagIdsOf(question);
         question.getTags().removeIf(tag -> tagIds.contains(tag.getId()));
         question.setNeedSync(true);
         question = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionChanged.of(id, question.getSlug()));
+        publishTagsChanged(question, previousTagIds);
 
         log.info("Tags removed successfully from question: {}", id);
         return questionMapper.toResponse(question);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // Cache loads run their own transaction
     public void incrementViewCount(Long id) {
-        Question question = questionRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Question", id));
-
-        if (!question.isDeleted() && question.isPublished()) {
-            question.incrementViewCount();
-            question.markForSync();
-            questionRepository.save(question);
+        // A viewed question was just read, so this is nearly always a cache hit
+        QuestionResponse question = questionResponseCache.findById(id).orElse(null);
+        if (question == null) {
+            if (!questionRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Question", id);
+            }
+            return;  // Soft-deleted
+        }
+        if (Constants.QuestionStatus.PUBLISHED.equals(question.getStatus())) {
+            // Buffered; the flush re-checks the row and only counts views of published, non-deleted questions
+            viewCountService.recordQuestionView(id);
         }
     }
 
     // ============ Private Helper Methods ============
 
+    /**
+     * One creation attempt, in the transaction opened by create()
+     */
+    private QuestionResponse insertQuestion(CreateQuestionRequest request, Long userId) {
+        // Validate user exists and is active
+        UserSnapshot user = userRepository.findSnapshotById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User", userId));
+        
+        if (!user.active()) {
+            throw new ValidationException("User account is not active");
+        }
+
+        // Validate category exists and is active (in-memory category tree)
+        CategoryNode category = categoryTreeService.findCategory(request.getCategoryId())
+            .orElseThrow(() -> new ResourceNotFoundException("Category", request.getCategoryId()));
+        
+        if (!category.active()) {
+            throw new ValidationException("Category is not active");
+        }
+
+        // Validate topic if provided
+        TopicNode topic = null;
+        if (request.getTopicId() != null) {
+            topic = categoryTreeService.findTopic(request.getTopicId())
+                .orElseThrow(() -> new ResourceNotFoundException("Topic", request.getTopicId()));
+            
+            if (!topic.active()) {
+                throw new ValidationException("Topic is not active");
+            }
+            
+            // Ensure topic belongs to the specified category
+            if (!topic.categoryId().equals(request.getCategoryId())) {
+                throw new ValidationException("Topic does not belong to the specified category");
+            }
+        }
+
+        // Map request to entity
+        Question question = questionMapper.toEntity(request);
+        question.setUser(userRepository.getReferenceById(userId));
+        question.setCategory(categoryRepository.getReferenceById(category.id()));
+        question.setTopic(topic != null ? topicRepository.getReferenceById(topic.id()) : null);
+
+        // Set default status if not provided
+        if (request.getStatus() == null || request.getStatus().isBlank()) {
+            question.setStatus(Constants.QuestionStatus.DRAFT);
+        } else {
+            // Validate status
+            validateQuestionStatus(request.getStatus());
+            question.setStatus(request.getStatus());
+            if (Constants.QuestionStatus.PUBLISHED.equals(request.getStatus())) {
+                question.setPublishedAt(Instant.now());
+            }
+        }
+
+        // Handle tags if provided
+        if (request.getTagIds() != null && !request.getTagIds().isEmpty()) {
+            Set<Tag> tags = Set.copyOf(tagRepository.findByIdIn(request.getTagIds()));
+            if (tags.size() != request.getTagIds().size()) {
+                throw new ValidationException("Some tags do not exist");
+            }
+            question.getTags().addAll(tags);
+        }
+
+        // The ID comes from the pooled sequence at persist and SlugAssigner derives the slug from it,
+        // so this is a single INSERT; flushing here surfaces a slug conflict to create()
+        question = questionRepository.saveAndFlush(question);
+        if (Constants.QuestionStatus.PUBLISHED.equals(question.getStatus())) {
+            // Nothing is cached for a new ID; trending picks up a question published on creation
+            eventPublisher.publishEvent(QuestionChanged.of(question.getId(), question.getSlug()));
+        }
+        eventPublisher.publishEvent(TagsChanged.created(category.id(), tagIdsOf(question)));
+
+        log.info("Question created successfully with ID: {}", question.getId());
+        return questionMapper.toResponse(question);
+    }
+
+    private static boolean isSlugConflict(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return SLUG_CONSTRAINT.equals(violation.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    private static Set<Long> tagIdsOf(Question question) {
+        return question.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+    }
+
+    /**
+     * Tag usage counters follow the tag set of a question that stayed in its category
+     */
+    private void publishTagsChanged(Question question, Set<Long> previousTagIds) {
+        Long categoryId = question.getCategory().getId();
+        eventPublisher.publishEvent(TagsChanged.of(categoryId, previousTagIds, categoryId, tagIdsOf(question)));
+    }
+
     private void validateQuestionStatus(String status) {
         if (!Set.of(
             Constants.QuestionStatus.DRAFT,
@@ -547,7 +710,7 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     private void validateUpdatePermission(Question question, Long userId) {
-        User user = userRepository.findById(userId)
+        UserSnapshot user = userRepository.findSnapshotById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User", userId));
 
         // Owner can update their own questions (unless published)
@@ -565,7 +728,7 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     private void validateDeletePermission(Question question, Long userId) {
-        User user = userRepository.findById(userId)
+        UserSnapshot user = userRepository.findSnapshotById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User", userId));
 
         // Owner can delete their own questions
@@ -580,7 +743,7 @@ public class QuestionServiceImpl implements QuestionService {
     }
 
     private void validatePublishPermission(Question question, Long userId) {
-        User user = userRepository.findById(userId)
+        UserSnapshot user = userRepository.findSnapshotById(userId)
             .orElseThrow(() -> new ResourceNotFoundException("User", userId));
 
         // Owner can publish their own approved questions
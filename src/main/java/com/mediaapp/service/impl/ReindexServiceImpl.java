@@ -0,0 +1,437 @@
+package com.mediaapp.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import com.mediaapp.model.document.PostDocument;
+import com.mediaapp.model.document.PostRequestDocument;
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.PostRequestRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.ChangedRow;
+import com.mediaapp.service.ElasticsearchBulkIndexer;
+import com.mediaapp.service.ReindexService;
+import com.mediaapp.service.StreamingReader;
+import com.mediaapp.util.Constants;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Reindex Service Implementation
+ * 1. create {alias}_v{N} with the current mapping, refresh and replicas off
+ * 2. load every live row through a streaming cursor over the entity table
+ * 3. catch up rows updated or soft-deleted since the load started, until a pass is small
+ * 4. restore refresh/replicas, swap the alias in one atomic request, catch up the last gap
+ * The old index keeps serving searches until step 4, and the need_sync pipeline keeps writing
+ * through the alias the whole time.
+ */
+@Service
+@ConditionalOnProperty(name = "spring.data.elasticsearch.repositories.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReindexServiceImpl implements ReindexService {
+
+    private final QuestionRepository questionRepository;
+    private final PostRepository postRepository;
+    private final PostRequestRepository postRequestRepository;
+    private final SearchDocumentLoader searchDocumentLoader;
+    private final StreamingReader streamingReader;
+    private final ElasticsearchBulkIndexer bulkIndexer;
+    private final ElasticsearchClient elasticsearchClient;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final PlatformTransactionManager transactionManager;
+
+    @Qualifier("reindexExecutor")
+    private final Executor reindexExecutor;
+
+    @Value("${app.reindex.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.reindex.catch-up-margin:30s}")
+    private Duration catchUpMargin;
+
+    @Value("${app.reindex.max-catch-up-passes:5}")
+    private int maxCatchUpPasses;
+
+    @Value("${app.reindex.max-failures:0}")
+    private long maxFailures;
+
+    @Value("${app.reindex.replicas:1}")
+    private int replicas;
+
+    @Value("${app.reindex.refresh-interval:1s}")
+    private String refreshInterval;
+
+    @Value("${app.reindex.keep-previous:1}")
+    private int keepPrevious;
+
+    private final Map<String, ReindexTarget<?>> targets = new ConcurrentHashMap<>();
+    private final Map<String, Run> runs = new ConcurrentHashMap<>();
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void init() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        targets.put(Constants.EntityType.QUESTION, new ReindexTarget<>(Constants.EntityType.QUESTION,
+            QuestionDocument.class, questionRepository::streamLiveIds, questionRepository::findChangedSince,
+            questionRepository::countByDeletedAtIsNull, searchDocumentLoader::loadQuestions, QuestionDocument::getId));
+        targets.put(Constants.EntityType.POST, new ReindexTarget<>(Constants.EntityType.POST,
+            PostDocument.class, postRepository::streamLiveIds, postRepository::findChangedSince,
+            postRepository::countByDeletedAtIsNull, searchDocumentLoader::loadPosts, PostDocument::getId));
+        targets.put(Constants.EntityType.POST_REQUEST, new ReindexTarget<>(Constants.EntityType.POST_REQUEST,
+            PostRequestDocument.class, postRequestRepository::streamLiveIds, postRequestRepository::findChangedSince,
+            postRequestRepository::countByDeletedAtIsNull, searchDocumentLoader::loadPostRequests,
+            PostRequestDocument::getId));
+    }
+
+    @Override
+    public ReindexStatus start(String entityType) {
+        ReindexTarget<?> target = entityType == null ? null : targets.get(entityType.toUpperCase());
+        if (target == null) {
+            throw new IllegalArgumentException("Unknown entity type: " + entityType + ", expected one of " + targets.keySet());
+        }
+
+        String alias = elasticsearchOperations.getIndexCoordinatesFor(target.documentClass()).getIndexName();
+        Run run = new Run(target.entityType(), alias);
+        Run current = runs.compute(target.entityType(), (type, existing) ->
+            existing != null && existing.isActive() ? existing : run);
+        if (current != run) {
+            throw new IllegalStateException("Reindex of " + target.entityType() + " already running: " + current.targetIndex);
+        }
+
+        try {
+            reindexExecutor.execute(() -> execute(target, run));
+        } catch (RuntimeException e) {
+            run.fail(e);
+            throw e;
+        }
+        return run.toStatus();
+    }
+
+    @Override
+    public List<ReindexStatus> status() {
+        return runs.values().stream()
+            .map(Run::toStatus)
+            .sorted(Comparator.comparing(ReindexStatus::entityType))
+            .toList();
+    }
+
+    // ============ Private Helper Methods ============
+
+    private <D> void execute(ReindexTarget<D> target, Run run) {
+        boolean swapped = false;
+        try {
+            run.targetIndex = run.alias + "_v" + nextVersion(run.alias);
+            createIndex(target, run.targetIndex);
+            run.expected = target.counter().getAsLong();
+            log.info("Reindex [{}]: building {} ({} rows expected)", run.entityType, run.targetIndex, run.expected);
+
+            // Rows updated after this instant (minus a clock skew margin) are picked up by the catch-up passes
+            run.phase = Phase.LOADING;
+            Instant since = Instant.now().minus(catchUpMargin);
+            load(target, run);
+            if (run.failed.get() > maxFailures) {
+                throw new IllegalStateException(run.failed.get() + " documents failed to index (max " + maxFailures + ")");
+            }
+
+            run.phase = Phase.CATCHING_UP;
+            for (int pass = 1; pass <= maxCatchUpPasses; pass++) {
+                Instant passStartedAt = Instant.now().minus(catchUpMargin);
+                long changed = catchUp(target, run, since);
+                since = passStartedAt;
+                log.info("Reindex [{}]: catch-up pass {} applied {} changes", run.entityType, pass, changed);
+                if (changed < batchSize) {
+                    break;
+                }
+            }
+
+            run.phase = Phase.SWAPPING;
+            restoreSettings(run.targetIndex);
+            Instant swapStartedAt = Instant.now().minus(catchUpMargin);
+            catchUp(target, run, since);
+            swapAlias(run.alias, run.targetIndex);
+            swapped = true;
+            // Writes now go through the alias; replay whatever changed between the last pass and the swap
+            catchUp(target, run, swapStartedAt);
+            deleteOldVersions(run.alias, run.targetIndex);
+
+            run.phase = Phase.COMPLETED;
+            run.finishedAt = Instant.now();
+            ReindexStatus status = run.toStatus();
+            log.info("Reindex [{}]: {} now serves alias {} (indexed={}, caughtUp={}, failed={}, {} docs/s)",
+                run.entityType, run.targetIndex, run.alias, status.indexed(), status.caughtUp(), status.failed(),
+                String.format("%.1f", status.throughputPerSecond()));
+        } catch (RuntimeException e) {
+            log.error("Reindex [{}] into {} failed", run.entityType, run.targetIndex, e);
+            run.fail(e);
+            if (!swapped && run.targetIndex != null) {
+                deleteIndexQuietly(run.targetIndex);
+            }
+        }
+    }
+
+    private <D> void load(ReindexTarget<D> target, Run run) {
+        streamingReader.forEachChunk("reindex." + target.entityType().toLowerCase(), target.idStream(), batchSize,
+            ids -> {
+                run.failed.addAndGet(index(target, run.targetIndex, ids));
+                run.indexed.addAndGet(ids.size());
+            });
+    }
+
+    /**
+     * Re-apply rows changed since the given instant to the new index: live rows are indexed again,
+     * soft-deleted rows are removed
+     *
+     * @return number of changed rows applied
+     */
+    private <D> long catchUp(ReindexTarget<D> target, Run run, Instant since) {
+        long applied = 0;
+        long lastId = 0;
+        while (true) {
+            long cursor = lastId;
+            List<ChangedRow> rows = readOnlyTransaction.execute(status ->
+                target.changedFinder().find(since, cursor, Limit.of(batchSize)));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+
+            List<Long> liveIds = rows.stream().filter(row -> !row.isDeleted()).map(ChangedRow::getId).toList();
+            List<Long> deletedIds = rows.stream().filter(ChangedRow::isDeleted).map(ChangedRow::getId).toList();
+            if (!liveIds.isEmpty()) {
+                run.failed.addAndGet(index(target, run.targetIndex, liveIds));
+            }
+            deleteDocuments(run.targetIndex, deletedIds);
+
+            applied += rows.size();
+            lastId = rows.get(rows.size() - 1).getId();
+            if (rows.size() < batchSize) {
+                break;
+            }
+        }
+        run.caughtUp.addAndGet(applied);
+        return applied;
+    }
+
+    /**
+     * @return number of documents that failed to index
+     */
+    private <D> int index(ReindexTarget<D> target, String indexName, List<Long> ids) {
+        List<D> documents = readOnlyTransaction.execute(status -> target.loader().apply(ids));
+        if (documents == null || documents.isEmpty()) {
+            return 0;
+        }
+        return bulkIndexer.index(target.entityType(), indexName, documents, target.idOf()).size();
+    }
+
+    private <D> void createIndex(ReindexTarget<D> target, String indexName) {
+        IndexOperations typeOperations = elasticsearchOperations.indexOps(target.documentClass());
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+            .create(typeOperations.createSettings(target.documentClass()), typeOperations.createMapping(target.documentClass()));
+
+        // Bulk load without refreshes or replica copies; restored before the swap
+        call(() -> elasticsearchClient.indices().putSettings(request -> request
+            .index(indexName)
+            .settings(settings -> settings
+                .refreshInterval(interval -> interval.time("-1"))
+                .numberOfReplicas("0"))));
+    }
+
+    private void restoreSettings(String indexName) {
+        call(() -> elasticsearchClient.indices().putSettings(request -> request
+            .index(indexName)
+            .settings(settings -> settings
+                .refreshInterval(interval -> interval.time(refreshInterval))
+                .numberOfReplicas(String.valueOf(replicas)))));
+        call(() -> elasticsearchClient.indices().refresh(request -> request.index(indexName)));
+    }
+
+    /**
+     * Point the alias at the new index and away from every other index in one request.
+     * A concrete index still named like the alias (created before aliases were used) is removed
+     * in the same request, so searches never see a missing index.
+     */
+    private void swapAlias(String alias, String indexName) {
+        Set<String> aliased = aliasedIndices(alias);
+        boolean concreteIndex = aliased.isEmpty()
+            && call(() -> elasticsearchClient.indices().exists(request -> request.index(alias))).value();
+
+        List<Action> actions = new ArrayList<>();
+        actions.add(Action.of(action -> action.add(add -> add.index(indexName).alias(alias))));
+        aliased.stream()
+            .filter(index -> !index.equals(indexName))
+            .forEach(index -> actions.add(Action.of(action -> action.remove(remove -> remove.index(index).alias(alias)))));
+        if (concreteIndex) {
+            actions.add(Action.of(action -> action.removeIndex(remove -> remove.index(alias))));
+        }
+        call(() -> elasticsearchClient.indices().updateAliases(request -> request.actions(actions)));
+    }
+
+    private Set<String> aliasedIndices(String alias) {
+        try {
+            return call(() -> elasticsearchClient.indices().getAlias(request -> request.name(alias))).result().keySet();
+        } catch (ElasticsearchException e) {
+            if (e.status() == 404) {
+                return Set.of();
+            }
+            throw e;
+        }
+    }
+
+    private int nextVersion(String alias) {
+        return versions(alias).keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+    }
+
+    /**
+     * Existing {alias}_v{N} indices by version
+     */
+    private Map<Integer, String> versions(String alias) {
+        String prefix = alias + "_v";
+        Map<Integer, String> versions = new ConcurrentHashMap<>();
+        call(() -> elasticsearchClient.indices().get(request -> request
+            .index(prefix + "*")
+            .allowNoIndices(true)
+            .ignoreUnavailable(true)))
+            .result().keySet().forEach(index -> {
+                try {
+                    versions.put(Integer.parseInt(index.substring(prefix.length())), index);
+                } catch (NumberFormatException ignored) {
+                    // Not one of ours
+                }
+            });
+        return versions;
+    }
+
+    /**
+     * Keep the new index and the previous keep-previous versions (for rollback), drop older ones
+     */
+    private void deleteOldVersions(String alias, String currentIndex) {
+        versions(alias).entrySet().stream()
+            .filter(entry -> !entry.getValue().equals(currentIndex))
+            .sorted(Map.Entry.<Integer, String>comparingByKey().reversed())
+            .skip(Math.max(keepPrevious, 0))
+            .forEach(entry -> deleteIndexQuietly(entry.getValue()));
+    }
+
+    private void deleteDocuments(String indexName, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<BulkOperation> operations = ids.stream()
+            .map(id -> BulkOperation.of(op -> op.delete(delete -> delete.index(indexName).id(String.valueOf(id)))))
+            .toList();
+        call(() -> elasticsearchClient.bulk(request -> request.operations(operations)));
+    }
+
+    private void deleteIndexQuietly(String indexName) {
+        try {
+            call(() -> elasticsearchClient.indices().delete(request -> request.index(indexName).ignoreUnavailable(true)));
+            log.info("Deleted index {}", indexName);
+        } catch (RuntimeException e) {
+            log.warn("Could not delete index {}: {}", indexName, e.getMessage());
+        }
+    }
+
+    private static <T> T call(IoCall<T> call) {
+        try {
+            return call.execute();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoCall<T> {
+        T execute() throws IOException;
+    }
+
+    /**
+     * Keyset lookup of rows changed since an instant
+     */
+    @FunctionalInterface
+    private interface ChangedFinder {
+        List<ChangedRow> find(Instant since, long lastId, Limit limit);
+    }
+
+    /**
+     * Per-entity wiring of the reindex
+     */
+    private record ReindexTarget<D>(String entityType,
+                                    Class<D> documentClass,
+                                    Supplier<Stream<Long>> idStream,
+                                    ChangedFinder changedFinder,
+                                    LongSupplier counter,
+                                    Function<List<Long>, List<D>> loader,
+                                    Function<D, String> idOf) {
+    }
+
+    /**
+     * Mutable progress of one run, read concurrently by the status endpoint
+     */
+    private static final class Run {
+
+        private final String entityType;
+        private final String alias;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong indexed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong caughtUp = new AtomicLong();
+        private volatile String targetIndex;
+        private volatile Phase phase = Phase.CREATING;
+        private volatile long expected;
+        private volatile Instant finishedAt;
+        private volatile String error;
+
+        Run(String entityType, String alias) {
+            this.entityType = entityType;
+            this.alias = alias;
+        }
+
+        boolean isActive() {
+            return phase != Phase.COMPLETED && phase != Phase.FAILED;
+        }
+
+        void fail(Exception e) {
+            error = e.getMessage();
+            finishedAt = Instant.now();
+            phase = Phase.FAILED;
+        }
+
+        ReindexStatus toStatus() {
+            return new ReindexStatus(entityType, alias, targetIndex, phase, expected,
+                indexed.get() - failed.get(), failed.get(), caughtUp.get(), startedAt, finishedAt, error);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.mapper.PostDocumentMapper;
+import com.mediaapp.mapper.PostRequestDocumentMapper;
+import com.mediaapp.mapper.QuestionDocumentMapper;
+import com.mediaapp.model.document.PostDocument;
+import com.mediaapp.model.document.PostRequestDocument;
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.model.entity.Answer;
+import com.mediaapp.repository.jpa.AnswerRepository;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.PostRequestRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Search Document Loader
+ * Builds Elasticsearch documents for a batch of IDs with a fixed number of queries per batch
+ * (shared by the need_sync drain and the full reindex)
+ */
+@Component
+@RequiredArgsConstructor
+class SearchDocumentLoader {
+
+    private final QuestionRepository questionRepository;
+    private final PostRepository postRepository;
+    private final PostRequestRepository postRequestRepository;
+    private final AnswerRepository answerRepository;
+
+    private final QuestionDocumentMapper questionDocumentMapper;
+    private final PostDocumentMapper postDocumentMapper;
+    private final PostRequestDocumentMapper postRequestDocumentMapper;
+
+    List<QuestionDocument> loadQuestions(List<Long> ids) {
+        Map<Long, List<Answer>> answersByQuestion = answerRepository.findByQuestionIdInAndDeletedAtIsNull(ids)
+            .stream()
+            .collect(Collectors.groupingBy(answer -> answer.getQuestion().getId()));
+
+        return questionRepository.findWithDetailsByIdIn(ids).stream()
+            .map(question -> questionDocumentMapper.toDocument(
+                question,
+                answersByQuestion.getOrDefault(question.getId(), List.of())))
+            .toList();
+    }
+
+    List<PostDocument> loadPosts(List<Long> ids) {
+        return postRepository.findWithDetailsByIdIn(ids).stream()
+            .map(postDocumentMapper::toDocument)
+            .toList();
+    }
+
+    List<PostRequestDocument> loadPostRequests(List<Long> ids) {
+        return postRequestRepository.findWithDetailsByIdIn(ids).stream()
+            .map(postRequestDocumentMapper::toDocument)
+            .toList();
+    }
+}
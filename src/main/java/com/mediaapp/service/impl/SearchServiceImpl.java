@@ -0,0 +1,432 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.SearchResponse;
+import com.mediaapp.dto.response.SearchResultDto;
+import com.mediaapp.exception.SearchUnavailableException;
+import com.mediaapp.exception.ValidationException;
+import com.mediaapp.mapper.SearchResultMapper;
+import com.mediaapp.model.document.PostDocument;
+import com.mediaapp.model.document.PostRequestDocument;
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.model.entity.Post;
+import com.mediaapp.model.entity.Question;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.PostRequestRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.FullTextHit;
+import com.mediaapp.service.SearchService;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.Highlight;
+import com.mediaapp.util.SearchMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Search Service Implementation
+ * ES_FIRST with a hard timeout and PostgreSQL fallback, PG_ONLY, and HYBRID (parallel, merged by id).
+ * PostgreSQL path: full-text (tsvector) first, trigram ILIKE when full-text has no match
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchServiceImpl implements SearchService {
+
+    private static final String BACKEND_ES = "ELASTICSEARCH";
+    private static final String BACKEND_PG = "POSTGRES";
+    private static final String BACKEND_HYBRID = "HYBRID";
+
+    private final QuestionRepository questionRepository;
+    private final PostRepository postRepository;
+    private final PostRequestRepository postRequestRepository;
+    private final SearchResultMapper searchResultMapper;
+    private final ObjectProvider<ElasticsearchOperations> elasticsearchOperations;
+    private final MeterRegistry meterRegistry;
+
+    @Qualifier("searchExecutor")
+    private final Executor searchExecutor;
+
+    @Value("${app.search.default-mode:ES_FIRST}")
+    private SearchMode defaultMode;
+
+    @Value("${app.search.es-timeout-ms:3000}")
+    private long esTimeoutMs;
+
+    @Value("${app.search.pg-fallback-enabled:true}")
+    private boolean pgFallbackEnabled;
+
+    @Override
+    public SearchResponse searchQuestions(String query, SearchMode mode, Pageable pageable) {
+        return search(new SearchTarget<>(
+            Constants.EntityType.QUESTION,
+            QuestionDocument.class,
+            List.of("title^3", "content", "tags^2"),
+            Constants.QuestionStatus.PUBLISHED,
+            searchResultMapper::fromDocument,
+            (keyword, page) -> searchPostgresText(keyword, unsorted(page),
+                questionRepository::searchFullText, questionRepository::searchIdsByKeyword,
+                questionRepository::findWithDetailsByIdIn, Question::getId, searchResultMapper::fromEntity)
+        ), query, mode, pageable);
+    }
+
+    @Override
+    public SearchResponse searchPosts(String query, SearchMode mode, Pageable pageable) {
+        return search(new SearchTarget<>(
+            Constants.EntityType.POST,
+            PostDocument.class,
+            List.of("title^3", "summary^2", "content", "tags^2"),
+            Constants.PostStatus.PUBLISHED,
+            searchResultMapper::fromDocument,
+            (keyword, page) -> searchPostgresText(keyword, unsorted(page),
+                postRepository::searchFullText, postRepository::searchIdsByKeyword,
+                postRepository::findWithDetailsByIdIn, Post::getId, searchResultMapper::fromEntity)
+        ), query, mode, pageable);
+    }
+
+    @Override
+    public SearchResponse searchPostRequests(String query, SearchMode mode, Pageable pageable) {
+        return search(new SearchTarget<>(
+            Constants.EntityType.POST_REQUEST,
+            PostRequestDocument.class,
+            List.of("title^3", "description"),
+            null,
+            searchResultMapper::fromDocument,
+            (keyword, page) -> postRequestRepository.searchByKeyword(keyword, page).map(searchResultMapper::fromEntity)
+        ), query, mode, pageable);
+    }
+
+    // ============ Private Helper Methods ============
+
+    private <D> SearchResponse search(SearchTarget<D> target, String query, SearchMode mode, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("query", "Search query must not be blank");
+        }
+        String keyword = query.trim();
+        SearchMode effectiveMode = mode != null ? mode : defaultMode;
+        long startedAt = System.nanoTime();
+
+        ElasticsearchOperations operations = elasticsearchOperations.getIfAvailable();
+        SearchResponse response;
+        if (effectiveMode == SearchMode.PG_ONLY) {
+            response = fromPostgres(searchPostgres(target, keyword, pageable), pageable, false, null);
+        } else if (operations == null) {
+            // ES repositories disabled in this environment: PostgreSQL is the only backend
+            response = fromPostgres(searchPostgres(target, keyword, pageable), pageable, true, null);
+        } else if (effectiveMode == SearchMode.HYBRID) {
+            response = searchHybrid(target, operations, keyword, pageable);
+        } else {
+            response = searchEsFirst(target, operations, keyword, pageable);
+        }
+
+        response.setMode(effectiveMode.name());
+        response.setTookMs(elapsedMs(startedAt));
+        meterRegistry.timer("search.requests",
+                "entity", target.entityType(),
+                "mode", effectiveMode.name(),
+                "backend", response.getBackend(),
+                "fallback", String.valueOf(response.isFallback()))
+            .record(response.getTookMs(), TimeUnit.MILLISECONDS);
+        return response;
+    }
+
+    private <D> SearchResponse searchEsFirst(SearchTarget<D> target, ElasticsearchOperations operations,
+                                             String keyword, Pageable pageable) {
+        try {
+            long submittedAt = System.nanoTime();
+            Timed<Page<SearchResultDto>> es = awaitElasticsearch(
+                submit(() -> searchElasticsearch(target, operations, keyword, pageable)), submittedAt);
+            return fromPage(es.value(), pageable, BACKEND_ES, false, es.tookMs(), null);
+        } catch (Exception e) {
+            // Timeouts, client errors and a saturated search executor (RejectedExecutionException) alike
+            Long esTookMs = e instanceof TimeoutException ? esTimeoutMs : null;
+            if (!pgFallbackEnabled) {
+                throw new SearchUnavailableException("Elasticsearch search failed and PostgreSQL fallback is disabled", e);
+            }
+            log.warn("ES search [{}] failed ({}), falling back to PostgreSQL", target.entityType(), describe(e));
+            return fromPostgres(searchPostgres(target, keyword, pageable), pageable, true, esTookMs);
+        }
+    }
+
+    /**
+     * Query both backends in parallel (ES on the search executor, PostgreSQL on the calling thread).
+     * Each backend returns its top (page + 1) * size hits; ES hits keep their relevance order,
+     * PostgreSQL hits not already returned by ES are appended, and the requested page is cut from
+     * the merged list, so a document never shows up on two pages.
+     */
+    private <D> SearchResponse searchHybrid(SearchTarget<D> target, ElasticsearchOperations operations,
+                                            String keyword, Pageable pageable) {
+        int offset = pageable.isPaged() ? (int) pageable.getOffset() : 0;
+        int pageSize = pageable.isPaged() ? pageable.getPageSize() : Constants.Pagination.MAX_PAGE_SIZE;
+        if (offset + pageSize > Constants.Search.HYBRID_MAX_WINDOW) {
+            throw new ValidationException("page", "HYBRID search serves the first "
+                + Constants.Search.HYBRID_MAX_WINDOW + " results only; use ES_FIRST for deeper pages");
+        }
+        Pageable window = PageRequest.of(0, offset + pageSize, pageable.getSort());
+
+        Future<Timed<Page<SearchResultDto>>> esFuture = null;
+        long submittedAt = System.nanoTime();
+        try {
+            esFuture = submit(() -> searchElasticsearch(target, operations, keyword, window));
+        } catch (RejectedExecutionException e) {
+            log.warn("ES search [{}] rejected in HYBRID mode, search executor saturated", target.entityType());
+        }
+        Timed<Page<SearchResultDto>> pg = searchPostgres(target, keyword, window);
+
+        Timed<Page<SearchResultDto>> es = null;
+        if (esFuture != null) {
+            try {
+                es = awaitElasticsearch(esFuture, submittedAt);
+            } catch (Exception e) {
+                log.warn("ES search [{}] failed in HYBRID mode ({}), serving PostgreSQL results only",
+                    target.entityType(), describe(e));
+            }
+        }
+
+        if (es == null) {
+            Page<SearchResultDto> page = slice(pg.value().getContent(), offset, pageSize, pageable,
+                pg.value().getTotalElements());
+            return fromPage(page, pageable, BACKEND_PG, true, null, pg.tookMs());
+        }
+
+        List<SearchResultDto> merged = new ArrayList<>(es.value().getContent());
+        Set<Long> seen = new HashSet<>();
+        merged.forEach(hit -> seen.add(hit.getId()));
+        for (SearchResultDto hit : pg.value().getContent()) {
+            if (seen.add(hit.getId())) {
+                merged.add(hit);
+            }
+        }
+        // The union of both match sets is at least as large as either one, and as what was merged
+        long total = Math.max(Math.max(es.value().getTotalElements(), pg.value().getTotalElements()), merged.size());
+        List<SearchResultDto> content = slice(merged, offset, pageSize, pageable, total).getContent();
+
+        return SearchResponse.builder()
+            .content(content)
+            .page(pageable.isPaged() ? pageable.getPageNumber() : 0)
+            .size(content.size())
+            .totalElements(total)
+            .totalApproximate(true)
+            .backend(BACKEND_HYBRID)
+            .fallback(false)
+            .esTookMs(es.tookMs())
+            .pgTookMs(pg.tookMs())
+            .build();
+    }
+
+    private static Page<SearchResultDto> slice(List<SearchResultDto> hits, int offset, int pageSize,
+                                               Pageable pageable, long total) {
+        List<SearchResultDto> content = offset >= hits.size()
+            ? List.of()
+            : hits.subList(offset, Math.min(offset + pageSize, hits.size()));
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private <D> Timed<Page<SearchResultDto>> searchElasticsearch(SearchTarget<D> target, ElasticsearchOperations operations,
+                                                                 String keyword, Pageable pageable) {
+        long startedAt = System.nanoTime();
+        NativeQuery query = NativeQuery.builder()
+            .withQuery(q -> q.bool(b -> {
+                b.must(m -> m.multiMatch(mm -> mm.query(keyword).fields(target.fields())));
+                if (target.requiredStatus() != null) {
+                    b.filter(f -> f.term(t -> t.field("status").value(target.requiredStatus())));
+                }
+                return b;
+            }))
+            .withPageable(pageable)
+            .withTimeout(Duration.ofMillis(esTimeoutMs))
+            .build();
+
+        SearchHits<D> hits = operations.search(query, target.documentClass());
+        List<SearchResultDto> content = hits.getSearchHits().stream()
+            .map(hit -> toResult(target, hit))
+            .toList();
+        return new Timed<>(new PageImpl<>(content, pageable, hits.getTotalHits()),
+            elapsedMs(startedAt));
+    }
+
+    private <D> Timed<Page<SearchResultDto>> searchPostgres(SearchTarget<D> target, String keyword, Pageable pageable) {
+        long startedAt = System.nanoTime();
+        Page<SearchResultDto> page = target.postgresSearch().apply(keyword, pageable);
+        return new Timed<>(page, elapsedMs(startedAt));
+    }
+
+    /**
+     * PostgreSQL text search: accent-insensitive full-text match ranked by ts_rank_cd with ts_headline snippets
+     * (plain-text excerpt plus escaped highlight), falling back to trigram substring matching when full-text finds
+     * nothing (partial words, inflected forms, typos in identifiers)
+     */
+    private <E> Page<SearchResultDto> searchPostgresText(String keyword, Pageable pageable,
+                                                         BiFunction<String, Pageable, Page<FullTextHit>> fullTextSearch,
+                                                         TrigramSearch trigramSearch,
+                                                         Function<Collection<Long>, List<E>> loader,
+                                                         Function<E, Long> idOf,
+                                                         Function<E, SearchResultDto> mapper) {
+        Page<FullTextHit> hits = fullTextSearch.apply(keyword, pageable);
+        if (hits.getTotalElements() == 0) {
+            return hydrate(trigramSearch.search(keyword, likePattern(keyword), pageable), loader, idOf, mapper);
+        }
+
+        Map<Long, FullTextHit> hitsById = hits.getContent().stream()
+            .collect(Collectors.toMap(FullTextHit::getId, Function.identity()));
+        Page<SearchResultDto> page = hydrate(hits.map(FullTextHit::getId), loader, idOf, mapper);
+        page.forEach(result -> {
+            FullTextHit hit = hitsById.get(result.getId());
+            result.setScore(hit.getRank());
+            if (hit.getHeadline() != null) {
+                result.setExcerpt(Highlight.plainText(hit.getHeadline()));
+                result.setHighlight(Highlight.toHtml(hit.getHeadline()));
+            }
+        });
+        return page;
+    }
+
+    /**
+     * Load the entities of a page of ranked IDs and map them, keeping the ranking order
+     */
+    private <E> Page<SearchResultDto> hydrate(Page<Long> ids, Function<Collection<Long>, List<E>> loader,
+                                              Function<E, Long> idOf, Function<E, SearchResultDto> mapper) {
+        if (ids.isEmpty()) {
+            return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+        }
+        Map<Long, E> byId = loader.apply(ids.getContent()).stream()
+            .collect(Collectors.toMap(idOf, Function.identity()));
+        List<SearchResultDto> content = ids.getContent().stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .map(mapper)
+            .toList();
+        return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+    }
+
+    /**
+     * Substring pattern for ILIKE with the keyword's own LIKE wildcards escaped
+     */
+    private static String likePattern(String keyword) {
+        String escaped = keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * PostgreSQL search ranks by similarity; client sort properties would not match native column names
+     */
+    private static Pageable unsorted(Pageable pageable) {
+        return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : pageable;
+    }
+
+    private <D> SearchResultDto toResult(SearchTarget<D> target, SearchHit<D> hit) {
+        SearchResultDto result = target.documentMapper().apply(hit.getContent());
+        result.setScore(Float.isNaN(hit.getScore()) ? null : hit.getScore());
+        return result;
+    }
+
+    /**
+     * Hard ES deadline: the caller never waits longer than es-timeout-ms after submission,
+     * whatever the client does. On timeout the task is cancelled with an interrupt, which aborts
+     * the blocking client call and hands the search thread back to the pool.
+     */
+    private <T> T awaitElasticsearch(Future<T> future, long submittedAt) throws Exception {
+        try {
+            return future.get(Math.max(esTimeoutMs - elapsedMs(submittedAt), 0), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        }
+    }
+
+    /**
+     * Run on the search executor as a FutureTask, so cancel(true) interrupts the worker
+     * (a CompletableFuture would only be marked cancelled while the ES call kept running)
+     *
+     * @throws RejectedExecutionException when the executor is saturated
+     */
+    private <T> Future<T> submit(Callable<T> task) {
+        FutureTask<T> future = new FutureTask<>(task);
+        searchExecutor.execute(future);
+        return future;
+    }
+
+    private SearchResponse fromPostgres(Timed<Page<SearchResultDto>> pg, Pageable pageable, boolean fallback, Long esTookMs) {
+        return fromPage(pg.value(), pageable, BACKEND_PG, fallback, esTookMs, pg.tookMs());
+    }
+
+    private SearchResponse fromPage(Page<SearchResultDto> page, Pageable pageable, String backend,
+                                    boolean fallback, Long esTookMs, Long pgTookMs) {
+        return SearchResponse.builder()
+            .content(page.getContent())
+            .page(pageable.isPaged() ? pageable.getPageNumber() : 0)
+            .size(page.getNumberOfElements())
+            .totalElements(page.getTotalElements())
+            .backend(backend)
+            .fallback(fallback)
+            .esTookMs(esTookMs)
+            .pgTookMs(pgTookMs)
+            .build();
+    }
+
+    private static long elapsedMs(long startedAt) {
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    private static String describe(Exception e) {
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (e instanceof RejectedExecutionException) {
+            return "rejected, search executor saturated";
+        }
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+
+    /**
+     * Per-entity wiring of both search backends
+     */
+    private record SearchTarget<D>(String entityType,
+                                   Class<D> documentClass,
+                                   List<String> fields,
+                                   String requiredStatus,  // ES status filter, null for none
+                                   Function<D, SearchResultDto> documentMapper,
+                                   BiFunction<String, Pageable, Page<SearchResultDto>> postgresSearch) {
+    }
+
+    private record Timed<T>(T value, long tookMs) {
+    }
+
+    @FunctionalInterface
+    private interface TrigramSearch {
+        Page<Long> search(String keyword, String pattern, Pageable pageable);
+    }
+}
@@ -0,0 +1,225 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.TagDto;
+import com.mediaapp.repository.jpa.TagRepository;
+import com.mediaapp.repository.jpa.projection.TagUsage;
+import com.mediaapp.service.TagAutocompleteService;
+import com.mediaapp.util.AccentFolding;
+import com.mediaapp.util.PrefixIndex;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Tag Autocomplete Service Implementation
+ * Every tag is indexed under the start of each word of its name, once accent-folded and, when the
+ * name has diacritics, once lowercased as written. Tags live in parallel arrays addressed by ordinal;
+ * the index is an immutable snapshot rebuilt off the request path and swapped in one write.
+ * Usage counts are those of the last full rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TagAutocompleteServiceImpl implements TagAutocompleteService {
+
+    private final TagRepository tagRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.tags.autocomplete.max-limit:20}")
+    private int maxLimit;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private Timer lookups;
+
+    @PostConstruct
+    void init() {
+        lookups = Timer.builder("tags.autocomplete.lookup")
+            .description("In-memory tag prefix lookups")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        Gauge.builder("tags.autocomplete.keys", this, service -> service.snapshot.keyCount())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<TagDto> suggest(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        return lookups.record(() -> current.lookup(query.strip(), Math.min(limit, maxLimit)));
+    }
+
+    @Override
+    public synchronized int refresh() {
+        List<TagUsage> created = tagRepository.findUsagesAfter(snapshot.maxId());
+        if (created.isEmpty()) {
+            return 0;
+        }
+        List<TagUsage> all = new ArrayList<>(snapshot.toUsages());
+        all.addAll(created);
+        snapshot = Snapshot.build(all);
+        log.debug("Added {} new tags to the autocomplete index", created.size());
+        return created.size();
+    }
+
+    @Override
+    public synchronized int rebuild() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Snapshot rebuilt = Snapshot.build(tagRepository.findAllUsages());
+        snapshot = rebuilt;
+        sample.stop(meterRegistry.timer("tags.autocomplete.rebuild"));
+        log.debug("Tag autocomplete index rebuilt: {} tags, {} keys", rebuilt.ids().length, rebuilt.keyCount());
+        return rebuilt.ids().length;
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * All tags by ordinal, and the two prefix indexes pointing into them
+     */
+    private record Snapshot(long maxId, long[] ids, String[] names, String[] slugs, int[] usageCounts,
+                            PrefixIndex raw, PrefixIndex folded) {
+
+        static final Snapshot EMPTY = new Snapshot(0, new long[0], new String[0], new String[0], new int[0],
+            PrefixIndex.EMPTY, PrefixIndex.EMPTY);
+
+        static Snapshot build(List<TagUsage> usages) {
+            int size = usages.size();
+            long[] ids = new long[size];
+            String[] names = new String[size];
+            String[] slugs = new String[size];
+            int[] usageCounts = new int[size];
+            List<String> rawKeys = new ArrayList<>();
+            List<Integer> rawOrdinals = new ArrayList<>();
+            List<String> foldedKeys = new ArrayList<>(size);
+            List<Integer> foldedOrdinals = new ArrayList<>(size);
+            long maxId = 0;
+
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                TagUsage usage = usages.get(ordinal);
+                ids[ordinal] = usage.getId();
+                names[ordinal] = usage.getName();
+                slugs[ordinal] = usage.getSlug();
+                usageCounts[ordinal] = usage.getUsageCount() != null ? usage.getUsageCount() : 0;
+                maxId = Math.max(maxId, usage.getId());
+
+                String lower = AccentFolding.lowerComposed(usage.getName());
+                String folded = AccentFolding.fold(lower);
+                addWordKeys(folded, ordinal, foldedKeys, foldedOrdinals);
+                if (!folded.equals(lower)) {
+                    addWordKeys(lower, ordinal, rawKeys, rawOrdinals);
+                }
+            }
+            return new Snapshot(maxId, ids, names, slugs, usageCounts,
+                index(rawKeys, rawOrdinals), index(foldedKeys, foldedOrdinals));
+        }
+
+        List<TagDto> lookup(String query, int limit) {
+            String lower = AccentFolding.lowerComposed(query);
+            String folded = AccentFolding.fold(lower);
+            Set<Integer> seen = new HashSet<>();
+            List<TagDto> results = new ArrayList<>(limit);
+            if (!folded.equals(lower)) {
+                collect(raw, lower, limit, seen, results);
+            }
+            if (results.size() < limit) {
+                collect(this.folded, folded, limit - results.size(), seen, results);
+            }
+            return results;
+        }
+
+        int keyCount() {
+            return raw.size() + folded.size();
+        }
+
+        List<TagUsage> toUsages() {
+            List<TagUsage> usages = new ArrayList<>(ids.length);
+            for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+                usages.add(new IndexedTag(ids[ordinal], names[ordinal], slugs[ordinal], usageCounts[ordinal]));
+            }
+            return usages;
+        }
+
+        /**
+         * Keep the best matches of one index in a bounded heap, then append them best first
+         */
+        private void collect(PrefixIndex index, String prefix, int limit, Set<Integer> seen, List<TagDto> results) {
+            Comparator<Integer> rank = Comparator.<Integer>comparingInt(o -> usageCounts[o])
+                .thenComparing(o -> names[o].length(), Comparator.reverseOrder());
+            PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, rank);
+            Set<Integer> matched = new HashSet<>();
+            index.forEachMatch(prefix, ordinal -> {
+                if (!seen.contains(ordinal) && matched.add(ordinal)) {
+                    best.add(ordinal);
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            });
+            Integer[] ranked = best.toArray(new Integer[0]);
+            Arrays.sort(ranked, rank.reversed());
+            for (Integer ordinal : ranked) {
+                seen.add(ordinal);
+                results.add(new TagDto(ids[ordinal], names[ordinal], slugs[ordinal], usageCounts[ordinal]));
+            }
+        }
+
+        /**
+         * Index the whole name and every word start inside it ("spring boot" also under "boot")
+         */
+        private static void addWordKeys(String name, int ordinal, List<String> keys, List<Integer> ordinals) {
+            for (int i = 0; i < name.length(); i++) {
+                boolean wordStart = Character.isLetterOrDigit(name.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(name.charAt(i - 1)));
+                if (i == 0 || wordStart) {
+                    keys.add(name.substring(i));
+                    ordinals.add(ordinal);
+                }
+            }
+        }
+
+        private static PrefixIndex index(List<String> keys, List<Integer> ordinals) {
+            return PrefixIndex.build(keys.toArray(new String[0]), ordinals.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    /**
+     * A tag carried over from the current snapshot into the next one
+     */
+    private record IndexedTag(Long id, String name, String slug, Integer usageCount) implements TagUsage {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getSlug() {
+            return slug;
+        }
+
+        @Override
+        public Integer getUsageCount() {
+            return usageCount;
+        }
+    }
+}
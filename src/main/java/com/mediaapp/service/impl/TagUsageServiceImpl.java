@@ -0,0 +1,239 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.TagDto;
+import com.mediaapp.repository.jpa.TagRepository;
+import com.mediaapp.repository.jpa.projection.CategoryTagCount;
+import com.mediaapp.repository.jpa.projection.TagUsage;
+import com.mediaapp.service.TagUsageService;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.CounterBuffer;
+import com.mediaapp.util.TopK;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tag Usage Service Implementation
+ * Tag-set changes are turned into per-tag deltas after commit. The deltas are buffered per tag
+ * and flushed as "usage_count = usage_count + delta", grouped by delta, so tagging never waits on
+ * a popular tag's row lock; a periodic recount from the link tables repairs any drift.
+ * The same deltas move in-memory counters per tag and per (category, tag), which feed bounded
+ * top-K rankings republished on every flush.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TagUsageServiceImpl implements TagUsageService {
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.tags.top-k:50}")
+    private int topK;
+
+    @Value("${app.tags.reconcile-range:10000}")
+    private int reconcileRange;
+
+    // Deltas not yet written to tags.usage_count
+    private final CounterBuffer pending = new CounterBuffer();
+
+    private volatile Rankings rankings;
+
+    @PostConstruct
+    void init() {
+        rankings = new Rankings(Map.of());
+        Gauge.builder("tags.usage.pending", pending, CounterBuffer::size)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public List<TagDto> popular(Long categoryId, int limit) {
+        Rankings current = rankings;
+        TopK<Long, TagDto> ranking = categoryId == null ? current.global : current.byCategory.get(categoryId);
+        return ranking == null ? List.of() : ranking.top(Math.min(limit, topK));
+    }
+
+    /**
+     * Turn a tag-set change into deltas once it is committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTagsChanged(TagsChanged event) {
+        if (event.isEmpty()) {
+            return;
+        }
+        Rankings current = rankings;
+        for (Long tagId : event.tagIds()) {
+            if (!event.previousTagIds().contains(tagId)) {
+                pending.add(tagId, 1);
+                current.add(null, tagId, 1);
+            }
+        }
+        for (Long tagId : event.previousTagIds()) {
+            if (!event.tagIds().contains(tagId)) {
+                pending.add(tagId, -1);
+                current.add(null, tagId, -1);
+            }
+        }
+        // Per category, a moved question leaves all its old tags behind and brings all its new ones
+        event.previousTagIds().forEach(tagId -> current.add(event.previousCategoryId(), tagId, -1));
+        event.tagIds().forEach(tagId -> current.add(event.categoryId(), tagId, 1));
+    }
+
+    @Override
+    public long flush() {
+        Map<Long, Long> deltas = pending.drain();
+        Map<Integer, List<Long>> idsByDelta = new HashMap<>();
+        deltas.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta.intValue(), d -> new ArrayList<>()).add(id));
+        rankings.publish();
+        if (idsByDelta.isEmpty()) {
+            return 0;
+        }
+
+        int chunkSize = Constants.EsSync.MAX_BATCH_SIZE;
+        try {
+            transactionTemplate.executeWithoutResult(status -> idsByDelta.forEach((delta, ids) -> {
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    tagRepository.addUsageCounts(ids.subList(from, Math.min(from + chunkSize, ids.size())), delta);
+                }
+            }));
+        } catch (RuntimeException e) {
+            // Put the drained deltas back so the next flush retries them
+            deltas.forEach(pending::add);
+            throw e;
+        }
+
+        long rows = idsByDelta.values().stream().mapToInt(List::size).sum();
+        Counter.builder("tags.usage.flushed").register(meterRegistry).increment(rows);
+        log.debug("Flushed usage deltas of {} tags over {} distinct deltas", rows, idsByDelta.size());
+        return rows;
+    }
+
+    @Override
+    public long reconcile() {
+        // Apply what is buffered first so the recount and the counters start from the same point
+        flush();
+
+        long maxId = tagRepository.findMaxId();
+        long corrected = 0;
+        for (long from = 0; from < maxId; from += reconcileRange) {
+            long lower = from;
+            long upper = Math.min(from + reconcileRange, maxId);
+            Integer rows = transactionTemplate.execute(status -> tagRepository.reconcileUsageCounts(lower, upper));
+            corrected += rows != null ? rows : 0;
+        }
+        if (corrected > 0) {
+            log.info("Tag usage reconciliation corrected {} rows", corrected);
+            Counter.builder("tags.usage.reconciled").register(meterRegistry).increment(corrected);
+        }
+        return corrected;
+    }
+
+    @Override
+    public int rebuild() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // Counters read below already include everything buffered so far
+        flush();
+
+        Map<Long, TagDto> tags = new HashMap<>();
+        List<TagUsage> usages = tagRepository.findAllUsages();
+        for (TagUsage usage : usages) {
+            tags.put(usage.getId(), new TagDto(usage.getId(), usage.getName(), usage.getSlug(), 0));
+        }
+        Rankings rebuilt = new Rankings(Map.copyOf(tags));
+        usages.forEach(usage -> rebuilt.add(null, usage.getId(), usage.getUsageCount()));
+        for (CategoryTagCount count : tagRepository.countByCategory()) {
+            rebuilt.add(count.getCategoryId(), count.getTagId(), count.getUsageCount().longValue());
+        }
+        rebuilt.publish();
+        // Deltas applied to the old rankings from here to the swap are lost until the next rebuild
+        rankings = rebuilt;
+
+        sample.stop(meterRegistry.timer("tags.rankings.rebuild"));
+        log.debug("Tag rankings rebuilt: {} tags, {} categories", tags.size(), rebuilt.byCategory.size());
+        return tags.size();
+    }
+
+    /**
+     * Flush buffered deltas on shutdown so they are not lost
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        long flushed = flush();
+        if (flushed > 0) {
+            log.info("Flushed usage counts of {} tags on shutdown", flushed);
+        }
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * Scope of a counter: a category, or every tag use when categoryId is null
+     */
+    private record ScopedTag(Long categoryId, Long tagId) {
+    }
+
+    /**
+     * Counters and rankings built from one database snapshot
+     */
+    private final class Rankings {
+
+        private final Map<Long, TagDto> tags;
+        private final Map<ScopedTag, LongAdder> counts = new ConcurrentHashMap<>();
+        private final Set<ScopedTag> dirty = ConcurrentHashMap.newKeySet();
+        private final TopK<Long, TagDto> global = new TopK<>(topK);
+        private final Map<Long, TopK<Long, TagDto>> byCategory = new ConcurrentHashMap<>();
+
+        Rankings(Map<Long, TagDto> tags) {
+            this.tags = tags;
+        }
+
+        void add(Long categoryId, Long tagId, long delta) {
+            // Tags created after the last rebuild are picked up by the next one
+            if (!tags.containsKey(tagId) || delta == 0) {
+                return;
+            }
+            ScopedTag key = new ScopedTag(categoryId, tagId);
+            counts.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            dirty.add(key);
+        }
+
+        void publish() {
+            if (dirty.isEmpty()) {
+                return;
+            }
+            List<ScopedTag> keys = new ArrayList<>(dirty);
+            keys.forEach(dirty::remove);
+            for (ScopedTag key : keys) {
+                TopK<Long, TagDto> ranking = key.categoryId() == null ? global
+                    : byCategory.computeIfAbsent(key.categoryId(), id -> new TopK<>(topK));
+                long count = counts.get(key).sum();
+                if (count <= 0) {
+                    ranking.remove(key.tagId());
+                } else {
+                    TagDto tag = tags.get(key.tagId());
+                    ranking.offer(key.tagId(), count, new TagDto(tag.getId(), tag.getName(), tag.getSlug(), (int) count));
+                }
+            }
+            global.publish();
+            byCategory.values().forEach(TopK::publish);
+        }
+    }
+}
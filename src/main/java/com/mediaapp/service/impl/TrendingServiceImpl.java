@@ -0,0 +1,352 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.TrendingItemResponse;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.AnswerCount;
+import com.mediaapp.repository.jpa.projection.CommentCount;
+import com.mediaapp.repository.jpa.projection.TrendingRow;
+import com.mediaapp.service.QuestionResponseCache.QuestionChanged;
+import com.mediaapp.service.TrendingService;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.TopK;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Trending Service Implementation
+ * Score (Reddit-style): log10(engagement) + publishedAt / gravity [+ featured boost], with
+ * engagement = views * w_view + likes * w_like + replies * w_reply.
+ * The time term is fixed per item, so scores never need re-decaying: newer items simply start
+ * higher, and an item only has to be re-scored when one of its counters moves.
+ * Deltas are accumulated per item and applied on the next tick to the bounded top-K of the
+ * whole feed, the item's category and its topic; readers get the immutable snapshot of the last tick.
+ * Items older than the window are not tracked (they would need ~10^(window/gravity) engagement to rank).
+ * A question joins, moves or leaves the rankings as soon as a write to it commits; posts wait for the
+ * next rebuild. Reply counters are kept by database triggers, so they are re-read periodically and
+ * applied as REPLY deltas.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingServiceImpl implements TrendingService {
+
+    private static final int REPLY_REFRESH_CHUNK = 1000;
+
+    private final QuestionRepository questionRepository;
+    private final PostRepository postRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.trending.top-k:100}")
+    private int topK;
+
+    @Value("${app.trending.window:7d}")
+    private Duration window;
+
+    @Value("${app.trending.gravity:45000s}")
+    private Duration gravity;
+
+    @Value("${app.trending.view-weight:1}")
+    private double viewWeight;
+
+    @Value("${app.trending.like-weight:5}")
+    private double likeWeight;
+
+    @Value("${app.trending.reply-weight:10}")
+    private double replyWeight;
+
+    @Value("${app.trending.featured-boost:0.5}")
+    private double featuredBoost;
+
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<String, Function<Instant, List<TrendingRow>>> seeds = new ConcurrentHashMap<>();
+    private final Map<String, Function<List<Long>, Map<Long, Long>>> replyCounts = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        seeds.put(Constants.EntityType.QUESTION, questionRepository::findTrendingCandidates);
+        seeds.put(Constants.EntityType.POST, postRepository::findTrendingCandidates);
+        replyCounts.put(Constants.EntityType.QUESTION, ids -> questionRepository.findAnswerCountsByIdIn(ids).stream()
+            .collect(Collectors.toMap(AnswerCount::getId, count -> count.getAnswerCount().longValue())));
+        replyCounts.put(Constants.EntityType.POST, ids -> postRepository.findCommentCountsByIdIn(ids).stream()
+            .collect(Collectors.toMap(CommentCount::getId, count -> count.getCommentCount().longValue())));
+        seeds.keySet().forEach(entityType -> {
+            boards.put(entityType, new Board(entityType));
+            Gauge.builder("trending.items", boards, map -> map.get(entityType).items.size())
+                .tag("entity", entityType)
+                .description("Items inside the trending window")
+                .register(meterRegistry);
+        });
+    }
+
+    @Override
+    public List<TrendingItemResponse> trending(String entityType, Long categoryId, Long topicId, int limit) {
+        Board board = entityType == null ? null : boards.get(entityType);
+        if (board == null) {
+            return List.of();
+        }
+        TopK<Long, TrendingItemResponse> ranking = topicId != null ? board.byTopic.get(topicId)
+            : categoryId != null ? board.byCategory.get(categoryId)
+            : board.global;
+        return ranking == null ? List.of() : ranking.top(Math.min(limit, topK));
+    }
+
+    @Override
+    public void recordDelta(String entityType, Signal signal, Collection<Long> ids, long delta) {
+        Board board = boards.get(entityType);
+        if (board == null || delta == 0) {
+            return;
+        }
+        for (Long id : ids) {
+            Item item = board.items.get(id);
+            if (item != null) {
+                item.counter(signal).add(delta);
+                board.dirty.add(id);
+            }
+        }
+    }
+
+    @Override
+    public int tick() {
+        int rescored = 0;
+        for (Board board : boards.values()) {
+            if (board.dirty.isEmpty()) {
+                continue;
+            }
+            List<Long> ids = new ArrayList<>(board.dirty);
+            ids.forEach(board.dirty::remove);
+            for (Long id : ids) {
+                Item item = board.items.get(id);
+                if (item != null) {
+                    board.rank(item);
+                    rescored++;
+                }
+            }
+            board.publish();
+        }
+        return rescored;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int refreshReplies() {
+        int changed = 0;
+        for (Map.Entry<String, Function<List<Long>, Map<Long, Long>>> source : replyCounts.entrySet()) {
+            Board board = boards.get(source.getKey());
+            List<Long> ids = new ArrayList<>(board.items.keySet());
+            for (int from = 0; from < ids.size(); from += REPLY_REFRESH_CHUNK) {
+                Map<Long, Long> counts = source.getValue().apply(ids.subList(from, Math.min(from + REPLY_REFRESH_CHUNK, ids.size())));
+                for (Map.Entry<Long, Long> count : counts.entrySet()) {
+                    Item item = board.items.get(count.getKey());
+                    long delta = item == null ? 0 : count.getValue() - item.replies.sum();
+                    if (delta != 0) {
+                        recordDelta(source.getKey(), Signal.REPLY, List.of(count.getKey()), delta);
+                        changed++;
+                    }
+                }
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Add, move or drop the question once the write has committed: a newly published question ranks
+     * right away instead of after the next rebuild. Events published outside a transaction are handled immediately.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuestionChanged(QuestionChanged event) {
+        Optional<TrendingRow> row = questionRepository.findTrendingCandidate(event.id(), Instant.now().minus(window));
+        boards.get(Constants.EntityType.QUESTION).upsert(event.id(), row);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Instant since = Instant.now().minus(window);
+        int tracked = 0;
+        for (Map.Entry<String, Function<Instant, List<TrendingRow>>> seed : seeds.entrySet()) {
+            Board board = new Board(seed.getKey());
+            for (TrendingRow row : seed.getValue().apply(since)) {
+                Item item = new Item(row);
+                board.items.put(item.id, item);
+                board.rank(item);
+            }
+            board.publish();
+            // Deltas recorded on the old board from here to the swap are lost until the next rebuild
+            boards.put(seed.getKey(), board);
+            tracked += board.items.size();
+        }
+        sample.stop(meterRegistry.timer("trending.rebuild"));
+        log.debug("Trending rebuilt: {} items since {}", tracked, since);
+        return tracked;
+    }
+
+    // ============ Private Helper Methods ============
+
+    private double score(Item item) {
+        double engagement = viewWeight * item.views.sum() + likeWeight * item.likes.sum() + replyWeight * item.replies.sum();
+        double order = Math.log10(Math.max(engagement, 1));
+        double recency = (double) item.publishedAt.getEpochSecond() / gravity.getSeconds();
+        return order + recency + (item.featured ? featuredBoost : 0);
+    }
+
+    /**
+     * Tracked items and rankings of one entity type
+     */
+    private final class Board {
+
+        private final String entityType;
+        private final Map<Long, Item> items = new ConcurrentHashMap<>();
+        private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+        private final TopK<Long, TrendingItemResponse> global = new TopK<>(topK);
+        private final Map<Long, TopK<Long, TrendingItemResponse>> byCategory = new ConcurrentHashMap<>();
+        private final Map<Long, TopK<Long, TrendingItemResponse>> byTopic = new ConcurrentHashMap<>();
+
+        Board(String entityType) {
+            this.entityType = entityType;
+        }
+
+        void rank(Item item) {
+            double score = score(item);
+            TrendingItemResponse response = item.toResponse(entityType, score);
+            global.offer(item.id, score, response);
+            if (item.categoryId != null) {
+                byCategory.computeIfAbsent(item.categoryId, id -> new TopK<>(topK)).offer(item.id, score, response);
+            }
+            if (item.topicId != null) {
+                byTopic.computeIfAbsent(item.topicId, id -> new TopK<>(topK)).offer(item.id, score, response);
+            }
+        }
+
+        /**
+         * Replace the item's display fields (keeping its live counters) or stop tracking it, then publish
+         */
+        synchronized void upsert(Long id, Optional<TrendingRow> row) {
+            Item previous = items.get(id);
+            if (previous != null) {
+                unrank(previous);
+            }
+            if (row.isPresent()) {
+                Item item = new Item(row.get(), previous);
+                items.put(id, item);
+                rank(item);
+            } else {
+                items.remove(id);
+                dirty.remove(id);
+            }
+            publish();
+        }
+
+        void unrank(Item item) {
+            global.remove(item.id);
+            if (item.categoryId != null) {
+                Optional.ofNullable(byCategory.get(item.categoryId)).ifPresent(ranking -> ranking.remove(item.id));
+            }
+            if (item.topicId != null) {
+                Optional.ofNullable(byTopic.get(item.topicId)).ifPresent(ranking -> ranking.remove(item.id));
+            }
+        }
+
+        void publish() {
+            global.publish();
+            byCategory.values().forEach(TopK::publish);
+            byTopic.values().forEach(TopK::publish);
+        }
+    }
+
+    /**
+     * One tracked item: display fields from the last rebuild or change event, live counters
+     */
+    private static final class Item {
+
+        private final Long id;
+        private final String title;
+        private final String slug;
+        private final Long categoryId;
+        private final Long topicId;
+        private final Instant publishedAt;
+        private final boolean featured;
+        private final LongAdder views;
+        private final LongAdder likes;
+        private final LongAdder replies;
+
+        Item(TrendingRow row) {
+            this(row, null);
+        }
+
+        /**
+         * Counters come from the row for a new item; an item already tracked keeps its own, which include
+         * write-behind deltas the row may not reflect yet
+         */
+        Item(TrendingRow row, Item live) {
+            this.id = row.getId();
+            this.title = row.getTitle();
+            this.slug = row.getSlug();
+            this.categoryId = row.getCategoryId();
+            this.topicId = row.getTopicId();
+            this.publishedAt = row.getPublishedAt();
+            this.featured = Boolean.TRUE.equals(row.getFeatured());
+            if (live != null) {
+                views = live.views;
+                likes = live.likes;
+                replies = live.replies;
+            } else {
+                views = counter(row.getViewCount());
+                likes = counter(row.getLikeCount());
+                replies = counter(row.getReplyCount());
+            }
+        }
+
+        LongAdder counter(Signal signal) {
+            return switch (signal) {
+                case VIEW -> views;
+                case LIKE -> likes;
+                case REPLY -> replies;
+            };
+        }
+
+        TrendingItemResponse toResponse(String entityType, double score) {
+            return TrendingItemResponse.builder()
+                .entityType(entityType)
+                .id(id)
+                .title(title)
+                .slug(slug)
+                .categoryId(categoryId)
+                .topicId(topicId)
+                .publishedAt(publishedAt)
+                .viewCount(views.sum())
+                .likeCount(likes.sum())
+                .replyCount(replies.sum())
+                .score(score)
+                .build();
+        }
+
+        private static LongAdder counter(Number number) {
+            LongAdder counter = new LongAdder();
+            counter.add(number == null ? 0 : number.longValue());
+            return counter;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.service.ElasticsearchSyncService;
+import com.mediaapp.service.TrendingService;
+import com.mediaapp.service.ViewCountService;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.CounterBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * View Count Service Implementation
+ * Striped per-ID counters flushed as "view_count = view_count + delta", grouped by delta
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ViewCountServiceImpl implements ViewCountService {
+
+    private final QuestionRepository questionRepository;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ElasticsearchSyncService> elasticsearchSyncService;
+    private final TrendingService trendingService;
+
+    private final CounterBuffer pendingQuestionViews = new CounterBuffer();
+    private final CounterBuffer pendingPostViews = new CounterBuffer();
+
+    // IDs flushed to the database but not yet pushed to Elasticsearch
+    private final Set<Long> searchDirtyQuestionIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> searchDirtyPostIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Expose the number of IDs with buffered views
+     */
+    @PostConstruct
+    void registerGauges() {
+        Gauge.builder("views.pending", pendingQuestionViews, CounterBuffer::size)
+            .tag("entity", Constants.EntityType.QUESTION)
+            .register(meterRegistry);
+        Gauge.builder("views.pending", pendingPostViews, CounterBuffer::size)
+            .tag("entity", Constants.EntityType.POST)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void recordQuestionView(Long questionId) {
+        pendingQuestionViews.add(questionId, 1);
+    }
+
+    @Override
+    public void recordPostView(Long postId) {
+        pendingPostViews.add(postId, 1);
+    }
+
+    @Override
+    public long flush() {
+        return flush(Constants.EntityType.QUESTION, pendingQuestionViews, searchDirtyQuestionIds,
+                questionRepository::incrementViewCounts)
+            + flush(Constants.EntityType.POST, pendingPostViews, searchDirtyPostIds,
+                postRepository::incrementViewCounts);
+    }
+
+    @Override
+    public void syncToSearchIndex() {
+        elasticsearchSyncService.ifAvailable(syncService -> {
+            pushToSearchIndex(searchDirtyQuestionIds, syncService::syncQuestionViewCounts);
+            pushToSearchIndex(searchDirtyPostIds, syncService::syncPostViewCounts);
+        });
+    }
+
+    /**
+     * Flush buffered views on shutdown so they are not lost
+     */
+    @PreDestroy
+    void flushOnShutdown() {
+        long flushed = flush();
+        if (flushed > 0) {
+            log.info("Flushed {} buffered views on shutdown", flushed);
+        }
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * Drain one counter buffer into the database.
+     * Views recorded during the flush land in the next one. Only IDs whose UPDATE matched a
+     * published row are marked for the search index and forwarded to trending.
+     */
+    private long flush(String entityType, CounterBuffer pending, Set<Long> searchDirtyIds,
+                       BiFunction<Collection<Long>, Long, List<Long>> incrementer) {
+        Map<Long, Long> deltas = pending.drain();
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<Long>> idsByDelta = new HashMap<>();
+        deltas.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id));
+
+        // Views of popular rows are spread over few distinct deltas, so this stays a handful of UPDATEs
+        int chunkSize = Constants.EsSync.MAX_BATCH_SIZE;
+        Map<Long, List<Long>> updatedByDelta = new HashMap<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> idsByDelta.forEach((delta, ids) -> {
+                List<Long> updated = new ArrayList<>();
+                for (int from = 0; from < ids.size(); from += chunkSize) {
+                    updated.addAll(incrementer.apply(ids.subList(from, Math.min(from + chunkSize, ids.size())), delta));
+                }
+                updatedByDelta.put(delta, updated);
+            }));
+        } catch (RuntimeException e) {
+            // Put the drained deltas back so the next flush retries them
+            deltas.forEach(pending::add);
+            throw e;
+        }
+
+        long views = 0;
+        int rows = 0;
+        for (Map.Entry<Long, List<Long>> entry : updatedByDelta.entrySet()) {
+            if (entry.getValue().isEmpty()) {
+                continue;
+            }
+            views += entry.getKey() * entry.getValue().size();
+            rows += entry.getValue().size();
+            searchDirtyIds.addAll(entry.getValue());
+            trendingService.recordDelta(entityType, TrendingService.Signal.VIEW, entry.getValue(), entry.getKey());
+        }
+        Counter.builder("views.flushed").tag("entity", entityType).register(meterRegistry).increment(views);
+        log.debug("Flushed {} {} views over {} rows ({} IDs dropped)", views, entityType, rows, deltas.size() - rows);
+        return views;
+    }
+
+    private void pushToSearchIndex(Set<Long> searchDirtyIds, Function<Collection<Long>, Integer> pusher) {
+        if (searchDirtyIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(searchDirtyIds);
+        ids.forEach(searchDirtyIds::remove);
+        try {
+            pusher.apply(ids);
+        } catch (RuntimeException e) {
+            searchDirtyIds.addAll(ids);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.mediaapp.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * Accent Folding
+ * Lowercases and strips diacritics through a table precomputed once for Latin-1, Latin Extended-A/B
+ * and Latin Extended Additional (all Vietnamese precomposed letters), so folding a string is one
+ * table lookup per char. Letters NFD does not decompose (đ, ø, ł) are mapped explicitly.
+ */
+public final class AccentFolding {
+
+    /** Marks a char that folds to nothing (a combining diacritic) */
+    public static final char DROP = '\0';
+
+    private static final char TABLE_END = '\u1F00';
+    private static final char[] FOLD = new char[TABLE_END];
+
+    static {
+        for (char c = 0; c < TABLE_END; c++) {
+            FOLD[c] = computeFold(c);
+        }
+        FOLD['\u0111'] = 'd';
+        FOLD['\u0110'] = 'd';
+        FOLD['\u00F8'] = 'o';
+        FOLD['\u00D8'] = 'o';
+        FOLD['\u0142'] = 'l';
+        FOLD['\u0141'] = 'l';
+    }
+
+    private AccentFolding() {
+    }
+
+    /**
+     * Fold one char: lowercase, without diacritics; {@link #DROP} for combining marks
+     */
+    public static char fold(char c) {
+        if (c < TABLE_END) {
+            return FOLD[c];
+        }
+        // A few letters above the table lowercase into it (Kelvin sign, Angstrom sign)
+        char lower = Character.toLowerCase(c);
+        return lower < TABLE_END ? FOLD[lower] : lower;
+    }
+
+    /**
+     * Fold a string (e.g. "Đà Nẵng" to "da nang"); returns the input when nothing changes
+     */
+    public static String fold(String text) {
+        int length = text.length();
+        int i = 0;
+        while (i < length && fold(text.charAt(i)) == text.charAt(i)) {
+            i++;
+        }
+        if (i == length) {
+            return text;
+        }
+
+        char[] out = new char[length];
+        text.getChars(0, i, out, 0);
+        int size = i;
+        for (; i < length; i++) {
+            char folded = fold(text.charAt(i));
+            if (folded != DROP) {
+                out[size++] = folded;
+            }
+        }
+        return new String(out, 0, size);
+    }
+
+    /**
+     * Lowercase only, diacritics kept, in composed (NFC) form so "ẵ" typed as "a" + marks still matches
+     */
+    public static String lowerComposed(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    // ============ Private Helper Methods ============
+
+    private static char computeFold(char c) {
+        if (Character.getType(c) == Character.NON_SPACING_MARK) {
+            return DROP;
+        }
+        String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+        char base = decomposed.charAt(0);
+        if (decomposed.length() > 1 && base < 0x80) {
+            return Character.toLowerCase(base);
+        }
+        return Character.toLowerCase(c);
+    }
+}
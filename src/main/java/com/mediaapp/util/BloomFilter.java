@@ -0,0 +1,117 @@
+package com.mediaapp.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom Filter
+ * Fixed-size, thread-safe Bloom filter over 64-bit keys.
+ * mightContain() never returns false for a key that was added; it returns true for
+ * a key that was not added with roughly the false-positive rate it was sized for.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    /** Headroom for the approximation and double-hashing error (about 2% more bits at p = 1%) */
+    private static final double SIZING_MARGIN = 0.9;
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    private BloomFilter(long bitCount, int hashCount, int capacity) {
+        this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        this.bitCount = words.length() * 64L;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Create a filter sized for the expected number of keys and target false-positive rate.
+     * k = ceil(-log2 p) hash functions, then the smallest m with (1 - e^(-kn/m))^k <= p:
+     * m = -kn / ln(1 - p^(1/k)). The textbook m = -n ln p / ln2^2 with a rounded k lands slightly above p,
+     * so the filter is sized for SIZING_MARGIN * p to keep the rate actually measured at or below p.
+     */
+    public static BloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        double target = falsePositiveRate * SIZING_MARGIN;
+        int hashes = Math.max(1, (int) Math.ceil(-Math.log(target) / LN2));
+        double perHash = Math.pow(target, 1.0 / hashes);
+        long bits = Math.max(64, (long) Math.ceil(-hashes * (double) n / Math.log1p(-perHash)));
+        return new BloomFilter(bits, hashes, n);
+    }
+
+    public void put(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            setBit(bit);
+        }
+        insertions.incrementAndGet();
+    }
+
+    public boolean mightContain(long key) {
+        long hash = mix(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = Math.floorMod(h1 + (long) i * h2, bitCount);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Insertions past the sized capacity raise the false-positive rate above the target
+     */
+    public boolean isSaturated() {
+        return insertions.get() > capacity;
+    }
+
+    /**
+     * Heap used by the bit array (object headers excluded)
+     */
+    public long sizeInBytes() {
+        return words.length() * 8L;
+    }
+
+    /**
+     * False-positive rate expected at the current fill: (1 - e^(-kn/m))^k
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow(1 - Math.exp(-(double) hashCount * insertions.get() / bitCount), hashCount);
+    }
+
+    // ============ Private Helper Methods ============
+
+    private void setBit(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long word;
+        do {
+            word = words.get(index);
+            if ((word & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(index, word, word | mask));
+    }
+
+    /**
+     * MurmurHash3 fmix64 finalizer: spreads sequential IDs over all 64 bits
+     */
+    private static long mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb93fe53a87c5L;
+        key ^= key >>> 33;
+        return key;
+    }
+}
@@ -0,0 +1,26 @@
+package com.mediaapp.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Cache Metrics
+ * Binds Caffeine caches built outside the Spring CacheManager with the tag keys Spring Boot puts on
+ * managed caches (cache, cache.manager, name). Prometheus accepts one tag key set per meter name:
+ * a cache registered with fewer keys makes the managed caches' cache_* series get dropped.
+ */
+public final class CacheMetrics {
+
+    private CacheMetrics() {
+    }
+
+    /**
+     * @param owner reported as cache.manager, e.g. the component holding the cache
+     * @param name  reported as cache and name
+     */
+    public static <K, V, C extends Cache<K, V>> C monitor(MeterRegistry meterRegistry, C cache, String owner, String name) {
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, name, Tags.of("cache.manager", owner, "name", name));
+    }
+}
@@ -110,13 +110,51 @@ public final class Constants {
         private Pagination() {}
     }
 
+    /**
+     * Search Constants
+     */
+    public static final class Search {
+        // HYBRID merges the top (page + 1) * size hits of both backends, so deep pages are refused
+        public static final int HYBRID_MAX_WINDOW = 1000;
+        // Trigram keyword search ranks at most this many matches (common words match a large share of the table)
+        public static final int KEYWORD_MAX_CANDIDATES = 1000;
+        // Text search configuration of the search_vector columns, queries and snippets (simple + unaccent, V13)
+        public static final String TEXT_SEARCH_CONFIG = "media_search";
+
+        private Search() {}
+    }
+
     /**
      * Elasticsearch Sync Constants
      */
     public static final class EsSync {
         public static final int DEFAULT_BATCH_SIZE = 500;
         public static final int MAX_BATCH_SIZE = 1000;
+        // Must outlast a bulk await (app.sync.bulk.await-timeout-ms) plus its 429 backoff
+        public static final long DEFAULT_CLAIM_LEASE_MS = 300_000;
+
+        // Native SQL: the row carries no sync lease, or one older than :leaseMs (its worker died or gave up)
+        public static final String CLAIMABLE =
+            "(sync_claimed_at IS NULL OR sync_claimed_at < CURRENT_TIMESTAMP - :leaseMs * INTERVAL '1 millisecond') ";
 
         private EsSync() {}
     }
+
+    /**
+     * Streaming Read Constants (server-side cursor queries)
+     */
+    public static final class Streaming {
+        public static final String FETCH_SIZE = "500";
+
+        private Streaming() {}
+    }
+
+    /**
+     * ID Generation Constants (pooled sequences; must match the sequences' INCREMENT BY)
+     */
+    public static final class Ids {
+        public static final int ALLOCATION_SIZE = 50;
+
+        private Ids() {}
+    }
 }
@@ -0,0 +1,60 @@
+package com.mediaapp.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter Buffer
+ * Striped per-ID deltas (one LongAdder per ID) waiting to be written behind.
+ * A drain swaps each adder out of the map before reading it, so the map only ever holds IDs
+ * touched since the last drain. A writer that incremented an adder after it was swapped out
+ * notices and hands the orphaned count over to the live adder, so no delta is lost or counted twice.
+ */
+public final class CounterBuffer {
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Add a delta (may be negative) to the buffered count of an ID
+     */
+    public void add(Long id, long delta) {
+        LongAdder adder = counters.computeIfAbsent(id, key -> new LongAdder());
+        adder.add(delta);
+        // Swapped out by a concurrent drain: it may have read the adder before our add landed
+        while (counters.get(id) != adder) {
+            long orphaned = adder.sumThenReset();
+            if (orphaned == 0) {
+                return;
+            }
+            adder = counters.computeIfAbsent(id, key -> new LongAdder());
+            adder.add(orphaned);
+        }
+    }
+
+    /**
+     * Remove and return every non-zero buffered delta
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Long id : counters.keySet()) {
+            LongAdder adder = counters.remove(id);
+            if (adder == null) {
+                continue;
+            }
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                deltas.merge(id, delta, Long::sum);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * Number of IDs touched since the last drain
+     */
+    public int size() {
+        return counters.size();
+    }
+}
@@ -0,0 +1,51 @@
+package com.mediaapp.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Feed Cursor
+ * Position in a newest-first feed: the (publishedAt, id) of the last row served.
+ * Clients get it as an opaque URL-safe token and send it back unchanged.
+ */
+public record FeedCursor(Instant publishedAt, long id) {
+
+    /**
+     * Sorts before every real row, so the first page uses the same keyset query as the others
+     */
+    public static final FeedCursor START = new FeedCursor(Instant.parse("9999-12-31T23:59:59Z"), Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = publishedAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a token produced by {@link #encode()}; a blank token means the first page
+     *
+     * @throws IllegalArgumentException when the token is malformed or not in canonical form
+     */
+    public static FeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return START;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid feed cursor");
+            }
+            FeedCursor cursor = new FeedCursor(Instant.parse(raw.substring(0, separator)),
+                Long.parseLong(raw.substring(separator + 1)));
+            // Only tokens exactly as encode() writes them: edited bytes rarely survive a re-encode unchanged
+            if (cursor.id() <= 0 || !cursor.encode().equals(token)) {
+                throw new IllegalArgumentException("Invalid feed cursor");
+            }
+            return cursor;
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid feed cursor", e);
+        }
+    }
+}
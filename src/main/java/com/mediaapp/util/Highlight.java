@@ -0,0 +1,79 @@
+package com.mediaapp.util;
+
+/**
+ * Highlight
+ * ts_headline snippets are requested with private-use sentinels instead of HTML tags, so content never
+ * reaches a client as markup: {@link #plainText} drops the sentinels, {@link #toHtml} escapes the text and
+ * turns balanced sentinel pairs into &lt;mark&gt; elements.
+ */
+public final class Highlight {
+
+    public static final char START = '\uE000';
+    public static final char STOP = '\uE001';
+
+    /**
+     * ts_headline options for search snippets (compile-time constant, usable in @Query)
+     */
+    public static final String HEADLINE_OPTIONS =
+        "MaxFragments=2, MaxWords=30, MinWords=10, StartSel=" + START + ", StopSel=" + STOP;
+
+    private Highlight() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Snippet as plain text, without highlight markers
+     */
+    public static String plainText(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder(headline.length());
+        for (int i = 0; i < headline.length(); i++) {
+            char c = headline.charAt(i);
+            if (c != START && c != STOP) {
+                text.append(c);
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Snippet as HTML-escaped text with matches wrapped in &lt;mark&gt;; markers that do not pair up
+     * (for example sentinels already present in the content) are dropped, so tags are always balanced
+     */
+    public static String toHtml(String headline) {
+        if (headline == null) {
+            return null;
+        }
+        StringBuilder html = new StringBuilder(headline.length() + 32);
+        boolean open = false;
+        for (int i = 0; i < headline.length(); i++) {
+            char c = headline.charAt(i);
+            switch (c) {
+                case START -> {
+                    if (!open) {
+                        html.append("<mark>");
+                        open = true;
+                    }
+                }
+                case STOP -> {
+                    if (open) {
+                        html.append("</mark>");
+                        open = false;
+                    }
+                }
+                case '&' -> html.append("&amp;");
+                case '<' -> html.append("&lt;");
+                case '>' -> html.append("&gt;");
+                case '"' -> html.append("&quot;");
+                case '\'' -> html.append("&#39;");
+                default -> html.append(c);
+            }
+        }
+        if (open) {
+            html.append("</mark>");
+        }
+        return html.toString();
+    }
+}
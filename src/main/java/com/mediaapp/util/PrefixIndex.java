@@ -0,0 +1,122 @@
+package com.mediaapp.util;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.IntConsumer;
+
+/**
+ * Prefix Index
+ * Immutable sorted-array index of string keys, each pointing to an int ordinal. All keys share one
+ * char[] (no per-key String objects); a lookup is a binary search for the first key not below the
+ * prefix followed by a forward scan while keys still start with it, without allocating.
+ */
+public final class PrefixIndex {
+
+    public static final PrefixIndex EMPTY = new PrefixIndex(new char[0], new int[]{0}, new int[0]);
+
+    private final char[] chars;
+    private final int[] offsets;    // Key i is chars[offsets[i], offsets[i + 1])
+    private final int[] ordinals;
+
+    private PrefixIndex(char[] chars, int[] offsets, int[] ordinals) {
+        this.chars = chars;
+        this.offsets = offsets;
+        this.ordinals = ordinals;
+    }
+
+    /**
+     * Build from parallel arrays of keys and ordinals (duplicates allowed)
+     */
+    public static PrefixIndex build(String[] keys, int[] ordinals) {
+        if (keys.length != ordinals.length) {
+            throw new IllegalArgumentException("keys and ordinals differ in length");
+        }
+        Integer[] order = new Integer[keys.length];
+        int totalChars = 0;
+        for (int i = 0; i < keys.length; i++) {
+            order[i] = i;
+            totalChars += keys[i].length();
+        }
+        Arrays.sort(order, Comparator.comparing(i -> keys[i]));
+
+        char[] chars = new char[totalChars];
+        int[] offsets = new int[keys.length + 1];
+        int[] sortedOrdinals = new int[keys.length];
+        int position = 0;
+        for (int i = 0; i < order.length; i++) {
+            String key = keys[order[i]];
+            offsets[i] = position;
+            key.getChars(0, key.length(), chars, position);
+            position += key.length();
+            sortedOrdinals[i] = ordinals[order[i]];
+        }
+        offsets[keys.length] = position;
+        return new PrefixIndex(chars, offsets, sortedOrdinals);
+    }
+
+    /**
+     * Pass the ordinal of every key starting with the prefix, in key order
+     *
+     * @return number of matching keys
+     */
+    public int forEachMatch(String prefix, IntConsumer ordinalConsumer) {
+        int matches = 0;
+        for (int i = lowerBound(prefix); i < ordinals.length && startsWith(i, prefix); i++) {
+            ordinalConsumer.accept(ordinals[i]);
+            matches++;
+        }
+        return matches;
+    }
+
+    public int size() {
+        return ordinals.length;
+    }
+
+    // ============ Private Helper Methods ============
+
+    /**
+     * First key that is not below the prefix
+     */
+    private int lowerBound(String prefix) {
+        int low = 0;
+        int high = ordinals.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Compare key i with text the way String.compareTo does
+     */
+    private int compare(int i, String text) {
+        int start = offsets[i];
+        int keyLength = offsets[i + 1] - start;
+        int common = Math.min(keyLength, text.length());
+        for (int k = 0; k < common; k++) {
+            int diff = chars[start + k] - text.charAt(k);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return keyLength - text.length();
+    }
+
+    private boolean startsWith(int i, String prefix) {
+        int start = offsets[i];
+        if (offsets[i + 1] - start < prefix.length()) {
+            return false;
+        }
+        for (int k = 0; k < prefix.length(); k++) {
+            if (chars[start + k] != prefix.charAt(k)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -19,6 +19,8 @@ public enum SearchMode {
 
     /**
      * Search both ES and PostgreSQL, merge and deduplicate results
+     * Pages are cut from the merged top (page + 1) * size hits, up to Constants.Search.HYBRID_MAX_WINDOW,
+     * and the total is approximate
      * Best for: Maximum recall, testing, ensuring data consistency
      */
     HYBRID
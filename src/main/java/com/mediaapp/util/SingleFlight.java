@@ -0,0 +1,81 @@
+package com.mediaapp.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Single Flight
+ * Coalesces concurrent calls with the same key: the first caller runs the loader, callers
+ * arriving while it is in flight wait for and share its result (or exception).
+ * Nothing is kept once the call completes; pair with a cache for reuse over time.
+ * Reports singleflight.calls{name, outcome=executed|coalesced} and singleflight.in_flight{name}.
+ *
+ * @param <K> key type (needs equals/hashCode)
+ * @param <V> result type, shared between coalesced callers, so treat it as read-only
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = Counter.builder("singleflight.calls")
+            .tag("name", name)
+            .tag("outcome", "executed")
+            .register(meterRegistry);
+        this.coalesced = Counter.builder("singleflight.calls")
+            .tag("name", name)
+            .tag("outcome", "coalesced")
+            .register(meterRegistry);
+        Gauge.builder("singleflight.in_flight", inFlight, ConcurrentHashMap::size)
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Run the loader for this key, or join the call already in flight for it
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return join(existing);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    // ============ Private Helper Methods ============
+
+    private static <V> V join(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -2,10 +2,7 @@ package com.mediaapp.util;
 
 import org.springframework.stereotype.Component;
 
-import java.text.Normalizer;
-import java.util.Locale;
 import java.util.UUID;
-import java.util.regex.Pattern;
 
 /**
  * Slug Generator Utility
@@ -14,12 +11,13 @@ import java.util.regex.Pattern;
 @Component
 public class SlugGenerator {
 
-    private static final Pattern NON_LATIN = Pattern.compile("[^\\w-]");
-    private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
-    private static final Pattern MULTIPLE_HYPHENS = Pattern.compile("-{2,}");
+    private static final int MAX_LENGTH = 100;
 
     /**
-     * Generate a slug from the given text
+     * Generate a slug from the given text.
+     * One pass over the chars: each is folded through {@link AccentFolding} (lowercase, diacritics
+     * removed, Vietnamese đ/Đ to d) and kept if it is [a-z0-9_]; runs of whitespace and hyphens become
+     * a single hyphen, never leading or trailing. Everything else is dropped.
      * 
      * @param text the text to convert to slug
      * @return URL-friendly slug
@@ -29,37 +27,34 @@ public class SlugGenerator {
             return UUID.randomUUID().toString();
         }
 
-        // Normalize to NFD (decomposed form) to separate base characters from diacritics
-        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
-
-        // Convert to lowercase
-        String lowercase = normalized.toLowerCase(Locale.ROOT);
-
-        // Replace whitespace with hyphens
-        String hyphenated = WHITESPACE.matcher(lowercase).replaceAll("-");
-
-        // Remove non-latin characters (keeps alphanumeric, hyphens, underscores)
-        String latinOnly = NON_LATIN.matcher(hyphenated).replaceAll("");
-
-        // Replace multiple consecutive hyphens with a single hyphen
-        String cleaned = MULTIPLE_HYPHENS.matcher(latinOnly).replaceAll("-");
-
-        // Remove leading and trailing hyphens
-        String trimmed = cleaned.replaceAll("^-+|-+$", "");
+        char[] slug = new char[Math.min(text.length(), MAX_LENGTH)];
+        int size = 0;
+        boolean hyphen = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = AccentFolding.fold(text.charAt(i));
+            if (isSlugChar(c)) {
+                if (hyphen) {
+                    // A hyphen in the last position would be trimmed anyway
+                    if (size + 1 >= MAX_LENGTH) {
+                        break;
+                    }
+                    slug[size++] = '-';
+                    hyphen = false;
+                }
+                slug[size++] = c;
+                if (size == MAX_LENGTH) {
+                    break;
+                }
+            } else if ((c == '-' || isWhitespace(c)) && size > 0) {
+                hyphen = true;
+            }
+        }
 
         // If result is empty, generate UUID-based slug
-        if (trimmed.isEmpty()) {
+        if (size == 0) {
             return UUID.randomUUID().toString();
         }
-
-        // Limit length to reasonable size (e.g., 100 characters)
-        if (trimmed.length() > 100) {
-            trimmed = trimmed.substring(0, 100);
-            // Remove trailing hyphen if any
-            trimmed = trimmed.replaceAll("-+$", "");
-        }
-
-        return trimmed;
+        return new String(slug, 0, size);
     }
 
     /**
@@ -89,4 +84,17 @@ public class SlugGenerator {
         String baseSlug = generateSlug(title);
         return generateUniqueSlug(baseSlug, id);
     }
+
+    // ============ Private Helper Methods ============
+
+    private static boolean isSlugChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Same set as the regex class \s: space, \t, \n, \x0B, \f, \r
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
 }
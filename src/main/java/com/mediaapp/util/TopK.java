@@ -0,0 +1,99 @@
+package com.mediaapp.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Top K
+ * Bounded ranking of the K highest-scored keys. Writers offer (key, score, value); once full,
+ * anything scoring below the current minimum is rejected in O(1) and everything else costs O(log K).
+ * Readers never lock: they get the immutable snapshot taken by the last {@link #publish()}.
+ * A key whose score drops keeps its slot until the next offer or rebuild displaces it.
+ *
+ * @param <K> key type (needs equals/hashCode)
+ * @param <V> value returned to readers
+ */
+public final class TopK<K, V> {
+
+    private record Entry<K, V>(K key, double score, long sequence, V value) {
+    }
+
+    /** Lowest score first; ties broken by insertion order so distinct entries never compare equal */
+    private static final Comparator<Entry<?, ?>> ORDER =
+        Comparator.<Entry<?, ?>>comparingDouble(Entry::score).thenComparingLong(Entry::sequence);
+
+    private final int capacity;
+    private final TreeSet<Entry<K, V>> ranked = new TreeSet<>(ORDER);
+    private final Map<K, Entry<K, V>> byKey = new HashMap<>();
+    private long sequence;
+    private boolean dirty;
+    private volatile List<V> snapshot = List.of();
+
+    public TopK(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Insert or re-score a key
+     *
+     * @return whether the key is ranked after the offer
+     */
+    public synchronized boolean offer(K key, double score, V value) {
+        Entry<K, V> previous = byKey.get(key);
+        if (previous == null && byKey.size() >= capacity && score <= ranked.first().score()) {
+            return false;
+        }
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+
+        Entry<K, V> entry = new Entry<>(key, score, sequence++, value);
+        ranked.add(entry);
+        byKey.put(key, entry);
+        if (byKey.size() > capacity) {
+            byKey.remove(ranked.pollFirst().key());
+        }
+        dirty = true;
+        return byKey.containsKey(key);
+    }
+
+    public synchronized void remove(K key) {
+        Entry<K, V> entry = byKey.remove(key);
+        if (entry != null) {
+            ranked.remove(entry);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Make changes since the last publish visible to readers (highest score first)
+     */
+    public synchronized void publish() {
+        if (!dirty) {
+            return;
+        }
+        List<V> values = new ArrayList<>(ranked.size());
+        ranked.descendingSet().forEach(entry -> values.add(entry.value()));
+        snapshot = List.copyOf(values);
+        dirty = false;
+    }
+
+    /**
+     * The highest-ranked values as of the last publish
+     */
+    public List<V> top(int limit) {
+        List<V> current = snapshot;
+        return limit >= current.size() ? current : current.subList(0, Math.max(limit, 0));
+    }
+
+    public synchronized int size() {
+        return byKey.size();
+    }
+}
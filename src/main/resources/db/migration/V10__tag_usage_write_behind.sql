@@ -0,0 +1,24 @@
+-- ============================================================================
+-- Flyway Migration V10: Tag Usage Write-Behind
+-- ============================================================================
+-- Description: The V1 trigger updated tags.usage_count once per INSERT/DELETE
+--              on question_tags/post_tags, so every question tagged with a
+--              popular tag queued on that tag's row lock. The application now
+--              buffers usage deltas in memory and applies them in batched
+--              UPDATEs, and a periodic job recomputes exact counts from the
+--              link tables (indexed on tag_id for that recount).
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+DROP TRIGGER IF EXISTS trigger_update_tag_usage_post ON post_tags;
+DROP TRIGGER IF EXISTS trigger_update_tag_usage_question ON question_tags;
+DROP FUNCTION IF EXISTS update_tag_usage_count();
+
+CREATE INDEX IF NOT EXISTS idx_question_tags_tag ON question_tags(tag_id);
+CREATE INDEX IF NOT EXISTS idx_post_tags_tag ON post_tags(tag_id);
+
+-- Start from exact counts
+UPDATE tags t
+SET usage_count = (SELECT COUNT(*) FROM question_tags qt WHERE qt.tag_id = t.id)
+                + (SELECT COUNT(*) FROM post_tags pt WHERE pt.tag_id = t.id);
@@ -0,0 +1,19 @@
+-- ============================================================================
+-- Flyway Migration V11: Pooled ID Sequences
+-- ============================================================================
+-- Description: questions, posts and post_requests took their IDs from the
+--              INSERT (IDENTITY), so a question had to be inserted before its
+--              "title-{id}" slug could be computed and then updated with it.
+--              Hibernate now draws IDs from the BIGSERIAL sequences through a
+--              pooled optimizer, reserving a block of 50 per nextval, which
+--              lets the slug be set before a single INSERT (and allows JDBC
+--              insert batching). INCREMENT BY must equal allocationSize
+--              (Constants.Ids.ALLOCATION_SIZE). Plain SQL inserts relying on
+--              the column default keep working; their IDs just step by 50.
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+ALTER SEQUENCE questions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE posts_id_seq INCREMENT BY 50;
+ALTER SEQUENCE post_requests_id_seq INCREMENT BY 50;
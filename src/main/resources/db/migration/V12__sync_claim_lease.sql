@@ -0,0 +1,74 @@
+-- ============================================================================
+-- Flyway Migration V12: Sync Claim Lease
+-- ============================================================================
+-- Description: The sync workers claimed need_sync rows with FOR UPDATE SKIP
+--              LOCKED and kept them locked while Elasticsearch indexed the
+--              batch, blocking view/like/answer count flushes and user edits
+--              on those rows for up to the bulk await timeout. A claim is now
+--              a short transaction that stamps sync_claimed_at; other workers
+--              and the tombstone purge skip rows whose lease has not expired.
+--              The flags are cleared in a second short transaction, guarded
+--              by updated_at, and the lease is released with them.
+--              Stamping or releasing a lease is sync bookkeeping: it must not
+--              raise need_sync nor bump updated_at.
+-- Author: Development Team
+-- Date: 2026-10-18
+-- ============================================================================
+
+-- ============================================================================
+-- 1. LEASE COLUMNS
+-- ============================================================================
+
+ALTER TABLE questions ADD COLUMN sync_claimed_at TIMESTAMP WITH TIME ZONE;
+ALTER TABLE posts ADD COLUMN sync_claimed_at TIMESTAMP WITH TIME ZONE;
+ALTER TABLE post_requests ADD COLUMN sync_claimed_at TIMESTAMP WITH TIME ZONE;
+ALTER TABLE answers ADD COLUMN sync_claimed_at TIMESTAMP WITH TIME ZONE;
+
+-- ============================================================================
+-- 2. SYNC TRIGGERS
+-- ============================================================================
+
+-- Same contract as V8, with lease-only updates ignored
+CREATE OR REPLACE FUNCTION touch_synced_row()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF OLD.need_sync AND NOT NEW.need_sync THEN
+        RETURN NEW;
+    END IF;
+
+    IF (to_jsonb(OLD) - 'view_count' - 'answer_count' - 'search_vector' - 'sync_claimed_at')
+        = (to_jsonb(NEW) - 'view_count' - 'answer_count' - 'search_vector' - 'sync_claimed_at') THEN
+        RETURN NEW;
+    END IF;
+
+    NEW.need_sync = true;
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION flag_answer_for_sync()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF OLD.need_sync AND NOT NEW.need_sync THEN
+        RETURN NEW;
+    END IF;
+
+    IF (to_jsonb(OLD) - 'updated_at' - 'sync_claimed_at') = (to_jsonb(NEW) - 'updated_at' - 'sync_claimed_at') THEN
+        RETURN NEW;
+    END IF;
+
+    NEW.need_sync = true;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The V1 answers trigger bumped updated_at on every UPDATE, so stamping a
+-- lease would defeat the updated_at guard of the flag-clearing UPDATE.
+-- Sync bookkeeping (need_sync, sync_claimed_at) no longer touches it.
+DROP TRIGGER IF EXISTS update_answers_updated_at ON answers;
+CREATE TRIGGER update_answers_updated_at BEFORE UPDATE ON answers
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - 'need_sync' - 'sync_claimed_at' - 'updated_at')
+          IS DISTINCT FROM (to_jsonb(NEW) - 'need_sync' - 'sync_claimed_at' - 'updated_at'))
+    EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,61 @@
+-- ============================================================================
+-- Flyway Migration V13: Search Text Configuration
+-- ============================================================================
+-- Description: V6 indexed and queried with the 'english' configuration, whose
+--              Snowball stemmer and stop words do not fit Vietnamese content:
+--              words with diacritics were kept verbatim, so "ha noi" never
+--              matched "Hà Nội", and English stop-word removal dropped short
+--              Vietnamese syllables.
+--              media_search is the 'simple' parser and dictionary with
+--              unaccent in front of it: no stemming, no stop words, and
+--              diacritics folded on both the indexed text and the query.
+--              The search_vector columns, websearch_to_tsquery and
+--              ts_headline all use it (Constants.Search.TEXT_SEARCH_CONFIG),
+--              so tuning the language handling is an ALTER TEXT SEARCH
+--              CONFIGURATION media_search followed by a rebuild of the columns.
+--
+--              PostgreSQL 16 cannot change a generated column's expression, so
+--              the columns and their GIN indexes are dropped and re-added; this
+--              rewrites questions and posts once.
+-- Author: Development Team
+-- Date: 2026-10-18
+-- ============================================================================
+
+-- ============================================================================
+-- 1. TEXT SEARCH CONFIGURATION
+-- ============================================================================
+
+CREATE EXTENSION IF NOT EXISTS "unaccent";
+
+CREATE TEXT SEARCH CONFIGURATION media_search (COPY = simple);
+
+-- asciiword tokens have no diacritics to fold
+ALTER TEXT SEARCH CONFIGURATION media_search
+    ALTER MAPPING FOR word, hword, hword_part WITH unaccent, simple;
+
+-- ============================================================================
+-- 2. TSVECTOR COLUMNS
+-- ============================================================================
+
+ALTER TABLE questions DROP COLUMN search_vector;
+ALTER TABLE posts DROP COLUMN search_vector;
+
+ALTER TABLE questions ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('media_search', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('media_search', coalesce(content, '')), 'C')
+    ) STORED;
+
+ALTER TABLE posts ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('media_search', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('media_search', coalesce(summary, '')), 'B') ||
+        setweight(to_tsvector('media_search', coalesce(content, '')), 'C')
+    ) STORED;
+
+-- ============================================================================
+-- 3. GIN INDEXES
+-- ============================================================================
+
+CREATE INDEX idx_questions_search_vector ON questions USING gin(search_vector);
+CREATE INDEX idx_posts_search_vector ON posts USING gin(search_vector);
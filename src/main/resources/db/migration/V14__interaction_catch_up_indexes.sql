@@ -0,0 +1,18 @@
+-- ============================================================================
+-- Flyway Migration V14: Interaction Catch-Up Indexes
+-- ============================================================================
+-- Description: Each node keeps per-user like/bookmark Bloom filters and
+--              catches them up with rows written through other nodes by
+--              querying "user_id = ? AND created_at > ?" every few seconds
+--              per active user. The (user_id) indexes are widened to
+--              (user_id, created_at) so that query reads only the new rows;
+--              lookups by user_id alone use the same index.
+-- Author: Development Team
+-- Date: 2026-10-18
+-- ============================================================================
+
+CREATE INDEX idx_likes_user_created ON likes(user_id, created_at);
+DROP INDEX IF EXISTS idx_likes_user;
+
+CREATE INDEX idx_bookmarks_user_created ON bookmarks(user_id, created_at);
+DROP INDEX IF EXISTS idx_bookmarks_user;
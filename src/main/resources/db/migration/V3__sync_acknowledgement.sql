@@ -0,0 +1,53 @@
+-- ============================================================================
+-- Flyway Migration V3: Sync Acknowledgement
+-- ============================================================================
+-- Description: Let the Elasticsearch sync job clear need_sync flags.
+--              The V1 trigger re-raised need_sync on every UPDATE, including
+--              the UPDATE that clears it, so the flag could never go back to
+--              false. An UPDATE that only flips need_sync true -> false is now
+--              treated as a sync acknowledgement: it keeps the flag cleared
+--              and does not touch updated_at.
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+-- ============================================================================
+-- 1. NEED_SYNC TRIGGER
+-- ============================================================================
+
+CREATE OR REPLACE FUNCTION set_need_sync_on_update()
+RETURNS TRIGGER AS $$
+BEGIN
+    -- Sync acknowledgement from the sync job: keep the flag cleared
+    IF OLD.need_sync AND NOT NEW.need_sync THEN
+        RETURN NEW;
+    END IF;
+
+    NEW.need_sync = true;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================================================================
+-- 2. UPDATED_AT TRIGGERS ON SYNCED TABLES
+-- ============================================================================
+-- Acknowledgements must not bump updated_at: the sync job uses it to detect
+-- rows that changed again while their batch was being indexed.
+
+DROP TRIGGER IF EXISTS update_questions_updated_at ON questions;
+CREATE TRIGGER update_questions_updated_at BEFORE UPDATE ON questions
+    FOR EACH ROW
+    WHEN (NOT (OLD.need_sync AND NOT NEW.need_sync))
+    EXECUTE FUNCTION update_updated_at_column();
+
+DROP TRIGGER IF EXISTS update_posts_updated_at ON posts;
+CREATE TRIGGER update_posts_updated_at BEFORE UPDATE ON posts
+    FOR EACH ROW
+    WHEN (NOT (OLD.need_sync AND NOT NEW.need_sync))
+    EXECUTE FUNCTION update_updated_at_column();
+
+DROP TRIGGER IF EXISTS update_post_requests_updated_at ON post_requests;
+CREATE TRIGGER update_post_requests_updated_at BEFORE UPDATE ON post_requests
+    FOR EACH ROW
+    WHEN (NOT (OLD.need_sync AND NOT NEW.need_sync))
+    EXECUTE FUNCTION update_updated_at_column();
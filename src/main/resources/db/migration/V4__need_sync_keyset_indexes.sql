@@ -0,0 +1,20 @@
+-- ============================================================================
+-- Flyway Migration V4: Need Sync Keyset Indexes
+-- ============================================================================
+-- Description: Reshape the need_sync partial indexes for keyset claims.
+--              Sync workers claim "need_sync AND id > :lastId ORDER BY id",
+--              which the V1 indexes on the boolean column cannot serve in
+--              order. Indexing id under the same predicate keeps the index
+--              as small as the backlog and makes each claim a range scan.
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+DROP INDEX IF EXISTS idx_questions_need_sync;
+CREATE INDEX idx_questions_need_sync ON questions(id) WHERE need_sync = true;
+
+DROP INDEX IF EXISTS idx_posts_need_sync;
+CREATE INDEX idx_posts_need_sync ON posts(id) WHERE need_sync = true;
+
+DROP INDEX IF EXISTS idx_post_requests_need_sync;
+CREATE INDEX idx_post_requests_need_sync ON post_requests(id) WHERE need_sync = true;
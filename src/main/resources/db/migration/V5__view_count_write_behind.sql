@@ -0,0 +1,49 @@
+-- ============================================================================
+-- Flyway Migration V5: View Count Write-Behind
+-- ============================================================================
+-- Description: View counts are accumulated in memory and flushed as batched
+--              "view_count = view_count + delta" updates. Those updates must
+--              not re-flag the row for a full Elasticsearch reindex nor bump
+--              updated_at; search-side view counts are pushed separately with
+--              partial updates on a coarser schedule.
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+-- ============================================================================
+-- 1. NEED_SYNC TRIGGERS
+-- ============================================================================
+
+DROP TRIGGER IF EXISTS trigger_set_need_sync_questions ON questions;
+CREATE TRIGGER trigger_set_need_sync_questions
+    BEFORE UPDATE ON questions
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - 'view_count') IS DISTINCT FROM (to_jsonb(NEW) - 'view_count'))
+    EXECUTE FUNCTION set_need_sync_on_update();
+
+DROP TRIGGER IF EXISTS trigger_set_need_sync_posts ON posts;
+CREATE TRIGGER trigger_set_need_sync_posts
+    BEFORE UPDATE ON posts
+    FOR EACH ROW
+    WHEN ((to_jsonb(OLD) - 'view_count') IS DISTINCT FROM (to_jsonb(NEW) - 'view_count'))
+    EXECUTE FUNCTION set_need_sync_on_update();
+
+-- ============================================================================
+-- 2. UPDATED_AT TRIGGERS
+-- ============================================================================
+-- Keeps the V3 rule (sync acknowledgements do not bump updated_at) and adds
+-- view-count-only updates to it.
+
+DROP TRIGGER IF EXISTS update_questions_updated_at ON questions;
+CREATE TRIGGER update_questions_updated_at BEFORE UPDATE ON questions
+    FOR EACH ROW
+    WHEN (NOT (OLD.need_sync AND NOT NEW.need_sync)
+          AND (to_jsonb(OLD) - 'view_count') IS DISTINCT FROM (to_jsonb(NEW) - 'view_count'))
+    EXECUTE FUNCTION update_updated_at_column();
+
+DROP TRIGGER IF EXISTS update_posts_updated_at ON posts;
+CREATE TRIGGER update_posts_updated_at BEFORE UPDATE ON posts
+    FOR EACH ROW
+    WHEN (NOT (OLD.need_sync AND NOT NEW.need_sync)
+          AND (to_jsonb(OLD) - 'view_count') IS DISTINCT FROM (to_jsonb(NEW) - 'view_count'))
+    EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,84 @@
+-- ============================================================================
+-- Flyway Migration V6: Full-Text Search
+-- ============================================================================
+-- Description: Stored, weighted tsvector columns with GIN indexes so the
+--              PostgreSQL search path (PG_ONLY and the ES fallback) gets
+--              stemming, multi-word queries and relevance ranking.
+--              Weights: title A, summary B, content C.
+--
+--              PostgreSQL does not allow BEFORE triggers to reference NEW
+--              generated columns in their WHEN condition, and the V1/V5 sync
+--              triggers compare whole rows there. Those triggers are replaced
+--              by one plpgsql function that does the comparison itself.
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+-- ============================================================================
+-- 1. SYNC TRIGGERS
+-- ============================================================================
+
+DROP TRIGGER IF EXISTS trigger_set_need_sync_questions ON questions;
+DROP TRIGGER IF EXISTS trigger_set_need_sync_posts ON posts;
+DROP TRIGGER IF EXISTS trigger_set_need_sync_post_requests ON post_requests;
+DROP TRIGGER IF EXISTS update_questions_updated_at ON questions;
+DROP TRIGGER IF EXISTS update_posts_updated_at ON posts;
+DROP TRIGGER IF EXISTS update_post_requests_updated_at ON post_requests;
+
+-- Raises need_sync and bumps updated_at on real changes only:
+--   * sync acknowledgements (need_sync true -> false) keep the flag cleared (V3)
+--   * view-count-only updates are pushed to ES separately (V5)
+--   * no-op updates change nothing
+-- Generated columns are NULL in NEW inside BEFORE triggers, so search_vector is ignored.
+CREATE OR REPLACE FUNCTION touch_synced_row()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF OLD.need_sync AND NOT NEW.need_sync THEN
+        RETURN NEW;
+    END IF;
+
+    IF (to_jsonb(OLD) - 'view_count' - 'search_vector') = (to_jsonb(NEW) - 'view_count' - 'search_vector') THEN
+        RETURN NEW;
+    END IF;
+
+    NEW.need_sync = true;
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_touch_synced_row_questions
+    BEFORE UPDATE ON questions
+    FOR EACH ROW EXECUTE FUNCTION touch_synced_row();
+
+CREATE TRIGGER trigger_touch_synced_row_posts
+    BEFORE UPDATE ON posts
+    FOR EACH ROW EXECUTE FUNCTION touch_synced_row();
+
+CREATE TRIGGER trigger_touch_synced_row_post_requests
+    BEFORE UPDATE ON post_requests
+    FOR EACH ROW EXECUTE FUNCTION touch_synced_row();
+
+-- ============================================================================
+-- 2. TSVECTOR COLUMNS
+-- ============================================================================
+
+ALTER TABLE questions ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(content, '')), 'C')
+    ) STORED;
+
+ALTER TABLE posts ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(summary, '')), 'B') ||
+        setweight(to_tsvector('english', coalesce(content, '')), 'C')
+    ) STORED;
+
+-- ============================================================================
+-- 3. GIN INDEXES
+-- ============================================================================
+
+CREATE INDEX idx_questions_search_vector ON questions USING gin(search_vector);
+CREATE INDEX idx_posts_search_vector ON posts USING gin(search_vector);
@@ -0,0 +1,14 @@
+-- ============================================================================
+-- Flyway Migration V7: Like Count Write-Behind
+-- ============================================================================
+-- Description: The V1 trigger updated posts/answers/comments.like_count once
+--              per INSERT/DELETE on likes, so every like on a viral post
+--              queued on the same row lock. The application now buffers like
+--              deltas in memory and applies them in batched UPDATEs, and a
+--              periodic job recomputes exact counts from the likes table.
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+DROP TRIGGER IF EXISTS trigger_update_like_count ON likes;
+DROP FUNCTION IF EXISTS update_like_count();
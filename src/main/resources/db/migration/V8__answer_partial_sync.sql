@@ -0,0 +1,86 @@
+-- ============================================================================
+-- Flyway Migration V8: Answer Partial Sync
+-- ============================================================================
+-- Description: Answers are embedded in the question search document. Until
+--              now every new answer raised need_sync on its question (through
+--              the V1 answer_count trigger), so one answer re-serialized and
+--              re-indexed the whole document with every other answer.
+--              Answers now carry their own need_sync flag and are pushed as
+--              scripted partial updates of the question document; answer_count
+--              changes alone no longer flag the question.
+--              Hard deletes (rare, soft delete is the norm) still fall back to
+--              a full rebuild of the question.
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+-- ============================================================================
+-- 1. ANSWER NEED_SYNC FLAG
+-- ============================================================================
+
+-- Existing answers are already embedded in their question documents
+ALTER TABLE answers ADD COLUMN need_sync BOOLEAN NOT NULL DEFAULT false;
+ALTER TABLE answers ALTER COLUMN need_sync SET DEFAULT true;
+
+CREATE INDEX idx_answers_need_sync ON answers(id) WHERE need_sync = true;
+
+-- Raises need_sync on real changes only (same contract as touch_synced_row, V6):
+--   * sync acknowledgements (need_sync true -> false) keep the flag cleared
+--   * no-op updates (only updated_at touched) change nothing
+-- Edits, acceptance, like counts and soft deletes all go through here.
+CREATE OR REPLACE FUNCTION flag_answer_for_sync()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF OLD.need_sync AND NOT NEW.need_sync THEN
+        RETURN NEW;
+    END IF;
+
+    IF (to_jsonb(OLD) - 'updated_at') = (to_jsonb(NEW) - 'updated_at') THEN
+        RETURN NEW;
+    END IF;
+
+    NEW.need_sync = true;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trigger_flag_answer_for_sync
+    BEFORE UPDATE ON answers
+    FOR EACH ROW EXECUTE FUNCTION flag_answer_for_sync();
+
+-- ============================================================================
+-- 2. QUESTION ANSWER_COUNT
+-- ============================================================================
+
+-- New answers only bump the counter; the answer sync carries it to ES
+CREATE OR REPLACE FUNCTION increment_answer_count()
+RETURNS TRIGGER AS $$
+BEGIN
+    UPDATE questions
+    SET answer_count = answer_count + 1
+    WHERE id = NEW.question_id;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- decrement_answer_count() keeps raising need_sync: a hard-deleted answer
+-- leaves no row behind to drive a partial update.
+
+-- answer_count-only updates no longer flag the row nor bump updated_at
+CREATE OR REPLACE FUNCTION touch_synced_row()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF OLD.need_sync AND NOT NEW.need_sync THEN
+        RETURN NEW;
+    END IF;
+
+    IF (to_jsonb(OLD) - 'view_count' - 'answer_count' - 'search_vector')
+        = (to_jsonb(NEW) - 'view_count' - 'answer_count' - 'search_vector') THEN
+        RETURN NEW;
+    END IF;
+
+    NEW.need_sync = true;
+    NEW.updated_at = CURRENT_TIMESTAMP;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
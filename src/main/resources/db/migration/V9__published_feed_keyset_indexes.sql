@@ -0,0 +1,26 @@
+-- ============================================================================
+-- Flyway Migration V9: Published Feed Keyset Indexes
+-- ============================================================================
+-- Description: The published question feeds page with a (published_at, id)
+--              keyset cursor instead of OFFSET + COUNT(*). Each feed scope
+--              (all, per category, per topic) gets a composite index under
+--              the feed predicate, so a page is one index range scan from the
+--              cursor no matter how deep it is.
+--              Questions that reached PUBLISHED through a status update never
+--              got a published_at; they are backfilled with created_at.
+-- Author: Development Team
+-- Date: 2026-10-17
+-- ============================================================================
+
+UPDATE questions
+SET published_at = created_at
+WHERE status = 'PUBLISHED' AND published_at IS NULL;
+
+CREATE INDEX idx_questions_feed ON questions(published_at DESC, id DESC)
+    WHERE status = 'PUBLISHED' AND deleted_at IS NULL AND published_at IS NOT NULL;
+
+CREATE INDEX idx_questions_feed_category ON questions(category_id, published_at DESC, id DESC)
+    WHERE status = 'PUBLISHED' AND deleted_at IS NULL AND published_at IS NOT NULL;
+
+CREATE INDEX idx_questions_feed_topic ON questions(topic_id, published_at DESC, id DESC)
+    WHERE status = 'PUBLISHED' AND deleted_at IS NULL AND published_at IS NOT NULL;
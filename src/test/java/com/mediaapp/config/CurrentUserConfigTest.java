@@ -0,0 +1,45 @@
+package com.mediaapp.config;
+
+import com.mediaapp.service.CurrentUserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CurrentUserConfigTest {
+
+    // Loads application.yml, so these tests cover the shipped defaults
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+        .withInitializer(new ConfigDataApplicationContextInitializer())
+        .withUserConfiguration(CurrentUserConfig.class);
+
+    @Test
+    void userIdHeaderIsNotTrustedByDefault() {
+        runner.run(context -> assertThat(context).doesNotHaveBean(FilterRegistrationBean.class));
+    }
+
+    @Test
+    void userIdHeaderIsNotTrustedOutsideTheDevProfileEvenWhenConfigured() {
+        runner.withPropertyValues("app.security.user-id-header=X-User-Id")
+            .run(context -> assertThat(context).doesNotHaveBean(FilterRegistrationBean.class));
+    }
+
+    @Test
+    void devProfileTakesTheRequestUserFromTheHeader() {
+        runner.withPropertyValues("spring.profiles.active=dev").run(context -> {
+            OncePerRequestFilter filter = (OncePerRequestFilter) context.getBean(FilterRegistrationBean.class).getFilter();
+            MockHttpServletRequest request = new MockHttpServletRequest();
+            request.addHeader("X-User-Id", "42");
+
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+            assertThat(request.getAttribute(CurrentUserService.USER_ID_ATTRIBUTE)).isEqualTo(42L);
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package com.mediaapp.controller;
+
+import com.mediaapp.service.LikeService;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The dev profile trusts the X-User-Id header until real authentication exists
+@AutoConfigureMockMvc
+@ActiveProfiles("dev")
+class LikeControllerTest extends AbstractPostgresIntegrationTest {
+
+    private static final String USER_HEADER = "X-User-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Test
+    void likesActForTheRequestUserOnly() throws Exception {
+        long user = testData.user();
+        long post = testData.post(testData.user(), testData.category(), Constants.PostStatus.PUBLISHED);
+        String path = "/likes/POST/" + post;
+
+        // A userId parameter is no longer honoured: without a request user the call is rejected
+        mockMvc.perform(post(path).param("userId", String.valueOf(user))).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/likes/state").param("entityType", "POST").param("ids", String.valueOf(post)))
+            .andExpect(status().isUnauthorized());
+
+        mockMvc.perform(post(path).header(USER_HEADER, user)).andExpect(status().isCreated());
+        mockMvc.perform(post(path).header(USER_HEADER, user)).andExpect(status().isOk());
+        mockMvc.perform(get("/likes/state").header(USER_HEADER, user)
+                .param("entityType", "POST").param("ids", String.valueOf(post)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.liked", contains((int) post)));
+        likeService.flush();
+        assertThat(likeCount(post)).isEqualTo(1);
+
+        mockMvc.perform(delete(path).header(USER_HEADER, user)).andExpect(status().isNoContent());
+        likeService.flush();
+        assertThat(likeCount(post)).isZero();
+    }
+
+    private long likeCount(long postId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM posts WHERE id = ?", Long.class, postId);
+    }
+}
@@ -0,0 +1,106 @@
+package com.mediaapp.controller;
+
+import com.mediaapp.service.CategoryTreeService;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.support.StatementCount;
+import com.mediaapp.util.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Listing pages run a fixed number of statements however many rows, authors and children they show.
+ * The query budget filter only logs a warning in production; here exceeding it fails the build.
+ */
+@AutoConfigureMockMvc
+class ListingQueryBudgetTest extends AbstractPostgresIntegrationTest {
+
+    private static final int PAGE_SIZE = 5;
+    private static final int CHILDREN_PER_ROW = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CategoryTreeService categoryTreeService;
+
+    @Value("${app.listing.statement-budget}")
+    private int statementBudget;
+
+    @Value("${app.listing.preview-size}")
+    private int previewSize;
+
+    @Test
+    void questionFeedStitchesTagsAndAnswerPreviewsInFixedStatements() throws Exception {
+        long category = testData.category();
+        long accepted = 0;
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            long question = testData.question(testData.user(), category, Constants.QuestionStatus.PUBLISHED);
+            for (int j = 0; j < CHILDREN_PER_ROW; j++) {
+                long answer = testData.answer(question, testData.user(), "answer " + j);
+                jdbcTemplate.update("UPDATE answers SET like_count = ? WHERE id = ?", j, answer);
+                accepted = answer;
+            }
+        }
+        // The last answer of the newest question is accepted, the one before it is the most liked
+        jdbcTemplate.update("UPDATE answers SET is_accepted = true, like_count = 0 WHERE id = ?", accepted);
+        categoryTreeService.refreshIfChanged();
+
+        StatementCount statements = StatementCount.before(meterRegistry, "/questions/feed");
+        mockMvc.perform(get("/questions/feed").param("categoryId", String.valueOf(category))
+                .param("size", String.valueOf(PAGE_SIZE)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(PAGE_SIZE))
+            .andExpect(jsonPath("$.items[*].answers.length()").value(everyItem(lessThanOrEqualTo(previewSize))))
+            .andExpect(jsonPath("$.items[0].answers.length()").value(previewSize))
+            .andExpect(jsonPath("$.items[0].answers[0].id").value(accepted))
+            .andExpect(jsonPath("$.items[0].answers[1].likeCount").value(CHILDREN_PER_ROW - 2))
+            .andExpect(jsonPath("$.items[0].answers[0].user.username").isString());
+
+        assertThat(statements.recorded()).isLessThanOrEqualTo(statementBudget).isEqualTo(3);
+    }
+
+    @Test
+    void postListStitchesTagsAndTopLevelCommentPreviewsInFixedStatements() throws Exception {
+        long category = testData.category();
+        long newest = 0;
+        long firstComment = 0;
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            newest = testData.post(testData.user(), category, Constants.PostStatus.PUBLISHED);
+            long parent = 0;
+            for (int j = 0; j < CHILDREN_PER_ROW; j++) {
+                long comment = testData.comment(newest, testData.user(), "comment " + j);
+                parent = j == 0 ? comment : parent;
+            }
+            firstComment = parent;
+            // A reply older than every top-level comment must still stay out of the preview
+            jdbcTemplate.update("INSERT INTO comments (post_id, user_id, parent_comment_id, content, created_at) " +
+                "VALUES (?, ?, ?, 'reply', now() - interval '1 day')", newest, testData.user(), parent);
+        }
+
+        StatementCount statements = StatementCount.before(meterRegistry, "/posts");
+        mockMvc.perform(get("/posts").param("size", String.valueOf(PAGE_SIZE)).param("sort", "id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].id").value(newest))
+            .andExpect(jsonPath("$.content[*].comments.length()").value(everyItem(lessThanOrEqualTo(previewSize))))
+            .andExpect(jsonPath("$.content[0].comments.length()").value(previewSize))
+            .andExpect(jsonPath("$.content[0].comments[0].id").value(firstComment))
+            .andExpect(jsonPath("$.content[0].comments[*].parentCommentId").value(everyItem(nullValue())));
+
+        assertThat(statements.recorded()).isLessThanOrEqualTo(statementBudget).isEqualTo(4);
+    }
+}
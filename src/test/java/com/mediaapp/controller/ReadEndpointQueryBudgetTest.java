@@ -0,0 +1,68 @@
+package com.mediaapp.controller;
+
+import com.mediaapp.service.CategoryTreeService;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.support.StatementCount;
+import com.mediaapp.util.Constants;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Read endpoints serialize projections and DTOs, never entities
+ */
+@AutoConfigureMockMvc
+class ReadEndpointQueryBudgetTest extends AbstractPostgresIntegrationTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CategoryTreeService categoryTreeService;
+
+    @Test
+    void questionListIsOneSelectPlusOneCount() throws Exception {
+        // Distinct author and category per row: entity serialization would lazy-load each of them
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            testData.question(testData.user(), testData.category(), Constants.QuestionStatus.PUBLISHED);
+        }
+
+        StatementCount statements = StatementCount.before(meterRegistry, "/questions");
+        MvcResult result = mockMvc.perform(get("/questions").param("size", String.valueOf(PAGE_SIZE)).param("sort", "id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content.length()").value(PAGE_SIZE))
+            .andExpect(jsonPath("$.content[0].categoryName").isString())
+            .andExpect(jsonPath("$.content[0].username").isString())
+            .andReturn();
+
+        assertThat(statements.recorded()).isEqualTo(2);
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).doesNotContain("hibernateLazyInitializer", "passwordHash", "\"content\":\"content\"");
+    }
+
+    @Test
+    void categoryListIsServedFromTheTreeSnapshot() throws Exception {
+        testData.category();
+        categoryTreeService.refreshIfChanged();
+
+        StatementCount statements = StatementCount.before(meterRegistry, "/categories");
+        mockMvc.perform(get("/categories").param("size", String.valueOf(PAGE_SIZE)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].children").doesNotExist());
+
+        assertThat(statements.recorded()).isZero();
+    }
+}
@@ -0,0 +1,113 @@
+package com.mediaapp.repository;
+
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.support.TestData;
+import com.mediaapp.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * EXPLAIN of the trigram keyword searches on 100k rows: the planner must pick the pg_trgm GIN
+ * indexes rather than scanning the table. Fixture rows are inserted and analyzed in a transaction that is
+ * rolled back.
+ */
+class KeywordSearchPlanTest extends AbstractPostgresIntegrationTest {
+
+    private static final int ROWS = 100_000;
+    private static final String KEYWORD = "quokka";
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Test
+    void questionKeywordSearchUsesTrigramIndexes() throws Exception {
+        String plan = explain("questions", "user_id", searchSql(QuestionRepository.class));
+
+        assertThat(plan).contains("idx_questions_title_trgm", "idx_questions_content_trgm");
+        assertThat(plan).doesNotContain("Seq Scan on questions");
+    }
+
+    @Test
+    void postKeywordSearchUsesTrigramIndexes() throws Exception {
+        String plan = explain("posts", "author_id", searchSql(PostRepository.class));
+
+        assertThat(plan).contains("idx_posts_title_trgm", "idx_posts_content_trgm");
+        assertThat(plan).doesNotContain("Seq Scan on posts");
+    }
+
+    @Test
+    void lowerLikeSearchCannotUseTrigramIndexes() {
+        // The query this replaced: LOWER() around the column hides it from the GIN index
+        String plan = explain("questions", "user_id",
+            "SELECT q.id FROM questions q WHERE (LOWER(q.title) LIKE LOWER(:pattern) OR LOWER(q.content) LIKE LOWER(:pattern)) " +
+            "AND q.status = 'PUBLISHED' AND q.deleted_at IS NULL");
+
+        assertThat(plan).doesNotContain("_trgm");
+    }
+
+    @Test
+    void unselectiveKeywordRanksABoundedCandidateSet() {
+        int matching = Constants.Search.KEYWORD_MAX_CANDIDATES + 100;
+        Page<Long> page = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            long user = testData.user();
+            long category = testData.category();
+            String prefix = TestData.unique("bound");
+            jdbcTemplate.update(
+                "INSERT INTO questions (category_id, user_id, title, content, status, slug, published_at) " +
+                "SELECT ?, ?, 'Why is the " + KEYWORD + " number ' || g || ' so common', 'content', 'PUBLISHED', " +
+                "       ? || '-' || g, now() " +
+                "FROM generate_series(1, ?) g",
+                category, user, prefix, matching);
+            return questionRepository.searchIdsByKeyword(KEYWORD, "%" + KEYWORD + "%", PageRequest.of(0, 20));
+        });
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(Constants.Search.KEYWORD_MAX_CANDIDATES);
+    }
+
+    /**
+     * The repository's own native SQL, so the test follows query changes
+     */
+    private static String searchSql(Class<?> repository) throws NoSuchMethodException {
+        return repository.getMethod("searchIdsByKeyword", String.class, String.class, Pageable.class)
+            .getAnnotation(Query.class).value();
+    }
+
+    private String explain(String table, String ownerColumn, String sql) {
+        String statement = "EXPLAIN " + sql
+            .replace(":keyword", "'" + KEYWORD + "'")
+            .replace(":pattern", "'%" + KEYWORD + "%'")
+            + " LIMIT 20";
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            long user = testData.user();
+            long category = testData.category();
+            String prefix = TestData.unique("plan");
+            jdbcTemplate.update(
+                "INSERT INTO " + table + " (category_id, " + ownerColumn + ", title, content, status, slug, published_at) " +
+                "SELECT ?, ?, 'How to tune thread pools number ' || g, " +
+                "       repeat('connection pool latency and throughput tuning ', 5) || CASE WHEN g % 10000 = 0 THEN '" + KEYWORD + "' ELSE '' END, " +
+                "       'PUBLISHED', ? || '-' || g, now() " +
+                "FROM generate_series(1, ?) g",
+                category, user, prefix, ROWS);
+            jdbcTemplate.execute("ANALYZE " + table);
+            List<String> lines = jdbcTemplate.queryForList(statement, String.class);
+            return String.join("\n", lines);
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package com.mediaapp.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mediaapp.config.CacheConfig;
+import com.mediaapp.model.entity.Category;
+import com.mediaapp.repository.jpa.CategoryRepository;
+import com.mediaapp.repository.jpa.projection.CategorySnapshot;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceCacheTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Cache<Object, Object> categories;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void clearCache() {
+        categories = (Cache<Object, Object>) cacheManager.getCache(CacheConfig.CATEGORIES).getNativeCache();
+        categories.invalidateAll();
+    }
+
+    @Test
+    void cachesImmutableSnapshotsRatherThanEntities() {
+        long id = testData.category();
+
+        CategorySnapshot snapshot = categoryRepository.findSnapshotById(id).orElseThrow();
+
+        assertThat(snapshot.getClass().isRecord()).isTrue();
+        assertThat(categories.getIfPresent(id)).isEqualTo(snapshot);
+        assertThat(categoryRepository.findSnapshotById(id)).containsSame(snapshot);
+    }
+
+    @Test
+    void savingOneCategoryEvictsOnlyItsOwnEntry() {
+        long saved = testData.category();
+        long untouched = testData.category();
+        CategorySnapshot untouchedSnapshot = categoryRepository.findSnapshotById(untouched).orElseThrow();
+        categoryRepository.findSnapshotById(saved);
+
+        Category category = categoryRepository.findById(saved).orElseThrow();
+        category.setName(TestData.unique("renamed"));
+        categoryRepository.save(category);
+
+        assertThat(categories.getIfPresent(saved)).isNull();
+        assertThat(categories.getIfPresent(untouched)).isSameAs(untouchedSnapshot);
+        assertThat(categoryRepository.findSnapshotById(saved))
+            .hasValueSatisfying(snapshot -> assertThat(snapshot.name()).isEqualTo(category.getName()));
+    }
+
+    @Test
+    void deletingACategoryEvictsItsEntry() {
+        long id = testData.category();
+        categoryRepository.findSnapshotById(id);
+
+        categoryRepository.deleteById(id);
+
+        assertThat(categories.getIfPresent(id)).isNull();
+        assertThat(categoryRepository.findSnapshotById(id)).isEmpty();
+    }
+}
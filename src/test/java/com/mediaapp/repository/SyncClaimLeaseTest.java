@@ -0,0 +1,124 @@
+package com.mediaapp.repository;
+
+import com.mediaapp.repository.jpa.AnswerRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The sync_claimed_at lease (V12): claims are short transactions, other claims and the tombstone purge skip
+ * leased rows, and stamping or releasing a lease never raises need_sync nor moves updated_at.
+ */
+class SyncClaimLeaseTest extends AbstractPostgresIntegrationTest {
+
+    private static final long LEASE_MS = Constants.EsSync.DEFAULT_CLAIM_LEASE_MS;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private AnswerRepository answerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void leasedRowsAreSkippedUntilReleasedOrExpired() {
+        long question = flaggedQuestion();
+
+        assertThat(claimQuestion(question, LEASE_MS)).containsExactly(question);
+        assertThat(claimQuestion(question, LEASE_MS)).isEmpty();
+        // A lease older than leaseMs belongs to a worker that died or gave up
+        assertThat(claimQuestion(question, 0)).containsExactly(question);
+
+        transactionTemplate.executeWithoutResult(status -> questionRepository.releaseSyncClaims(List.of(question)));
+        assertThat(claimQuestion(question, LEASE_MS)).containsExactly(question);
+    }
+
+    @Test
+    void leaseBookkeepingNeitherBumpsUpdatedAtNorRaisesFlags() {
+        long question = flaggedQuestion();
+        long answer = testData.answer(question, testData.user(), "An answer waiting for its push");
+        jdbcTemplate.update("UPDATE questions SET need_sync = false WHERE id = ?", question);
+        Timestamp questionUpdatedAt = updatedAt("questions", question);
+        Timestamp answerUpdatedAt = updatedAt("answers", answer);
+
+        List<Long> claimed = transactionTemplate.execute(status -> answerRepository.claimNeedSyncIds(answer - 1, 1, LEASE_MS));
+        assertThat(claimed).containsExactly(answer);
+        transactionTemplate.executeWithoutResult(status -> answerRepository.releaseSyncClaims(List.of(answer)));
+        jdbcTemplate.update("UPDATE questions SET sync_claimed_at = now() WHERE id = ?", question);
+
+        assertThat(updatedAt("answers", answer)).isEqualTo(answerUpdatedAt);
+        assertThat(updatedAt("questions", question)).isEqualTo(questionUpdatedAt);
+        assertThat(needSync("questions", question)).isFalse();
+    }
+
+    @Test
+    void rowsEditedWhileTheirBatchIsIndexedKeepTheFlag() {
+        long question = flaggedQuestion();
+        Timestamp loadedUpdatedAt = updatedAt("questions", question);
+        assertThat(claimQuestion(question, LEASE_MS)).containsExactly(question);
+
+        // The claim has committed: an edit during indexing is not blocked by a row lock
+        jdbcTemplate.update("UPDATE questions SET title = title || ' (edited)' WHERE id = ?", question);
+
+        int cleared = transactionTemplate.execute(status -> {
+            int count = questionRepository.clearNeedSync(List.of(question), loadedUpdatedAt.toInstant());
+            questionRepository.releaseSyncClaims(List.of(question));
+            return count;
+        });
+        assertThat(cleared).isZero();
+        assertThat(needSync("questions", question)).isTrue();
+        assertThat(claimQuestion(question, LEASE_MS)).containsExactly(question);
+
+        Timestamp reloadedUpdatedAt = updatedAt("questions", question);
+        transactionTemplate.executeWithoutResult(status ->
+            questionRepository.clearNeedSync(List.of(question), reloadedUpdatedAt.toInstant()));
+        assertThat(needSync("questions", question)).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT sync_claimed_at FROM questions WHERE id = ?", Timestamp.class, question))
+            .isNull();
+    }
+
+    @Test
+    void tombstonePurgeSkipsRowsLeasedByASyncWorker() {
+        long question = flaggedQuestion();
+        assertThat(claimQuestion(question, LEASE_MS)).containsExactly(question);
+        testData.softDeleteQuestion(question);
+
+        assertThat(claimTombstone(question)).isEmpty();
+        transactionTemplate.executeWithoutResult(status -> questionRepository.releaseSyncClaims(List.of(question)));
+        assertThat(claimTombstone(question)).containsExactly(question);
+    }
+
+    private long flaggedQuestion() {
+        long question = testData.question(testData.user(), testData.category(), Constants.QuestionStatus.PUBLISHED);
+        assertThat(needSync("questions", question)).isTrue();
+        return question;
+    }
+
+    private List<Long> claimQuestion(long question, long leaseMs) {
+        return transactionTemplate.execute(status -> questionRepository.claimNeedSyncIds(question - 1, question, 10, leaseMs));
+    }
+
+    private List<Long> claimTombstone(long question) {
+        // Other tests leave tombstones behind in the shared database; keep only this one
+        return transactionTemplate.execute(status -> questionRepository.claimTombstoneIds(question - 1, 1, LEASE_MS))
+            .stream().filter(id -> id == question).toList();
+    }
+
+    private Timestamp updatedAt(String table, long id) {
+        return jdbcTemplate.queryForObject("SELECT updated_at FROM " + table + " WHERE id = ?", Timestamp.class, id);
+    }
+
+    private boolean needSync(String table, long id) {
+        return jdbcTemplate.queryForObject("SELECT need_sync FROM " + table + " WHERE id = ?", Boolean.class, id);
+    }
+}
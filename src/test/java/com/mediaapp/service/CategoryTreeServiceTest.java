@@ -0,0 +1,65 @@
+package com.mediaapp.service;
+
+import com.mediaapp.model.entity.Category;
+import com.mediaapp.model.entity.Topic;
+import com.mediaapp.repository.jpa.CategoryRepository;
+import com.mediaapp.repository.jpa.TopicRepository;
+import com.mediaapp.service.impl.CategoryTreeServiceImpl;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.support.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryTreeServiceTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private CategoryTreeService categoryTreeService;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TopicRepository topicRepository;
+
+    private AtomicLong lastMissRefreshAt;
+
+    @BeforeEach
+    void setUp() {
+        CategoryTreeServiceImpl target = AopTestUtils.getTargetObject(categoryTreeService);
+        ReflectionTestUtils.setField(target, "missRefreshIntervalMs", 60_000L);
+        lastMissRefreshAt = (AtomicLong) ReflectionTestUtils.getField(target, "lastMissRefreshAt");
+        lastMissRefreshAt.set(0);
+        categoryTreeService.getTree();
+    }
+
+    @Test
+    void committedCategoryAndTopicWritesRebuildTheTree() {
+        String name = TestData.unique("tree-category");
+        Category category = categoryRepository.save(Category.builder().name(name).slug(name).build());
+        Topic topic = topicRepository.save(Topic.builder().category(category).name(name).slug(name).build());
+
+        // Read the snapshot directly: no miss-triggered refresh involved
+        assertThat(categoryTreeService.getTree().findCategory(category.getId())).isPresent();
+        assertThat(categoryTreeService.getTree().isTopicInCategory(topic.getId(), category.getId())).isTrue();
+    }
+
+    @Test
+    void missTriggeredRefreshesAreRateLimited() {
+        long first = testData.category();
+        assertThat(categoryTreeService.findCategory(first)).isPresent();
+
+        long second = testData.category();
+        assertThat(categoryTreeService.findCategory(second)).isEmpty();
+        assertThat(categoryTreeService.findCategory(Long.MAX_VALUE - 3)).isEmpty();
+
+        lastMissRefreshAt.set(0);
+        assertThat(categoryTreeService.findCategory(second)).isPresent();
+    }
+}
@@ -0,0 +1,119 @@
+package com.mediaapp.service;
+
+import com.mediaapp.dto.request.CreateQuestionRequest;
+import com.mediaapp.dto.response.QuestionResponse;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.support.TestData;
+import com.mediaapp.util.Constants;
+import com.mediaapp.util.SlugGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuestionCreateTest extends AbstractPostgresIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int CREATES_PER_THREAD = 5;
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private CategoryTreeService categoryTreeService;
+
+    @Autowired
+    private SlugGenerator slugGenerator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private long userId;
+    private long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        userId = testData.user();
+        categoryId = testData.category();
+        categoryTreeService.refreshIfChanged();
+    }
+
+    @Test
+    void concurrentCreatesWithTheSameTitleAllSucceedWithDistinctSlugs() throws Exception {
+        String title = "Đà Nẵng " + TestData.unique("pooling");
+        String baseSlug = slugGenerator.generateSlug(title);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<QuestionResponse> created = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<List<QuestionResponse>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit((Callable<List<QuestionResponse>>) () -> {
+                    start.await();
+                    List<QuestionResponse> responses = new ArrayList<>();
+                    for (int i = 0; i < CREATES_PER_THREAD; i++) {
+                        responses.add(questionService.create(request(title), userId));
+                    }
+                    return responses;
+                }));
+            }
+            start.countDown();
+            for (Future<List<QuestionResponse>> future : futures) {
+                created.addAll(future.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(created).hasSize(THREADS * CREATES_PER_THREAD);
+        assertThat(created).extracting(QuestionResponse::getId).doesNotHaveDuplicates();
+        assertThat(created).extracting(QuestionResponse::getSlug).doesNotHaveDuplicates()
+            .allSatisfy(slug -> assertThat(slug).startsWith(baseSlug + "-"));
+        assertThat(created).allSatisfy(question -> assertThat(question.getSlug()).isEqualTo(baseSlug + "-" + question.getId()));
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM questions WHERE title = ?", Long.class, title))
+            .isEqualTo(THREADS * CREATES_PER_THREAD);
+    }
+
+    @Test
+    void slugTakenByAnotherRowIsRetriedWithAFreshId() {
+        String title = TestData.unique("conflict");
+        String baseSlug = slugGenerator.generateSlug(title);
+        double conflicts = meterRegistry.counter("questions.create.slug_conflicts").count();
+
+        QuestionResponse first = questionService.create(request(title), userId);
+        // Take the slug the next pooled ID would get; a first ID ending its block has no next one in memory
+        if (first.getId() % Constants.Ids.ALLOCATION_SIZE == 0) {
+            first = questionService.create(request(title), userId);
+        }
+        long nextId = first.getId() + 1;
+        jdbcTemplate.update("INSERT INTO questions (category_id, user_id, title, content, status, slug) " +
+            "VALUES (?, ?, 'Imported question', 'imported', 'DRAFT', ?)", categoryId, userId, baseSlug + "-" + nextId);
+
+        QuestionResponse second = questionService.create(request(title), userId);
+
+        assertThat(second.getId()).isNotEqualTo(nextId);
+        assertThat(second.getSlug()).isEqualTo(baseSlug + "-" + second.getId());
+        assertThat(meterRegistry.counter("questions.create.slug_conflicts").count()).isEqualTo(conflicts + 1);
+    }
+
+    private CreateQuestionRequest request(String title) {
+        return CreateQuestionRequest.builder()
+            .title(title)
+            .content("How should IDs be allocated for fast inserts?")
+            .categoryId(categoryId)
+            .status(Constants.QuestionStatus.PUBLISHED)
+            .build();
+    }
+}
@@ -0,0 +1,60 @@
+package com.mediaapp.service;
+
+import com.mediaapp.dto.response.SearchResponse;
+import com.mediaapp.dto.response.SearchResultDto;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.support.TestData;
+import com.mediaapp.util.Highlight;
+import com.mediaapp.util.SearchMode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SearchHighlightTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private SearchService searchService;
+
+    @Test
+    void fullTextHitsCarryPlainExcerptAndEscapedHighlight() {
+        String word = TestData.unique("zebrafish").replace("-", "");
+        long question = testData.question(testData.user(), testData.category(), "PUBLISHED");
+        jdbcTemplate.update("UPDATE questions SET content = ? WHERE id = ?",
+            "Profiling 1 < 2 & <b>bold</b> claims about " + word + " tuning in production", question);
+
+        SearchResponse response = searchService.searchQuestions(word, SearchMode.PG_ONLY, PageRequest.of(0, 10));
+
+        assertThat(response.getContent()).extracting(SearchResultDto::getId).containsExactly(question);
+        SearchResultDto hit = response.getContent().get(0);
+        assertThat(hit.getExcerpt())
+            .contains(word)
+            .doesNotContain("<mark>", String.valueOf(Highlight.START), String.valueOf(Highlight.STOP));
+        assertThat(hit.getHighlight())
+            .contains("<mark>" + word + "</mark>", "1 &lt; 2 &amp;")
+            .doesNotContain("<b>");
+    }
+
+    @Test
+    void vietnameseTextMatchesWithOrWithoutDiacritics() {
+        String word = TestData.unique("quokka").replace("-", "");
+        long question = testData.question(testData.user(), testData.category(), "PUBLISHED");
+        jdbcTemplate.update("UPDATE questions SET content = ? WHERE id = ?",
+            "Tuyển dụng lập trình viên " + word + " ở Hà Nội", question);
+        long post = testData.post(testData.user(), testData.category(), "PUBLISHED");
+        jdbcTemplate.update("UPDATE posts SET summary = ? WHERE id = ?", "Đường đến " + word + " ở Đà Nẵng", post);
+
+        SearchResponse accented = searchService.searchQuestions(word + " Hà Nội", SearchMode.PG_ONLY, PageRequest.of(0, 10));
+        SearchResponse folded = searchService.searchQuestions(word + " ha noi", SearchMode.PG_ONLY, PageRequest.of(0, 10));
+        SearchResponse posts = searchService.searchPosts("\"duong den " + word + "\" da nang", SearchMode.PG_ONLY,
+            PageRequest.of(0, 10));
+
+        assertThat(accented.getContent()).extracting(SearchResultDto::getId).containsExactly(question);
+        assertThat(folded.getContent()).extracting(SearchResultDto::getId).containsExactly(question);
+        // Highlighting folds diacritics too, the snippet keeps the original text
+        assertThat(folded.getContent().get(0).getHighlight()).contains("<mark>Hà</mark> <mark>Nội</mark>");
+        assertThat(posts.getContent()).extracting(SearchResultDto::getId).containsExactly(post);
+        assertThat(posts.getContent().get(0).getHighlight()).contains("<mark>Đường</mark>", "<mark>Đà</mark>");
+    }
+}
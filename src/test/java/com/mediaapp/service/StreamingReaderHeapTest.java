@@ -0,0 +1,77 @@
+package com.mediaapp.service;
+
+import com.mediaapp.model.entity.Answer;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.util.Constants;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Walks one million answer entities through StreamingReader under the fixed -Xmx of the
+ * "bounded-heap" surefire execution. The rows come from generate_series, not from the answers table:
+ * the cursor, entity hydration and persistence context are the same, without minutes of seeding
+ * (each inserted answer fires a per-row answer_count trigger).
+ */
+@Tag("bounded-heap")
+class StreamingReaderHeapTest extends AbstractPostgresIntegrationTest {
+
+    private static final int ROWS = 1_000_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    /** About 1 KB of content per row: ~1 GB in total, several times the heap */
+    private static final String SYNTHETIC_ANSWERS =
+        "SELECT g AS id, :questionId AS question_id, :userId AS user_id, repeat(md5(g::text), 32) AS content, " +
+        "false AS is_accepted, 0 AS like_count, now() AS created_at, now() AS updated_at, " +
+        "CAST(NULL AS timestamptz) AS deleted_at FROM generate_series(1, :rows) g ORDER BY g";
+
+    @Autowired
+    private StreamingReader streamingReader;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void walksAMillionEntitiesWithoutHoldingThem() {
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        long user = testData.user();
+        long question = testData.question(user, testData.category(), Constants.QuestionStatus.PUBLISHED);
+        long[] contentBytes = {0};
+        long[] lastId = {0};
+        int[] mostManaged = {0};
+
+        long rows = streamingReader.forEachChunk("synthetic-answers", () -> syntheticAnswers(question, user), CHUNK_SIZE, chunk -> {
+            for (Answer answer : chunk) {
+                assertThat(answer.getId()).isEqualTo(lastId[0] + 1);
+                lastId[0] = answer.getId();
+                contentBytes[0] += answer.getContent().length();
+            }
+            // Entities of earlier chunks must be gone from the persistence context
+            mostManaged[0] = Math.max(mostManaged[0], entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+        });
+
+        assertThat(rows).isEqualTo(ROWS);
+        assertThat(lastId[0]).isEqualTo(ROWS);
+        assertThat(mostManaged[0]).isLessThanOrEqualTo(CHUNK_SIZE);
+        assertThat(contentBytes[0]).as("content streamed vs max heap %d", maxHeap).isGreaterThan(3 * maxHeap);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<Answer> syntheticAnswers(long questionId, long userId) {
+        return entityManager.createNativeQuery(SYNTHETIC_ANSWERS, Answer.class)
+            .setParameter("questionId", questionId)
+            .setParameter("userId", userId)
+            .setParameter("rows", ROWS)
+            .setHint(HibernateHints.HINT_FETCH_SIZE, Constants.Streaming.FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .getResultStream();
+    }
+}
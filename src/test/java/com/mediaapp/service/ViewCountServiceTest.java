@@ -0,0 +1,69 @@
+package com.mediaapp.service;
+
+import com.mediaapp.exception.ResourceNotFoundException;
+import com.mediaapp.support.AbstractPostgresIntegrationTest;
+import com.mediaapp.util.Constants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class ViewCountServiceTest extends AbstractPostgresIntegrationTest {
+
+    @Autowired
+    private QuestionService questionService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @MockitoSpyBean
+    private TrendingService trendingService;
+
+    @Test
+    void flushCountsViewsOfPublishedRowsAndForwardsOnlyThoseToTrending() {
+        long user = testData.user();
+        long category = testData.category();
+        long published = testData.question(user, category, Constants.QuestionStatus.PUBLISHED);
+        long draft = testData.question(user, category, Constants.QuestionStatus.DRAFT);
+        long unknown = Long.MAX_VALUE - 7;
+
+        viewCountService.recordQuestionView(published);
+        viewCountService.recordQuestionView(published);
+        viewCountService.recordQuestionView(draft);
+        viewCountService.recordQuestionView(unknown);
+        viewCountService.flush();
+
+        assertThat(testData.viewCount("questions", published)).isEqualTo(2);
+        assertThat(testData.viewCount("questions", draft)).isZero();
+        verify(trendingService).recordDelta(eq(Constants.EntityType.QUESTION), eq(TrendingService.Signal.VIEW),
+            eq(List.of(published)), eq(2L));
+        verify(trendingService, never()).recordDelta(eq(Constants.EntityType.QUESTION),
+            eq(TrendingService.Signal.VIEW), argThat(ids -> ids.contains(draft) || ids.contains(unknown)), anyLong());
+    }
+
+    @Test
+    void incrementViewCountRejectsUnknownQuestions() {
+        assertThatThrownBy(() -> questionService.incrementViewCount(Long.MAX_VALUE - 11))
+            .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void incrementViewCountIgnoresSoftDeletedQuestions() {
+        long question = testData.question(testData.user(), testData.category(), Constants.QuestionStatus.PUBLISHED);
+        testData.softDeleteQuestion(question);
+
+        questionService.incrementViewCount(question);
+        viewCountService.flush();
+
+        assertThat(testData.viewCount("questions", question)).isZero();
+    }
+}
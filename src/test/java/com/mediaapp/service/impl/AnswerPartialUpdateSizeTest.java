@@ -0,0 +1,132 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.mapper.QuestionDocumentMapper;
+import com.mediaapp.mapper.QuestionDocumentMapperImpl;
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.model.entity.Answer;
+import com.mediaapp.model.entity.Category;
+import com.mediaapp.model.entity.Question;
+import com.mediaapp.model.entity.User;
+import com.mediaapp.repository.elasticsearch.PostEsRepository;
+import com.mediaapp.repository.elasticsearch.PostRequestEsRepository;
+import com.mediaapp.repository.elasticsearch.QuestionEsRepository;
+import com.mediaapp.repository.jpa.AnswerRepository;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.PostRequestRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.AnswerCount;
+import com.mediaapp.service.ElasticsearchBulkIndexer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.MappingElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.SimpleElasticsearchMappingContext;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bytes sent to Elasticsearch for one new answer: the full question document the old sync re-indexed,
+ * against the scripted partial update syncAnswers() sends now.
+ */
+class AnswerPartialUpdateSizeTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AnswerPartialUpdateSizeTest.class);
+
+    /** A typical answer body, about 600 bytes */
+    private static final String ANSWER_CONTENT = "Check the connection pool size and the statement timeout first. ".repeat(10);
+
+    private final QuestionRepository questionRepository = mock(QuestionRepository.class);
+    private final AnswerRepository answerRepository = mock(AnswerRepository.class);
+    private final ElasticsearchOperations operations = mock(ElasticsearchOperations.class);
+    private final QuestionDocumentMapper questionDocumentMapper = new QuestionDocumentMapperImpl();
+    private final MappingElasticsearchConverter converter =
+        new MappingElasticsearchConverter(new SimpleElasticsearchMappingContext());
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void partialUpdateSizeDoesNotGrowWithTheAnswersAlreadyEmbedded(int existingAnswers) {
+        converter.afterPropertiesSet();
+        User user = User.builder().id(7L).username("answerer").firstName("Some").lastName("Answerer").build();
+        Question question = Question.builder().id(42L).title("Why does the pool run dry under load?")
+            .content(ANSWER_CONTENT).slug("why-does-the-pool-run-dry-under-load").user(user)
+            .category(Category.builder().id(3L).name("Databases").slug("databases").build())
+            .answerCount(existingAnswers + 1).build();
+        List<Answer> answers = LongStream.rangeClosed(1, existingAnswers + 1)
+            .mapToObj(id -> Answer.builder().id(id).question(question).user(user).content(ANSWER_CONTENT)
+                .createdAt(Instant.parse("2026-01-01T00:00:00Z")).updatedAt(Instant.parse("2026-01-01T00:00:00Z")).build())
+            .toList();
+        Answer added = answers.get(existingAnswers);
+
+        int fullBytes = utf8Length(converter.mapObject(questionDocumentMapper.toDocument(question, answers)).toJson());
+        int partialBytes = utf8Length(scriptBody(syncOne(added, existingAnswers + 1)));
+
+        log.info("answers={} full document={} B, partial update={} B", existingAnswers + 1, fullBytes, partialBytes);
+        assertThat(partialBytes).isLessThan(fullBytes / existingAnswers * 2);
+        // Updating the first answer costs the same: only the digits of the IDs differ
+        assertThat(partialBytes).isCloseTo(utf8Length(scriptBody(syncOne(answers.get(0), existingAnswers + 1))), within(8));
+    }
+
+    private UpdateQuery syncOne(Answer answer, int answerCount) {
+        AnswerCount count = mock(AnswerCount.class);
+        when(count.getId()).thenReturn(answer.getQuestion().getId());
+        when(count.getAnswerCount()).thenReturn(answerCount);
+        when(answerRepository.claimNeedSyncIds(anyLong(), anyInt(), anyLong()))
+            .thenReturn(List.of(answer.getId())).thenReturn(List.of());
+        when(answerRepository.findWithUserByIdIn(anyCollection())).thenReturn(List.of(answer));
+        when(questionRepository.findAnswerCountsByIdIn(anyCollection())).thenReturn(List.of(count));
+        when(operations.getElasticsearchConverter()).thenReturn(converter);
+
+        service().syncAnswers();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UpdateQuery>> queries = ArgumentCaptor.forClass(List.class);
+        verify(operations, atLeastOnce()).bulkUpdate(queries.capture(), eq(QuestionDocument.class));
+        List<UpdateQuery> sent = queries.getValue();
+        assertThat(sent).hasSize(1);
+        return sent.get(0);
+    }
+
+    /** The script part of the bulk update action, as serialized on the wire */
+    private static String scriptBody(UpdateQuery query) {
+        return Document.from(Map.of("script", Map.of(
+            "source", query.getScript(), "lang", query.getLang(), "params", query.getParams()))).toJson();
+    }
+
+    private static int utf8Length(String json) {
+        return json.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private ElasticsearchSyncServiceImpl service() {
+        ElasticsearchSyncServiceImpl service = new ElasticsearchSyncServiceImpl(
+            questionRepository, mock(PostRepository.class), mock(PostRequestRepository.class), answerRepository,
+            mock(QuestionEsRepository.class), mock(PostEsRepository.class), mock(PostRequestEsRepository.class),
+            mock(SearchDocumentLoader.class), questionDocumentMapper, operations, mock(ElasticsearchBulkIndexer.class),
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry(), Runnable::run);
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        return service;
+    }
+}
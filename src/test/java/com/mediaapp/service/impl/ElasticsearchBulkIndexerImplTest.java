@@ -0,0 +1,216 @@
+package com.mediaapp.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkOperation;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import co.elastic.clients.elasticsearch.core.bulk.OperationType;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchBulkIndexerImplTest {
+
+    private static final String INDEX = "questions";
+
+    private final FakeTransport transport = new FakeTransport();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private ElasticsearchBulkIndexerImpl indexer;
+
+    @AfterEach
+    void tearDown() {
+        if (indexer != null) {
+            indexer.stop();
+        }
+    }
+
+    @Test
+    void documentRejectedWith429IsRetriedUntilIndexed() {
+        transport.respond("2", 429);
+        indexer = indexer(2);
+
+        Set<String> failed = indexer.index("QUESTION", INDEX, List.of("1", "2"), Function.identity());
+
+        assertThat(failed).isEmpty();
+        assertThat(transport.sent()).containsExactlyInAnyOrder("1", "2", "2");
+        assertThat(documents("retried")).isEqualTo(1);
+        assertThat(documents("indexed")).isEqualTo(2);
+        assertThat(registry.get("es.bulk.rejections").tag("entity", "QUESTION").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void documentStillRejectedAfterMaxRetriesIsReportedFailed() {
+        transport.respond("1", 429, 429, 429, 429);
+        indexer = indexer(2);
+
+        Set<String> failed = indexer.index("QUESTION", INDEX, List.of("1", "2"), Function.identity());
+
+        assertThat(failed).containsExactly("1");
+        assertThat(transport.sent()).containsExactlyInAnyOrder("1", "2", "1", "1");
+        assertThat(documents("retried")).isEqualTo(2);
+        assertThat(documents("failed")).isEqualTo(1);
+    }
+
+    @Test
+    void otherItemErrorsAreFinalAndReachOnlyTheBatchOfTheirDocument() throws Exception {
+        transport.respond("2", 400);
+        transport.respond("4", 400);
+        indexer = indexer(2);
+
+        CompletableFuture<Set<String>> questions = CompletableFuture.supplyAsync(() ->
+            indexer.index("QUESTION", INDEX, List.of("1", "2"), Function.identity()));
+        CompletableFuture<Set<String>> posts = CompletableFuture.supplyAsync(() ->
+            indexer.index("POST", "posts", List.of("3", "4"), Function.identity()));
+
+        assertThat(questions.get()).containsExactly("2");
+        assertThat(posts.get()).containsExactly("4");
+        assertThat(transport.sent()).containsExactlyInAnyOrder("1", "2", "3", "4");
+        assertThat(documents("retried")).isZero();
+    }
+
+    @Test
+    void failedRequestRetriesEveryDocumentOfIt() {
+        transport.failRequests.set(1);
+        indexer = indexer(2);
+
+        Set<String> failed = indexer.index("QUESTION", INDEX, List.of("1", "2"), Function.identity());
+
+        List<String> firstRequest = transport.requests.get(0);
+        assertThat(failed).isEmpty();
+        assertThat(documents("retried")).isEqualTo(firstRequest.size());
+        assertThat(documents("indexed")).isEqualTo(2);
+        assertThat(transport.sent()).hasSize(2 + firstRequest.size());
+    }
+
+    private double documents(String outcome) {
+        return registry.find("es.bulk.documents").tag("entity", "QUESTION").tag("outcome", outcome).counters().stream()
+            .mapToDouble(Counter::count)
+            .sum();
+    }
+
+    private ElasticsearchBulkIndexerImpl indexer(int maxRetries) {
+        ElasticsearchConverter converter = mock(ElasticsearchConverter.class);
+        when(converter.mapObject(any())).thenAnswer(invocation -> Document.from(Map.of("id", invocation.getArgument(0))));
+        ElasticsearchOperations operations = mock(ElasticsearchOperations.class);
+        when(operations.getElasticsearchConverter()).thenReturn(converter);
+
+        ElasticsearchBulkIndexerImpl indexer =
+            new ElasticsearchBulkIndexerImpl(new ElasticsearchClient(transport), operations, registry);
+        ReflectionTestUtils.setField(indexer, "maxOperations", 1000);
+        ReflectionTestUtils.setField(indexer, "maxBytes", 5L << 20);
+        ReflectionTestUtils.setField(indexer, "flushIntervalMs", 20L);
+        ReflectionTestUtils.setField(indexer, "maxConcurrentRequests", 2);
+        ReflectionTestUtils.setField(indexer, "maxRetries", maxRetries);
+        ReflectionTestUtils.setField(indexer, "initialBackoffMs", 1L);
+        ReflectionTestUtils.setField(indexer, "awaitTimeoutMs", 10_000L);
+        indexer.start();
+        return indexer;
+    }
+
+    /**
+     * Answers bulk requests with scripted per-document statuses (201 unless scripted) and records
+     * the document IDs of every request it receives
+     */
+    private static final class FakeTransport implements ElasticsearchTransport {
+
+        private final JsonpMapper mapper = new JacksonJsonpMapper();
+        private final Map<String, Deque<Integer>> statuses = new ConcurrentHashMap<>();
+        private final List<List<String>> requests = new CopyOnWriteArrayList<>();
+        private final AtomicInteger failRequests = new AtomicInteger();
+
+        void respond(String id, Integer... statuses) {
+            this.statuses.put(id, new ArrayDeque<>(List.of(statuses)));
+        }
+
+        /**
+         * Every document ID sent, once per attempt; how the ingester groups them into requests depends on timing
+         */
+        List<String> sent() {
+            return requests.stream().flatMap(List::stream).toList();
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                      Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                      TransportOptions options) throws IOException {
+            throw new UnsupportedOperationException("the bulk ingester only sends asynchronous requests");
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                          Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                          TransportOptions options) {
+            List<BulkOperation> operations = ((BulkRequest) request).operations();
+            requests.add(operations.stream().map(operation -> operation.index().id()).toList());
+            if (failRequests.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+                return CompletableFuture.failedFuture(new IOException("Connection reset"));
+            }
+            return CompletableFuture.supplyAsync(() -> (ResponseT) respond(operations));
+        }
+
+        private BulkResponse respond(List<BulkOperation> operations) {
+            List<BulkResponseItem> items = operations.stream().map(operation -> {
+                String id = operation.index().id();
+                Deque<Integer> scripted = statuses.get(id);
+                Integer polled = scripted == null ? null : scripted.poll();
+                int status = polled == null ? 201 : polled;
+                return BulkResponseItem.of(item -> {
+                    item.operationType(OperationType.Index).index(operation.index().index()).id(id).status(status);
+                    if (status >= 300) {
+                        item.error(error -> error
+                            .type(status == 429 ? "es_rejected_execution_exception" : "document_parsing_exception")
+                            .reason("status " + status));
+                    }
+                    return item;
+                });
+            }).toList();
+            return BulkResponse.of(response -> response
+                .errors(items.stream().anyMatch(item -> item.error() != null))
+                .took(1)
+                .items(items));
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return mapper;
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.mapper.QuestionDocumentMapper;
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.repository.elasticsearch.PostEsRepository;
+import com.mediaapp.repository.elasticsearch.PostRequestEsRepository;
+import com.mediaapp.repository.elasticsearch.QuestionEsRepository;
+import com.mediaapp.repository.jpa.AnswerRepository;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.PostRequestRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.IdRange;
+import com.mediaapp.repository.jpa.projection.ViewCount;
+import com.mediaapp.service.ElasticsearchBulkIndexer;
+import com.mediaapp.service.ElasticsearchSyncService;
+import com.mediaapp.util.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.ScriptType;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElasticsearchSyncServiceImplTest {
+
+    private static final Instant LOADED_AT = Instant.parse("2026-10-18T08:00:00Z");
+
+    private final QuestionRepository questionRepository = mock(QuestionRepository.class);
+    private final QuestionEsRepository questionEsRepository = mock(QuestionEsRepository.class);
+    private final ElasticsearchOperations operations = mock(ElasticsearchOperations.class);
+    private final SearchDocumentLoader searchDocumentLoader = mock(SearchDocumentLoader.class);
+    private final ElasticsearchBulkIndexer bulkIndexer = mock(ElasticsearchBulkIndexer.class);
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+
+    @Test
+    void batchIsIndexedOutsideTheClaimAndClearTransactions() {
+        when(questionRepository.findNeedSyncIdRange()).thenReturn(idRange(1L, 3L));
+        when(questionRepository.claimNeedSyncIds(eq(0L), eq(3L), eq(100), anyLong())).thenReturn(List.of(3L, 1L, 2L));
+        when(searchDocumentLoader.loadQuestions(anyList())).thenReturn(List.of(
+            question(1, LOADED_AT.minusSeconds(60)), question(2, LOADED_AT), question(3, LOADED_AT.minusSeconds(30))));
+        when(bulkIndexer.index(eq("QUESTION"), eq(QuestionDocument.class), anyList(), any())).thenAnswer(invocation -> {
+            assertThat(transactionManager.open).as("transactions open while Elasticsearch indexes").isZero();
+            return Set.of("2");
+        });
+
+        ElasticsearchSyncService.SyncResult result = service(100).syncQuestions();
+
+        assertThat(result.indexed()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(transactionManager.committed).isEqualTo(2);
+        verify(questionRepository).clearNeedSync(List.of(1L, 3L), LOADED_AT);
+        verify(questionRepository).releaseSyncClaims(List.of(3L, 1L, 2L));
+    }
+
+    @Test
+    void leasesAreReleasedWhenTheBulkFails() {
+        when(questionRepository.findNeedSyncIdRange()).thenReturn(idRange(5L, 5L));
+        when(questionRepository.claimNeedSyncIds(eq(4L), eq(5L), eq(100), anyLong())).thenReturn(List.of(5L));
+        when(searchDocumentLoader.loadQuestions(anyList())).thenReturn(List.of(question(5, LOADED_AT)));
+        when(bulkIndexer.index(eq("QUESTION"), eq(QuestionDocument.class), anyList(), any()))
+            .thenThrow(new IllegalStateException("bulk ingester closed"));
+
+        assertThatThrownBy(() -> service(100).syncQuestions()).hasRootCauseInstanceOf(IllegalStateException.class);
+
+        verify(questionRepository, never()).clearNeedSync(anyCollection(), any());
+        verify(questionRepository).releaseSyncClaims(List.of(5L));
+        assertThat(transactionManager.open).isZero();
+    }
+
+    @Test
+    void keysetCursorAdvancesPastEachBatchUntilAShortOne() {
+        when(questionRepository.findNeedSyncIdRange()).thenReturn(idRange(1L, 5L));
+        when(questionRepository.claimNeedSyncIds(eq(0L), eq(5L), eq(2), anyLong())).thenReturn(List.of(1L, 2L));
+        when(questionRepository.claimNeedSyncIds(eq(2L), eq(5L), eq(2), anyLong())).thenReturn(List.of(3L, 4L));
+        when(questionRepository.claimNeedSyncIds(eq(4L), eq(5L), eq(2), anyLong())).thenReturn(List.of(5L));
+        when(searchDocumentLoader.loadQuestions(anyList())).thenAnswer(invocation ->
+            invocation.<List<Long>>getArgument(0).stream().map(id -> question(id, LOADED_AT.plusSeconds(id))).toList());
+        when(bulkIndexer.index(eq("QUESTION"), eq(QuestionDocument.class), anyList(), any())).thenReturn(Set.of());
+
+        ElasticsearchSyncService.SyncResult result = service(2).syncQuestions();
+
+        assertThat(result.indexed()).isEqualTo(5);
+        assertThat(result.failed()).isZero();
+        assertThat(result.batches()).isEqualTo(3);
+        verify(questionRepository).clearNeedSync(List.of(1L, 2L), LOADED_AT.plusSeconds(2));
+        verify(questionRepository).clearNeedSync(List.of(3L, 4L), LOADED_AT.plusSeconds(4));
+        verify(questionRepository).clearNeedSync(List.of(5L), LOADED_AT.plusSeconds(5));
+        verify(questionRepository, times(3)).claimNeedSyncIds(anyLong(), anyLong(), anyInt(), anyLong());
+    }
+
+    @Test
+    void flaggedRangeIsSplitIntoOnePartitionPerWorker() {
+        when(questionRepository.findNeedSyncIdRange()).thenReturn(idRange(1L, 10L));
+        when(questionRepository.claimNeedSyncIds(eq(0L), eq(5L), eq(100), anyLong())).thenReturn(List.of(2L));
+        when(questionRepository.claimNeedSyncIds(eq(5L), eq(10L), eq(100), anyLong())).thenReturn(List.of(9L));
+        when(searchDocumentLoader.loadQuestions(anyList())).thenAnswer(invocation ->
+            invocation.<List<Long>>getArgument(0).stream().map(id -> question(id, LOADED_AT)).toList());
+        when(bulkIndexer.index(eq("QUESTION"), eq(QuestionDocument.class), anyList(), any())).thenReturn(Set.of());
+        ElasticsearchSyncServiceImpl service = service(100);
+        ReflectionTestUtils.setField(service, "workers", 2);
+
+        ElasticsearchSyncService.SyncResult result = service.syncQuestions();
+
+        assertThat(result.indexed()).isEqualTo(2);
+        verify(questionRepository).clearNeedSync(List.of(2L), LOADED_AT);
+        verify(questionRepository).clearNeedSync(List.of(9L), LOADED_AT);
+    }
+
+    @Test
+    void tombstonesAreDeletedFromElasticsearchThenClearedOneTransactionPerBatch() {
+        when(questionRepository.claimTombstoneIds(eq(0L), eq(2), anyLong())).thenReturn(List.of(4L, 7L));
+        when(questionRepository.claimTombstoneIds(eq(7L), eq(2), anyLong())).thenReturn(List.of(9L));
+
+        ElasticsearchSyncService.PurgeResult result = service(2).purgeDeletedQuestions();
+
+        assertThat(result.deleted()).isEqualTo(3);
+        assertThat(result.batches()).isEqualTo(2);
+        assertThat(transactionManager.committed).isEqualTo(2);
+        InOrder inOrder = inOrder(questionEsRepository, questionRepository);
+        inOrder.verify(questionEsRepository).deleteAllByIdIn(List.of("4", "7"));
+        inOrder.verify(questionRepository).clearTombstones(List.of(4L, 7L));
+        inOrder.verify(questionEsRepository).deleteAllByIdIn(List.of("9"));
+        inOrder.verify(questionRepository).clearTombstones(List.of(9L));
+    }
+
+    @Test
+    void tombstoneFlagsAreKeptWhenTheElasticsearchDeleteFails() {
+        when(questionRepository.claimTombstoneIds(eq(0L), eq(100), anyLong())).thenReturn(List.of(4L));
+        doThrow(new IllegalStateException("cluster unavailable")).when(questionEsRepository).deleteAllByIdIn(anyList());
+
+        assertThatThrownBy(() -> service(100).purgeDeletedQuestions()).isInstanceOf(IllegalStateException.class);
+
+        verify(questionRepository, never()).clearTombstones(anyCollection());
+        assertThat(transactionManager.committed).isZero();
+        assertThat(transactionManager.open).isZero();
+    }
+
+    @Test
+    void viewCountsArePushedAsInlineScriptsOneBulkPerBatch() {
+        when(questionRepository.findViewCountsByIdIn(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<Long>>getArgument(0).stream().map(id -> viewCount(id, id * 10)).toList());
+
+        int updated = service(100).syncQuestionViewCounts(LongStream.rangeClosed(1, 250).boxed().toList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UpdateQuery>> batches = ArgumentCaptor.forClass(List.class);
+        verify(operations, times(3)).bulkUpdate(batches.capture(), eq(QuestionDocument.class));
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(100, 100, 50);
+        assertThat(updated).isEqualTo(250);
+
+        UpdateQuery first = batches.getAllValues().get(0).get(0);
+        assertThat(first.getId()).isEqualTo("1");
+        assertThat(first.getScriptType()).isEqualTo(ScriptType.INLINE);
+        assertThat(first.getLang()).isEqualTo("painless");
+        assertThat(first.getParams()).containsEntry("viewCount", 10L);
+    }
+
+    @Test
+    void backlogGaugesReadTheCountsOfTheLastCycleWithoutQuerying() {
+        when(questionRepository.findNeedSyncIdRange()).thenReturn(idRange(null, null));
+        when(questionRepository.countByNeedSyncTrueAndDeletedAtIsNotNull()).thenReturn(7L);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ElasticsearchSyncServiceImpl service = service(100, registry);
+        service.registerBacklogGauges();
+
+        assertThat(registry.get("es.sync.tombstones").tag("entity", "QUESTION").gauge().value()).isZero();
+        service.purgeDeletedQuestions();
+        service.syncQuestions();
+
+        for (int scrape = 0; scrape < 3; scrape++) {
+            assertThat(registry.get("es.sync.tombstones").tag("entity", "QUESTION").gauge().value()).isEqualTo(7);
+            assertThat(registry.get("es.sync.backlog").tag("entity", "QUESTION").gauge().value()).isZero();
+        }
+        verify(questionRepository, times(1)).countByNeedSyncTrueAndDeletedAtIsNotNull();
+        verify(questionRepository, never()).countByNeedSyncTrueAndDeletedAtIsNull();
+    }
+
+    private static QuestionDocument question(long id, Instant updatedAt) {
+        return QuestionDocument.builder().id(String.valueOf(id)).updatedAt(updatedAt).build();
+    }
+
+    private static IdRange idRange(Long minId, Long maxId) {
+        return new IdRange() {
+            @Override
+            public Long getMinId() {
+                return minId;
+            }
+
+            @Override
+            public Long getMaxId() {
+                return maxId;
+            }
+        };
+    }
+
+    private static ViewCount viewCount(long id, long count) {
+        return new ViewCount() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public Long getViewCount() {
+                return count;
+            }
+        };
+    }
+
+    private ElasticsearchSyncServiceImpl service(int batchSize) {
+        return service(batchSize, new SimpleMeterRegistry());
+    }
+
+    private ElasticsearchSyncServiceImpl service(int batchSize, SimpleMeterRegistry registry) {
+        ElasticsearchSyncServiceImpl service = new ElasticsearchSyncServiceImpl(
+            questionRepository, mock(PostRepository.class), mock(PostRequestRepository.class), mock(AnswerRepository.class),
+            questionEsRepository, mock(PostEsRepository.class), mock(PostRequestEsRepository.class),
+            searchDocumentLoader, mock(QuestionDocumentMapper.class), operations, bulkIndexer,
+            new TransactionTemplate(transactionManager), registry, Runnable::run);
+        ReflectionTestUtils.setField(service, "batchSize", batchSize);
+        ReflectionTestUtils.setField(service, "workers", 1);
+        ReflectionTestUtils.setField(service, "claimLeaseMs", Constants.EsSync.DEFAULT_CLAIM_LEASE_MS);
+        return service;
+    }
+
+    /**
+     * Counts the transactions the service opens, and how many are open at a given moment
+     */
+    private static final class RecordingTransactionManager implements PlatformTransactionManager {
+
+        private int open;
+        private int committed;
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            open++;
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+            open--;
+            committed++;
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+            open--;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.repository.jpa.BookmarkRepository;
+import com.mediaapp.repository.jpa.LikeRepository;
+import com.mediaapp.repository.jpa.projection.EntityRef;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InteractionLookupServiceImplTest {
+
+    private static final long USER = 1L;
+    private static final Instant LIKED_AT = Instant.parse("2026-10-18T08:00:00Z");
+
+    private final LikeRepository likeRepository = mock(LikeRepository.class);
+    private final BookmarkRepository bookmarkRepository = mock(BookmarkRepository.class);
+
+    private record Ref(String getEntityType, Long getEntityId, Instant getCreatedAt) implements EntityRef {
+    }
+
+    @Test
+    void likeMadeThroughAnotherNodeIsFoundAfterTheRefreshInterval() {
+        InteractionLookupServiceImpl service = service(Duration.ZERO);
+        assertThat(service.findLikedIds(USER, "POST", List.of(7L))).isEmpty();
+        verify(likeRepository, never()).findLikedEntityIds(anyLong(), any(), any());
+
+        // Another node commits the like: this node's onLiked never runs
+        when(likeRepository.findEntityRefsByUserIdCreatedAfter(anyLong(), any()))
+            .thenReturn(List.of(new Ref("POST", 7L, LIKED_AT)));
+        when(likeRepository.findLikedEntityIds(USER, "POST", List.of(7L))).thenReturn(List.of(7L));
+
+        assertThat(service.findLikedIds(USER, "POST", List.of(7L))).containsExactly(7L);
+    }
+
+    @Test
+    void negativesComeFromTheFilterWithinTheRefreshInterval() {
+        InteractionLookupServiceImpl service = service(Duration.ofHours(1));
+        when(likeRepository.findEntityRefsByUserId(USER)).thenReturn(List.of(new Ref("POST", 7L, LIKED_AT)));
+        when(likeRepository.findLikedEntityIds(USER, "POST", List.of(7L))).thenReturn(List.of(7L));
+
+        assertThat(service.findLikedIds(USER, "POST", List.of(7L, 8L, 9L))).containsExactly(7L);
+        assertThat(service.findLikedIds(USER, "POST", List.of(8L, 9L))).isEmpty();
+
+        verify(likeRepository, never()).findEntityRefsByUserIdCreatedAfter(anyLong(), any());
+    }
+
+    @Test
+    void catchUpReadsFromTheNewestRowSeenLessTheCommitLag() {
+        InteractionLookupServiceImpl service = service(Duration.ZERO);
+        when(likeRepository.findEntityRefsByUserId(USER)).thenReturn(List.of(new Ref("POST", 7L, LIKED_AT)));
+        Instant later = LIKED_AT.plusSeconds(600);
+        when(likeRepository.findEntityRefsByUserIdCreatedAfter(USER, LIKED_AT.minusSeconds(30)))
+            .thenReturn(List.of(new Ref("ANSWER", 3L, later)));
+
+        service.findLikedIds(USER, "POST", List.of(8L));
+        service.findLikedIds(USER, "POST", List.of(8L));
+
+        verify(likeRepository).findEntityRefsByUserIdCreatedAfter(USER, LIKED_AT.minusSeconds(30));
+        verify(likeRepository).findEntityRefsByUserIdCreatedAfter(USER, later.minusSeconds(30));
+    }
+
+    @Test
+    void bookmarksWrittenElsewhereAreCaughtUpToo() {
+        InteractionLookupServiceImpl service = service(Duration.ZERO);
+        when(bookmarkRepository.findEntityRefsByUserIdCreatedAfter(anyLong(), any()))
+            .thenReturn(List.of(new Ref("QUESTION", 5L, LIKED_AT)));
+        when(bookmarkRepository.findBookmarkedEntityIds(USER, "QUESTION", List.of(5L))).thenReturn(List.of(5L));
+
+        assertThat(service.findBookmarkedIds(USER, "QUESTION", List.of(5L, 6L))).containsExactly(5L);
+    }
+
+    private InteractionLookupServiceImpl service(Duration refreshInterval) {
+        InteractionLookupServiceImpl service =
+            new InteractionLookupServiceImpl(likeRepository, bookmarkRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(service, "headroom", 256);
+        ReflectionTestUtils.setField(service, "maxBytes", 1L << 20);
+        ReflectionTestUtils.setField(service, "expireAfterWrite", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(service, "refreshInterval", refreshInterval);
+        service.init();
+        return service;
+    }
+}
@@ -0,0 +1,286 @@
+package com.mediaapp.service.impl;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.ErrorResponse;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
+import co.elastic.clients.elasticsearch.indices.DeleteIndexResponse;
+import co.elastic.clients.elasticsearch.indices.ExistsRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasResponse;
+import co.elastic.clients.elasticsearch.indices.GetIndexRequest;
+import co.elastic.clients.elasticsearch.indices.GetIndexResponse;
+import co.elastic.clients.elasticsearch.indices.IndexState;
+import co.elastic.clients.elasticsearch.indices.PutIndicesSettingsRequest;
+import co.elastic.clients.elasticsearch.indices.PutIndicesSettingsResponse;
+import co.elastic.clients.elasticsearch.indices.RefreshRequest;
+import co.elastic.clients.elasticsearch.indices.RefreshResponse;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesResponse;
+import co.elastic.clients.elasticsearch.indices.get_alias.IndexAliases;
+import co.elastic.clients.elasticsearch.indices.update_aliases.Action;
+import co.elastic.clients.json.JsonpMapper;
+import co.elastic.clients.json.jackson.JacksonJsonpMapper;
+import co.elastic.clients.transport.ElasticsearchTransport;
+import co.elastic.clients.transport.Endpoint;
+import co.elastic.clients.transport.TransportOptions;
+import co.elastic.clients.transport.endpoints.BooleanResponse;
+import com.mediaapp.model.document.QuestionDocument;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.PostRequestRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.ChangedRow;
+import com.mediaapp.service.ElasticsearchBulkIndexer;
+import com.mediaapp.service.ReindexService.Phase;
+import com.mediaapp.service.ReindexService.ReindexStatus;
+import com.mediaapp.service.StreamingReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReindexServiceImplTest {
+
+    private static final String ALIAS = "questions";
+
+    private final QuestionRepository questionRepository = mock(QuestionRepository.class);
+    private final SearchDocumentLoader searchDocumentLoader = mock(SearchDocumentLoader.class);
+    private final StreamingReader streamingReader = mock(StreamingReader.class);
+    private final ElasticsearchBulkIndexer bulkIndexer = mock(ElasticsearchBulkIndexer.class);
+    private final ElasticsearchOperations operations = mock(ElasticsearchOperations.class);
+    private final FakeTransport transport = new FakeTransport();
+    private ReindexServiceImpl service;
+
+    private record Changed(Long getId, Instant getDeletedAt) implements ChangedRow {
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(operations.getIndexCoordinatesFor(QuestionDocument.class)).thenReturn(IndexCoordinates.of(ALIAS));
+        when(operations.indexOps(any(Class.class))).thenReturn(mock(IndexOperations.class));
+        when(operations.indexOps(any(IndexCoordinates.class))).thenReturn(mock(IndexOperations.class));
+        when(questionRepository.streamLiveIds()).thenReturn(Stream.of(1L, 2L));
+        when(questionRepository.countByDeletedAtIsNull()).thenReturn(2L);
+        when(streamingReader.forEachChunk(anyString(), any(), anyInt(), any())).thenAnswer(invocation -> {
+            List<Long> ids = invocation.<Supplier<Stream<Long>>>getArgument(1).get().toList();
+            invocation.<Consumer<List<Long>>>getArgument(3).accept(ids);
+            return (long) ids.size();
+        });
+        when(searchDocumentLoader.loadQuestions(anyList())).thenAnswer(invocation ->
+            invocation.<List<Long>>getArgument(0).stream()
+                .map(id -> QuestionDocument.builder().id(String.valueOf(id)).build())
+                .toList());
+        when(bulkIndexer.index(anyString(), anyString(), anyList(), any())).thenReturn(Set.of());
+
+        service = new ReindexServiceImpl(questionRepository, mock(PostRepository.class), mock(PostRequestRepository.class),
+            searchDocumentLoader, streamingReader, bulkIndexer, new ElasticsearchClient(transport), operations,
+            mock(PlatformTransactionManager.class), Runnable::run);
+        ReflectionTestUtils.setField(service, "batchSize", 100);
+        ReflectionTestUtils.setField(service, "catchUpMargin", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(service, "maxCatchUpPasses", 5);
+        ReflectionTestUtils.setField(service, "replicas", 1);
+        ReflectionTestUtils.setField(service, "refreshInterval", "1s");
+        ReflectionTestUtils.setField(service, "keepPrevious", 1);
+        service.init();
+    }
+
+    @Test
+    void aliasMovesToTheNewIndexInOneRequestAndOlderVersionsAreDropped() {
+        transport.indices.addAll(List.of("questions_v1", "questions_v2"));
+        transport.aliased.add("questions_v2");
+
+        ReindexStatus status = service.start("question");
+
+        assertThat(status.targetIndex()).isEqualTo("questions_v3");
+        assertThat(service.status()).singleElement()
+            .satisfies(run -> assertThat(run.phase()).isEqualTo(Phase.COMPLETED));
+        verify(bulkIndexer).index(eq("QUESTION"), eq("questions_v3"), anyList(), any());
+
+        List<Action> actions = transport.single(UpdateAliasesRequest.class).actions();
+        assertThat(actions).hasSize(2);
+        assertThat(actions.get(0).add().index()).isEqualTo("questions_v3");
+        assertThat(actions.get(0).add().alias()).isEqualTo(ALIAS);
+        assertThat(actions.get(1).remove().index()).isEqualTo("questions_v2");
+        assertThat(actions.get(1).remove().alias()).isEqualTo(ALIAS);
+
+        // questions_v2 is kept for rollback (keep-previous 1)
+        assertThat(transport.deleted).containsExactly("questions_v1");
+    }
+
+    @Test
+    void concreteIndexNamedLikeTheAliasIsRemovedInTheSameRequest() {
+        transport.indices.add(ALIAS);
+
+        service.start("QUESTION");
+
+        List<Action> actions = transport.single(UpdateAliasesRequest.class).actions();
+        assertThat(actions).hasSize(2);
+        assertThat(actions.get(0).add().index()).isEqualTo("questions_v1");
+        assertThat(actions.get(1).isRemoveIndex()).isTrue();
+        assertThat(actions.get(1).removeIndex().index()).isEqualTo(ALIAS);
+    }
+
+    @Test
+    void rowsChangedDuringTheLoadAndAfterTheSwapAreCaughtUp() {
+        when(questionRepository.findChangedSince(any(), anyLong(), any())).thenAnswer(invocation -> {
+            if (invocation.<Long>getArgument(1) > 0) {
+                return List.of();
+            }
+            // Row 5 is written while the alias moves, so only the catch-up after the swap sees it
+            return transport.swapped()
+                ? List.of(new Changed(5L, null))
+                : List.of(new Changed(3L, null), new Changed(4L, Instant.now()));
+        });
+
+        service.start("QUESTION");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<QuestionDocument>> batches = ArgumentCaptor.forClass(List.class);
+        verify(bulkIndexer, atLeastOnce()).index(eq("QUESTION"), eq("questions_v1"), batches.capture(), any());
+        List<List<String>> indexed = batches.getAllValues().stream()
+            .map(batch -> batch.stream().map(QuestionDocument::getId).toList())
+            .toList();
+        assertThat(indexed).contains(List.of("1", "2"), List.of("3"));
+        assertThat(indexed).last().isEqualTo(List.of("5"));
+        assertThat(transport.requests(BulkRequest.class))
+            .flatMap(BulkRequest::operations)
+            .allSatisfy(operation -> {
+                assertThat(operation.delete().index()).isEqualTo("questions_v1");
+                assertThat(operation.delete().id()).isEqualTo("4");
+            })
+            .isNotEmpty();
+    }
+
+    /**
+     * Serves the index admin calls of a reindex from in-memory index and alias sets,
+     * and records every request it receives
+     */
+    private static final class FakeTransport implements ElasticsearchTransport {
+
+        private final JsonpMapper mapper = new JacksonJsonpMapper();
+        private final Set<String> indices = ConcurrentHashMap.newKeySet();
+        private final Set<String> aliased = ConcurrentHashMap.newKeySet();
+        private final List<String> deleted = new CopyOnWriteArrayList<>();
+        private final List<Object> requests = new CopyOnWriteArrayList<>();
+
+        <R> List<R> requests(Class<R> type) {
+            return requests.stream().filter(type::isInstance).map(type::cast).toList();
+        }
+
+        <R> R single(Class<R> type) {
+            List<R> matching = requests(type);
+            assertThat(matching).hasSize(1);
+            return matching.get(0);
+        }
+
+        boolean swapped() {
+            return !requests(UpdateAliasesRequest.class).isEmpty();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <RequestT, ResponseT, ErrorT> ResponseT performRequest(RequestT request,
+                                                                      Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                      TransportOptions options) throws IOException {
+            requests.add(request);
+            return (ResponseT) respond(request);
+        }
+
+        private Object respond(Object request) {
+            if (request instanceof PutIndicesSettingsRequest put) {
+                // Only the index being built gets its settings changed
+                indices.addAll(put.index());
+                return PutIndicesSettingsResponse.of(response -> response.acknowledged(true));
+            }
+            if (request instanceof RefreshRequest) {
+                return RefreshResponse.of(response -> response.shards(shards -> shards.total(1).successful(1).failed(0)));
+            }
+            if (request instanceof GetIndexRequest get) {
+                String prefix = get.index().get(0).replace("*", "");
+                Map<String, IndexState> matching = indices.stream()
+                    .filter(index -> index.startsWith(prefix))
+                    .collect(Collectors.toMap(index -> index, index -> IndexState.of(state -> state)));
+                return GetIndexResponse.of(response -> response.result(matching));
+            }
+            if (request instanceof GetAliasRequest) {
+                if (aliased.isEmpty()) {
+                    throw new ElasticsearchException("indices.get_alias", ErrorResponse.of(error -> error
+                        .status(404)
+                        .error(cause -> cause.type("aliases_not_found_exception").reason("aliases missing"))));
+                }
+                Map<String, IndexAliases> result = aliased.stream().collect(Collectors.toMap(index -> index,
+                    index -> IndexAliases.of(aliases -> aliases.aliases(Map.of()))));
+                return GetAliasResponse.of(response -> response.result(result));
+            }
+            if (request instanceof ExistsRequest exists) {
+                return new BooleanResponse(indices.containsAll(exists.index()));
+            }
+            if (request instanceof UpdateAliasesRequest) {
+                return UpdateAliasesResponse.of(response -> response.acknowledged(true));
+            }
+            if (request instanceof DeleteIndexRequest delete) {
+                deleted.addAll(delete.index());
+                indices.removeAll(delete.index());
+                return DeleteIndexResponse.of(response -> response.acknowledged(true));
+            }
+            if (request instanceof BulkRequest) {
+                return BulkResponse.of(response -> response.errors(false).took(1).items(List.of()));
+            }
+            throw new UnsupportedOperationException(request.getClass().getSimpleName());
+        }
+
+        @Override
+        public <RequestT, ResponseT, ErrorT> CompletableFuture<ResponseT> performRequestAsync(RequestT request,
+                                                                                          Endpoint<RequestT, ResponseT, ErrorT> endpoint,
+                                                                                          TransportOptions options) {
+            throw new UnsupportedOperationException("reindex admin calls are synchronous");
+        }
+
+        @Override
+        public JsonpMapper jsonpMapper() {
+            return mapper;
+        }
+
+        @Override
+        public TransportOptions options() {
+            return null;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.SearchResponse;
+import com.mediaapp.dto.response.SearchResultDto;
+import com.mediaapp.mapper.SearchResultMapper;
+import com.mediaapp.model.document.PostDocument;
+import com.mediaapp.model.document.PostRequestDocument;
+import com.mediaapp.model.entity.PostRequest;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.PostRequestRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.util.SearchMode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SearchServiceImplTest {
+
+    private final PostRequestRepository postRequestRepository = mock(PostRequestRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final SearchResultMapper mapper = mock(SearchResultMapper.class);
+    private final ElasticsearchOperations operations = mock(ElasticsearchOperations.class);
+
+    @BeforeEach
+    void stubMapper() {
+        when(mapper.fromEntity(any(PostRequest.class)))
+            .thenAnswer(invocation -> result(invocation.<PostRequest>getArgument(0).getId()));
+        when(mapper.fromDocument(any(PostRequestDocument.class)))
+            .thenAnswer(invocation -> result(Long.valueOf(invocation.<PostRequestDocument>getArgument(0).getId())));
+    }
+
+    @Test
+    void timedOutElasticsearchCallIsInterruptedAndPostgresAnswers() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(operations.search(any(Query.class), eq(PostRequestDocument.class))).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(30_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException("interrupted", e);
+            }
+            return null;
+        });
+        stubPostgres(List.of(1L, 2L));
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            SearchResponse response = service(executor, 100)
+                .searchPostRequests("keyword", SearchMode.ES_FIRST, PageRequest.of(0, 10));
+
+            assertThat(response.getBackend()).isEqualTo("POSTGRES");
+            assertThat(response.isFallback()).isTrue();
+            assertThat(ids(response)).containsExactly(1L, 2L);
+            assertThat(interrupted.await(5, TimeUnit.SECONDS)).as("ES worker interrupted").isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void saturatedSearchExecutorFallsBackToPostgres() {
+        stubPostgres(List.of(7L));
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("saturated");
+        };
+
+        SearchResponse response = service(saturated, 1000)
+            .searchPostRequests("keyword", SearchMode.ES_FIRST, PageRequest.of(0, 10));
+
+        assertThat(response.getBackend()).isEqualTo("POSTGRES");
+        assertThat(response.isFallback()).isTrue();
+        assertThat(ids(response)).containsExactly(7L);
+    }
+
+    @Test
+    void hybridPagesAreCutFromTheMergedResultsWithoutRepeats() {
+        stubElasticsearch(LongStream.rangeClosed(1, 6).boxed().toList());
+        stubPostgres(LongStream.rangeClosed(4, 9).boxed().toList());
+        SearchServiceImpl service = service(Runnable::run, 1000);
+
+        List<Long> seen = new ArrayList<>();
+        for (int page = 0; page < 4; page++) {
+            SearchResponse response = service.searchPostRequests("keyword", SearchMode.HYBRID, PageRequest.of(page, 3));
+            assertThat(response.isTotalApproximate()).isTrue();
+            // Lower bound of the union (9 here), never below either backend's own total
+            assertThat(response.getTotalElements()).isBetween(6L, 9L);
+            seen.addAll(ids(response));
+        }
+
+        assertThat(seen).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+    }
+
+    @Test
+    void statusFilterFollowsTheSearchedEntity() {
+        SearchHits<?> empty = mock(SearchHits.class);
+        when(empty.getSearchHits()).thenReturn(List.of());
+        when(operations.search(any(Query.class), ArgumentMatchers.<Class<Object>>any())).thenAnswer(invocation -> empty);
+        SearchServiceImpl service = service(Runnable::run, 1000);
+
+        service.searchPosts("keyword", SearchMode.ES_FIRST, PageRequest.of(0, 10));
+        service.searchPostRequests("keyword", SearchMode.ES_FIRST, PageRequest.of(0, 10));
+
+        ArgumentCaptor<Query> posts = ArgumentCaptor.forClass(Query.class);
+        verify(operations).search(posts.capture(), eq(PostDocument.class));
+        assertThat(((NativeQuery) posts.getValue()).getQuery().toString()).contains("\"status\"", "PUBLISHED");
+
+        ArgumentCaptor<Query> requests = ArgumentCaptor.forClass(Query.class);
+        verify(operations).search(requests.capture(), eq(PostRequestDocument.class));
+        assertThat(((NativeQuery) requests.getValue()).getQuery().toString()).doesNotContain("\"status\"");
+    }
+
+    // ============ Helpers ============
+
+    @SuppressWarnings("unchecked")
+    private SearchServiceImpl service(Executor executor, long esTimeoutMs) {
+        ObjectProvider<ElasticsearchOperations> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(operations);
+        SearchServiceImpl service = new SearchServiceImpl(mock(QuestionRepository.class), postRepository,
+            postRequestRepository, mapper, provider, new SimpleMeterRegistry(), executor);
+        ReflectionTestUtils.setField(service, "defaultMode", SearchMode.ES_FIRST);
+        ReflectionTestUtils.setField(service, "esTimeoutMs", esTimeoutMs);
+        ReflectionTestUtils.setField(service, "pgFallbackEnabled", true);
+        return service;
+    }
+
+    /**
+     * PostgreSQL ranking: the given IDs in order, paged like the real query
+     */
+    private void stubPostgres(List<Long> ranked) {
+        when(postRequestRepository.searchByKeyword(anyString(), any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable page = invocation.getArgument(1);
+            List<PostRequest> content = window(ranked, page).stream()
+                .map(id -> PostRequest.builder().id(id).build())
+                .toList();
+            return new PageImpl<>(content, page, ranked.size());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubElasticsearch(List<Long> ranked) {
+        when(operations.search(any(Query.class), eq(PostRequestDocument.class))).thenAnswer(invocation -> {
+            Pageable page = invocation.<Query>getArgument(0).getPageable();
+            List<SearchHit<PostRequestDocument>> hits = window(ranked, page).stream().map(id -> {
+                PostRequestDocument document = new PostRequestDocument();
+                document.setId(String.valueOf(id));
+                SearchHit<PostRequestDocument> hit = mock(SearchHit.class);
+                when(hit.getContent()).thenReturn(document);
+                when(hit.getScore()).thenReturn(1f);
+                return hit;
+            }).toList();
+            SearchHits<PostRequestDocument> searchHits = mock(SearchHits.class);
+            when(searchHits.getSearchHits()).thenReturn(hits);
+            when(searchHits.getTotalHits()).thenReturn((long) ranked.size());
+            return searchHits;
+        });
+    }
+
+    private static List<Long> window(List<Long> ranked, Pageable page) {
+        int from = (int) Math.min(page.getOffset(), ranked.size());
+        return ranked.subList(from, Math.min(from + page.getPageSize(), ranked.size()));
+    }
+
+    private static SearchResultDto result(Long id) {
+        return SearchResultDto.builder().id(id).build();
+    }
+
+    private static List<Long> ids(SearchResponse response) {
+        return response.getContent().stream().map(SearchResultDto::getId).toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.TagDto;
+import com.mediaapp.repository.jpa.TagRepository;
+import com.mediaapp.repository.jpa.projection.TagUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Autocomplete lookup latency over 100k tags with Vietnamese and English names.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=TagAutocomplete
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagAutocompleteBenchmark {
+
+    private static final String[] WORDS = {
+        "spring", "boot", "java", "postgres", "index", "cache", "kafka", "docker", "react", "vue",
+        "Đà", "Nẵng", "Hà", "Nội", "Sài", "Gòn", "Huế", "Đồng", "Tháp", "Lạt", "phở", "bánh", "mì", "cà", "phê"
+    };
+
+    @Param({"100000"})
+    private int tags;
+
+    /** One keystroke, a short unaccented prefix, an accented prefix, a second-word prefix, no match */
+    @Param({"s", "spr", "da n", "Đà N", "gon", "zzz"})
+    private String query;
+
+    private TagAutocompleteServiceImpl service;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<TagUsage> usages = new ArrayList<>(tags);
+        for (int i = 1; i <= tags; i++) {
+            String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i;
+            usages.add(new Usage((long) i, name, "tag-" + i, random.nextInt(10_000)));
+        }
+        TagRepository tagRepository = mock(TagRepository.class);
+        when(tagRepository.findAllUsages()).thenReturn(usages);
+
+        service = new TagAutocompleteServiceImpl(tagRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxLimit", 20);
+        service.init();
+        service.rebuild();
+    }
+
+    @Benchmark
+    public List<TagDto> suggest() {
+        return service.suggest(query, 10);
+    }
+
+    private record Usage(Long id, String name, String slug, Integer usageCount) implements TagUsage {
+
+        @Override
+        public Long getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getSlug() {
+            return slug;
+        }
+
+        @Override
+        public Integer getUsageCount() {
+            return usageCount;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.TagDto;
+import com.mediaapp.repository.jpa.TagRepository;
+import com.mediaapp.repository.jpa.projection.TagUsage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagAutocompleteServiceImplTest {
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private TagAutocompleteServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        when(tagRepository.findAllUsages()).thenReturn(List.of(
+            usage(1, "Đà Nẵng", 5),
+            usage(2, "Da Lat", 50),
+            usage(3, "Spring Boot", 100),
+            usage(4, "Spring", 10),
+            usage(5, "Hà Nội", 20),
+            usage(6, "Łódź", 1)));
+        service = new TagAutocompleteServiceImpl(tagRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "maxLimit", 20);
+        service.init();
+        service.rebuild();
+    }
+
+    @Test
+    void unaccentedQueryMatchesAccentInsensitivelyByUsage() {
+        assertThat(ids("da")).containsExactly(2L, 1L);
+        assertThat(ids("DA N")).containsExactly(1L);
+        assertThat(ids("ha noi")).containsExactly(5L);
+        assertThat(ids("lodz")).containsExactly(6L);
+    }
+
+    @Test
+    void accentedQueryRanksExactSpellingFirst() {
+        assertThat(ids("Đà")).containsExactly(1L, 2L);
+        assertThat(ids("đà nẵ")).containsExactly(1L);
+        // Typed in decomposed form: "a" followed by combining marks
+        assertThat(ids("\u0111a\u0300 na\u0306\u0303")).containsExactly(1L);
+    }
+
+    @Test
+    void matchesEveryWordStartAndRanksByUsageThenShorterName() {
+        assertThat(ids("boot")).containsExactly(3L);
+        assertThat(ids("spr")).containsExactly(3L, 4L);
+        assertThat(ids("nang")).containsExactly(1L);
+        assertThat(ids("oot")).isEmpty();
+    }
+
+    @Test
+    void limitsAndBlankQueries() {
+        assertThat(service.suggest("s", 1)).extracting(TagDto::getId).containsExactly(3L);
+        assertThat(service.suggest(" ", 5)).isEmpty();
+        assertThat(service.suggest(null, 5)).isEmpty();
+        assertThat(service.suggest("da", 0)).isEmpty();
+    }
+
+    @Test
+    void refreshAddsTagsCreatedSinceTheLastLoad() {
+        when(tagRepository.findUsagesAfter(anyLong())).thenReturn(List.of(usage(7, "Đồng Nai", 0)));
+
+        assertThat(service.refresh()).isEqualTo(1);
+        assertThat(ids("dong")).containsExactly(7L);
+        assertThat(ids("da")).containsExactly(2L, 1L);
+    }
+
+    private List<Long> ids(String query) {
+        return service.suggest(query, 10).stream().map(TagDto::getId).toList();
+    }
+
+    private static TagUsage usage(long id, String name, int usageCount) {
+        return new TagUsage() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public String getSlug() {
+                return "tag-" + id;
+            }
+
+            @Override
+            public Integer getUsageCount() {
+                return usageCount;
+            }
+        };
+    }
+}
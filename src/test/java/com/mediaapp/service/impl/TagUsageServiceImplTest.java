@@ -0,0 +1,112 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.repository.jpa.TagRepository;
+import com.mediaapp.service.TagUsageService.TagsChanged;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagUsageServiceImplTest {
+
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final Map<Long, Long> written = new ConcurrentHashMap<>();
+    private TagUsageServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        when(tagRepository.addUsageCounts(anyCollection(), anyInt())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            int delta = invocation.getArgument(1);
+            ids.forEach(id -> written.merge(id, (long) delta, Long::sum));
+            return ids.size();
+        });
+        service = new TagUsageServiceImpl(tagRepository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "topK", 10);
+        service.init();
+    }
+
+    @Test
+    void flushesRacingTaggingNeverLoseOrDuplicateDeltas() throws Exception {
+        int writers = 4;
+        int eventsPerWriter = 50_000;
+        AtomicBoolean tagging = new AtomicBoolean(true);
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        try {
+            Future<?> flusher = executor.submit(() -> {
+                start.await();
+                while (tagging.get()) {
+                    service.flush();
+                }
+                return null;
+            });
+            Future<?>[] futures = new Future<?>[writers];
+            for (int w = 0; w < writers; w++) {
+                futures[w] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < eventsPerWriter; i++) {
+                        // Tag 1 gains a use and loses it again, tag 2 keeps it: hot IDs whose deltas drain to zero
+                        service.onTagsChanged(TagsChanged.created(1L, Set.of(1L)));
+                        service.onTagsChanged(TagsChanged.of(1L, Set.of(1L), 1L, Set.of(2L)));
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            tagging.set(false);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        service.flush();
+
+        assertThat(written.getOrDefault(1L, 0L)).isZero();
+        assertThat(written).containsEntry(2L, (long) writers * eventsPerWriter);
+    }
+
+    @Test
+    void failedFlushKeepsItsDeltasForTheNextOne() {
+        service.onTagsChanged(TagsChanged.created(1L, Set.of(1L, 2L)));
+        service.onTagsChanged(TagsChanged.created(1L, Set.of(2L)));
+        when(tagRepository.addUsageCounts(anyCollection(), anyInt()))
+            .thenThrow(new IllegalStateException("database down"))
+            .thenAnswer(invocation -> {
+                Collection<Long> ids = invocation.getArgument(0);
+                int delta = invocation.getArgument(1);
+                ids.forEach(id -> written.merge(id, (long) delta, Long::sum));
+                return ids.size();
+            });
+
+        assertThatIllegalStateException().isThrownBy(service::flush);
+        assertThat(service.flush()).isEqualTo(2);
+
+        assertThat(written).containsOnly(Map.entry(1L, 1L), Map.entry(2L, 2L));
+        assertThat(service.flush()).isZero();
+    }
+}
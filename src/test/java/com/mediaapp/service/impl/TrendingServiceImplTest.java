@@ -0,0 +1,129 @@
+package com.mediaapp.service.impl;
+
+import com.mediaapp.dto.response.TrendingItemResponse;
+import com.mediaapp.repository.jpa.PostRepository;
+import com.mediaapp.repository.jpa.QuestionRepository;
+import com.mediaapp.repository.jpa.projection.AnswerCount;
+import com.mediaapp.repository.jpa.projection.TrendingRow;
+import com.mediaapp.service.QuestionResponseCache.QuestionChanged;
+import com.mediaapp.service.TrendingService.Signal;
+import com.mediaapp.util.Constants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrendingServiceImplTest {
+
+    private static final String QUESTION = Constants.EntityType.QUESTION;
+
+    private final QuestionRepository questionRepository = mock(QuestionRepository.class);
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private TrendingServiceImpl service;
+
+    private record Row(Long getId, String getTitle, String getSlug, Long getCategoryId, Long getTopicId,
+                       Instant getPublishedAt, Number getViewCount, Number getLikeCount, Number getReplyCount,
+                       Boolean getFeatured) implements TrendingRow {
+    }
+
+    private record Answers(Long getId, Integer getAnswerCount) implements AnswerCount {
+    }
+
+    @BeforeEach
+    void setUp() {
+        service = new TrendingServiceImpl(questionRepository, postRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "topK", 10);
+        ReflectionTestUtils.setField(service, "window", Duration.ofDays(7));
+        ReflectionTestUtils.setField(service, "gravity", Duration.ofSeconds(45000));
+        ReflectionTestUtils.setField(service, "viewWeight", 1.0);
+        ReflectionTestUtils.setField(service, "likeWeight", 5.0);
+        ReflectionTestUtils.setField(service, "replyWeight", 10.0);
+        service.init();
+    }
+
+    @Test
+    void publishedQuestionRanksWithoutWaitingForARebuild() {
+        service.rebuild();
+        when(questionRepository.findTrendingCandidate(eq(5L), any())).thenReturn(Optional.of(row(5L, 1L, 0)));
+
+        service.onQuestionChanged(QuestionChanged.of(5L, "q-5"));
+
+        assertThat(service.trending(QUESTION, null, null, 10)).extracting(TrendingItemResponse::getId).containsExactly(5L);
+        assertThat(service.trending(QUESTION, 1L, null, 10)).extracting(TrendingItemResponse::getId).containsExactly(5L);
+
+        // Tracked now, so its counters move too
+        service.recordDelta(QUESTION, Signal.VIEW, List.of(5L), 3);
+        service.tick();
+        assertThat(service.trending(QUESTION, null, null, 10).get(0).getViewCount()).isEqualTo(3);
+    }
+
+    @Test
+    void editedQuestionMovesCategoryAndKeepsItsLiveCounters() {
+        when(questionRepository.findTrendingCandidates(any())).thenReturn(List.of(row(5L, 1L, 0)));
+        service.rebuild();
+        service.recordDelta(QUESTION, Signal.VIEW, List.of(5L), 7);
+        when(questionRepository.findTrendingCandidate(eq(5L), any())).thenReturn(Optional.of(row(5L, 2L, 0)));
+
+        service.onQuestionChanged(QuestionChanged.of(5L, "q-5"));
+
+        assertThat(service.trending(QUESTION, 1L, null, 10)).isEmpty();
+        assertThat(service.trending(QUESTION, 2L, null, 10))
+            .singleElement()
+            .satisfies(item -> assertThat(item.getViewCount()).isEqualTo(7));
+    }
+
+    @Test
+    void unpublishedOrDeletedQuestionLeavesTheRankings() {
+        when(questionRepository.findTrendingCandidates(any())).thenReturn(List.of(row(5L, 1L, 0), row(6L, 1L, 0)));
+        service.rebuild();
+        when(questionRepository.findTrendingCandidate(eq(5L), any())).thenReturn(Optional.empty());
+
+        service.onQuestionChanged(QuestionChanged.of(5L, "q-5"));
+        service.recordDelta(QUESTION, Signal.LIKE, List.of(5L), 1);
+        service.tick();
+
+        assertThat(service.trending(QUESTION, null, null, 10)).extracting(TrendingItemResponse::getId).containsExactly(6L);
+        assertThat(service.trending(QUESTION, 1L, null, 10)).extracting(TrendingItemResponse::getId).containsExactly(6L);
+    }
+
+    @Test
+    void answersAddedAndDeletedElsewhereArriveAsReplyDeltas() {
+        when(questionRepository.findTrendingCandidates(any())).thenReturn(List.of(row(5L, 1L, 2), row(6L, 1L, 0)));
+        service.rebuild();
+
+        when(questionRepository.findAnswerCountsByIdIn(anyCollection()))
+            .thenReturn(List.of(new Answers(5L, 2), new Answers(6L, 4)));
+        assertThat(service.refreshReplies()).isEqualTo(1);
+        service.tick();
+        assertThat(service.trending(QUESTION, null, null, 10))
+            .extracting(TrendingItemResponse::getId, TrendingItemResponse::getReplyCount)
+            .containsExactly(tuple(6L, 4L), tuple(5L, 2L));
+
+        when(questionRepository.findAnswerCountsByIdIn(anyCollection()))
+            .thenReturn(List.of(new Answers(5L, 2), new Answers(6L, 1)));
+        assertThat(service.refreshReplies()).isEqualTo(1);
+        service.tick();
+        assertThat(service.trending(QUESTION, null, null, 10))
+            .filteredOn(item -> item.getId() == 6L)
+            .singleElement()
+            .satisfies(item -> assertThat(item.getReplyCount()).isEqualTo(1));
+    }
+
+    private static Row row(long id, long categoryId, int replies) {
+        return new Row(id, "Question " + id, "q-" + id, categoryId, null, Instant.now().minusSeconds(3600 - id),
+            0, 0, replies, false);
+    }
+}
@@ -0,0 +1,68 @@
+package com.mediaapp.support;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Base class for tests against a real PostgreSQL, migrated by Flyway.
+ * Uses the database in IT_DATABASE_URL (with IT_DATABASE_USERNAME / IT_DATABASE_PASSWORD) when set,
+ * otherwise a shared Testcontainers PostgreSQL. Skipped when neither is available.
+ * Tests share one database per run, so they create their own rows and never assume an empty table.
+ */
+@SpringBootTest
+@ActiveProfiles("it")
+public abstract class AbstractPostgresIntegrationTest {
+
+    private static final String EXTERNAL_URL = System.getenv("IT_DATABASE_URL");
+
+    private static PostgreSQLContainer<?> container;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected TestData testData;
+
+    @BeforeEach
+    void initTestData() {
+        testData = new TestData(jdbcTemplate);
+    }
+
+    @BeforeAll
+    static void requireDatabase() {
+        // Runs before the Spring context is loaded, so the whole class is skipped without a database
+        assumeTrue(EXTERNAL_URL != null || DockerClientFactory.instance().isDockerAvailable(),
+            "Set IT_DATABASE_URL or start Docker to run integration tests");
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        if (EXTERNAL_URL != null) {
+            registry.add("spring.datasource.url", () -> EXTERNAL_URL);
+            registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("IT_DATABASE_USERNAME", "postgres"));
+            registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("IT_DATABASE_PASSWORD", "postgres"));
+            return;
+        }
+        PostgreSQLContainer<?> postgres = startContainer();
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    private static synchronized PostgreSQLContainer<?> startContainer() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();  // Stopped by the Testcontainers reaper when the JVM exits
+        }
+        return container;
+    }
+}
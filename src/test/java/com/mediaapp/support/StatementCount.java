@@ -0,0 +1,50 @@
+package com.mediaapp.support;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL statements one request ran, read from the http.sql.statements summary the query budget filter
+ * records per method and URI pattern. The summary is shared across tests, so only the change since
+ * {@link #before} counts.
+ */
+public final class StatementCount {
+
+    private final MeterRegistry meterRegistry;
+    private final String method;
+    private final String uri;
+    private final long countBefore;
+    private final double totalBefore;
+
+    private StatementCount(MeterRegistry meterRegistry, String method, String uri) {
+        this.meterRegistry = meterRegistry;
+        this.method = method;
+        this.uri = uri;
+        DistributionSummary summary = summary();
+        this.countBefore = summary == null ? 0 : summary.count();
+        this.totalBefore = summary == null ? 0 : summary.totalAmount();
+    }
+
+    /**
+     * Start counting GET requests to a URI pattern (e.g. "/questions/feed")
+     */
+    public static StatementCount before(MeterRegistry meterRegistry, String uri) {
+        return new StatementCount(meterRegistry, "GET", uri);
+    }
+
+    /**
+     * Statements of the single request made since {@link #before}
+     */
+    public long recorded() {
+        DistributionSummary summary = summary();
+        assertThat(summary).as("http.sql.statements for %s %s", method, uri).isNotNull();
+        assertThat(summary.count() - countBefore).as("requests recorded for %s %s", method, uri).isEqualTo(1);
+        return Math.round(summary.totalAmount() - totalBefore);
+    }
+
+    private DistributionSummary summary() {
+        return meterRegistry.find("http.sql.statements").tag("method", method).tag("uri", uri).summary();
+    }
+}
@@ -0,0 +1,73 @@
+package com.mediaapp.support;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Inserts fixture rows straight through JDBC, bypassing services, caches and write-behind buffers.
+ * Every name and slug gets a run-unique suffix so tests can share a database.
+ */
+public final class TestData {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong(System.nanoTime());
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TestData(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public static String unique(String prefix) {
+        return prefix + "-" + Long.toString(SEQUENCE.incrementAndGet(), 36);
+    }
+
+    public long user() {
+        String name = unique("user");
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO users (username, email, password_hash, first_name) VALUES (?, ?, 'x', ?) RETURNING id",
+            Long.class, name, name + "@example.com", name);
+    }
+
+    public long category() {
+        String name = unique("category");
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO categories (name, slug) VALUES (?, ?) RETURNING id", Long.class, name, name);
+    }
+
+    public long question(long userId, long categoryId, String status) {
+        String title = unique("Question about testing");
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO questions (category_id, user_id, title, content, status, slug, published_at) " +
+            "VALUES (?, ?, ?, 'content', ?, ?, CASE WHEN ? = 'PUBLISHED' THEN now() END) RETURNING id",
+            Long.class, categoryId, userId, title, status, title.toLowerCase(), status);
+    }
+
+    public long post(long userId, long categoryId, String status) {
+        String title = unique("Post about testing");
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO posts (category_id, author_id, title, content, status, slug, published_at) " +
+            "VALUES (?, ?, ?, 'content', ?, ?, CASE WHEN ? = 'PUBLISHED' THEN now() END) RETURNING id",
+            Long.class, categoryId, userId, title, status, title.toLowerCase(), status);
+    }
+
+    public long answer(long questionId, long userId, String content) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO answers (question_id, user_id, content) VALUES (?, ?, ?) RETURNING id",
+            Long.class, questionId, userId, content);
+    }
+
+    public long comment(long postId, long userId, String content) {
+        return jdbcTemplate.queryForObject(
+            "INSERT INTO comments (post_id, user_id, content) VALUES (?, ?, ?) RETURNING id",
+            Long.class, postId, userId, content);
+    }
+
+    public void softDeleteQuestion(long questionId) {
+        jdbcTemplate.update("UPDATE questions SET deleted_at = now() WHERE id = ?", questionId);
+    }
+
+    public long viewCount(String table, long id) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM " + table + " WHERE id = ?", Long.class, id);
+    }
+}
@@ -0,0 +1,95 @@
+package com.mediaapp.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    private static final int PROBES = 1_000_000;
+
+    @ParameterizedTest
+    @CsvSource({"10000, 0.01", "100000, 0.01", "100000, 0.001", "50000, 0.05"})
+    void sequentialIdsHaveNoFalseNegativesAndStayUnderTheTargetRate(int expected, double rate) {
+        BloomFilter filter = BloomFilter.create(expected, rate);
+        // Database IDs are dense and sequential: members 1..n, probes the IDs after them
+        LongStream.rangeClosed(1, expected).forEach(filter::put);
+
+        assertThat(LongStream.rangeClosed(1, expected).allMatch(filter::mightContain)).isTrue();
+        long falsePositives = LongStream.range(expected + 1L, expected + 1L + PROBES).filter(filter::mightContain).count();
+        assertThat((double) falsePositives / PROBES).isLessThanOrEqualTo(rate);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"100000, 0.01", "100000, 0.001"})
+    void randomKeysHaveNoFalseNegativesAndStayUnderTheTargetRate(int expected, double rate) {
+        SplittableRandom random = new SplittableRandom(42);
+        Set<Long> members = new HashSet<>();
+        while (members.size() < expected) {
+            members.add(random.nextLong());
+        }
+        BloomFilter filter = BloomFilter.create(expected, rate);
+        members.forEach(filter::put);
+
+        assertThat(members).allMatch(filter::mightContain);
+        long falsePositives = 0;
+        for (int i = 0; i < PROBES; i++) {
+            long key = random.nextLong();
+            if (!members.contains(key) && filter.mightContain(key)) {
+                falsePositives++;
+            }
+        }
+        assertThat((double) falsePositives / PROBES).isLessThanOrEqualTo(rate);
+    }
+
+    @Test
+    void concurrentPutsLoseNoBits() throws Exception {
+        int threads = 8;
+        int perThread = 50_000;
+        BloomFilter filter = BloomFilter.create(threads * perThread, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long from = (long) t * perThread;
+                // Hashed keys of all threads land in the same words, so CAS retries are exercised
+                writers.add(executor.submit(() -> {
+                    for (long key = from; key < from + perThread; key++) {
+                        filter.put(key * 7919);
+                    }
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(LongStream.range(0, (long) threads * perThread).allMatch(key -> filter.mightContain(key * 7919))).isTrue();
+    }
+
+    @Test
+    void reportsSaturationOnlyPastCapacity() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+        LongStream.rangeClosed(1, 100).forEach(filter::put);
+        assertThat(filter.isSaturated()).isFalse();
+        assertThat(filter.expectedFalsePositiveRate()).isLessThanOrEqualTo(0.01);
+
+        filter.put(101);
+        assertThat(filter.isSaturated()).isTrue();
+    }
+}
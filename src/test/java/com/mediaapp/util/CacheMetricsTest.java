@@ -0,0 +1,33 @@
+package com.mediaapp.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.actuate.metrics.cache.CaffeineCacheMeterBinderProvider;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheMetricsTest {
+
+    @Test
+    void standaloneAndManagedCachesShareOnePrometheusSeries() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+        // Registered first, as at startup: a differing tag key set would get the managed cache dropped
+        CacheMetrics.monitor(registry, Caffeine.newBuilder().recordStats().build(), "questionResponseCache", "questionResponses");
+        new CacheMetricsRegistrar(registry, List.of(new CaffeineCacheMeterBinderProvider()))
+            .bindCacheToRegistry(new CaffeineCache("categories", Caffeine.newBuilder().recordStats().build()),
+                Tag.of("cache.manager", "cacheManager"));
+
+        String scrape = registry.scrape();
+        assertThat(scrape)
+            .contains("cache_size{cache=\"questionResponses\",cache_manager=\"questionResponseCache\",name=\"questionResponses\"}")
+            .contains("cache_size{cache=\"categories\",cache_manager=\"cacheManager\",name=\"categories\"}");
+    }
+}
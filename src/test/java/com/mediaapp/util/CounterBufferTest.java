@@ -0,0 +1,79 @@
+package com.mediaapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterBufferTest {
+
+    @Test
+    void drainReturnsNonZeroDeltasAndEmptiesTheBuffer() {
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(1L, 1);
+        buffer.add(1L, 2);
+        buffer.add(2L, 1);
+        buffer.add(2L, -1);
+        buffer.add(3L, -4);
+
+        assertThat(buffer.drain()).containsOnly(Map.entry(1L, 3L), Map.entry(3L, -4L));
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.drain()).isEmpty();
+    }
+
+    @Test
+    void concurrentDrainsNeverLoseOrDuplicateIncrements() throws Exception {
+        CounterBuffer buffer = new CounterBuffer();
+        int writers = 8;
+        int incrementsPerWriter = 200_000;
+        long[] drained = new long[4];
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicLong drains = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        try {
+            Future<?> drainer = executor.submit(() -> {
+                start.await();
+                while (writing.get()) {
+                    buffer.drain().forEach((id, delta) -> drained[id.intValue()] += delta);
+                    drains.incrementAndGet();
+                }
+                return null;
+            });
+            Future<?>[] futures = new Future<?>[writers];
+            for (int w = 0; w < writers; w++) {
+                futures[w] = executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < incrementsPerWriter; i++) {
+                        // Few hot IDs, so drains constantly swap out adders that writers still hold
+                        buffer.add((long) (i & 3), 1);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            writing.set(false);
+            drainer.get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        buffer.drain().forEach((id, delta) -> drained[id.intValue()] += delta);
+
+        assertThat(drains.get()).isPositive();
+        for (long perId : drained) {
+            assertThat(perId).isEqualTo((long) writers * incrementsPerWriter / 4);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.mediaapp.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class FeedCursorTest {
+
+    private static final FeedCursor CURSOR = new FeedCursor(Instant.parse("2026-03-14T15:09:26.535897Z"), 271_828L);
+
+    @Test
+    void encodedCursorDecodesToTheSamePosition() {
+        String token = CURSOR.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(FeedCursor.decode(token)).isEqualTo(CURSOR);
+        assertThat(FeedCursor.decode(FeedCursor.START.encode())).isEqualTo(FeedCursor.START);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"  "})
+    void blankCursorStartsAtTheNewestRow(String token) {
+        assertThat(FeedCursor.decode(token)).isEqualTo(FeedCursor.START);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not a cursor", "%%%", "====", "AAAA", "eyJpZCI6MX0"})
+    void garbageIsRejected(String token) {
+        assertThatIllegalArgumentException().isThrownBy(() -> FeedCursor.decode(token));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "2026-03-14T15:09:26Z",                  // no separator
+        "2026-13-14T15:09:26Z|1",                // no such month
+        "2026-03-14T15:09:26Z|one",              // id not a number
+        "2026-03-14T15:09:26Z|-5",               // id out of range
+        "2026-03-14T15:09:26Z|0",
+        "2026-03-14T15:09:26.000Z|5",            // valid, but not how encode() writes it
+        "2026-03-14T15:09:26Z|5|6"
+    })
+    void wellEncodedButInvalidContentIsRejected(String raw) {
+        assertThatIllegalArgumentException().isThrownBy(() -> FeedCursor.decode(base64(raw)));
+    }
+
+    @Test
+    void editedTokensAreRejected() {
+        String token = CURSOR.encode();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> FeedCursor.decode(token.substring(0, token.length() - 1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> FeedCursor.decode(token.substring(1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> FeedCursor.decode(token + "="));
+        assertThatIllegalArgumentException().isThrownBy(() -> FeedCursor.decode(token + "AA"));
+        assertThatIllegalArgumentException().isThrownBy(() -> FeedCursor.decode(token.substring(0, 4) + "+" + token.substring(5)));
+    }
+
+    private static String base64(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,32 @@
+package com.mediaapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HighlightTest {
+
+    private static final String S = String.valueOf(Highlight.START);
+    private static final String E = String.valueOf(Highlight.STOP);
+
+    @Test
+    void plainTextDropsMarkers() {
+        assertThat(Highlight.plainText("tune the " + S + "garbage" + E + " collector"))
+            .isEqualTo("tune the garbage collector");
+        assertThat(Highlight.plainText(null)).isNull();
+    }
+
+    @Test
+    void htmlEscapesContentAndMarksMatches() {
+        String headline = "<img src=x onerror=\"alert('x')\"> & " + S + "garbage" + E + " collector";
+
+        assertThat(Highlight.toHtml(headline)).isEqualTo(
+            "&lt;img src=x onerror=&quot;alert(&#39;x&#39;)&quot;&gt; &amp; <mark>garbage</mark> collector");
+    }
+
+    @Test
+    void htmlKeepsMarkTagsBalanced() {
+        assertThat(Highlight.toHtml(E + "a" + S + S + "b" + E + E + "c" + S + "d"))
+            .isEqualTo("a<mark>b</mark>c<mark>d</mark>");
+    }
+}
@@ -0,0 +1,33 @@
+package com.mediaapp.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * The regex-based SlugGenerator.generateSlug replaced by the single-pass one, kept as the reference
+ * for equivalence tests and benchmarks. Returns "" where the original fell back to a random UUID.
+ */
+final class LegacySlugGenerator {
+
+    private static final Pattern NON_LATIN = Pattern.compile("[^\\w-]");
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
+    private static final Pattern MULTIPLE_HYPHENS = Pattern.compile("-{2,}");
+
+    private LegacySlugGenerator() {
+    }
+
+    static String generateSlug(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String lowercase = normalized.toLowerCase(Locale.ROOT);
+        String hyphenated = WHITESPACE.matcher(lowercase).replaceAll("-");
+        String latinOnly = NON_LATIN.matcher(hyphenated).replaceAll("");
+        String cleaned = MULTIPLE_HYPHENS.matcher(latinOnly).replaceAll("-");
+        String trimmed = cleaned.replaceAll("^-+|-+$", "");
+        if (trimmed.length() > 100) {
+            trimmed = trimmed.substring(0, 100);
+            trimmed = trimmed.replaceAll("-+$", "");
+        }
+        return trimmed;
+    }
+}
@@ -0,0 +1,96 @@
+package com.mediaapp.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class PrefixIndexTest {
+
+    private static final String[] KEYS = {"spring", "spring boot", "boot", "sql", "springfield", "spr", "java", "đà nẵng", "da nang"};
+
+    private final PrefixIndex index = PrefixIndex.build(KEYS, IntStream.range(0, KEYS.length).toArray());
+
+    @Test
+    void returnsEveryKeyStartingWithThePrefixInKeyOrder() {
+        assertThat(matches(index, "spr")).containsExactly(5, 0, 1, 4);
+        assertThat(matches(index, "spring ")).containsExactly(1);
+        assertThat(matches(index, "s")).containsExactly(5, 0, 1, 4, 3);
+        assertThat(matches(index, "java")).containsExactly(6);
+    }
+
+    @Test
+    void keysWithDiacriticsOnlyMatchTheirOwnSpelling() {
+        assertThat(matches(index, "đà")).containsExactly(7);
+        assertThat(matches(index, "da")).containsExactly(8);
+        assertThat(matches(index, "đa")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"x", "springs", "spring boots", "~", "\u0000"})
+    void prefixesMatchingNothingReturnNothing(String prefix) {
+        assertThat(matches(index, prefix)).isEmpty();
+    }
+
+    @Test
+    void emptyPrefixMatchesEverything() {
+        assertThat(matches(index, "")).hasSize(KEYS.length);
+        assertThat(matches(PrefixIndex.EMPTY, "")).isEmpty();
+        assertThat(matches(PrefixIndex.EMPTY, "a")).isEmpty();
+    }
+
+    @Test
+    void duplicateKeysKeepEveryOrdinal() {
+        PrefixIndex duplicates = PrefixIndex.build(new String[]{"tag", "tag", "tags"}, new int[]{4, 9, 2});
+
+        assertThat(matches(duplicates, "tag")).containsExactlyInAnyOrder(4, 9, 2);
+        assertThat(duplicates.size()).isEqualTo(3);
+    }
+
+    @Test
+    void agreesWithALinearScanOnRandomKeys() {
+        Random random = new Random(7);
+        String alphabet = "abcđàẵ -";
+        String[] keys = new String[5_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = randomWord(random, alphabet, 1 + random.nextInt(8));
+        }
+        PrefixIndex randomIndex = PrefixIndex.build(keys, IntStream.range(0, keys.length).toArray());
+
+        for (int q = 0; q < 500; q++) {
+            String prefix = randomWord(random, alphabet, random.nextInt(4));
+            List<Integer> expected = IntStream.range(0, keys.length)
+                .filter(i -> keys[i].startsWith(prefix))
+                .boxed()
+                .toList();
+            assertThat(matches(randomIndex, prefix)).as("prefix '%s'", prefix).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    void keysAndOrdinalsMustLineUp() {
+        assertThatIllegalArgumentException().isThrownBy(() -> PrefixIndex.build(new String[]{"a"}, new int[0]));
+    }
+
+    private static List<Integer> matches(PrefixIndex index, String prefix) {
+        List<Integer> ordinals = new ArrayList<>();
+        int count = index.forEachMatch(prefix, ordinals::add);
+        assertThat(count).isEqualTo(ordinals.size());
+        return ordinals;
+    }
+
+    private static String randomWord(Random random, String alphabet, int length) {
+        StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return word.toString();
+    }
+}
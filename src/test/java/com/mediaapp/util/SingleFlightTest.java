@@ -0,0 +1,139 @@
+package com.mediaapp.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>("test", meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void shutDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoadAndItsResult() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object value = new Object();
+
+        List<Future<Object>> calls = callConcurrently("key", () -> {
+            loads.incrementAndGet();
+            await(release);
+            return value;
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> call : calls) {
+            assertThat(call.get(5, TimeUnit.SECONDS)).isSameAs(value);
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(calls("executed")).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentCallersShareOneFailure() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("backend down");
+
+        List<Future<Object>> calls = callConcurrently("key", () -> {
+            loads.incrementAndGet();
+            await(release);
+            throw failure;
+        });
+        awaitCoalesced(CALLERS - 1);
+        release.countDown();
+
+        for (Future<Object> call : calls) {
+            assertThatThrownBy(() -> call.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isSameAs(failure);
+        }
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void completedCallsLeaveNothingInFlight() {
+        AtomicInteger loads = new AtomicInteger();
+
+        singleFlight.execute("key", () -> loads.incrementAndGet());
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("boom");
+        })).hasMessage("boom");
+        assertThat(singleFlight.execute("key", () -> loads.incrementAndGet())).isEqualTo(3);
+
+        assertThat(meterRegistry.get("singleflight.in_flight").gauge().value()).isZero();
+        assertThat(calls("executed")).isEqualTo(3);
+        assertThat(calls("coalesced")).isZero();
+    }
+
+    @Test
+    void differentKeysDoNotWaitForEachOther() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> blocked = executor.submit(() -> singleFlight.execute("slow", () -> {
+            await(release);
+            return "slow";
+        }));
+
+        assertThat(executor.submit(() -> singleFlight.execute("fast", () -> "fast")).get(5, TimeUnit.SECONDS))
+            .isEqualTo("fast");
+        release.countDown();
+        assertThat(blocked.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+    }
+
+    // ============ Private Helper Methods ============
+
+    private List<Future<Object>> callConcurrently(String key, Supplier<Object> loader) {
+        List<Future<Object>> calls = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            calls.add(executor.submit(() -> singleFlight.execute(key, loader)));
+        }
+        return calls;
+    }
+
+    /** Wait until the other callers have joined the call in flight, so none of them loads on its own */
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (calls("coalesced") < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertThat(calls("coalesced")).isEqualTo(expected);
+    }
+
+    private double calls(String outcome) {
+        return meterRegistry.get("singleflight.calls").tag("outcome", outcome).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
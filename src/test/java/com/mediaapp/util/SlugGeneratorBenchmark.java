@@ -0,0 +1,45 @@
+package com.mediaapp.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass SlugGenerator against the regex implementation it replaced, on ASCII and Vietnamese titles.
+ * Run with: mvn -Pbenchmark test-compile exec:exec -Dbenchmark=SlugGenerator
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlugGeneratorBenchmark {
+
+    @Param({
+        "How do I configure connection pooling in Spring Boot 3?",
+        "Đà Nẵng có những món ăn đặc sản nào nên thử khi đi du lịch?"
+    })
+    private String title;
+
+    private final SlugGenerator slugGenerator = new SlugGenerator();
+
+    @Benchmark
+    public String singlePass() {
+        return slugGenerator.generateSlug(title);
+    }
+
+    @Benchmark
+    public String regex() {
+        return LegacySlugGenerator.generateSlug(title);
+    }
+}
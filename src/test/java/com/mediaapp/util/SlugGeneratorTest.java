@@ -0,0 +1,110 @@
+package com.mediaapp.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlugGeneratorTest {
+
+    /** The only chars whose slug changed on purpose: the old NFD pass could not decompose them and dropped them */
+    private static final String NEWLY_FOLDED = "ĐđØøŁł";
+    private static final String FOLDED_TO = "ddooll";
+
+    private final SlugGenerator slugGenerator = new SlugGenerator();
+
+    @Test
+    void matchesTheRegexImplementationForEveryCharOfTheBasicPlane() {
+        List<String> differences = new ArrayList<>();
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            if (Character.isSurrogate((char) c)) {
+                continue;
+            }
+            String ch = String.valueOf((char) c);
+            for (String text : new String[]{"a" + ch + "b", "a " + ch + " b", ch + "-" + ch}) {
+                if (!slugOrEmpty(text).equals(expected(text))) {
+                    differences.add(String.format("U+%04X in \"%s\": %s", c, text, slugOrEmpty(text)));
+                }
+            }
+        }
+        assertThat(differences).isEmpty();
+    }
+
+    @Test
+    void matchesTheRegexImplementationOnRandomText() {
+        String alphabet = "abcxyzABCXYZ0189_-.,!?'\"()/ \t\n\r\u000B\f "
+            + "àáảãạăằắẳẵặâầấẩẫậèéẻẽẹêềếểễệìíỉĩịòóỏõọôồốổỗộơờớởỡợùúủũụưừứửữựỳýỷỹỵ"
+            + "ÀÁẢÃẠĂẰẮẲẴẶÂẦẤẨẪẬÈÉẺẼẸÊỀẾỂỄỆÌÍỈĨỊÒÓỎÕỌÔỒỐỔỖỘƠỜỚỞỠỢÙÚỦŨỤƯỪỨỬỮỰỲÝỶỸỴ"
+            + "̣̀́̃̆̉çñßæœÅİıK日本語"
+            + NEWLY_FOLDED;
+        Random random = new Random(2024);
+        for (int i = 0; i < 50_000; i++) {
+            StringBuilder text = new StringBuilder();
+            // Long enough to cross the 100-char cap now and then
+            int length = random.nextInt(random.nextInt(10) == 0 ? 160 : 30);
+            for (int k = 0; k < length; k++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String input = text.toString();
+            assertThat(slugOrEmpty(input)).as("slug of \"%s\"", input).isEqualTo(expected(input));
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "Đà Nẵng                   | da-nang",
+        "ĐỒNG THÁP — mùa nước nổi  | dong-thap-mua-nuoc-noi",
+        "Łódź  &  København        | lodz-kobenhavn",
+        "Søren Ørsted              | soren-orsted",
+        "  --Hello,   World!--  | hello-world",
+        "snake_case stays          | snake_case-stays"
+    })
+    void foldsVietnameseAndLatinText(String text, String slug) {
+        assertThat(slugGenerator.generateSlug(text)).isEqualTo(slug);
+    }
+
+    @Test
+    void capsLengthWithoutATrailingHyphen() {
+        String slug = slugGenerator.generateSlug("a".repeat(99) + " bcd");
+
+        assertThat(slug).isEqualTo("a".repeat(99));
+        assertThat(slugGenerator.generateSlug("b".repeat(150))).hasSize(100);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"   ", "!!!", "日本語", "́"})
+    void textWithoutSlugCharsFallsBackToAUuid(String text) {
+        assertThat(UUID.fromString(slugGenerator.generateSlug(text))).isNotNull();
+    }
+
+    private String slugOrEmpty(String text) {
+        String slug = slugGenerator.generateSlug(text);
+        return isUuid(slug) ? "" : slug;
+    }
+
+    /** The old output once đ/Đ, ø/Ø and ł/Ł are folded the way the new table folds them */
+    private static String expected(String text) {
+        StringBuilder folded = new StringBuilder(text);
+        for (int i = 0; i < folded.length(); i++) {
+            int special = NEWLY_FOLDED.indexOf(folded.charAt(i));
+            if (special >= 0) {
+                folded.setCharAt(i, FOLDED_TO.charAt(special));
+            }
+        }
+        String slug = folded.toString().isBlank() ? "" : LegacySlugGenerator.generateSlug(folded.toString());
+        return isUuid(slug) ? "" : slug;
+    }
+
+    private static boolean isUuid(String slug) {
+        return slug.length() == 36 && slug.matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+    }
+}
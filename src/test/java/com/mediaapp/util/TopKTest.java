@@ -0,0 +1,114 @@
+package com.mediaapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TopKTest {
+
+    @Test
+    void readersSeeHighestScoresFirstOnlyAfterPublish() {
+        TopK<String, String> top = new TopK<>(5);
+        top.offer("b", 2, "B");
+        top.offer("c", 3, "C");
+        top.offer("a", 1, "A");
+
+        assertThat(top.top(10)).isEmpty();
+        top.publish();
+        assertThat(top.top(10)).containsExactly("C", "B", "A");
+
+        top.offer("d", 4, "D");
+        assertThat(top.top(10)).containsExactly("C", "B", "A");
+        top.publish();
+        assertThat(top.top(2)).containsExactly("D", "C");
+        assertThat(top.top(0)).isEmpty();
+        assertThat(top.top(-1)).isEmpty();
+    }
+
+    @Test
+    void fullRankingEvictsItsLowestEntryAndRejectsAnythingBelowIt() {
+        TopK<String, String> top = new TopK<>(3);
+        top.offer("a", 1, "A");
+        top.offer("b", 2, "B");
+        top.offer("c", 3, "C");
+
+        assertThat(top.offer("low", 0.5, "LOW")).isFalse();
+        assertThat(top.offer("tie", 1, "TIE")).isFalse();
+        assertThat(top.offer("d", 4, "D")).isTrue();
+
+        top.publish();
+        assertThat(top.top(10)).containsExactly("D", "C", "B");
+        assertThat(top.size()).isEqualTo(3);
+    }
+
+    @Test
+    void reofferedKeyMovesInsteadOfTakingASecondSlot() {
+        TopK<String, String> top = new TopK<>(3);
+        top.offer("a", 1, "A1");
+        top.offer("b", 2, "B");
+        top.offer("c", 3, "C");
+
+        assertThat(top.offer("a", 10, "A2")).isTrue();
+        top.publish();
+        assertThat(top.top(10)).containsExactly("A2", "C", "B");
+
+        // A ranked key keeps its slot when its score drops, even below the others
+        assertThat(top.offer("a", 0, "A3")).isTrue();
+        top.publish();
+        assertThat(top.top(10)).containsExactly("C", "B", "A3");
+        assertThat(top.size()).isEqualTo(3);
+    }
+
+    @Test
+    void equalScoresAreKeptInOfferOrderWithoutCollapsing() {
+        TopK<String, String> top = new TopK<>(3);
+        top.offer("a", 1, "A");
+        top.offer("b", 1, "B");
+        top.offer("c", 1, "C");
+        top.publish();
+
+        assertThat(top.top(10)).containsExactlyInAnyOrder("A", "B", "C");
+    }
+
+    @Test
+    void removeFreesASlot() {
+        TopK<String, String> top = new TopK<>(2);
+        top.offer("a", 1, "A");
+        top.offer("b", 2, "B");
+
+        top.remove("b");
+        top.remove("missing");
+        assertThat(top.offer("c", 0.5, "C")).isTrue();
+
+        top.publish();
+        assertThat(top.top(10)).containsExactly("A", "C");
+    }
+
+    @Test
+    void keepsTheKHighestOfManyRandomScores() {
+        Random random = new Random(42);
+        TopK<Integer, Integer> top = new TopK<>(50);
+        double[] scores = random.doubles(10_000).toArray();
+        for (int key = 0; key < scores.length; key++) {
+            top.offer(key, scores[key], key);
+        }
+        top.publish();
+
+        List<Integer> expected = IntStream.range(0, scores.length).boxed()
+            .sorted(Comparator.comparingDouble((Integer key) -> scores[key]).reversed())
+            .limit(50)
+            .toList();
+        assertThat(top.top(50)).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void capacityMustBePositive() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new TopK<>(0));
+    }
+}